@@ -0,0 +1,228 @@
+package com.linbrox.common;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.Objects;
+
+/**
+ * Validators over UTF-8 text held in a {@link MemorySegment}, such as a memory-mapped file, reading the bytes in
+ * place with the same rules as the {@code byte[]} overloads of {@link StringUtils}: surrounding bytes up to
+ * {@code 0x20} are skipped like {@link String#trim()} would, and any non-ASCII byte fails the check.
+ * <p>
+ * {@code java.lang.foreign} is final from JDK 22, so these validators ship in their own artifact built for JDK 22
+ * rather than in the main jar, which runs on JDK 17. They are in the package of {@link StringUtils} to share its
+ * scanners and email grammar.
+ */
+public final class MemorySegmentValidators {
+
+    private static final String SEGMENT_CANNOT_BE_NULL = "Segment cannot be null";
+
+    private MemorySegmentValidators() {
+    }
+
+    /**
+     * Checks if the bytes {@code [offset, offset + length)} of a segment are blank.
+     *
+     * @param segment the segment to read
+     * @param offset  the offset of the first byte
+     * @param length  the number of bytes
+     * @return {@code true} if the bytes are blank, {@code false} otherwise
+     * @throws NullPointerException      if the segment is null
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     * @example MemorySegmentValidators.isBlank(MemorySegment.ofArray(" ".getBytes(UTF_8)), 0, 1); // returns true
+     */
+    public static boolean isBlank(MemorySegment segment, long offset, long length) {
+        long to = checkRange(segment, offset, length);
+        return trimStart(segment, offset, to) == to;
+    }
+
+    /**
+     * Checks if the bytes {@code [offset, offset + length)} of a segment are numeric.
+     *
+     * @param segment the segment to read
+     * @param offset  the offset of the first byte
+     * @param length  the number of bytes
+     * @return {@code true} if the bytes are numeric, {@code false} otherwise
+     * @throws NullPointerException      if the segment is null
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     * @example MemorySegmentValidators.isNumeric(MemorySegment.ofArray("-42".getBytes(UTF_8)), 0, 3); // returns true
+     */
+    public static boolean isNumeric(MemorySegment segment, long offset, long length) {
+        long to = checkRange(segment, offset, length);
+        long start = trimStart(segment, offset, to);
+        long end = trimEnd(segment, start, to);
+        if (start < end && isSign(get(segment, start))) {
+            start++;
+        }
+        return start < end && allDigits(segment, start, end);
+    }
+
+    /**
+     * Checks if the bytes {@code [offset, offset + length)} of a segment are numeric with a decimal point.
+     *
+     * @param segment the segment to read
+     * @param offset  the offset of the first byte
+     * @param length  the number of bytes
+     * @return {@code true} if the bytes are numeric with a decimal, {@code false} otherwise
+     * @throws NullPointerException      if the segment is null
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     * @example MemorySegmentValidators.isNumericWithDecimal(MemorySegment.ofArray(bytes), 0, 3); // true for "1.5"
+     */
+    public static boolean isNumericWithDecimal(MemorySegment segment, long offset, long length) {
+        long to = checkRange(segment, offset, length);
+        long start = trimStart(segment, offset, to);
+        long end = trimEnd(segment, start, to);
+        if (start < end && isSign(get(segment, start))) {
+            start++;
+        }
+        long i = start;
+        while (i < end && AsciiScanner.isDigit(get(segment, i))) {
+            i++;
+        }
+        if (i == start || i == end || get(segment, i) != '.') {
+            return false;
+        }
+        i++;
+        return i < end && allDigits(segment, i, end);
+    }
+
+    /**
+     * Checks if the bytes {@code [offset, offset + length)} of a segment contain only letters.
+     *
+     * @param segment the segment to read
+     * @param offset  the offset of the first byte
+     * @param length  the number of bytes
+     * @return {@code true} if the bytes contain only letters, {@code false} otherwise
+     * @throws NullPointerException      if the segment is null
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     * @example MemorySegmentValidators.isAlpha(MemorySegment.ofArray("abc".getBytes(UTF_8)), 0, 3); // returns true
+     */
+    public static boolean isAlpha(MemorySegment segment, long offset, long length) {
+        long to = checkRange(segment, offset, length);
+        long start = trimStart(segment, offset, to);
+        long end = trimEnd(segment, start, to);
+        if (start == end) {
+            return false;
+        }
+        for (long i = start; i < end; i++) {
+            if (!AsciiScanner.isLetter(get(segment, i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks if the bytes {@code [offset, offset + length)} of a segment are alphanumeric.
+     *
+     * @param segment the segment to read
+     * @param offset  the offset of the first byte
+     * @param length  the number of bytes
+     * @return {@code true} if the bytes are alphanumeric, {@code false} otherwise
+     * @throws NullPointerException      if the segment is null
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     * @example MemorySegmentValidators.isAlphaNumeric(MemorySegment.ofArray("a1".getBytes(UTF_8)), 0, 2); // true
+     */
+    public static boolean isAlphaNumeric(MemorySegment segment, long offset, long length) {
+        long to = checkRange(segment, offset, length);
+        long start = trimStart(segment, offset, to);
+        long end = trimEnd(segment, start, to);
+        if (start == end) {
+            return false;
+        }
+        for (long i = start; i < end; i++) {
+            if (!AsciiScanner.isLetterOrDigit(get(segment, i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks if the bytes {@code [offset, offset + length)} of a segment are a valid email address.
+     *
+     * @param segment the segment to read
+     * @param offset  the offset of the first byte
+     * @param length  the number of bytes
+     * @return {@code true} if the bytes are a valid email, {@code false} otherwise
+     * @throws NullPointerException      if the segment is null
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     * @example MemorySegmentValidators.isEmail(mapped, start, length); // checks a field of a memory-mapped file
+     */
+    public static boolean isEmail(MemorySegment segment, long offset, long length) {
+        long to = checkRange(segment, offset, length);
+        if (length == 0 || get(segment, offset) == '-') {
+            return false;
+        }
+        long i = offset;
+        while (i < to && EmailValidator.isLocalPartChar(get(segment, i) & 0xFF)) {
+            i++;
+        }
+        if (i == offset || i == to || get(segment, i) != '@') {
+            return false;
+        }
+        i++;
+        if (i == to || get(segment, i) == '-') {
+            return false;
+        }
+        int completedLabels = 0;
+        int labelLength = 0;
+        boolean lettersOnly = true;
+        for (; i < to; i++) {
+            byte b = get(segment, i);
+            if (b == '.') {
+                if (labelLength == 0) {
+                    return false;
+                }
+                completedLabels++;
+                labelLength = 0;
+                lettersOnly = true;
+            } else if (AsciiScanner.isLetter(b)) {
+                labelLength++;
+            } else if (AsciiScanner.isDigit(b) || b == '-') {
+                labelLength++;
+                lettersOnly = false;
+            } else {
+                return false;
+            }
+        }
+        return completedLabels > 0 && labelLength >= 2 && lettersOnly;
+    }
+
+    private static long checkRange(MemorySegment segment, long offset, long length) {
+        Objects.requireNonNull(segment, SEGMENT_CANNOT_BE_NULL);
+        Objects.checkFromIndexSize(offset, length, segment.byteSize());
+        return offset + length;
+    }
+
+    private static byte get(MemorySegment segment, long index) {
+        return segment.get(ValueLayout.JAVA_BYTE, index);
+    }
+
+    private static long trimStart(MemorySegment segment, long from, long to) {
+        while (from < to && (get(segment, from) & 0xFF) <= ' ') {
+            from++;
+        }
+        return from;
+    }
+
+    private static long trimEnd(MemorySegment segment, long from, long to) {
+        while (to > from && (get(segment, to - 1) & 0xFF) <= ' ') {
+            to--;
+        }
+        return to;
+    }
+
+    private static boolean allDigits(MemorySegment segment, long from, long to) {
+        for (long i = from; i < to; i++) {
+            if (!AsciiScanner.isDigit(get(segment, i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isSign(int c) {
+        return c == '+' || c == '-';
+    }
+}
@@ -0,0 +1,73 @@
+package com.linbrox.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs {@link MemorySegmentValidators} against the {@code byte[]} and {@code String} validators of
+ * {@link StringUtils} on the corpora of {@link Corpus}, over heap segments and native ones.
+ */
+class MemorySegmentValidatorsTest {
+
+    private static final int CORPUS_SIZE = 20_000;
+
+    @Test
+    void shouldValidateLikeTheByteAndStringVersions() {
+        List<String> values = new ArrayList<>(Corpus.texts(22, CORPUS_SIZE));
+        values.addAll(Corpus.numbers(23, CORPUS_SIZE));
+        values.addAll(Corpus.integerBoundaries());
+        try (Arena arena = Arena.ofConfined()) {
+            for (String value : values) {
+                byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+                // the segments see the decoded text, in which a lone surrogate has become '?'
+                String decoded = new String(utf8, StandardCharsets.UTF_8);
+                byte[] framed = ("<" + decoded + ">").getBytes(StandardCharsets.UTF_8);
+                MemorySegment offHeap = arena.allocate(Math.max(1, utf8.length));
+                MemorySegment.copy(utf8, 0, offHeap, ValueLayout.JAVA_BYTE, 0, utf8.length);
+                assertSegment(decoded, utf8, MemorySegment.ofArray(framed), 1);
+                assertSegment(decoded, utf8, offHeap, 0);
+            }
+        }
+    }
+
+    private static void assertSegment(String decoded, byte[] utf8, MemorySegment segment, long offset) {
+        String description = Corpus.describe(decoded);
+        int length = utf8.length;
+        boolean blank = StringUtils.isBlank(utf8, 0, length);
+        assertEquals(StringUtils.isBlank(decoded), blank, description);
+        assertEquals(blank, MemorySegmentValidators.isBlank(segment, offset, length), description);
+        boolean numeric = StringUtils.isNumeric(utf8, 0, length);
+        assertEquals(StringUtils.isNumeric(decoded), numeric, description);
+        assertEquals(numeric, MemorySegmentValidators.isNumeric(segment, offset, length), description);
+        boolean decimal = StringUtils.isNumericWithDecimal(utf8, 0, length);
+        assertEquals(StringUtils.isNumericWithDecimal(decoded), decimal, description);
+        assertEquals(decimal, MemorySegmentValidators.isNumericWithDecimal(segment, offset, length), description);
+        boolean alpha = StringUtils.isAlpha(utf8, 0, length);
+        assertEquals(StringUtils.isAlpha(decoded), alpha, description);
+        assertEquals(alpha, MemorySegmentValidators.isAlpha(segment, offset, length), description);
+        boolean alphaNumeric = StringUtils.isAlphaNumeric(utf8, 0, length);
+        assertEquals(StringUtils.isAlphaNumeric(decoded), alphaNumeric, description);
+        assertEquals(alphaNumeric, MemorySegmentValidators.isAlphaNumeric(segment, offset, length), description);
+        boolean email = StringUtils.isEmail(utf8, 0, length);
+        assertEquals(StringUtils.isEmail(decoded), email, description);
+        assertEquals(email, MemorySegmentValidators.isEmail(segment, offset, length), description);
+    }
+
+    @Test
+    void shouldThrownAnErrorWhenTheArgumentsAreInvalid() {
+        MemorySegment segment = MemorySegment.ofArray("123".getBytes(StandardCharsets.US_ASCII));
+        assertThrows(NullPointerException.class, () -> MemorySegmentValidators.isNumeric(null, 0, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> MemorySegmentValidators.isNumeric(segment, 1, 3));
+        assertThrows(IndexOutOfBoundsException.class, () -> MemorySegmentValidators.isEmail(segment, -1, 2));
+        assertFalse(MemorySegmentValidators.isNumeric(segment, 0, 0));
+        assertTrue(MemorySegmentValidators.isNumeric(segment, 1, 2));
+    }
+}
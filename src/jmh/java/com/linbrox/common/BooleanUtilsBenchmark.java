@@ -0,0 +1,55 @@
+package com.linbrox.common;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+public class BooleanUtilsBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Text {
+        @Param({"true", "FALSE", "yes"})
+        public String value;
+    }
+
+    @State(Scope.Benchmark)
+    public static class Column {
+        public String[] tokens;
+
+        @Setup
+        public void setUp() {
+            String[] spellings = {"Y", "n", "yes", "No", "1", "0", "on", "OFF", "true", "false", ""};
+            tokens = new String[4096];
+            for (int i = 0; i < tokens.length; i++) {
+                tokens[i] = spellings[i % spellings.length];
+            }
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Flag {
+        public Integer value = 1;
+    }
+
+    @Benchmark
+    public Boolean toBooleanString(Text text) {
+        return BooleanUtils.toBoolean(text.value);
+    }
+
+    @Benchmark
+    public Boolean toBooleanInteger(Flag flag) {
+        return BooleanUtils.toBoolean(flag.value);
+    }
+
+    @Benchmark
+    public int parseBoolean(Text text) {
+        return BooleanUtils.parseBoolean(text.value);
+    }
+
+    @Benchmark
+    public BooleanColumn parseAll(Column column) {
+        return BooleanUtils.parseAll(column.tokens);
+    }
+}
@@ -0,0 +1,41 @@
+package com.linbrox.common;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Arrays;
+
+/**
+ * Whole-column validation: the element-at-a-time stream the ETL jobs used before, against
+ * {@link StringUtils#validateAll(CharSequence[], Validation)} below and above the fork/join threshold.
+ */
+@State(Scope.Benchmark)
+public class BulkValidationBenchmark {
+
+    @Param({"1000", "1000000"})
+    public int size;
+
+    private String[] column;
+
+    @Setup
+    public void setUp() {
+        String[] samples = {"12345", " -42 ", "12a45", "", "9876543210", "   "};
+        column = new String[size];
+        for (int i = 0; i < size; i++) {
+            column[i] = samples[i % samples.length];
+        }
+    }
+
+    @Benchmark
+    public long streamOneByOne() {
+        return Arrays.stream(column).map(StringUtils::isNumeric).filter(Boolean::booleanValue).count();
+    }
+
+    @Benchmark
+    public long validateAll() {
+        return StringUtils.validateAll(column, Validation.NUMERIC).validCount();
+    }
+}
@@ -0,0 +1,58 @@
+package com.linbrox.common;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Profiling a 64 MB CSV file that stays in the page cache, so the score is the CPU cost per file; divide the file
+ * size by it for the throughput. Each operation also counts allocation, which should not grow with the file.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ColumnProfilerBenchmark {
+
+    private Path file;
+    private ColumnProfiler profiler;
+
+    @Setup
+    public void setUp() throws IOException {
+        file = Files.createTempFile("profile", ".csv");
+        String[] rows = {
+                "1,ana@example.com,true,12.50,ES\n",
+                "2,not an email,no,-3,FR\n",
+                "3,,1,7,\n",
+                "4,bob.smith+list@mail.example.org,off,1000000.25,DE\n"
+        };
+        try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+            for (long written = 0; written < 64L << 20; ) {
+                String row = rows[(int) (written % rows.length)];
+                writer.write(row);
+                written += row.length();
+            }
+        }
+        profiler = ColumnProfiler.of(',');
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public TableProfile profile() throws IOException {
+        return profiler.profile(file);
+    }
+}
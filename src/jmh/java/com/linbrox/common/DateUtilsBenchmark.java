@@ -0,0 +1,131 @@
+package com.linbrox.common;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.SplittableRandom;
+
+@State(Scope.Benchmark)
+public class DateUtilsBenchmark {
+
+    private Date pastDate;
+    private Date futureDate;
+    private LocalDateTime pastDateTime;
+    private LocalDateTime futureDateTime;
+    private String pastText;
+    private String futureText;
+    private final long[] epochSeconds = new long[1024];
+    private final long[] dueMillis = new long[1 << 16];
+    private final Date[] dueDates = new Date[dueMillis.length];
+
+    @Setup
+    public void setUp() {
+        long now = System.currentTimeMillis();
+        pastDate = new Date(now - 86_400_000L);
+        futureDate = new Date(now + 2 * 86_400_000L);
+        pastDateTime = LocalDateTime.now().minusDays(1);
+        futureDateTime = LocalDateTime.now().plusDays(2);
+        pastText = "2000-06-15T12:34:56";
+        futureText = "2999-06-15T12:34:56.123456789";
+        SplittableRandom random = new SplittableRandom(11);
+        for (int i = 0; i < dueMillis.length; i++) {
+            dueMillis[i] = now + random.nextLong(-3 * 86_400_000L, 3 * 86_400_000L);
+            dueDates[i] = new Date(dueMillis[i]);
+        }
+    }
+
+    @Benchmark
+    public boolean isFutureDate() {
+        return DateUtils.isFutureDate(futureDate);
+    }
+
+    @Benchmark
+    public boolean isFutureLocalDateTime() {
+        return DateUtils.isFutureDate(futureDateTime);
+    }
+
+    @Benchmark
+    public boolean isFutureDateText() {
+        return DateUtils.isFutureDate(futureText);
+    }
+
+    @Benchmark
+    public boolean isPastDate() {
+        return DateUtils.isPastDate(pastDate);
+    }
+
+    @Benchmark
+    public boolean isPastLocalDateTime() {
+        return DateUtils.isPastDate(pastDateTime);
+    }
+
+    @Benchmark
+    public boolean isPastDateText() {
+        return DateUtils.isPastDate(pastText);
+    }
+
+    @Benchmark
+    public boolean isToday() {
+        return DateUtils.isToday(pastDate);
+    }
+
+    @Benchmark
+    public LocalDate tomorrow() {
+        return DateUtils.tomorrow();
+    }
+
+    @Benchmark
+    public LocalDate yesterday() {
+        return DateUtils.yesterday();
+    }
+
+    @Benchmark
+    public LocalDateTime randomDate() {
+        return DateUtils.randomDate();
+    }
+
+    @Benchmark
+    public LocalDateTime randomFutureDate() {
+        return DateUtils.randomFutureDate();
+    }
+
+    @Benchmark
+    public LocalDateTime randomPastDate() {
+        return DateUtils.randomPastDate();
+    }
+
+    @Benchmark
+    public long[] fillRandomEpochSeconds() {
+        DateUtils.fillRandomEpochSeconds(epochSeconds, 0, 4_102_444_800L);
+        return epochSeconds;
+    }
+
+    /**
+     * Routes 65536 instants one call at a time, for comparison with {@link #classifyAllMillis()}.
+     */
+    @Benchmark
+    public int classifyOneByOne() {
+        int future = 0;
+        for (Date date : dueDates) {
+            if (!DateUtils.isPastDate(date) && DateUtils.isFutureDate(date)) {
+                future++;
+            }
+        }
+        return future;
+    }
+
+    @Benchmark
+    public DayClassification classifyAllMillis() {
+        return DateUtils.classifyAll(dueMillis);
+    }
+
+    @Benchmark
+    public DayClassification classifyAllDates() {
+        return DateUtils.classifyAll(dueDates);
+    }
+}
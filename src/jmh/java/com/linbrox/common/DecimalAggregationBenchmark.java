@@ -0,0 +1,46 @@
+package com.linbrox.common;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+
+/**
+ * Sum of quantity times price over a column of amounts, the aggregation loop {@link FixedDecimal} is meant for.
+ */
+@State(Scope.Benchmark)
+public class DecimalAggregationBenchmark {
+
+    private String[] prices;
+    private String[] quantities;
+
+    @Setup
+    public void setUp() {
+        prices = new String[1024];
+        quantities = new String[1024];
+        for (int i = 0; i < prices.length; i++) {
+            prices[i] = (i * 37 % 10_000) + "." + (10 + i % 90);
+            quantities[i] = Integer.toString(1 + i % 50);
+        }
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimal() {
+        BigDecimal total = BigDecimal.ZERO;
+        for (int i = 0; i < prices.length; i++) {
+            total = total.add(NumericUtils.toBigDecimal(prices[i]).multiply(NumericUtils.toBigDecimal(quantities[i])));
+        }
+        return total;
+    }
+
+    @Benchmark
+    public FixedDecimal fixedDecimal() {
+        FixedDecimal total = FixedDecimal.ZERO;
+        for (int i = 0; i < prices.length; i++) {
+            total = total.add(NumericUtils.toFixedDecimal(prices[i]).multiply(NumericUtils.toFixedDecimal(quantities[i])));
+        }
+        return total;
+    }
+}
@@ -0,0 +1,94 @@
+package com.linbrox.common;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * Checking sign-up addresses against a block list of domains and wildcards: validating with
+ * {@link StringUtils#isEmail(String)}, then looking up the lower-cased domain and each of its suffixes in hash sets
+ * of strings, against one right-to-left pass of {@link DomainTrie#checkEmail(CharSequence)}.
+ */
+@State(Scope.Benchmark)
+public class DomainTrieBenchmark {
+
+    private static final String[] TLDS = {"com", "net", "org", "io", "co.uk", "de", "ru", "info"};
+    private static final int ADDRESSES = 1024;
+
+    @Param({"1000", "100000"})
+    private int rules;
+
+    private final Set<String> exact = new HashSet<>();
+    private final Set<String> wildcards = new HashSet<>();
+    private DomainTrie trie;
+    private String[] addresses;
+    private int address;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(25);
+        List<String> list = new ArrayList<>();
+        for (int i = 0; i < rules; i++) {
+            String domain = name(random) + "." + TLDS[random.nextInt(TLDS.length)];
+            if (random.nextInt(4) == 0) {
+                list.add("*." + domain);
+                wildcards.add(domain);
+            } else {
+                list.add(domain);
+                exact.add(domain);
+            }
+        }
+        trie = DomainTrie.of(list);
+        addresses = new String[ADDRESSES];
+        for (int i = 0; i < ADDRESSES; i++) {
+            String domain = random.nextBoolean()
+                    ? list.get(random.nextInt(rules)).replace("*", "mail")
+                    : name(random) + "." + TLDS[random.nextInt(TLDS.length)];
+            addresses[i] = name(random) + "@" + (i % 3 == 0 ? domain.toUpperCase(Locale.ROOT) : domain);
+        }
+    }
+
+    private static String name(SplittableRandom random) {
+        char[] name = new char[4 + random.nextInt(8)];
+        for (int i = 0; i < name.length; i++) {
+            name[i] = (char) ('a' + random.nextInt(26));
+        }
+        return new String(name);
+    }
+
+    private String next() {
+        return addresses[address = (address + 1) & (ADDRESSES - 1)];
+    }
+
+    @Benchmark
+    public int isEmailThenHashSetSuffixes() {
+        String email = next();
+        if (!StringUtils.isEmail(email)) {
+            return DomainTrie.INVALID;
+        }
+        String domain = email.substring(email.indexOf('@') + 1).toLowerCase(Locale.ROOT);
+        if (exact.contains(domain)) {
+            return DomainTrie.LISTED;
+        }
+        for (int dot = domain.indexOf('.'); dot >= 0; dot = domain.indexOf('.', dot + 1)) {
+            if (wildcards.contains(domain.substring(dot + 1))) {
+                return DomainTrie.LISTED;
+            }
+        }
+        return DomainTrie.NOT_LISTED;
+    }
+
+    @Benchmark
+    public int domainTrie() {
+        return trie.checkEmail(next());
+    }
+}
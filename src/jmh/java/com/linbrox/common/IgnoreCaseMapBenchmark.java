@@ -0,0 +1,69 @@
+package com.linbrox.common;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Looking up HTTP header names as they arrive, in any case: a {@link HashMap} of lower-cased names, which needs a
+ * lower-cased copy of every name, against an {@link IgnoreCaseMap} probed with the name itself or with the bytes
+ * of the raw header line.
+ */
+@State(Scope.Benchmark)
+public class IgnoreCaseMapBenchmark {
+
+    private static final String[] HEADERS = {"Accept", "Accept-Encoding", "Accept-Language", "Authorization",
+            "Cache-Control", "Connection", "Content-Length", "Content-Type", "Cookie", "Host", "If-None-Match",
+            "Origin", "Referer", "User-Agent", "X-Forwarded-For", "X-Request-Id"};
+
+    private final Map<String, Integer> lowerCased = new HashMap<>();
+    private final IgnoreCaseMap<Integer> mutable = IgnoreCaseMap.create();
+    private IgnoreCaseMap<Integer> frozen;
+    private String[] names;
+    private byte[][] lines;
+    private int header;
+
+    @Setup
+    public void setUp() {
+        names = new String[HEADERS.length];
+        lines = new byte[HEADERS.length][];
+        for (int i = 0; i < HEADERS.length; i++) {
+            lowerCased.put(HEADERS[i].toLowerCase(Locale.ROOT), i);
+            mutable.put(HEADERS[i], i);
+            names[i] = i % 2 == 0 ? HEADERS[i].toUpperCase(Locale.ROOT) : HEADERS[i].toLowerCase(Locale.ROOT);
+            lines[i] = (names[i] + ": value").getBytes(StandardCharsets.US_ASCII);
+        }
+        frozen = mutable.freeze();
+    }
+
+    private int next() {
+        return header = (header + 1) & (HEADERS.length - 1);
+    }
+
+    @Benchmark
+    public Integer hashMapOfLowerCase() {
+        return lowerCased.get(names[next()].toLowerCase(Locale.ROOT));
+    }
+
+    @Benchmark
+    public Integer ignoreCaseMap() {
+        return mutable.get(names[next()]);
+    }
+
+    @Benchmark
+    public Integer frozenIgnoreCaseMap() {
+        return frozen.get(names[next()]);
+    }
+
+    @Benchmark
+    public Integer frozenIgnoreCaseMapBytes() {
+        int i = next();
+        return frozen.get(lines[i], 0, names[i].length());
+    }
+}
@@ -0,0 +1,36 @@
+package com.linbrox.common;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * The cost of the metrics on a short validation. {@code disabled} forks without the switch and should match
+ * {@link StringValidationBenchmark}; {@code enabled} forks with it and the default sample rate, and
+ * {@code enabledTimingEveryCall} with every call timed.
+ */
+@State(Scope.Benchmark)
+public class MetricsBenchmark {
+
+    private String numeric = "12345";
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-Dcom.linbrox.common.metrics=false")
+    public boolean disabled() {
+        return StringUtils.isNumeric(numeric);
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-Dcom.linbrox.common.metrics=true")
+    public boolean enabled() {
+        return StringUtils.isNumeric(numeric);
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = {"-Dcom.linbrox.common.metrics=true",
+            "-Dcom.linbrox.common.metrics.sampleRate=1"})
+    public boolean enabledTimingEveryCall() {
+        return StringUtils.isNumeric(numeric);
+    }
+}
@@ -0,0 +1,56 @@
+package com.linbrox.common;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.DoubleSummaryStatistics;
+import java.util.List;
+import java.util.Objects;
+import java.util.SplittableRandom;
+
+/**
+ * Summarizing a column of one million prices, one in twenty of them malformed: boxing each value through
+ * {@link NumericUtils#toDouble(String)} and dropping the failures, against parsing into the primitive accumulators
+ * of {@link NumericCollectors}, sequentially and in parallel.
+ */
+@State(Scope.Benchmark)
+public class NumericCollectorsBenchmark {
+
+    private List<String> column;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        column = new ArrayList<>();
+        for (int i = 0; i < 1_000_000; i++) {
+            column.add(random.nextInt(20) == 0 ? "n/a" : random.nextInt(100_000) + "." + random.nextInt(10, 100));
+        }
+    }
+
+    private static Double toDoubleOrNull(String value) {
+        try {
+            return NumericUtils.toDouble(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    @Benchmark
+    public DoubleSummaryStatistics boxedStream() {
+        return column.stream().map(NumericCollectorsBenchmark::toDoubleOrNull).filter(Objects::nonNull)
+                .mapToDouble(Double::doubleValue).summaryStatistics();
+    }
+
+    @Benchmark
+    public NumericSummary summarizingDoubles() {
+        return column.stream().collect(NumericCollectors.summarizingDoubles());
+    }
+
+    @Benchmark
+    public NumericSummary summarizingDoublesParallel() {
+        return column.parallelStream().collect(NumericCollectors.summarizingDoubles());
+    }
+}
@@ -0,0 +1,104 @@
+package com.linbrox.common;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+
+@State(Scope.Benchmark)
+public class NumericUtilsBenchmark {
+
+    @Param({"short", "long", "invalid"})
+    public String input;
+
+    private final ParseResult result = new ParseResult();
+    private String integer;
+    private String decimal;
+
+    @Setup
+    public void setUp() {
+        switch (input) {
+            case "short":
+                integer = "42";
+                decimal = "3.25";
+                break;
+            case "long":
+                integer = "-2147483647";
+                decimal = "-1234567.8901234567890123";
+                break;
+            case "invalid":
+                integer = "12a";
+                decimal = "1.2.3";
+                break;
+            default:
+                throw new IllegalArgumentException(input);
+        }
+    }
+
+    @Benchmark
+    public Integer toInteger() {
+        try {
+            return NumericUtils.toInteger(integer);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    @Benchmark
+    public Integer isNumericThenToInteger() {
+        return StringUtils.isNumeric(integer) ? NumericUtils.toInteger(integer) : null;
+    }
+
+    @Benchmark
+    public int parseInt() {
+        return NumericUtils.parseInt(integer, result) ? result.intValue() : 0;
+    }
+
+    @Benchmark
+    public Double toDouble() {
+        try {
+            return NumericUtils.toDouble(decimal);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    @Benchmark
+    public double parseDouble() {
+        try {
+            return NumericUtils.parseDouble(decimal);
+        } catch (NumberFormatException e) {
+            return Double.NaN;
+        }
+    }
+
+    @Benchmark
+    public double jdkParseDouble() {
+        try {
+            return Double.parseDouble(decimal);
+        } catch (NumberFormatException e) {
+            return Double.NaN;
+        }
+    }
+
+    @Benchmark
+    public BigDecimal toBigDecimal() {
+        try {
+            return NumericUtils.toBigDecimal(decimal);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    @Benchmark
+    public FixedDecimal toFixedDecimal() {
+        try {
+            return NumericUtils.toFixedDecimal(decimal);
+        } catch (NumberFormatException | ArithmeticException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.linbrox.common;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Cold start of the utilities, which JMH cannot measure: each run is a fresh JVM that makes the first call to
+ * each utility class, so the time is class loading, linking and static initialisation rather than the work of
+ * the call. Runs {@code startupBenchmark} through Gradle, which first dumps an AppCDS archive with
+ * {@code appCdsArchive} and then compares JVMs started without and with it.
+ * <p>
+ * {@code StartupBenchmark <runs> [archive]} forks the JVMs and prints the median of each phase;
+ * {@code StartupBenchmark train} makes the first calls once, for the archive dump; {@code StartupBenchmark child}
+ * makes them once and prints the nanoseconds each took.
+ */
+public final class StartupBenchmark {
+
+    private static final String[] PHASES = {"StringUtils", "NumericUtils", "DateUtils", "BooleanUtils", "total"};
+
+    private StartupBenchmark() {}
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length == 0) {
+            throw new IllegalArgumentException("Usage: StartupBenchmark <runs> [archive] | train | child");
+        }
+        if (args[0].equals("train")) {
+            firstCalls();
+            return;
+        }
+        if (args[0].equals("child")) {
+            long[] nanos = firstCalls();
+            StringBuilder line = new StringBuilder();
+            for (long phase : nanos) {
+                line.append(phase).append(' ');
+            }
+            System.out.println(line.toString().trim());
+            return;
+        }
+        int runs = Integer.parseInt(args[0]);
+        report("default CDS", measure(runs, null));
+        if (args.length > 1 && new File(args[1]).isFile()) {
+            report("AppCDS", measure(runs, args[1]));
+        }
+    }
+
+    /**
+     * The first call to each utility class, as a short-lived job would make them.
+     */
+    private static long[] firstCalls() {
+        long[] nanos = new long[PHASES.length];
+        long start = System.nanoTime();
+        boolean strings = StringUtils.isNumeric("42") && StringUtils.isEmail("jane.doe@example.com")
+                && !StringUtils.isBlank(StringUtils.leftPad("7", 3, "0"));
+        long afterStrings = System.nanoTime();
+        boolean numbers = NumericUtils.parseDouble("19.99") > 0 && NumericUtils.toInteger("42") == 42;
+        long afterNumbers = System.nanoTime();
+        boolean dates = DateUtils.isPastDate("2000-01-01T00:00:00") && DateUtils.tomorrow() != null;
+        long afterDates = System.nanoTime();
+        boolean booleans = BooleanUtils.toBoolean("true");
+        long end = System.nanoTime();
+        if (!(strings && numbers && dates && booleans)) {
+            throw new IllegalStateException("A first call returned the wrong result");
+        }
+        nanos[0] = afterStrings - start;
+        nanos[1] = afterNumbers - afterStrings;
+        nanos[2] = afterDates - afterNumbers;
+        nanos[3] = end - afterDates;
+        nanos[4] = end - start;
+        return nanos;
+    }
+
+    private static long[][] measure(int runs, String archive) throws IOException, InterruptedException {
+        String java = ProcessHandle.current().info().command()
+                .orElse(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+        List<String> command = new ArrayList<>(List.of(java, "-Xshare:auto"));
+        if (archive != null) {
+            command.add("-XX:SharedArchiveFile=" + archive);
+        }
+        command.addAll(List.of("-cp", System.getProperty("java.class.path"), StartupBenchmark.class.getName(),
+                "child"));
+        // one more column than the phases: the wall time of the whole JVM, from fork to exit
+        long[][] samples = new long[PHASES.length + 1][runs];
+        for (int run = 0; run < runs; run++) {
+            long start = System.nanoTime();
+            Process process = new ProcessBuilder(command).redirectError(ProcessBuilder.Redirect.INHERIT).start();
+            String line;
+            try (BufferedReader output = new BufferedReader(
+                    new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+                line = output.readLine();
+            }
+            if (process.waitFor() != 0 || line == null || !line.matches("[0-9 ]+")) {
+                throw new IllegalStateException("The child JVM failed: " + line);
+            }
+            samples[PHASES.length][run] = System.nanoTime() - start;
+            String[] fields = line.split(" ");
+            for (int phase = 0; phase < PHASES.length; phase++) {
+                samples[phase][run] = Long.parseLong(fields[phase]);
+            }
+        }
+        return samples;
+    }
+
+    private static void report(String label, long[][] samples) {
+        System.out.printf("%-12s", label);
+        for (int phase = 0; phase < PHASES.length; phase++) {
+            System.out.printf("  %s %6.2f ms", PHASES[phase], median(samples[phase]) / 1e6);
+        }
+        System.out.printf("  JVM %6.1f ms (median of %d)%n", median(samples[PHASES.length]) / 1e6,
+                samples[0].length);
+    }
+
+    private static double median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int middle = sorted.length / 2;
+        return sorted.length % 2 == 1 ? sorted[middle] : (sorted[middle - 1] + sorted[middle]) / 2.0;
+    }
+}
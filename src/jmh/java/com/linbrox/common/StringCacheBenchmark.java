@@ -0,0 +1,52 @@
+package com.linbrox.common;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Turning the currency field of a record into a String: a new String per record against the shared instance from
+ * a {@link StringCache}. The allocation per operation is the retained heap each record would add.
+ */
+@State(Scope.Benchmark)
+public class StringCacheBenchmark {
+
+    private static final String[] CURRENCIES = {"EUR", "USD", "GBP", "JPY", "CHF", "SEK", "NOK", "DKK", "PLN",
+            "CZK", "HUF", "RON", "BGN", "ISK", "TRY", "AUD"};
+
+    private final StringCache cache = StringCache.of(256);
+    private byte[] records;
+    private int record;
+
+    @Setup
+    public void setUp() {
+        StringBuilder builder = new StringBuilder();
+        for (String currency : CURRENCIES) {
+            builder.append("19.99;").append(currency).append(';');
+        }
+        records = builder.toString().getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private int nextOffset() {
+        record = (record + 1) & (CURRENCIES.length - 1);
+        return record * 10 + 6;
+    }
+
+    @Benchmark
+    public String newString() {
+        return new String(records, nextOffset(), 3, StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public String canonicalBytes() {
+        return cache.canonical(records, nextOffset(), 3);
+    }
+
+    @Benchmark
+    public String canonicalString() {
+        return cache.canonical(CURRENCIES[(record = (record + 1) & (CURRENCIES.length - 1))]);
+    }
+}
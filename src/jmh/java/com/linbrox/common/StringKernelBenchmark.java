@@ -0,0 +1,84 @@
+package com.linbrox.common;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+/**
+ * The scans of {@link AsciiKernels} on whole fields, all valid so that every char is read. Run with
+ * {@code -PjmhVector} to measure the Vector API kernels of the JDK 21 layer instead of the portable loops.
+ */
+@State(Scope.Benchmark)
+public class StringKernelBenchmark {
+
+    @Param({"16", "256", "4096"})
+    public int length;
+
+    private String blank;
+    private String numeric;
+    private String alpha;
+    private String alphaNumeric;
+    private byte[] numericBytes;
+    private byte[] alphaBytes;
+    private String lower;
+    private String lowerCopy;
+    private String upper;
+
+    @Setup
+    public void setUp() {
+        blank = " ".repeat(length);
+        numeric = "1234567890".repeat(length / 10 + 1).substring(0, length);
+        alpha = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ".repeat(length / 52 + 1).substring(0, length);
+        alphaNumeric = "abc123XYZ0".repeat(length / 10 + 1).substring(0, length);
+        numericBytes = numeric.getBytes(StandardCharsets.UTF_8);
+        alphaBytes = alpha.getBytes(StandardCharsets.UTF_8);
+        lower = alpha.toLowerCase(Locale.ROOT);
+        lowerCopy = new String(lower.toCharArray());
+        upper = alpha.toUpperCase(Locale.ROOT);
+    }
+
+    @Benchmark
+    public boolean isBlank() {
+        return StringUtils.isBlank(blank);
+    }
+
+    @Benchmark
+    public boolean isNumeric() {
+        return StringUtils.isNumeric(numeric);
+    }
+
+    @Benchmark
+    public boolean isAlpha() {
+        return StringUtils.isAlpha(alpha);
+    }
+
+    @Benchmark
+    public boolean isAlphaNumeric() {
+        return StringUtils.isAlphaNumeric(alphaNumeric);
+    }
+
+    @Benchmark
+    public boolean isNumericUtf8() {
+        return StringUtils.isNumeric(numericBytes, 0, numericBytes.length);
+    }
+
+    @Benchmark
+    public boolean isAlphaUtf8() {
+        return StringUtils.isAlpha(alphaBytes, 0, alphaBytes.length);
+    }
+
+    @Benchmark
+    public boolean areStringsEqual() {
+        return StringUtils.areStringsEqual(lower, lowerCopy);
+    }
+
+    @Benchmark
+    public boolean areStringsEqualIgnoreCase() {
+        return StringUtils.areStringsEqualIgnoreCase(lower, upper);
+    }
+}
@@ -0,0 +1,136 @@
+package com.linbrox.common;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.ByteBuffer;
+
+@State(Scope.Benchmark)
+public class StringTransformBenchmark {
+
+    @Param({"short", "long", "nonAscii"})
+    public String input;
+
+    private String text;
+    private String sameText;
+    private String otherCase;
+    private int size;
+    private StringBuilder line;
+    private char[] chars;
+    private ByteBuffer bytes;
+
+    @Setup
+    public void setUp() {
+        switch (input) {
+            case "short":
+                text = "hello";
+                break;
+            case "long":
+                text = "the quick brown fox jumps over the lazy dog ".repeat(24);
+                break;
+            case "nonAscii":
+                text = "\u00e9lan vital, \u00f1and\u00fa, stra\u00dfe, \u0130stanbul";
+                break;
+            default:
+                throw new IllegalArgumentException(input);
+        }
+        sameText = new String(text.toCharArray());
+        otherCase = text.toUpperCase();
+        size = text.length() + 16;
+        line = new StringBuilder(4 * size);
+        chars = new char[4 * size];
+        bytes = ByteBuffer.allocate(16 * size);
+    }
+
+    @Benchmark
+    public String capitalize() {
+        return StringUtils.capitalize(text);
+    }
+
+    @Benchmark
+    public String uncapitalize() {
+        return StringUtils.uncapitalize(otherCase);
+    }
+
+    @Benchmark
+    public String reverse() {
+        return StringUtils.reverse(text);
+    }
+
+    @Benchmark
+    public String leftPad() {
+        return StringUtils.leftPad(text, size);
+    }
+
+    @Benchmark
+    public String leftPadWithPad() {
+        return StringUtils.leftPad(text, size, "-=");
+    }
+
+    @Benchmark
+    public String rightPad() {
+        return StringUtils.rightPad(text, size);
+    }
+
+    @Benchmark
+    public String rightPadWithPad() {
+        return StringUtils.rightPad(text, size, "-=");
+    }
+
+    @Benchmark
+    public StringBuilder leftPadIntoBuilder() {
+        line.setLength(0);
+        return StringUtils.leftPad(line, text, size, " ");
+    }
+
+    @Benchmark
+    public StringBuilder rightPadIntoBuilderWithPad() {
+        line.setLength(0);
+        return StringUtils.rightPad(line, text, size, "-=");
+    }
+
+    @Benchmark
+    public int leftPadIntoChars() {
+        return StringUtils.leftPad(chars, 0, text, size, "0");
+    }
+
+    @Benchmark
+    public ByteBuffer rightPadIntoBuffer() {
+        bytes.clear();
+        return StringUtils.rightPad(bytes, text, size, " ");
+    }
+
+    @Benchmark
+    public StringBuilder repeatIntoBuilder() {
+        line.setLength(0);
+        return StringUtils.repeat(line, text, 4);
+    }
+
+    @Benchmark
+    public String repeat() {
+        return StringUtils.repeat(text, 4);
+    }
+
+    @Benchmark
+    public boolean areStringsEqual() {
+        return StringUtils.areStringsEqual(text, sameText);
+    }
+
+    @Benchmark
+    public boolean areStringsEqualIgnoreCase() {
+        return StringUtils.areStringsEqualIgnoreCase(text, otherCase);
+    }
+
+    @Benchmark
+    public int hashCodeIgnoreCase() {
+        return StringUtils.hashCodeIgnoreCase(otherCase);
+    }
+
+    @Benchmark
+    public int lowerCaseThenHashCode() {
+        return otherCase.toLowerCase().hashCode();
+    }
+}
@@ -0,0 +1,195 @@
+package com.linbrox.common;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.BitSet;
+
+@State(Scope.Benchmark)
+public class StringValidationBenchmark {
+
+    /**
+     * Shape of the inputs: short and long, with and without padding, invalid only at the last
+     * character (the worst case for a scanner) and non-ASCII.
+     */
+    @Param({"short", "shortPadded", "long", "longPadded", "invalid", "nonAscii"})
+    public String input;
+
+    private String numeric;
+    private String decimal;
+    private String alpha;
+    private String alphaNumeric;
+    private String email;
+    private String blank;
+    private String[] emails;
+    private byte[] numericBytes;
+    private byte[] emailBytes;
+    private ByteBuffer alphaDirect;
+
+    @Setup
+    public void setUp() {
+        switch (input) {
+            case "short":
+                use("12345", "123.45", "abcde", "abc12", "a@b.co", "   ");
+                break;
+            case "shortPadded":
+                use(pad("12345", 2), pad("123.45", 2), pad("abcde", 2), pad("abc12", 2), pad("a@b.co", 0), "\t \n");
+                break;
+            case "long":
+                use(longNumeric(), longDecimal(), longAlpha(), longAlpha() + longNumeric(), longEmail(), " ".repeat(256));
+                break;
+            case "longPadded":
+                use(pad(longNumeric(), 32), pad(longDecimal(), 32), pad(longAlpha(), 32),
+                        pad(longAlpha() + longNumeric(), 32), longEmail(), "\t".repeat(256));
+                break;
+            case "invalid":
+                use(longNumeric() + "x", longDecimal() + ".", longAlpha() + "1", longAlpha() + "-",
+                        longEmail() + ".", " ".repeat(255) + "x");
+                break;
+            case "nonAscii":
+                use("\u0661\u0662\u0663\u0664\u0665", "\u0661\u0662.\u0663\u0664", "\u00f1and\u00fa", "\u00e1bc12", "jos\u00e9@ex\u00e4mple.com", "\u3000\u3000");
+                break;
+            default:
+                throw new IllegalArgumentException(input);
+        }
+        numericBytes = numeric.getBytes(StandardCharsets.UTF_8);
+        emailBytes = email.getBytes(StandardCharsets.UTF_8);
+        byte[] alphaBytes = alpha.getBytes(StandardCharsets.UTF_8);
+        alphaDirect = ByteBuffer.allocateDirect(alphaBytes.length).put(alphaBytes).flip();
+        emails = new String[1024];
+        for (int i = 0; i < emails.length; i++) {
+            emails[i] = i % 4 == 0 ? email + "!" : email;
+        }
+    }
+
+    @Benchmark
+    public boolean isEmpty() {
+        return StringUtils.isEmpty(blank);
+    }
+
+    @Benchmark
+    public boolean isNotEmpty() {
+        return StringUtils.isNotEmpty(blank);
+    }
+
+    @Benchmark
+    public boolean isBlank() {
+        return StringUtils.isBlank(blank);
+    }
+
+    @Benchmark
+    public boolean isNotBlank() {
+        return StringUtils.isNotBlank(blank);
+    }
+
+    @Benchmark
+    public boolean isNumeric() {
+        return StringUtils.isNumeric(numeric);
+    }
+
+    @Benchmark
+    public boolean isNumericRegion() {
+        return StringUtils.isNumeric(numeric, 0, numeric.length());
+    }
+
+    @Benchmark
+    public boolean isNumericWithDecimal() {
+        return StringUtils.isNumericWithDecimal(decimal);
+    }
+
+    @Benchmark
+    public boolean isNumericWithDecimalRegion() {
+        return StringUtils.isNumericWithDecimal(decimal, 0, decimal.length());
+    }
+
+    @Benchmark
+    public boolean isAlpha() {
+        return StringUtils.isAlpha(alpha);
+    }
+
+    @Benchmark
+    public boolean isAlphaRegion() {
+        return StringUtils.isAlpha(alpha, 0, alpha.length());
+    }
+
+    @Benchmark
+    public boolean isAlphaNumeric() {
+        return StringUtils.isAlphaNumeric(alphaNumeric);
+    }
+
+    @Benchmark
+    public boolean isAlphaNumericRegion() {
+        return StringUtils.isAlphaNumeric(alphaNumeric, 0, alphaNumeric.length());
+    }
+
+    @Benchmark
+    public boolean isNumericUtf8() {
+        return StringUtils.isNumeric(numericBytes, 0, numericBytes.length);
+    }
+
+    @Benchmark
+    public boolean isAlphaDirectBuffer() {
+        return StringUtils.isAlpha(alphaDirect);
+    }
+
+    @Benchmark
+    public boolean isEmailUtf8() {
+        return StringUtils.isEmail(emailBytes, 0, emailBytes.length);
+    }
+
+    @Benchmark
+    public boolean isEmail() {
+        return StringUtils.isEmail(email);
+    }
+
+    @Benchmark
+    public boolean emailValidatorRegion() {
+        return EmailValidator.isValid(email, 0, email.length());
+    }
+
+    @Benchmark
+    public BitSet emailValidateAll() {
+        return EmailValidator.validateAll(emails);
+    }
+
+    @Benchmark
+    public BitSet emailValidateAllList() {
+        return EmailValidator.validateAll(Arrays.asList(emails));
+    }
+
+    private void use(String numeric, String decimal, String alpha, String alphaNumeric, String email, String blank) {
+        this.numeric = numeric;
+        this.decimal = decimal;
+        this.alpha = alpha;
+        this.alphaNumeric = alphaNumeric;
+        this.email = email;
+        this.blank = blank;
+    }
+
+    private static String pad(String value, int spaces) {
+        String padding = " ".repeat(spaces);
+        return padding + value + padding;
+    }
+
+    private static String longNumeric() {
+        return "-" + "1234567890".repeat(25);
+    }
+
+    private static String longDecimal() {
+        return "1234567890".repeat(12) + "." + "0987654321".repeat(12);
+    }
+
+    private static String longAlpha() {
+        return "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ".repeat(5);
+    }
+
+    private static String longEmail() {
+        return "first.last+newsletter".repeat(8) + "@mail.eu-west.example.com";
+    }
+}
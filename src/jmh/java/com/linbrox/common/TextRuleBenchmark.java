@@ -0,0 +1,43 @@
+package com.linbrox.common;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * A chain of {@link StringUtils} checks against the {@link TextRule} that declares the same conditions.
+ */
+@State(Scope.Benchmark)
+public class TextRuleBenchmark {
+
+    private static final TextRule USERNAME = TextRule.builder().trim().letters().digits().length(1, 32).build();
+    private static final TextRule PERCENT = TextRule.builder().trim().range(0, 100).build();
+
+    private String username = "  jdoe1984  ";
+    private String percent = " 42 ";
+
+    @Benchmark
+    public boolean usernameChain() {
+        return StringUtils.isNotBlank(username) && StringUtils.isAlphaNumeric(username)
+                && username.trim().length() <= 32;
+    }
+
+    @Benchmark
+    public boolean usernameRule() {
+        return USERNAME.test(username);
+    }
+
+    @Benchmark
+    public boolean percentChain() {
+        if (!StringUtils.isNumeric(percent)) {
+            return false;
+        }
+        long value = Long.parseLong(percent.trim());
+        return value >= 0 && value <= 100;
+    }
+
+    @Benchmark
+    public boolean percentRule() {
+        return PERCENT.test(percent);
+    }
+}
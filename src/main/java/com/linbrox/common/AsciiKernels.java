@@ -0,0 +1,86 @@
+package com.linbrox.common;
+
+/**
+ * Bulk scans over arrays of Latin-1/ASCII content behind {@link AsciiScanner}.
+ * <p>
+ * This is the portable, one-element-at-a-time version. The multi-release part of the jar replaces it on JDK 21
+ * and later with a version that runs the same scans on {@code jdk.incubator.vector} when that module is resolved
+ * ({@code --add-modules jdk.incubator.vector}). Both versions return exactly the same indexes.
+ */
+final class AsciiKernels {
+
+    /**
+     * Chars up to {@code U+0020}, the whitespace of {@link String#trim()}.
+     */
+    static final int WHITESPACE = 0;
+    /**
+     * {@code [0-9]}.
+     */
+    static final int DIGITS = 1;
+    /**
+     * {@code [a-zA-Z]}.
+     */
+    static final int LETTERS = 2;
+    /**
+     * {@code [a-zA-Z0-9]}.
+     */
+    static final int LETTERS_OR_DIGITS = 3;
+
+    private AsciiKernels() {
+    }
+
+    /**
+     * @return {@code true} if the scans run on the Vector API, which never happens in this version
+     */
+    static boolean isVectorized() {
+        return false;
+    }
+
+    /**
+     * @return the index of the first byte of {@code [from, to)} outside the class, or {@code to}
+     */
+    static int span(byte[] bytes, int from, int to, int charClass) {
+        while (from < to && inClass(bytes[from] & 0xFF, charClass)) {
+            from++;
+        }
+        return from;
+    }
+
+    /**
+     * @return the index of the first char of {@code [from, to)} outside the class, or {@code to}
+     */
+    static int span(char[] chars, int from, int to, int charClass) {
+        while (from < to && inClass(chars[from], charClass)) {
+            from++;
+        }
+        return from;
+    }
+
+    /**
+     * @return the first index of {@code [from, to)} where the chars differ after {@link Character#toLowerCase(char)},
+     * or {@code to}
+     */
+    static int mismatchIgnoreCase(char[] first, char[] second, int from, int to) {
+        while (from < to && equalsIgnoreCase(first[from], second[from])) {
+            from++;
+        }
+        return from;
+    }
+
+    static boolean inClass(int c, int charClass) {
+        switch (charClass) {
+            case WHITESPACE:
+                return c <= ' ';
+            case DIGITS:
+                return AsciiScanner.isDigit(c);
+            case LETTERS:
+                return AsciiScanner.isLetter(c);
+            default:
+                return AsciiScanner.isLetterOrDigit(c);
+        }
+    }
+
+    static boolean equalsIgnoreCase(char first, char second) {
+        return CaseFolding.equalsIgnoreCase(first, second);
+    }
+}
@@ -0,0 +1,338 @@
+package com.linbrox.common;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Single-pass scanners behind the character-class validators of {@link StringUtils}.
+ * <p>
+ * Every check works on a {@code [from, to)} window of a {@link CharSequence} and skips surrounding
+ * whitespace by index using the same rule as {@link String#trim()} (any char up to {@code U+0020}),
+ * so no trimmed copy and no {@link java.util.regex.Matcher} is ever created.
+ * <p>
+ * The byte variants read UTF-8 in place. Every byte of a multi-byte sequence has its high bit set, so it can
+ * never be taken for whitespace, a digit or a letter, which gives the same answers as the decoded String.
+ * <p>
+ * Forward scans over byte arrays, and over Strings of at least {@value #BULK_THRESHOLD} chars, run on
+ * {@link AsciiKernels}, which is vectorized on JDK 21 and later. Strings are copied into a per-thread buffer in
+ * growing chunks for that, which is only done when the kernels are vectorized.
+ */
+final class AsciiScanner {
+
+    static final int BULK_THRESHOLD = 64;
+    private static final int MAX_CHUNK_LENGTH = 1024;
+    // initialValue rather than ThreadLocal.withInitial: a lambda would bootstrap the invokedynamic machinery while
+    // the class is initialised, which took most of the cold-start time of the first StringUtils call
+    private static final ThreadLocal<char[][]> CHUNKS = new ThreadLocal<>() {
+        @Override
+        protected char[][] initialValue() {
+            return new char[2][MAX_CHUNK_LENGTH];
+        }
+    };
+
+    private AsciiScanner() {
+    }
+
+    static int trimStart(CharSequence str, int from, int to) {
+        return span(str, from, to, AsciiKernels.WHITESPACE);
+    }
+
+    static int trimEnd(CharSequence str, int from, int to) {
+        while (to > from && str.charAt(to - 1) <= ' ') {
+            to--;
+        }
+        return to;
+    }
+
+    static boolean isBlank(CharSequence str, int from, int to) {
+        return trimStart(str, from, to) == to;
+    }
+
+    /**
+     * Equivalent to comparing the strings char by char after {@link Character#toLowerCase(char)}.
+     */
+    static boolean equalsIgnoreCase(String first, String second) {
+        int length = first.length();
+        if (length != second.length()) {
+            return false;
+        }
+        if (length >= BULK_THRESHOLD && AsciiKernels.isVectorized()) {
+            return equalsIgnoreCaseInChunks(first, second, length);
+        }
+        for (int i = 0; i < length; i++) {
+            if (!AsciiKernels.equalsIgnoreCase(first.charAt(i), second.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return the index of the first char of {@code [from, to)} outside the {@link AsciiKernels} class, or
+     * {@code to}
+     */
+    static int span(CharSequence str, int from, int to, int charClass) {
+        if (to - from >= BULK_THRESHOLD && str instanceof String && AsciiKernels.isVectorized()) {
+            return spanInChunks((String) str, from, to, charClass);
+        }
+        while (from < to && AsciiKernels.inClass(str.charAt(from), charClass)) {
+            from++;
+        }
+        return from;
+    }
+
+    private static int spanInChunks(String str, int from, int to, int charClass) {
+        char[] chunk = CHUNKS.get()[0];
+        // start small so that a scan stopping early does not pay for copying a whole chunk
+        int chunkLength = BULK_THRESHOLD;
+        while (from < to) {
+            int length = Math.min(chunkLength, to - from);
+            str.getChars(from, from + length, chunk, 0);
+            int stop = AsciiKernels.span(chunk, 0, length, charClass);
+            from += stop;
+            if (stop < length) {
+                return from;
+            }
+            chunkLength = Math.min(chunkLength * 2, MAX_CHUNK_LENGTH);
+        }
+        return to;
+    }
+
+    private static boolean equalsIgnoreCaseInChunks(String first, String second, int length) {
+        char[][] chunks = CHUNKS.get();
+        int chunkLength = BULK_THRESHOLD;
+        int from = 0;
+        while (from < length) {
+            int end = Math.min(from + chunkLength, length);
+            first.getChars(from, end, chunks[0], 0);
+            second.getChars(from, end, chunks[1], 0);
+            if (AsciiKernels.mismatchIgnoreCase(chunks[0], chunks[1], 0, end - from) < end - from) {
+                return false;
+            }
+            from = end;
+            chunkLength = Math.min(chunkLength * 2, MAX_CHUNK_LENGTH);
+        }
+        return true;
+    }
+
+    static boolean isDigit(int c) {
+        return c >= '0' && c <= '9';
+    }
+
+    static boolean isLetter(int c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    static boolean isLetterOrDigit(int c) {
+        return isLetter(c) || isDigit(c);
+    }
+
+    /**
+     * Equivalent to {@code ^[+-]?\d+$} applied to the trimmed window.
+     */
+    static boolean isNumeric(CharSequence str, int from, int to) {
+        int start = trimStart(str, from, to);
+        int end = trimEnd(str, start, to);
+        if (start < end && isSign(str.charAt(start))) {
+            start++;
+        }
+        return start < end && allDigits(str, start, end);
+    }
+
+    /**
+     * Equivalent to {@code ^[+-]?\d+\.\d+$} applied to the trimmed window.
+     */
+    static boolean isNumericWithDecimal(CharSequence str, int from, int to) {
+        int start = trimStart(str, from, to);
+        int end = trimEnd(str, start, to);
+        if (start < end && isSign(str.charAt(start))) {
+            start++;
+        }
+        int i = span(str, start, end, AsciiKernels.DIGITS);
+        if (i == start || i == end || str.charAt(i) != '.') {
+            return false;
+        }
+        i++;
+        return i < end && allDigits(str, i, end);
+    }
+
+    /**
+     * Equivalent to {@code ^[a-zA-Z]+$} applied to the trimmed window.
+     */
+    static boolean isAlpha(CharSequence str, int from, int to) {
+        int start = trimStart(str, from, to);
+        int end = trimEnd(str, start, to);
+        return start < end && span(str, start, end, AsciiKernels.LETTERS) == end;
+    }
+
+    /**
+     * Equivalent to {@code ^[a-zA-Z0-9]+$} applied to the trimmed window.
+     */
+    static boolean isAlphaNumeric(CharSequence str, int from, int to) {
+        int start = trimStart(str, from, to);
+        int end = trimEnd(str, start, to);
+        return start < end && span(str, start, end, AsciiKernels.LETTERS_OR_DIGITS) == end;
+    }
+
+    private static boolean allDigits(CharSequence str, int from, int to) {
+        return span(str, from, to, AsciiKernels.DIGITS) == to;
+    }
+
+    static int trimStart(byte[] bytes, int from, int to) {
+        return AsciiKernels.span(bytes, from, to, AsciiKernels.WHITESPACE);
+    }
+
+    static int trimEnd(byte[] bytes, int from, int to) {
+        while (to > from && (bytes[to - 1] & 0xFF) <= ' ') {
+            to--;
+        }
+        return to;
+    }
+
+    static boolean isBlank(byte[] bytes, int from, int to) {
+        return trimStart(bytes, from, to) == to;
+    }
+
+    static boolean isNumeric(byte[] bytes, int from, int to) {
+        int start = trimStart(bytes, from, to);
+        int end = trimEnd(bytes, start, to);
+        if (start < end && isSign(bytes[start])) {
+            start++;
+        }
+        return start < end && allDigits(bytes, start, end);
+    }
+
+    static boolean isNumericWithDecimal(byte[] bytes, int from, int to) {
+        int start = trimStart(bytes, from, to);
+        int end = trimEnd(bytes, start, to);
+        if (start < end && isSign(bytes[start])) {
+            start++;
+        }
+        int i = AsciiKernels.span(bytes, start, end, AsciiKernels.DIGITS);
+        if (i == start || i == end || bytes[i] != '.') {
+            return false;
+        }
+        i++;
+        return i < end && allDigits(bytes, i, end);
+    }
+
+    static boolean isAlpha(byte[] bytes, int from, int to) {
+        int start = trimStart(bytes, from, to);
+        int end = trimEnd(bytes, start, to);
+        return start < end && AsciiKernels.span(bytes, start, end, AsciiKernels.LETTERS) == end;
+    }
+
+    static boolean isAlphaNumeric(byte[] bytes, int from, int to) {
+        int start = trimStart(bytes, from, to);
+        int end = trimEnd(bytes, start, to);
+        return start < end && AsciiKernels.span(bytes, start, end, AsciiKernels.LETTERS_OR_DIGITS) == end;
+    }
+
+    private static boolean allDigits(byte[] bytes, int from, int to) {
+        return AsciiKernels.span(bytes, from, to, AsciiKernels.DIGITS) == to;
+    }
+
+    static int trimStart(ByteBuffer buffer, int from, int to) {
+        while (from < to && (buffer.get(from) & 0xFF) <= ' ') {
+            from++;
+        }
+        return from;
+    }
+
+    static int trimEnd(ByteBuffer buffer, int from, int to) {
+        while (to > from && (buffer.get(to - 1) & 0xFF) <= ' ') {
+            to--;
+        }
+        return to;
+    }
+
+    static boolean isBlank(ByteBuffer buffer, int from, int to) {
+        if (buffer.hasArray()) {
+            int offset = buffer.arrayOffset();
+            return isBlank(buffer.array(), offset + from, offset + to);
+        }
+        return trimStart(buffer, from, to) == to;
+    }
+
+    static boolean isNumeric(ByteBuffer buffer, int from, int to) {
+        if (buffer.hasArray()) {
+            int offset = buffer.arrayOffset();
+            return isNumeric(buffer.array(), offset + from, offset + to);
+        }
+        int start = trimStart(buffer, from, to);
+        int end = trimEnd(buffer, start, to);
+        if (start < end && isSign(buffer.get(start))) {
+            start++;
+        }
+        return start < end && allDigits(buffer, start, end);
+    }
+
+    static boolean isNumericWithDecimal(ByteBuffer buffer, int from, int to) {
+        if (buffer.hasArray()) {
+            int offset = buffer.arrayOffset();
+            return isNumericWithDecimal(buffer.array(), offset + from, offset + to);
+        }
+        int start = trimStart(buffer, from, to);
+        int end = trimEnd(buffer, start, to);
+        if (start < end && isSign(buffer.get(start))) {
+            start++;
+        }
+        int i = start;
+        while (i < end && isDigit(buffer.get(i))) {
+            i++;
+        }
+        if (i == start || i == end || buffer.get(i) != '.') {
+            return false;
+        }
+        i++;
+        return i < end && allDigits(buffer, i, end);
+    }
+
+    static boolean isAlpha(ByteBuffer buffer, int from, int to) {
+        if (buffer.hasArray()) {
+            int offset = buffer.arrayOffset();
+            return isAlpha(buffer.array(), offset + from, offset + to);
+        }
+        int start = trimStart(buffer, from, to);
+        int end = trimEnd(buffer, start, to);
+        if (start == end) {
+            return false;
+        }
+        for (int i = start; i < end; i++) {
+            if (!isLetter(buffer.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static boolean isAlphaNumeric(ByteBuffer buffer, int from, int to) {
+        if (buffer.hasArray()) {
+            int offset = buffer.arrayOffset();
+            return isAlphaNumeric(buffer.array(), offset + from, offset + to);
+        }
+        int start = trimStart(buffer, from, to);
+        int end = trimEnd(buffer, start, to);
+        if (start == end) {
+            return false;
+        }
+        for (int i = start; i < end; i++) {
+            if (!isLetterOrDigit(buffer.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean allDigits(ByteBuffer buffer, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (!isDigit(buffer.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isSign(int c) {
+        return c == '+' || c == '-';
+    }
+}
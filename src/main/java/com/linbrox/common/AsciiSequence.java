@@ -0,0 +1,44 @@
+package com.linbrox.common;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A reusable {@link CharSequence} view of a byte array, one char per byte, so that the {@code CharSequence} parsers
+ * can read ASCII fields in place. Bytes of {@code 0x80} and above read as the Latin-1 char of the same value, which
+ * no parser accepts as a digit, sign or point.
+ */
+final class AsciiSequence implements CharSequence {
+
+    private byte[] bytes;
+
+    AsciiSequence(byte[] bytes) {
+        this.bytes = bytes;
+    }
+
+    /**
+     * Points the view at another array, such as a buffer that was grown.
+     */
+    void reset(byte[] bytes) {
+        this.bytes = bytes;
+    }
+
+    @Override
+    public int length() {
+        return bytes.length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        return (char) (bytes[index] & 0xFF);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return new String(bytes, start, end - start, StandardCharsets.ISO_8859_1);
+    }
+
+    @Override
+    public String toString() {
+        return new String(bytes, StandardCharsets.ISO_8859_1);
+    }
+}
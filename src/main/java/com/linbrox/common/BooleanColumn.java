@@ -0,0 +1,113 @@
+package com.linbrox.common;
+
+import java.util.BitSet;
+import java.util.Objects;
+
+/**
+ * A column of parsed booleans held as two bitsets packed little-endian into {@code long} words (bit {@code i} lives
+ * in word {@code i >>> 6}, the layout of {@link BitSet#valueOf(long[])}): one for the values and one telling which
+ * tokens were recognised. Fifty million rows take about 12 MB instead of the 200 MB of references of a
+ * {@code Boolean[]}.
+ */
+public final class BooleanColumn {
+
+    private final long[] values;
+    private final long[] recognised;
+    private final int size;
+    private final int trueCount;
+    private final int falseCount;
+
+    BooleanColumn(long[] values, long[] recognised, int size, int trueCount, int falseCount) {
+        this.values = values;
+        this.recognised = recognised;
+        this.size = size;
+        this.trueCount = trueCount;
+        this.falseCount = falseCount;
+    }
+
+    /**
+     * @return the number of tokens in the column
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the value of a row; unrecognised tokens read as {@code false}.
+     *
+     * @param index the row
+     * @return {@code true} if the token spelled {@code true}, {@code false} otherwise
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+    public boolean get(int index) {
+        Objects.checkIndex(index, size);
+        return (values[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * Returns whether the token of a row was in the lexicon.
+     *
+     * @param index the row
+     * @return {@code true} if the token was recognised, {@code false} otherwise
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+    public boolean isRecognised(int index) {
+        Objects.checkIndex(index, size);
+        return (recognised[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * Returns the three-state value of a row.
+     *
+     * @param index the row
+     * @return {@link BooleanLexicon#TRUE}, {@link BooleanLexicon#FALSE} or {@link BooleanLexicon#UNRECOGNISED}
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+    public int state(int index) {
+        if (!isRecognised(index)) {
+            return BooleanLexicon.UNRECOGNISED;
+        }
+        return get(index) ? BooleanLexicon.TRUE : BooleanLexicon.FALSE;
+    }
+
+    /**
+     * @return the number of tokens that spelled {@code true}
+     */
+    public int trueCount() {
+        return trueCount;
+    }
+
+    /**
+     * @return the number of tokens that spelled {@code false}
+     */
+    public int falseCount() {
+        return falseCount;
+    }
+
+    /**
+     * @return the number of null, blank or unknown tokens
+     */
+    public int unrecognisedCount() {
+        return size - trueCount - falseCount;
+    }
+
+    /**
+     * @return a copy of the packed value words
+     */
+    public long[] toValueWords() {
+        return values.clone();
+    }
+
+    /**
+     * @return a copy of the packed words telling which tokens were recognised
+     */
+    public long[] toRecognisedWords() {
+        return recognised.clone();
+    }
+
+    @Override
+    public String toString() {
+        return "BooleanColumn{size=" + size + ", true=" + trueCount + ", false=" + falseCount
+                + ", unrecognised=" + unrecognisedCount() + "}";
+    }
+}
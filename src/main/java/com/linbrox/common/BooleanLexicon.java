@@ -0,0 +1,270 @@
+package com.linbrox.common;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * An immutable set of words that spell {@code true} and {@code false}, matched ignoring ASCII case and surrounding
+ * whitespace (any char up to {@code U+0020}, as {@link String#trim()} does).
+ * <p>
+ * Words of up to seven characters, which covers every usual spelling, are packed with their length into a single
+ * {@code long}, so recognising a token costs one pass over its characters and a scan of a handful of longs, with no
+ * allocation. Longer words are compared character by character.
+ */
+public final class BooleanLexicon {
+
+    /**
+     * Returned when the token spells {@code true}.
+     */
+    public static final int TRUE = 1;
+    /**
+     * Returned when the token spells {@code false}.
+     */
+    public static final int FALSE = 0;
+    /**
+     * Returned when the token is not in the lexicon.
+     */
+    public static final int UNRECOGNISED = -1;
+
+    /**
+     * {@code true}/{@code false}, {@code t}/{@code f}, {@code yes}/{@code no}, {@code y}/{@code n},
+     * {@code on}/{@code off} and {@code 1}/{@code 0}, in any case.
+     */
+    public static final BooleanLexicon DEFAULT = of(
+            List.of("true", "t", "yes", "y", "on", "1"),
+            List.of("false", "f", "no", "n", "off", "0"));
+
+    private static final int MAX_PACKED_LENGTH = 7;
+
+    private final long[] packedTrue;
+    private final long[] packedFalse;
+    private final String[] longTrue;
+    private final String[] longFalse;
+
+    private BooleanLexicon(long[] packedTrue, long[] packedFalse, String[] longTrue, String[] longFalse) {
+        this.packedTrue = packedTrue;
+        this.packedFalse = packedFalse;
+        this.longTrue = longTrue;
+        this.longFalse = longFalse;
+    }
+
+    /**
+     * Creates a lexicon from the words that spell each value.
+     *
+     * @param trueWords  the words read as {@code true}
+     * @param falseWords the words read as {@code false}
+     * @return the lexicon
+     * @throws NullPointerException     if a collection or a word is null
+     * @throws IllegalArgumentException if a word is empty, blank-padded or not ASCII, or spells both values
+     * @example BooleanLexicon.of(List.of("si", "s"), List.of("no", "n")).parse("SI"); // returns TRUE
+     */
+    public static BooleanLexicon of(Collection<String> trueWords, Collection<String> falseWords) {
+        Objects.requireNonNull(trueWords, "True words cannot be null");
+        Objects.requireNonNull(falseWords, "False words cannot be null");
+        for (String word : trueWords) {
+            checkWord(word);
+            for (String other : falseWords) {
+                if (word.equalsIgnoreCase(Objects.requireNonNull(other, "Word cannot be null"))) {
+                    throw new IllegalArgumentException("Word spells both true and false: " + word);
+                }
+            }
+        }
+        falseWords.forEach(BooleanLexicon::checkWord);
+        return new BooleanLexicon(packed(trueWords), packed(falseWords), unpacked(trueWords), unpacked(falseWords));
+    }
+
+    /**
+     * Reads a token.
+     *
+     * @param token the token to read
+     * @return {@link #TRUE}, {@link #FALSE} or {@link #UNRECOGNISED}
+     * @throws NullPointerException if the token is null
+     * @example BooleanLexicon.DEFAULT.parse(" Yes "); // returns TRUE
+     */
+    public int parse(CharSequence token) {
+        Objects.requireNonNull(token, "String cannot be null");
+        return parse(token, 0, token.length());
+    }
+
+    /**
+     * Reads the region {@code [from, to)} of a character sequence.
+     *
+     * @param token the character sequence to read
+     * @param from  the start index, inclusive
+     * @param to    the end index, exclusive
+     * @return {@link #TRUE}, {@link #FALSE} or {@link #UNRECOGNISED}
+     * @throws NullPointerException      if the sequence is null
+     * @throws IndexOutOfBoundsException if the region is out of bounds
+     * @example BooleanLexicon.DEFAULT.parse("id=7,active=off", 12, 15); // returns FALSE
+     */
+    public int parse(CharSequence token, int from, int to) {
+        Objects.requireNonNull(token, "String cannot be null");
+        Objects.checkFromToIndex(from, to, token.length());
+        int start = AsciiScanner.trimStart(token, from, to);
+        int end = AsciiScanner.trimEnd(token, start, to);
+        int length = end - start;
+        if (length == 0) {
+            return UNRECOGNISED;
+        }
+        if (length > MAX_PACKED_LENGTH) {
+            return matchLong(token, start, end);
+        }
+        long key = length;
+        for (int i = start; i < end; i++) {
+            char c = token.charAt(i);
+            if (c >= 0x80) {
+                return UNRECOGNISED;
+            }
+            key = key << 8 | toLowerCase(c);
+        }
+        return matchPacked(key);
+    }
+
+    /**
+     * Reads a token from a range of UTF-8 bytes without decoding it. Bytes of multi-byte sequences never match,
+     * since every word is ASCII.
+     *
+     * @param utf8   the bytes to read
+     * @param offset the index of the first byte
+     * @param length the number of bytes
+     * @return {@link #TRUE}, {@link #FALSE} or {@link #UNRECOGNISED}
+     * @throws NullPointerException      if the array is null
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     * @example BooleanLexicon.DEFAULT.parse("N".getBytes(UTF_8), 0, 1); // returns FALSE
+     */
+    public int parse(byte[] utf8, int offset, int length) {
+        Objects.requireNonNull(utf8, "Bytes cannot be null");
+        Objects.checkFromIndexSize(offset, length, utf8.length);
+        int start = AsciiScanner.trimStart(utf8, offset, offset + length);
+        int end = AsciiScanner.trimEnd(utf8, start, offset + length);
+        int trimmed = end - start;
+        if (trimmed == 0) {
+            return UNRECOGNISED;
+        }
+        if (trimmed > MAX_PACKED_LENGTH) {
+            return matchLong(utf8, start, end);
+        }
+        long key = trimmed;
+        for (int i = start; i < end; i++) {
+            int b = utf8[i];
+            if (b < 0) {
+                return UNRECOGNISED;
+            }
+            key = key << 8 | toLowerCase(b);
+        }
+        return matchPacked(key);
+    }
+
+    private int matchPacked(long key) {
+        for (long word : packedTrue) {
+            if (word == key) {
+                return TRUE;
+            }
+        }
+        for (long word : packedFalse) {
+            if (word == key) {
+                return FALSE;
+            }
+        }
+        return UNRECOGNISED;
+    }
+
+    private int matchLong(CharSequence token, int start, int end) {
+        if (matchesAny(longTrue, token, start, end)) {
+            return TRUE;
+        }
+        return matchesAny(longFalse, token, start, end) ? FALSE : UNRECOGNISED;
+    }
+
+    private int matchLong(byte[] token, int start, int end) {
+        if (matchesAny(longTrue, token, start, end)) {
+            return TRUE;
+        }
+        return matchesAny(longFalse, token, start, end) ? FALSE : UNRECOGNISED;
+    }
+
+    private static boolean matchesAny(String[] words, byte[] token, int start, int end) {
+        for (String word : words) {
+            if (word.length() == end - start && regionMatchesIgnoreCase(word, token, start)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean regionMatchesIgnoreCase(String word, byte[] token, int start) {
+        for (int i = 0; i < word.length(); i++) {
+            if (word.charAt(i) != toLowerCase(token[start + i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean matchesAny(String[] words, CharSequence token, int start, int end) {
+        for (String word : words) {
+            if (word.length() == end - start && regionMatchesIgnoreCase(word, token, start)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean regionMatchesIgnoreCase(String word, CharSequence token, int start) {
+        for (int i = 0; i < word.length(); i++) {
+            if (word.charAt(i) != toLowerCase(token.charAt(start + i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int toLowerCase(int c) {
+        return c >= 'A' && c <= 'Z' ? c + ('a' - 'A') : c;
+    }
+
+    private static void checkWord(String word) {
+        Objects.requireNonNull(word, "Word cannot be null");
+        if (word.isEmpty() || word.charAt(0) <= ' ' || word.charAt(word.length() - 1) <= ' ') {
+            throw new IllegalArgumentException("Word cannot be empty or padded: \"" + word + "\"");
+        }
+        for (int i = 0; i < word.length(); i++) {
+            if (word.charAt(i) >= 0x80) {
+                throw new IllegalArgumentException("Word must be ASCII: " + word);
+            }
+        }
+    }
+
+    private static long[] packed(Collection<String> words) {
+        return words.stream()
+                .filter(word -> word.length() <= MAX_PACKED_LENGTH)
+                .mapToLong(BooleanLexicon::pack)
+                .distinct()
+                .toArray();
+    }
+
+    private static String[] unpacked(Collection<String> words) {
+        return words.stream()
+                .filter(word -> word.length() > MAX_PACKED_LENGTH)
+                .map(BooleanLexicon::toLowerCase)
+                .distinct()
+                .toArray(String[]::new);
+    }
+
+    private static long pack(String word) {
+        long key = word.length();
+        for (int i = 0; i < word.length(); i++) {
+            key = key << 8 | toLowerCase(word.charAt(i));
+        }
+        return key;
+    }
+
+    private static String toLowerCase(String word) {
+        StringBuilder lower = new StringBuilder(word.length());
+        for (int i = 0; i < word.length(); i++) {
+            lower.append((char) toLowerCase(word.charAt(i)));
+        }
+        return lower.toString();
+    }
+}
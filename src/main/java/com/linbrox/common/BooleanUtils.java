@@ -24,6 +24,9 @@ public final class BooleanUtils {
      */
     public static Boolean toBoolean(String value) {
         Objects.requireNonNull(value, "String cannot be null");
+        if (Metrics.ENABLED) {
+            return Probes.TO_BOOLEAN.call(value, v -> Boolean.valueOf(v), null);
+        }
         return Boolean.valueOf(value);
     }
 
@@ -51,6 +54,134 @@ public final class BooleanUtils {
         return value != 0;
     }
 
+    /**
+     * Converts an int to a boolean without boxing. Unlike {@link #toBoolean(Integer)} it returns a primitive, so it
+     * has its own name rather than overloading that method for {@code int} arguments.
+     *
+     * @param value the int to be converted, must be either 0 or 1
+     * @return the boolean value represented by the int
+     * @throws IllegalArgumentException if the value is not 0 or 1
+     *
+     *                                  <p>Examples:</p>
+     *                                  <pre>
+     *                                  {@code
+     *                                  boolean result = BooleanUtils.toBooleanExact(1); // returns true
+     *                                  }
+     *                                  </pre>
+     */
+    public static boolean toBooleanExact(int value) {
+        if (value != 0 && value != 1) {
+            throw new IllegalArgumentException("Integer value must be either 0 or 1");
+        }
+        return value != 0;
+    }
+
+    /**
+     * Reads a token with the {@linkplain BooleanLexicon#DEFAULT default lexicon}: true/false, t/f, yes/no, y/n, on/off
+     * or 1/0 in any case, ignoring surrounding whitespace.
+     *
+     * @param value the token to read
+     * @return {@link BooleanLexicon#TRUE}, {@link BooleanLexicon#FALSE} or {@link BooleanLexicon#UNRECOGNISED}
+     * @throws NullPointerException if the value is null
+     *
+     *                              <p>Examples:</p>
+     *                              <pre>
+     *                              {@code
+     *                              int state = BooleanUtils.parseBoolean("Y"); // returns BooleanLexicon.TRUE
+     *                              int other = BooleanUtils.parseBoolean("?"); // returns BooleanLexicon.UNRECOGNISED
+     *                              }
+     *                              </pre>
+     */
+    public static int parseBoolean(CharSequence value) {
+        if (Metrics.ENABLED) {
+            return Probes.PARSE_BOOLEAN.call(value, v -> BooleanLexicon.DEFAULT.parse(v),
+                    BooleanLexicon.UNRECOGNISED);
+        }
+        return BooleanLexicon.DEFAULT.parse(value);
+    }
+
+    /**
+     * Reads a token with the given lexicon.
+     *
+     * @param value   the token to read
+     * @param lexicon the words that spell each value
+     * @return {@link BooleanLexicon#TRUE}, {@link BooleanLexicon#FALSE} or {@link BooleanLexicon#UNRECOGNISED}
+     * @throws NullPointerException if the value or the lexicon is null
+     */
+    public static int parseBoolean(CharSequence value, BooleanLexicon lexicon) {
+        Objects.requireNonNull(lexicon, "Lexicon cannot be null");
+        return lexicon.parse(value);
+    }
 
+    /**
+     * Reads a token from a range of UTF-8 bytes with the default lexicon, without decoding it.
+     *
+     * @param utf8   the bytes to read
+     * @param offset the index of the first byte
+     * @param length the number of bytes
+     * @return {@link BooleanLexicon#TRUE}, {@link BooleanLexicon#FALSE} or {@link BooleanLexicon#UNRECOGNISED}
+     * @throws NullPointerException      if the array is null
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    public static int parseBoolean(byte[] utf8, int offset, int length) {
+        return BooleanLexicon.DEFAULT.parse(utf8, offset, length);
+    }
 
+    /**
+     * Reads a column of tokens with the default lexicon into packed bitsets.
+     *
+     * @param column the tokens to read; null tokens are unrecognised
+     * @return the values and the recognised flags of every row
+     * @throws NullPointerException if the column is null
+     */
+    public static BooleanColumn parseAll(CharSequence[] column) {
+        return parseAll(column, BooleanLexicon.DEFAULT);
+    }
+
+    /**
+     * Reads a column of tokens with the given lexicon into packed bitsets.
+     *
+     * @param column  the tokens to read; null tokens are unrecognised
+     * @param lexicon the words that spell each value
+     * @return the values and the recognised flags of every row
+     * @throws NullPointerException if the column or the lexicon is null
+     *
+     *                              <p>Examples:</p>
+     *                              <pre>
+     *                              {@code
+     *                              String[] column = {"Y", "n", "?"};
+     *                              BooleanColumn flags = BooleanUtils.parseAll(column, BooleanLexicon.DEFAULT);
+     *                              flags.trueCount(); // returns 1
+     *                              flags.isRecognised(2); // returns false
+     *                              }
+     *                              </pre>
+     */
+    public static BooleanColumn parseAll(CharSequence[] column, BooleanLexicon lexicon) {
+        Objects.requireNonNull(column, "Column cannot be null");
+        Objects.requireNonNull(lexicon, "Lexicon cannot be null");
+        long[] values = new long[(column.length + 63) >>> 6];
+        long[] recognised = new long[values.length];
+        int trueCount = 0;
+        int falseCount = 0;
+        for (int i = 0; i < column.length; i++) {
+            int state = column[i] == null ? BooleanLexicon.UNRECOGNISED : lexicon.parse(column[i]);
+            if (state == BooleanLexicon.TRUE) {
+                values[i >>> 6] |= 1L << i;
+                recognised[i >>> 6] |= 1L << i;
+                trueCount++;
+            } else if (state == BooleanLexicon.FALSE) {
+                recognised[i >>> 6] |= 1L << i;
+                falseCount++;
+            }
+        }
+        return new BooleanColumn(values, recognised, column.length, trueCount, falseCount);
+    }
+
+    /**
+     * The metrics probes, in a holder so that none of the instrumentation is loaded unless metrics are enabled.
+     */
+    private static final class Probes {
+        static final Probe TO_BOOLEAN = Metrics.probe("BooleanUtils.toBoolean");
+        static final Probe PARSE_BOOLEAN = Metrics.probe("BooleanUtils.parseBoolean");
+    }
 }
@@ -0,0 +1,79 @@
+package com.linbrox.common;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Fork/join engine behind {@link StringUtils#validateAll}. Ranges are split on multiples of 64 so every task owns
+ * whole result words and no two tasks ever write the same {@code long}.
+ */
+final class BulkValidator extends RecursiveTask<long[]> {
+
+    /**
+     * Columns up to this many values are validated on the calling thread; it is also the size of a leaf task.
+     */
+    static final int SEQUENTIAL_THRESHOLD = 1 << 14;
+
+    private final CharSequence[] column;
+    private final Validation kind;
+    private final long[] words;
+    private final int from;
+    private final int to;
+
+    private BulkValidator(CharSequence[] column, Validation kind, long[] words, int from, int to) {
+        this.column = column;
+        this.kind = kind;
+        this.words = words;
+        this.from = from;
+        this.to = to;
+    }
+
+    static ValidationResult validate(CharSequence[] column, Validation kind, ForkJoinPool pool) {
+        long[] words = new long[(column.length + 63) >>> 6];
+        long[] counts = column.length <= SEQUENTIAL_THRESHOLD
+                ? validateRange(column, kind, words, 0, column.length)
+                : pool.invoke(new BulkValidator(column, kind, words, 0, column.length));
+        return new ValidationResult(words, column.length, counts[0], counts[1]);
+    }
+
+    @Override
+    protected long[] compute() {
+        if (to - from <= SEQUENTIAL_THRESHOLD) {
+            return validateRange(column, kind, words, from, to);
+        }
+        int middle = from + (((to - from) >>> 1) & ~63);
+        BulkValidator left = new BulkValidator(column, kind, words, from, middle);
+        left.fork();
+        long[] right = new BulkValidator(column, kind, words, middle, to).compute();
+        long[] counts = left.join();
+        counts[0] += right[0];
+        counts[1] += right[1];
+        return counts;
+    }
+
+    /**
+     * Validates {@code [from, to)}, {@code from} being a multiple of 64, and returns {valid, blank} counts.
+     */
+    private static long[] validateRange(CharSequence[] column, Validation kind, long[] words, int from, int to) {
+        long valid = 0;
+        long blank = 0;
+        long word = 0;
+        for (int i = from; i < to; i++) {
+            CharSequence value = column[i];
+            if (value == null || AsciiScanner.trimStart(value, 0, value.length()) == value.length()) {
+                blank++;
+            } else if (kind.test(value, 0, value.length())) {
+                valid++;
+                word |= 1L << i;
+            }
+            if ((i & 63) == 63) {
+                words[i >>> 6] = word;
+                word = 0;
+            }
+        }
+        if ((to & 63) != 0) {
+            words[(to - 1) >>> 6] = word;
+        }
+        return new long[]{valid, blank};
+    }
+}
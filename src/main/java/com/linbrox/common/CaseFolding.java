@@ -0,0 +1,121 @@
+package com.linbrox.common;
+
+import java.util.Locale;
+
+/**
+ * The case conversions behind {@link StringUtils#capitalize(String)}, {@link StringUtils#uncapitalize(String)},
+ * {@link StringUtils#areStringsEqualIgnoreCase(String, String)} and
+ * {@link StringUtils#hashCodeIgnoreCase(String)}, and the key hashing of {@link IgnoreCaseMap}.
+ * <p>
+ * ASCII chars are converted through two 128-entry tables, which give the same answers as
+ * {@link Character#toLowerCase(char)} and {@link Character#toUpperCase(char)}; every other char goes through
+ * {@code Character}. The single-char conversions of {@code capitalize} and {@code uncapitalize} keep the
+ * behaviour of {@link String#toUpperCase()} and {@link String#toLowerCase()}, which follow the default locale, so
+ * the table is bypassed for the dotted and dotless i of Turkish and Azerbaijani and for non-ASCII chars.
+ */
+final class CaseFolding {
+
+    private static final char[] LOWER = new char[128];
+    private static final char[] UPPER = new char[128];
+
+    static {
+        for (char c = 0; c < 128; c++) {
+            LOWER[c] = c >= 'A' && c <= 'Z' ? (char) (c + 32) : c;
+            UPPER[c] = c >= 'a' && c <= 'z' ? (char) (c - 32) : c;
+        }
+    }
+
+    private CaseFolding() {
+    }
+
+    static char toLowerCase(char c) {
+        return c < 128 ? LOWER[c] : Character.toLowerCase(c);
+    }
+
+    static char toUpperCase(char c) {
+        return c < 128 ? UPPER[c] : Character.toUpperCase(c);
+    }
+
+    /**
+     * Equivalent to comparing the chars after {@link Character#toLowerCase(char)}.
+     */
+    static boolean equalsIgnoreCase(char first, char second) {
+        return first == second || toLowerCase(first) == toLowerCase(second);
+    }
+
+    /**
+     * The {@link String#hashCode()} of the string with every char passed through
+     * {@link Character#toLowerCase(char)}, so strings equal under {@link #equalsIgnoreCase(char, char)} share it.
+     */
+    static int hashCodeIgnoreCase(String str) {
+        int hash = 0;
+        for (int i = 0; i < str.length(); i++) {
+            hash = 31 * hash + toLowerCase(str.charAt(i));
+        }
+        return hash;
+    }
+
+    /**
+     * {@link #hashCodeIgnoreCase(String)} of the region {@code [from, to)} of a character sequence.
+     */
+    static int hashCodeIgnoreCase(CharSequence str, int from, int to) {
+        int hash = 0;
+        for (int i = from; i < to; i++) {
+            hash = 31 * hash + toLowerCase(str.charAt(i));
+        }
+        return hash;
+    }
+
+    /**
+     * @return the chars of the string after {@link Character#toLowerCase(char)}
+     */
+    static char[] toLowerCase(String str) {
+        char[] folded = new char[str.length()];
+        for (int i = 0; i < folded.length; i++) {
+            folded[i] = toLowerCase(str.charAt(i));
+        }
+        return folded;
+    }
+
+    static String capitalize(String str) {
+        if (str.isEmpty()) {
+            return str;
+        }
+        char first = str.charAt(0);
+        if (first >= 128 || first == 'i' && isTurkic()) {
+            return str.substring(0, 1).toUpperCase() + str.substring(1);
+        }
+        return replaceFirst(str, first, UPPER[first]);
+    }
+
+    static String uncapitalize(String str) {
+        if (str.isEmpty()) {
+            return str;
+        }
+        char first = str.charAt(0);
+        if (first >= 128 || first == 'I' && isTurkic()) {
+            return str.substring(0, 1).toLowerCase() + str.substring(1);
+        }
+        return replaceFirst(str, first, LOWER[first]);
+    }
+
+    /**
+     * @return the string with its first char replaced, or the string itself when the char does not change
+     */
+    private static String replaceFirst(String str, char first, char replacement) {
+        if (replacement == first) {
+            return str;
+        }
+        // String.replace writes its result straight into the array of the new String, so when the first char
+        // occurs nowhere else the copy is the only allocation; a concatenation also copies the substring
+        if (str.indexOf(first, 1) < 0) {
+            return str.replace(first, replacement);
+        }
+        return replacement + str.substring(1);
+    }
+
+    private static boolean isTurkic() {
+        String language = Locale.getDefault().getLanguage();
+        return language.equals("tr") || language.equals("az");
+    }
+}
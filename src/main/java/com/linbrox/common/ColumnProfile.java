@@ -0,0 +1,120 @@
+package com.linbrox.common;
+
+/**
+ * What {@link ColumnProfiler} found in one column: how many of its values pass each validator, and the range of its
+ * numeric values. A value is counted by every validator it passes, so {@code "1"} is numeric, alphanumeric and
+ * boolean at once.
+ */
+public final class ColumnProfile {
+
+    private final int index;
+    private final String name;
+    private final long valueCount;
+    private final long blankCount;
+    private final long numericCount;
+    private final long decimalCount;
+    private final long alphaNumericCount;
+    private final long emailCount;
+    private final long booleanCount;
+    private final double min;
+    private final double max;
+
+    ColumnProfile(int index, String name, long[] counts, double min, double max) {
+        this.index = index;
+        this.name = name;
+        this.valueCount = counts[ColumnProfiler.VALUES];
+        this.blankCount = counts[ColumnProfiler.BLANK];
+        this.numericCount = counts[ColumnProfiler.NUMERIC];
+        this.decimalCount = counts[ColumnProfiler.DECIMAL];
+        this.alphaNumericCount = counts[ColumnProfiler.ALPHA_NUMERIC];
+        this.emailCount = counts[ColumnProfiler.EMAIL];
+        this.booleanCount = counts[ColumnProfiler.BOOLEAN];
+        this.min = min;
+        this.max = max;
+    }
+
+    /**
+     * @return the zero-based position of the column in a record
+     */
+    public int index() {
+        return index;
+    }
+
+    /**
+     * @return the name from the header record, or {@code null} if the file was read without a header or the header
+     * has fewer fields
+     */
+    public String name() {
+        return name;
+    }
+
+    /**
+     * @return the number of records that have a value in this column, blank ones included
+     */
+    public long valueCount() {
+        return valueCount;
+    }
+
+    /**
+     * @return the number of values that {@link StringUtils#isBlank(String)} accepts
+     */
+    public long blankCount() {
+        return blankCount;
+    }
+
+    /**
+     * @return the number of values that {@link StringUtils#isNumeric(String)} accepts
+     */
+    public long numericCount() {
+        return numericCount;
+    }
+
+    /**
+     * @return the number of values that {@link StringUtils#isNumericWithDecimal(String)} accepts
+     */
+    public long decimalCount() {
+        return decimalCount;
+    }
+
+    /**
+     * @return the number of values that {@link StringUtils#isAlphaNumeric(String)} accepts
+     */
+    public long alphaNumericCount() {
+        return alphaNumericCount;
+    }
+
+    /**
+     * @return the number of values that {@link StringUtils#isEmail(String)} accepts
+     */
+    public long emailCount() {
+        return emailCount;
+    }
+
+    /**
+     * @return the number of values the profiler's {@link BooleanLexicon} recognises
+     */
+    public long booleanCount() {
+        return booleanCount;
+    }
+
+    /**
+     * @return the smallest numeric or decimal value as a {@code double}, or {@link Double#NaN} if there is none
+     */
+    public double min() {
+        return min;
+    }
+
+    /**
+     * @return the largest numeric or decimal value as a {@code double}, or {@link Double#NaN} if there is none
+     */
+    public double max() {
+        return max;
+    }
+
+    @Override
+    public String toString() {
+        return "ColumnProfile{index=" + index + ", name=" + name + ", values=" + valueCount + ", blank=" + blankCount
+                + ", numeric=" + numericCount + ", decimal=" + decimalCount + ", alphaNumeric=" + alphaNumericCount
+                + ", email=" + emailCount + ", boolean=" + booleanCount + ", min=" + min + ", max=" + max + '}';
+    }
+}
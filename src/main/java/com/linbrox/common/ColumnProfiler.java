@@ -0,0 +1,353 @@
+package com.linbrox.common;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Streaming profiler for delimited UTF-8 files of any size: for every column it counts how many values are blank,
+ * numeric, decimal, alphanumeric, email addresses or booleans, and tracks the range of the numeric ones.
+ * <p>
+ * The file is memory-mapped with {@link FileChannel#map} and cut at record boundaries into one slice per worker of
+ * a {@link ForkJoinPool}. Each worker copies its slice a block at a time into one reusable array and runs the
+ * {@code byte[]} validators of {@link StringUtils}, {@link BooleanLexicon} and {@link NumericUtils} on every field
+ * in place, so no String or other object is created per record or per field. The per-worker counts are merged into
+ * a {@link TableProfile} at the end.
+ * <p>
+ * Records end with {@code \n} or {@code \r\n}, and empty lines are skipped. Fields are split at every delimiter
+ * byte; quoting is not interpreted. Each field is judged exactly as the matching {@link StringUtils} method would
+ * judge it as a String. Instances are immutable and can be shared.
+ */
+public final class ColumnProfiler {
+
+    static final int VALUES = 0;
+    static final int BLANK = 1;
+    static final int NUMERIC = 2;
+    static final int DECIMAL = 3;
+    static final int ALPHA_NUMERIC = 4;
+    static final int EMAIL = 5;
+    static final int BOOLEAN = 6;
+    private static final int COUNTS = 7;
+
+    private static final long MAX_WINDOW = 1L << 30;
+    private static final int BLOCK_SIZE = 1 << 20;
+    private static final long DEFAULT_MINIMUM_SPLIT = 16L << 20;
+
+    private final byte delimiter;
+    private final boolean header;
+    private final BooleanLexicon lexicon;
+    private final ForkJoinPool pool;
+    private final long minimumSplit;
+
+    private ColumnProfiler(byte delimiter, boolean header, BooleanLexicon lexicon, ForkJoinPool pool,
+                           long minimumSplit) {
+        this.delimiter = delimiter;
+        this.header = header;
+        this.lexicon = lexicon;
+        this.pool = pool;
+        this.minimumSplit = minimumSplit;
+    }
+
+    /**
+     * Creates a profiler for files without a header, reading booleans with {@link BooleanLexicon#DEFAULT} on the
+     * common pool.
+     *
+     * @param delimiter the field delimiter
+     * @return the profiler
+     * @throws IllegalArgumentException if the delimiter is not ASCII or is a line break
+     * @example ColumnProfiler.of(',').withHeader(true).profile(Path.of("signups.csv"));
+     */
+    public static ColumnProfiler of(char delimiter) {
+        if (delimiter >= 0x80 || delimiter == '\n' || delimiter == '\r') {
+            throw new IllegalArgumentException("Delimiter must be an ASCII char other than a line break: "
+                    + (int) delimiter);
+        }
+        return new ColumnProfiler((byte) delimiter, false, BooleanLexicon.DEFAULT, ForkJoinPool.commonPool(),
+                DEFAULT_MINIMUM_SPLIT);
+    }
+
+    /**
+     * @param header {@code true} if the first record names the columns and is not to be profiled
+     * @return a profiler like this one with the given header setting
+     */
+    public ColumnProfiler withHeader(boolean header) {
+        return new ColumnProfiler(delimiter, header, lexicon, pool, minimumSplit);
+    }
+
+    /**
+     * @param lexicon the words counted as booleans
+     * @return a profiler like this one reading booleans with the given lexicon
+     * @throws NullPointerException if the lexicon is null
+     */
+    public ColumnProfiler withBooleanLexicon(BooleanLexicon lexicon) {
+        Objects.requireNonNull(lexicon, "Lexicon cannot be null");
+        return new ColumnProfiler(delimiter, header, lexicon, pool, minimumSplit);
+    }
+
+    /**
+     * @param pool the pool whose workers scan the file, one slice each
+     * @return a profiler like this one running on the given pool
+     * @throws NullPointerException if the pool is null
+     */
+    public ColumnProfiler withPool(ForkJoinPool pool) {
+        Objects.requireNonNull(pool, "Pool cannot be null");
+        return new ColumnProfiler(delimiter, header, lexicon, pool, minimumSplit);
+    }
+
+    /**
+     * Slices are never made smaller than this, so that small files are scanned by a single worker.
+     */
+    ColumnProfiler withMinimumSplit(long minimumSplit) {
+        return new ColumnProfiler(delimiter, header, lexicon, pool, Math.max(1, minimumSplit));
+    }
+
+    /**
+     * Profiles a file.
+     *
+     * @param file the delimited file to read
+     * @return the profile of every column
+     * @throws IOException          if the file cannot be read
+     * @throws NullPointerException if the file is null
+     */
+    public TableProfile profile(Path file) throws IOException {
+        Objects.requireNonNull(file, "File cannot be null");
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long start = header ? recordStart(channel, 1, size) : 0;
+            String[] names = header ? readNames(channel, start) : new String[0];
+            long[] bounds = splits(channel, start, size);
+            List<Scan> scans = new ArrayList<>(bounds.length - 1);
+            for (int i = 0; i + 1 < bounds.length; i++) {
+                scans.add(new Scan(channel, bounds[i], bounds[i + 1]));
+            }
+            try {
+                if (scans.size() > 1) {
+                    scans.forEach(pool::execute);
+                } else {
+                    scans.get(0).invoke();
+                }
+                Scan total = scans.get(0).join();
+                for (int i = 1; i < scans.size(); i++) {
+                    total.merge(scans.get(i).join());
+                }
+                return total.toProfile(names);
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    private long[] splits(FileChannel channel, long start, long size) throws IOException {
+        long length = size - start;
+        int count = (int) Math.max(1, Math.min(pool.getParallelism(), length / minimumSplit));
+        long[] bounds = new long[count + 1];
+        bounds[0] = start;
+        bounds[count] = size;
+        for (int i = 1; i < count; i++) {
+            bounds[i] = Math.max(bounds[i - 1], recordStart(channel, start + length * i / count, size));
+        }
+        return bounds;
+    }
+
+    /**
+     * @return the start of the first record beginning at or after {@code position}, which must be positive, or
+     * {@code size}
+     */
+    private static long recordStart(FileChannel channel, long position, long size) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(8192);
+        for (long at = position - 1; at < size; ) {
+            buffer.clear();
+            int read = channel.read(buffer, at);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (buffer.get(i) == '\n') {
+                    return at + i + 1;
+                }
+            }
+            at += read;
+        }
+        return size;
+    }
+
+    private String[] readNames(FileChannel channel, long end) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate((int) end);
+        while (buffer.hasRemaining() && channel.read(buffer, buffer.position()) > 0) {
+            // keep reading until the header is complete
+        }
+        int length = buffer.position();
+        while (length > 0 && (buffer.get(length - 1) == '\n' || buffer.get(length - 1) == '\r')) {
+            length--;
+        }
+        String line = new String(buffer.array(), 0, length, StandardCharsets.UTF_8);
+        List<String> names = new ArrayList<>();
+        int from = 0;
+        for (int to; (to = line.indexOf(delimiter, from)) >= 0; from = to + 1) {
+            names.add(line.substring(from, to));
+        }
+        names.add(line.substring(from));
+        return names.toArray(new String[0]);
+    }
+
+    private static final class Column {
+
+        final long[] counts = new long[COUNTS];
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+    }
+
+    /**
+     * Profiles the records of {@code [start, end)}, which starts at a record boundary, into its own columns.
+     */
+    private final class Scan extends RecursiveTask<Scan> {
+
+        private final FileChannel channel;
+        private final long start;
+        private final long end;
+        private final List<Column> columns = new ArrayList<>();
+        private long recordCount;
+        private AsciiSequence view;
+
+        Scan(FileChannel channel, long start, long end) {
+            this.channel = channel;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected Scan compute() {
+            byte[] block = new byte[(int) Math.max(1, Math.min(BLOCK_SIZE, end - start))];
+            view = new AsciiSequence(block);
+            int carried = 0;
+            try {
+                for (long windowStart = start; windowStart < end; ) {
+                    long windowLength = Math.min(MAX_WINDOW, end - windowStart);
+                    MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, windowStart, windowLength);
+                    for (int offset = 0; offset < windowLength; ) {
+                        if (carried == block.length) {
+                            // a record longer than the block
+                            block = Arrays.copyOf(block, block.length * 2);
+                            view.reset(block);
+                        }
+                        int length = (int) Math.min(block.length - carried, windowLength - offset);
+                        window.get(offset, block, carried, length);
+                        offset += length;
+                        int available = carried + length;
+                        int consumed = records(block, available);
+                        carried = available - consumed;
+                        System.arraycopy(block, consumed, block, 0, carried);
+                    }
+                    windowStart += windowLength;
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            // the last record of the file may have no line break
+            record(block, 0, carried);
+            return this;
+        }
+
+        /**
+         * @return the index after the last complete record
+         */
+        private int records(byte[] block, int length) {
+            int recordStart = 0;
+            for (int i = 0; i < length; i++) {
+                if (block[i] == '\n') {
+                    record(block, recordStart, i);
+                    recordStart = i + 1;
+                }
+            }
+            return recordStart;
+        }
+
+        private void record(byte[] block, int from, int to) {
+            if (to > from && block[to - 1] == '\r') {
+                to--;
+            }
+            if (to == from) {
+                return;
+            }
+            recordCount++;
+            int column = 0;
+            int fieldStart = from;
+            for (int i = from; i < to; i++) {
+                if (block[i] == delimiter) {
+                    field(column++, block, fieldStart, i);
+                    fieldStart = i + 1;
+                }
+            }
+            field(column, block, fieldStart, to);
+        }
+
+        private void field(int index, byte[] block, int from, int to) {
+            while (columns.size() <= index) {
+                columns.add(new Column());
+            }
+            Column column = columns.get(index);
+            long[] counts = column.counts;
+            int length = to - from;
+            counts[VALUES]++;
+            if (StringUtils.isBlank(block, from, length)) {
+                counts[BLANK]++;
+                return;
+            }
+            boolean numeric = StringUtils.isNumeric(block, from, length);
+            boolean decimal = !numeric && StringUtils.isNumericWithDecimal(block, from, length);
+            if (numeric || decimal) {
+                counts[numeric ? NUMERIC : DECIMAL]++;
+                double value = NumericUtils.parseDouble(view, from, to);
+                column.min = Math.min(column.min, value);
+                column.max = Math.max(column.max, value);
+            }
+            if (StringUtils.isAlphaNumeric(block, from, length)) {
+                counts[ALPHA_NUMERIC]++;
+            }
+            if (StringUtils.isEmail(block, from, length)) {
+                counts[EMAIL]++;
+            }
+            if (lexicon.parse(block, from, length) != BooleanLexicon.UNRECOGNISED) {
+                counts[BOOLEAN]++;
+            }
+        }
+
+        void merge(Scan other) {
+            recordCount += other.recordCount;
+            for (int i = 0; i < other.columns.size(); i++) {
+                if (i == columns.size()) {
+                    columns.add(new Column());
+                }
+                Column column = columns.get(i);
+                Column theirs = other.columns.get(i);
+                for (int count = 0; count < COUNTS; count++) {
+                    column.counts[count] += theirs.counts[count];
+                }
+                column.min = Math.min(column.min, theirs.min);
+                column.max = Math.max(column.max, theirs.max);
+            }
+        }
+
+        TableProfile toProfile(String[] names) {
+            List<ColumnProfile> profiles = new ArrayList<>(columns.size());
+            for (int i = 0; i < columns.size(); i++) {
+                Column column = columns.get(i);
+                boolean anyNumber = column.min <= column.max;
+                profiles.add(new ColumnProfile(i, i < names.length ? names[i] : null, column.counts,
+                        anyNumber ? column.min : Double.NaN, anyNumber ? column.max : Double.NaN));
+            }
+            return new TableProfile(recordCount, profiles);
+        }
+    }
+}
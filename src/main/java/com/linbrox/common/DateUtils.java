@@ -2,18 +2,61 @@ package com.linbrox.common;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.Date;
 import java.util.Objects;
-import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+import java.util.stream.LongStream;
 
 public final class DateUtils {
 
-    private static final Random random = new Random();
+    private static final long SECONDS_PER_DAY = 86_400L;
+    private static final long GOLDEN_GAMMA = 0x9E37_79B9_7F4A_7C15L;
+    private static final long RANDOM_DATE_MIN_EPOCH_SECOND = LocalDate.of(1900, 1, 1).toEpochDay() * SECONDS_PER_DAY;
+    private static final long RANDOM_DATE_MAX_EPOCH_SECOND = LocalDate.of(2100, 12, 31).toEpochDay() * SECONDS_PER_DAY;
+    private static volatile DayClock dayClock;
+    // initialValue rather than ThreadLocal.withInitial, so that initialising the class links no lambda
+    private static final ThreadLocal<LocalDateTimeParser> PARSER = new ThreadLocal<>() {
+        @Override
+        protected LocalDateTimeParser initialValue() {
+            return new LocalDateTimeParser();
+        }
+    };
 
     private DateUtils() {}
 
+    /**
+     * Replaces the clock behind the past, today and future checks and behind {@link #tomorrow()} and
+     * {@link #yesterday()}. The default is {@link DayClock#systemDefaultZone()}, which captures the default
+     * time-zone when it is first used; install a new one after changing it.
+     *
+     * @param clock the day clock to use
+     * @throws NullPointerException if the clock is null
+     *                              <p>
+     *                              Example usage:
+     *                              <pre>
+     *                                DateUtils.setDayClock(DayClock.of(Clock.fixed(Instant.parse("2024-03-10T12:00:00Z"), ZoneOffset.UTC)));
+     *                                System.out.println(DateUtils.tomorrow()); // Prints 2024-03-11
+     *                              </pre>
+     */
+    public static void setDayClock(DayClock clock) {
+        dayClock = Objects.requireNonNull(clock, "Clock cannot be null");
+    }
+
+    /**
+     * Returns the clock behind the past, today and future checks.
+     *
+     * @return the day clock in use
+     */
+    public static DayClock getDayClock() {
+        return dayClock();
+    }
+
     /**
      * Checks if the given date is in the future.
      *
@@ -30,7 +73,7 @@ public final class DateUtils {
      */
     public static boolean isFutureDate(Date date) {
         Objects.requireNonNull(date, "Date cannot be null");
-        return LocalDate.now().isBefore(date.toInstant().atZone(java.time.ZoneId.systemDefault()).toLocalDate());
+        return date.getTime() >= dayClock().startOfTomorrow();
     }
 
     /**
@@ -49,7 +92,7 @@ public final class DateUtils {
      */
     public static boolean isFutureDate(LocalDateTime date) {
         Objects.requireNonNull(date, "Date cannot be null");
-        return LocalDate.now().isBefore(date.toLocalDate());
+        return date.toLocalDate().toEpochDay() > dayClock().current().epochDay;
     }
 
     /**
@@ -69,7 +112,19 @@ public final class DateUtils {
      */
     public static boolean isFutureDate(String date) {
         Objects.requireNonNull(date, "Date cannot be null");
-        return LocalDate.now().isBefore(LocalDateTime.parse(date, DateTimeFormatter.ISO_LOCAL_DATE_TIME).toLocalDate());
+        if (Metrics.ENABLED) {
+            return Probes.IS_FUTURE_DATE.call(date, DateUtils::isFutureDateText, null);
+        }
+        return isFutureDateText(date);
+    }
+
+    private static boolean isFutureDateText(String date) {
+        LocalDateTimeParser parser = PARSER.get();
+        if (parser.parse(date) != LocalDateTimeParser.OK) {
+            // the formatter reports the error
+            return isFutureDate(LocalDateTime.parse(date, DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+        }
+        return parser.epochDay() > dayClock().current().epochDay;
     }
 
     /**
@@ -89,8 +144,19 @@ public final class DateUtils {
      */
     public static boolean isPastDate(String date) {
         Objects.requireNonNull(date, "Date cannot be null");
-        LocalDateTime dated = LocalDateTime.parse(date, DateTimeFormatter.ISO_LOCAL_DATE_TIME);
-        return LocalDateTime.now().isAfter(dated);
+        if (Metrics.ENABLED) {
+            return Probes.IS_PAST_DATE.call(date, DateUtils::isPastDateText, null);
+        }
+        return isPastDateText(date);
+    }
+
+    private static boolean isPastDateText(String date) {
+        LocalDateTimeParser parser = PARSER.get();
+        if (parser.parse(date) != LocalDateTimeParser.OK) {
+            // the formatter reports the error
+            return isPastDate(LocalDateTime.parse(date, DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+        }
+        return isBeforeLocalMillis(parser.epochSecond(), parser.nano(), dayClock().localMillis());
     }
 
     /**
@@ -110,7 +176,7 @@ public final class DateUtils {
      */
     public static boolean isPastDate(LocalDateTime date) {
         Objects.requireNonNull(date, "Date cannot be null");
-        return LocalDateTime.now().isAfter(date);
+        return isBeforeLocalMillis(date.toEpochSecond(ZoneOffset.UTC), date.getNano(), dayClock().localMillis());
     }
 
     /**
@@ -130,7 +196,7 @@ public final class DateUtils {
      */
     public static boolean isPastDate(Date date) {
         Objects.requireNonNull(date, "Date cannot be null");
-        return LocalDateTime.now().isAfter(date.toInstant().atZone(java.time.ZoneId.systemDefault()).toLocalDateTime());
+        return dayClock().millis() > date.getTime();
     }
 
 
@@ -149,7 +215,10 @@ public final class DateUtils {
      *                                                           </pre>
      */
     public static boolean isToday(Date date) {
-        return LocalDate.now().equals(date.toInstant().atZone(java.time.ZoneId.systemDefault()).toLocalDate());
+        Objects.requireNonNull(date, "Date cannot be null");
+        DayClock.Day today = dayClock().current();
+        long time = date.getTime();
+        return time >= today.start && time < today.end;
     }
 
     /**
@@ -164,7 +233,7 @@ public final class DateUtils {
      * </pre>
      */
     public static LocalDate tomorrow() {
-        return LocalDate.now().plusDays(1);
+        return dayClock().today().plusDays(1);
     }
 
     /**
@@ -179,28 +248,311 @@ public final class DateUtils {
      * </pre>
      */
     public static LocalDate yesterday() {
-        return LocalDate.now().minusDays(1);
+        return dayClock().today().minusDays(1);
+    }
+
+
+    /**
+     * Classifies epoch milliseconds as past, today or future, reading the clock once for the whole array. Each
+     * timestamp gets the answer {@link #isPastDate(Date)} and {@link #isFutureDate(Date)} would give for it at that
+     * moment; see {@link DayClassification}. Arrays of more than 16384 timestamps are split across the common
+     * fork/join pool.
+     *
+     * @param epochMillis the instants to classify
+     * @return the kind of each instant and the count of each kind
+     * @throws NullPointerException if the array is null
+     *                              <p>
+     *                              Example usage:
+     *                              <pre>
+     *                                DayClassification due = DateUtils.classifyAll(dueMillis);
+     *                                backlog.addAll(due.indexes(DayClassification.PAST));
+     *                              </pre>
+     */
+    public static DayClassification classifyAll(long[] epochMillis) {
+        Objects.requireNonNull(epochMillis, "Array cannot be null");
+        return DayClassifier.classify(epochMillis, epochMillis.length, dayClock());
+    }
+
+    /**
+     * Classifies epoch milliseconds as past, today or future with the day boundaries of another zone.
+     *
+     * @param epochMillis the instants to classify
+     * @param zone        the zone that defines today
+     * @return the kind of each instant and the count of each kind
+     * @throws NullPointerException if the array or the zone is null
+     */
+    public static DayClassification classifyAll(long[] epochMillis, ZoneId zone) {
+        Objects.requireNonNull(epochMillis, "Array cannot be null");
+        return DayClassifier.classify(epochMillis, epochMillis.length, inZone(zone));
+    }
+
+    /**
+     * Classifies dates as past, today or future, reading the clock once for the whole array, with the same answers
+     * as {@link #isPastDate(Date)} and {@link #isFutureDate(Date)}.
+     *
+     * @param dates the dates to classify
+     * @return the kind of each date and the count of each kind
+     * @throws NullPointerException if the array or one of its dates is null
+     */
+    public static DayClassification classifyAll(Date[] dates) {
+        Objects.requireNonNull(dates, "Array cannot be null");
+        return DayClassifier.classify(dates, dates.length, dayClock());
+    }
+
+    /**
+     * Classifies dates as past, today or future with the day boundaries of another zone.
+     *
+     * @param dates the dates to classify
+     * @param zone  the zone that defines today
+     * @return the kind of each date and the count of each kind
+     * @throws NullPointerException if the array, one of its dates or the zone is null
+     */
+    public static DayClassification classifyAll(Date[] dates, ZoneId zone) {
+        Objects.requireNonNull(dates, "Array cannot be null");
+        return DayClassifier.classify(dates, dates.length, inZone(zone));
+    }
+
+    /**
+     * Classifies local date-times as past, today or future, reading the clock once for the whole array, with the
+     * same answers as {@link #isPastDate(LocalDateTime)} and {@link #isFutureDate(LocalDateTime)}.
+     *
+     * @param dates the local date-times to classify, read in the zone of the installed {@link DayClock}
+     * @return the kind of each date-time and the count of each kind
+     * @throws NullPointerException if the array or one of its date-times is null
+     */
+    public static DayClassification classifyAll(LocalDateTime[] dates) {
+        Objects.requireNonNull(dates, "Array cannot be null");
+        return DayClassifier.classify(dates, dates.length, dayClock());
     }
 
+    /**
+     * Classifies local date-times of another zone as past, today or future.
+     *
+     * @param dates the local date-times to classify, read in the given zone
+     * @param zone  the zone of the date-times, which also defines today
+     * @return the kind of each date-time and the count of each kind
+     * @throws NullPointerException if the array, one of its date-times or the zone is null
+     */
+    public static DayClassification classifyAll(LocalDateTime[] dates, ZoneId zone) {
+        Objects.requireNonNull(dates, "Array cannot be null");
+        return DayClassifier.classify(dates, dates.length, inZone(zone));
+    }
+
+    private static DayClock inZone(ZoneId zone) {
+        Objects.requireNonNull(zone, "Zone cannot be null");
+        DayClock clock = dayClock();
+        return zone.equals(clock.getZone()) ? clock : DayClock.of(clock.getClock(), zone);
+    }
 
     public static LocalDateTime randomDate() {
-        long minDay = LocalDate.of(1900, 1, 1).toEpochDay();
-        long maxDay = LocalDate.of(2100, 12, 31).toEpochDay();
-        long randomDay = minDay + (long) (Math.random() * (maxDay - minDay));
-        return LocalDate.ofEpochDay(randomDay).atStartOfDay().plusSeconds((long) (Math.random() * 86400));
+        return randomDate(ThreadLocalRandom.current());
+    }
+
+    /**
+     * Returns a uniformly distributed date-time between 1900-01-01 and 2100-12-30, drawn from the given generator.
+     *
+     * @param random the generator to draw from, for example a seeded {@link SplittableRandom} for reproducible data
+     * @return a random date-time, to the second
+     * @throws NullPointerException if the generator is null
+     *                              <p>
+     *                              Example usage:
+     *                              <pre>
+     *                                LocalDateTime date = DateUtils.randomDate(new SplittableRandom(42)); // Same value on every run
+     *                              </pre>
+     */
+    public static LocalDateTime randomDate(RandomGenerator random) {
+        Objects.requireNonNull(random, "Random cannot be null");
+        return randomDateTime(random, RANDOM_DATE_MIN_EPOCH_SECOND, RANDOM_DATE_MAX_EPOCH_SECOND);
     }
 
     public static LocalDateTime randomFutureDate() {
-        long minDay = LocalDate.now().toEpochDay();
-        long maxDay = LocalDate.now().plusYears(100).toEpochDay();
-        long randomDay = minDay + (long) (Math.random() * (maxDay - minDay));
-        return LocalDate.ofEpochDay(randomDay).atStartOfDay().plusSeconds((long) (Math.random() * 86400));
+        return randomFutureDate(ThreadLocalRandom.current());
+    }
+
+    /**
+     * Returns a uniformly distributed date-time from the start of today up to 100 years ahead, drawn from the given
+     * generator.
+     *
+     * @param random the generator to draw from
+     * @return a random date-time, to the second
+     * @throws NullPointerException if the generator is null
+     */
+    public static LocalDateTime randomFutureDate(RandomGenerator random) {
+        Objects.requireNonNull(random, "Random cannot be null");
+        LocalDate today = dayClock().today();
+        return randomDateTime(random, toEpochSecond(today), toEpochSecond(today.plusYears(100)));
     }
 
     public static LocalDateTime randomPastDate() {
-        long minDay = LocalDate.of(1900, 1, 1).toEpochDay();
-        long maxDay = LocalDate.now().toEpochDay();
-        long randomDay = minDay + (random.nextLong() * (maxDay - minDay));
-        return LocalDate.ofEpochDay(randomDay).atStartOfDay().plusSeconds(random.nextLong() * 86400);
+        return randomPastDate(ThreadLocalRandom.current());
+    }
+
+    /**
+     * Returns a uniformly distributed date-time from 1900-01-01 up to the end of yesterday, drawn from the given
+     * generator.
+     *
+     * @param random the generator to draw from
+     * @return a random date-time, to the second
+     * @throws NullPointerException if the generator is null
+     */
+    public static LocalDateTime randomPastDate(RandomGenerator random) {
+        Objects.requireNonNull(random, "Random cannot be null");
+        return randomDateTime(random, RANDOM_DATE_MIN_EPOCH_SECOND, toEpochSecond(dayClock().today()));
+    }
+
+    /**
+     * Fills an array with uniformly distributed local epoch seconds, the values of
+     * {@code LocalDateTime.toEpochSecond(ZoneOffset.UTC)}, without creating any date object.
+     *
+     * @param target           the array to fill
+     * @param fromEpochSecond  the lowest value, inclusive
+     * @param untilEpochSecond the highest value, exclusive
+     * @param random           the generator to draw from
+     * @throws NullPointerException     if the array or the generator is null
+     * @throws IllegalArgumentException if the range is empty
+     *                                  <p>
+     *                                  Example usage:
+     *                                  <pre>
+     *                                    long[] seconds = new long[1_000_000];
+     *                                    DateUtils.fillRandomEpochSeconds(seconds, 0, 4_102_444_800L, new SplittableRandom(7));
+     *                                  </pre>
+     */
+    public static void fillRandomEpochSeconds(long[] target, long fromEpochSecond, long untilEpochSecond,
+                                              RandomGenerator random) {
+        Objects.requireNonNull(target, "Array cannot be null");
+        Objects.requireNonNull(random, "Random cannot be null");
+        checkRange(fromEpochSecond, untilEpochSecond);
+        for (int i = 0; i < target.length; i++) {
+            target[i] = random.nextLong(fromEpochSecond, untilEpochSecond);
+        }
+    }
+
+    /**
+     * Fills an array with uniformly distributed local epoch seconds drawn from the calling thread's generator.
+     *
+     * @param target           the array to fill
+     * @param fromEpochSecond  the lowest value, inclusive
+     * @param untilEpochSecond the highest value, exclusive
+     * @throws NullPointerException     if the array is null
+     * @throws IllegalArgumentException if the range is empty
+     */
+    public static void fillRandomEpochSeconds(long[] target, long fromEpochSecond, long untilEpochSecond) {
+        fillRandomEpochSeconds(target, fromEpochSecond, untilEpochSecond, ThreadLocalRandom.current());
+    }
+
+    /**
+     * Streams uniformly distributed local epoch seconds. The stream splits without contention when run in
+     * parallel.
+     *
+     * @param count            the number of values
+     * @param fromEpochSecond  the lowest value, inclusive
+     * @param untilEpochSecond the highest value, exclusive
+     * @return a stream of {@code count} values
+     * @throws IllegalArgumentException if the count is negative or the range is empty
+     *                                  <p>
+     *                                  Example usage:
+     *                                  <pre>
+     *                                    long[] seconds = DateUtils.randomEpochSeconds(100_000_000, 0, 4_102_444_800L).parallel().toArray();
+     *                                  </pre>
+     */
+    public static LongStream randomEpochSeconds(long count, long fromEpochSecond, long untilEpochSecond) {
+        checkRange(fromEpochSecond, untilEpochSecond);
+        return ThreadLocalRandom.current().longs(count, fromEpochSecond, untilEpochSecond);
+    }
+
+    /**
+     * Streams uniformly distributed local epoch seconds from a seed. Value {@code i} depends only on the seed and
+     * on {@code i}, so the same seed gives the same values in the same order, sequential or parallel.
+     *
+     * @param count            the number of values
+     * @param fromEpochSecond  the lowest value, inclusive
+     * @param untilEpochSecond the highest value, exclusive
+     * @param seed             the seed
+     * @return a stream of {@code count} values
+     * @throws IllegalArgumentException if the count is negative or the range is empty
+     */
+    public static LongStream randomEpochSeconds(long count, long fromEpochSecond, long untilEpochSecond, long seed) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Count cannot be negative");
+        }
+        checkRange(fromEpochSecond, untilEpochSecond);
+        return LongStream.range(0, count)
+                .map(index -> randomInRange(seed + (index + 1) * GOLDEN_GAMMA, fromEpochSecond, untilEpochSecond));
+    }
+
+    private static LocalDateTime randomDateTime(RandomGenerator random, long fromEpochSecond, long untilEpochSecond) {
+        return LocalDateTime.ofEpochSecond(random.nextLong(fromEpochSecond, untilEpochSecond), 0, ZoneOffset.UTC);
+    }
+
+    /**
+     * Maps a counter to a uniform value of {@code [from, until)} with the mixing function and the rejection loop of
+     * {@link SplittableRandom}.
+     */
+    private static long randomInRange(long state, long from, long until) {
+        long bits = mix64(state);
+        long range = until - from;
+        long mask = range - 1;
+        if ((range & mask) == 0) {
+            return from + (bits & mask);
+        }
+        if (range > 0) {
+            long value;
+            for (long u = bits >>> 1; u + mask - (value = u % range) < 0; u = (bits = mix64(bits)) >>> 1) {
+                // rejected: the draw fell in the incomplete last interval
+            }
+            return from + value;
+        }
+        while (bits < from || bits >= until) {
+            bits = mix64(bits);
+        }
+        return bits;
+    }
+
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58_476D_1CE4_E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D0_49BB_1331_11EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static long toEpochSecond(LocalDate date) {
+        return date.toEpochDay() * SECONDS_PER_DAY;
+    }
+
+    private static void checkRange(long fromEpochSecond, long untilEpochSecond) {
+        if (fromEpochSecond >= untilEpochSecond) {
+            throw new IllegalArgumentException("Start must be before end");
+        }
+    }
+
+    /**
+     * Compares a local epoch second and nanosecond with local epoch milliseconds, to the millisecond.
+     */
+    private static boolean isBeforeLocalMillis(long epochSecond, int nano, long localMillis) {
+        long seconds = Math.floorDiv(localMillis, 1000);
+        if (seconds != epochSecond) {
+            return seconds > epochSecond;
+        }
+        return Math.floorMod(localMillis, 1000) * 1_000_000L > nano;
+    }
+
+    /**
+     * @return the installed day clock, or the system one, which is only created on first use: it looks up the
+     * default zone and its rules, work that callers of the random generators alone should not pay for at startup
+     */
+    private static DayClock dayClock() {
+        DayClock clock = dayClock;
+        return clock != null ? clock : SystemDayClock.INSTANCE;
+    }
+
+    private static final class SystemDayClock {
+        static final DayClock INSTANCE = DayClock.systemDefaultZone();
+    }
+
+    /**
+     * The metrics probes, in a holder so that none of the instrumentation is loaded unless metrics are enabled.
+     */
+    private static final class Probes {
+        static final Probe IS_FUTURE_DATE = Metrics.probe("DateUtils.isFutureDate");
+        static final Probe IS_PAST_DATE = Metrics.probe("DateUtils.isPastDate");
     }
 }
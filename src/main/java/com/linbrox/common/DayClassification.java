@@ -0,0 +1,113 @@
+package com.linbrox.common;
+
+import java.util.Objects;
+
+/**
+ * Outcome of classifying a whole array of timestamps against one reading of the clock: one byte per timestamp,
+ * {@link #PAST}, {@link #TODAY} or {@link #FUTURE}, plus the count of each.
+ * <p>
+ * The three kinds follow the single-value methods of {@link DateUtils}: a timestamp is {@link #PAST} if
+ * {@code isPastDate} holds for it, which is decided to the instant, {@link #FUTURE} if {@code isFutureDate} holds,
+ * which is decided to the day, and {@link #TODAY} otherwise, that is from now until the end of today. A timestamp
+ * earlier today is therefore {@link #PAST}, as {@code isPastDate} says, although {@code isToday} also holds for it.
+ */
+public final class DayClassification {
+
+    /**
+     * The timestamp is before now.
+     */
+    public static final byte PAST = 0;
+
+    /**
+     * The timestamp is now or later, but still today.
+     */
+    public static final byte TODAY = 1;
+
+    /**
+     * The timestamp is tomorrow or later.
+     */
+    public static final byte FUTURE = 2;
+
+    private final byte[] kinds;
+    private final int[] counts;
+
+    DayClassification(byte[] kinds, int[] counts) {
+        this.kinds = kinds;
+        this.counts = counts;
+    }
+
+    /**
+     * @return the number of timestamps classified
+     */
+    public int size() {
+        return kinds.length;
+    }
+
+    /**
+     * Returns the kind of the timestamp at an index.
+     *
+     * @param index the index of the timestamp in the array
+     * @return {@link #PAST}, {@link #TODAY} or {@link #FUTURE}
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+    public byte kind(int index) {
+        Objects.checkIndex(index, kinds.length);
+        return kinds[index];
+    }
+
+    /**
+     * @return the number of timestamps before now
+     */
+    public int pastCount() {
+        return counts[PAST];
+    }
+
+    /**
+     * @return the number of timestamps from now until the end of today
+     */
+    public int todayCount() {
+        return counts[TODAY];
+    }
+
+    /**
+     * @return the number of timestamps tomorrow or later
+     */
+    public int futureCount() {
+        return counts[FUTURE];
+    }
+
+    /**
+     * Lists the positions of the timestamps of one kind, for routing the records they belong to.
+     *
+     * @param kind {@link #PAST}, {@link #TODAY} or {@link #FUTURE}
+     * @return the indexes of the timestamps of that kind, in increasing order
+     * @throws IllegalArgumentException if the kind is not one of the three
+     * @example int[] backlog = DateUtils.classifyAll(dueMillis).indexes(DayClassification.PAST);
+     */
+    public int[] indexes(byte kind) {
+        if (kind != PAST && kind != TODAY && kind != FUTURE) {
+            throw new IllegalArgumentException("Kind must be PAST, TODAY or FUTURE");
+        }
+        int[] indexes = new int[counts[kind]];
+        int next = 0;
+        for (int i = 0; next < indexes.length; i++) {
+            if (kinds[i] == kind) {
+                indexes[next++] = i;
+            }
+        }
+        return indexes;
+    }
+
+    /**
+     * @return a copy of the kinds, one byte per timestamp
+     */
+    public byte[] toByteArray() {
+        return kinds.clone();
+    }
+
+    @Override
+    public String toString() {
+        return "DayClassification{size=" + kinds.length + ", past=" + counts[PAST] + ", today=" + counts[TODAY]
+                + ", future=" + counts[FUTURE] + "}";
+    }
+}
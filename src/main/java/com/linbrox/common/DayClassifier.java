@@ -0,0 +1,135 @@
+package com.linbrox.common;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Fork/join engine behind {@link DateUtils#classifyAll}. The clock is read once, before the split, and every task
+ * compares against the same instant and day bounds, so a batch straddling midnight is still classified as of one
+ * moment.
+ */
+final class DayClassifier extends RecursiveTask<int[]> {
+
+    /**
+     * Arrays up to this many timestamps are classified on the calling thread; it is also the size of a leaf task.
+     */
+    static final int SEQUENTIAL_THRESHOLD = 1 << 14;
+
+    private static final long MILLIS_PER_SECOND = 1000L;
+    private static final long SECONDS_PER_DAY = 86_400L;
+
+    private final Object timestamps;
+    private final byte[] kinds;
+    private final long now;
+    private final long startOfTomorrow;
+    private final long localNow;
+    private final long epochDay;
+    private final int from;
+    private final int to;
+
+    private DayClassifier(Object timestamps, byte[] kinds, long now, DayClock.Day day, int from, int to) {
+        this(timestamps, kinds, now, day.end, now + day.offsetMillis, day.epochDay, from, to);
+    }
+
+    private DayClassifier(Object timestamps, byte[] kinds, long now, long startOfTomorrow, long localNow,
+                          long epochDay, int from, int to) {
+        this.timestamps = timestamps;
+        this.kinds = kinds;
+        this.now = now;
+        this.startOfTomorrow = startOfTomorrow;
+        this.localNow = localNow;
+        this.epochDay = epochDay;
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+     * Classifies a {@code long[]} of epoch milliseconds, a {@code Date[]} or a {@code LocalDateTime[]}.
+     */
+    static DayClassification classify(Object timestamps, int length, DayClock clock) {
+        long now = clock.millis();
+        byte[] kinds = new byte[length];
+        DayClassifier task = new DayClassifier(timestamps, kinds, now, clock.day(now), 0, length);
+        int[] counts = length <= SEQUENTIAL_THRESHOLD ? task.compute() : ForkJoinPool.commonPool().invoke(task);
+        return new DayClassification(kinds, counts);
+    }
+
+    @Override
+    protected int[] compute() {
+        if (to - from <= SEQUENTIAL_THRESHOLD) {
+            int[] counts = new int[3];
+            if (timestamps instanceof long[]) {
+                classifyMillis((long[]) timestamps, counts);
+            } else if (timestamps instanceof Date[]) {
+                classifyDates((Date[]) timestamps, counts);
+            } else {
+                classifyLocal((LocalDateTime[]) timestamps, counts);
+            }
+            return counts;
+        }
+        int middle = (from + to) >>> 1;
+        DayClassifier left = new DayClassifier(timestamps, kinds, now, startOfTomorrow, localNow, epochDay,
+                from, middle);
+        left.fork();
+        int[] right = new DayClassifier(timestamps, kinds, now, startOfTomorrow, localNow, epochDay, middle, to)
+                .compute();
+        int[] counts = left.join();
+        for (int kind = 0; kind < counts.length; kind++) {
+            counts[kind] += right[kind];
+        }
+        return counts;
+    }
+
+    /**
+     * {@code isPastDate(Date)} compares instants and {@code isFutureDate(Date)} compares with the start of tomorrow.
+     */
+    private void classifyMillis(long[] millis, int[] counts) {
+        for (int i = from; i < to; i++) {
+            byte kind = kindOfInstant(millis[i]);
+            kinds[i] = kind;
+            counts[kind]++;
+        }
+    }
+
+    private void classifyDates(Date[] dates, int[] counts) {
+        for (int i = from; i < to; i++) {
+            byte kind = kindOfInstant(Objects.requireNonNull(dates[i], "Date cannot be null").getTime());
+            kinds[i] = kind;
+            counts[kind]++;
+        }
+    }
+
+    private byte kindOfInstant(long time) {
+        if (now > time) {
+            return DayClassification.PAST;
+        }
+        return time >= startOfTomorrow ? DayClassification.FUTURE : DayClassification.TODAY;
+    }
+
+    /**
+     * {@code isPastDate(LocalDateTime)} compares with the local time now, to the nanosecond, and
+     * {@code isFutureDate(LocalDateTime)} compares dates.
+     */
+    private void classifyLocal(LocalDateTime[] dates, int[] counts) {
+        long localSecond = Math.floorDiv(localNow, MILLIS_PER_SECOND);
+        long localNano = Math.floorMod(localNow, MILLIS_PER_SECOND) * 1_000_000L;
+        for (int i = from; i < to; i++) {
+            LocalDateTime date = Objects.requireNonNull(dates[i], "Date cannot be null");
+            long second = date.toEpochSecond(ZoneOffset.UTC);
+            byte kind;
+            if (localSecond > second || (localSecond == second && localNano > date.getNano())) {
+                kind = DayClassification.PAST;
+            } else if (Math.floorDiv(second, SECONDS_PER_DAY) > epochDay) {
+                kind = DayClassification.FUTURE;
+            } else {
+                kind = DayClassification.TODAY;
+            }
+            kinds[i] = kind;
+            counts[kind]++;
+        }
+    }
+}
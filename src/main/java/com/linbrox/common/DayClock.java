@@ -0,0 +1,183 @@
+package com.linbrox.common;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.Objects;
+
+/**
+ * A {@link Clock} paired with a zone that remembers where the current day starts and ends.
+ * <p>
+ * The bounds of today, the zone offset and today's {@link LocalDate} are computed once and kept as epoch
+ * milliseconds until the clock passes midnight or a daylight-saving transition, so answering "is this instant
+ * today, before today or after today" only costs one {@link Clock#millis()} read and a couple of {@code long}
+ * comparisons. Instances are immutable apart from that cache and safe to share between threads.
+ */
+public final class DayClock {
+
+    private final Clock clock;
+    private final ZoneRules rules;
+    private volatile Day day;
+
+    private DayClock(Clock clock) {
+        this.clock = clock;
+        this.rules = clock.getZone().getRules();
+        this.day = computeDay(clock.millis());
+    }
+
+    /**
+     * Creates a day clock on the system clock and the current default time-zone. The zone is captured once;
+     * create a new instance after changing the default time-zone.
+     *
+     * @return the day clock
+     * @example DateUtils.setDayClock(DayClock.systemDefaultZone());
+     */
+    public static DayClock systemDefaultZone() {
+        return new DayClock(Clock.systemDefaultZone());
+    }
+
+    /**
+     * Creates a day clock that reads the given clock in the clock's own zone.
+     *
+     * @param clock the clock to read, for example {@link Clock#fixed(Instant, ZoneId)} in tests
+     * @return the day clock
+     * @throws NullPointerException if the clock is null
+     * @example DayClock.of(Clock.fixed(Instant.parse("2024-03-10T12:00:00Z"), ZoneId.of("UTC")));
+     */
+    public static DayClock of(Clock clock) {
+        Objects.requireNonNull(clock, "Clock cannot be null");
+        return new DayClock(clock);
+    }
+
+    /**
+     * Creates a day clock that reads the given clock in another zone.
+     *
+     * @param clock the clock to read
+     * @param zone  the zone that defines the day boundaries
+     * @return the day clock
+     * @throws NullPointerException if the clock or the zone is null
+     * @example DayClock.of(Clock.systemUTC(), ZoneId.of("Europe/Madrid"));
+     */
+    public static DayClock of(Clock clock, ZoneId zone) {
+        Objects.requireNonNull(clock, "Clock cannot be null");
+        Objects.requireNonNull(zone, "Zone cannot be null");
+        return new DayClock(clock.withZone(zone));
+    }
+
+    /**
+     * @return the underlying clock, in this day clock's zone
+     */
+    public Clock getClock() {
+        return clock;
+    }
+
+    /**
+     * @return the zone that defines the day boundaries
+     */
+    public ZoneId getZone() {
+        return clock.getZone();
+    }
+
+    /**
+     * @return the current instant in epoch milliseconds
+     */
+    public long millis() {
+        return clock.millis();
+    }
+
+    /**
+     * @return the current date in this clock's zone
+     */
+    public LocalDate today() {
+        return current().date;
+    }
+
+    /**
+     * @return the epoch milliseconds at which today started, inclusive
+     */
+    public long startOfToday() {
+        return current().start;
+    }
+
+    /**
+     * @return the epoch milliseconds at which tomorrow starts, that is, where today ends, exclusive
+     */
+    public long startOfTomorrow() {
+        return current().end;
+    }
+
+    /**
+     * Returns the current local date-time of this clock's zone as milliseconds since
+     * {@code 1970-01-01T00:00} local time, the millisecond counterpart of
+     * {@code LocalDateTime.now(clock).toEpochSecond(ZoneOffset.UTC)}.
+     *
+     * @return the current local epoch milliseconds
+     */
+    public long localMillis() {
+        long now = clock.millis();
+        return now + day(now).offsetMillis;
+    }
+
+    /**
+     * @return the cached day for the current instant
+     */
+    Day current() {
+        return day(clock.millis());
+    }
+
+    Day day(long now) {
+        Day current = day;
+        if (now < current.validFrom || now >= current.validUntil) {
+            current = computeDay(now);
+            day = current;
+        }
+        return current;
+    }
+
+    private Day computeDay(long now) {
+        Instant instant = Instant.ofEpochMilli(now);
+        ZoneId zone = clock.getZone();
+        LocalDate date = LocalDate.ofInstant(instant, zone);
+        long start = date.atStartOfDay(zone).toInstant().toEpochMilli();
+        long end = date.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli();
+        long validFrom = start;
+        long validUntil = end;
+        ZoneOffsetTransition previous = rules.previousTransition(instant.plusMillis(1));
+        if (previous != null) {
+            validFrom = Math.max(validFrom, previous.toEpochSecond() * 1000);
+        }
+        ZoneOffsetTransition next = rules.nextTransition(instant);
+        if (next != null) {
+            validUntil = Math.min(validUntil, next.toEpochSecond() * 1000);
+        }
+        long offsetMillis = rules.getOffset(instant).getTotalSeconds() * 1000L;
+        return new Day(date, start, end, offsetMillis, validFrom, validUntil);
+    }
+
+    /**
+     * One cached day: its date, its bounds and the offset in force, valid for instants in
+     * {@code [validFrom, validUntil)}.
+     */
+    static final class Day {
+        final LocalDate date;
+        final long epochDay;
+        final long start;
+        final long end;
+        final long offsetMillis;
+        final long validFrom;
+        final long validUntil;
+
+        Day(LocalDate date, long start, long end, long offsetMillis, long validFrom, long validUntil) {
+            this.date = date;
+            this.epochDay = date.toEpochDay();
+            this.start = start;
+            this.end = end;
+            this.offsetMillis = offsetMillis;
+            this.validFrom = validFrom;
+            this.validUntil = validUntil;
+        }
+    }
+}
@@ -0,0 +1,428 @@
+package com.linbrox.common;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * An immutable list of email domains, such as an allow list or a block list, matched ignoring ASCII case. A rule is
+ * either a domain, {@code example.com}, which matches that domain only, or a wildcard, {@code *.example.co.uk},
+ * which matches every subdomain of {@code example.co.uk} but not {@code example.co.uk} itself.
+ * <p>
+ * The domains are stored reversed in a radix trie, so that a domain is looked up from its last char and every rule
+ * sharing a suffix shares its nodes. The trie is laid out breadth first in two flat arrays, so it holds no object
+ * per rule: the labels of all edges in one byte array, and per node two longs. The 38 chars of a domain, ignoring
+ * case, are numbered in their sort order, and the first long of a node has one bit set for the first char of each
+ * child's label, and whether a domain or a wildcard ends at the node; the second has the start of the node's label
+ * and the index of its first child. The children of a node are contiguous, so the child for a char is found by
+ * counting the bits below it, without searching or branching on the other children.
+ * <p>
+ * {@link #checkEmail(CharSequence)} validates an address like {@link EmailValidator} and looks its domain up in
+ * the same pass: it reads the address once, from right to left, stepping the trie on each char of the domain, and
+ * creates no object.
+ */
+public final class DomainTrie {
+
+    /**
+     * Returned when the address is valid and its domain matches a rule.
+     */
+    public static final int LISTED = 1;
+    /**
+     * Returned when the address is valid and its domain matches no rule.
+     */
+    public static final int NOT_LISTED = 0;
+    /**
+     * Returned when the address is not a valid email.
+     */
+    public static final int INVALID = -1;
+
+    private static final int EXACT = 1;
+    private static final int WILDCARD = 2;
+    private static final String WILDCARD_PREFIX = "*.";
+    private static final int FLAGS_SHIFT = 62;
+    private static final long ROOT = 0L;
+    private static final long DEAD = -1L;
+    private static final int HYPHEN = 0;
+    private static final int DOT = 1;
+    private static final int DIGIT_0 = 2;
+    private static final int LETTER_A = 12;
+    private static final byte[] CODES = new byte[128];
+
+    static {
+        Arrays.fill(CODES, (byte) -1);
+        CODES['-'] = HYPHEN;
+        CODES['.'] = DOT;
+        for (char c = '0'; c <= '9'; c++) {
+            CODES[c] = (byte) (c - '0' + DIGIT_0);
+        }
+        for (char c = 'a'; c <= 'z'; c++) {
+            CODES[c] = (byte) (c - 'a' + LETTER_A);
+            CODES[c - 32] = CODES[c];
+        }
+    }
+
+    private final byte[] labels;
+    private final long[] nodes;
+    private final int size;
+
+    private DomainTrie(byte[] labels, long[] nodes, int size) {
+        this.labels = labels;
+        this.nodes = nodes;
+        this.size = size;
+    }
+
+    /**
+     * Builds a trie from domain rules. Duplicates, in any case, are merged.
+     *
+     * @param rules the domains, and wildcards starting with {@code *.}
+     * @return the trie
+     * @throws NullPointerException     if the collection or a rule is null
+     * @throws IllegalArgumentException if a rule is not a domain of dot-separated, non-empty labels of ASCII
+     *                                  letters, digits and hyphens, optionally after {@code *.}
+     * @example DomainTrie.of(List.of("example.com", "*.example.co.uk")).matches("mail.example.co.uk"); // true
+     */
+    public static DomainTrie of(Collection<String> rules) {
+        Objects.requireNonNull(rules, "Rules cannot be null");
+        Map<String, Integer> reversed = new HashMap<>();
+        for (String rule : rules) {
+            Objects.requireNonNull(rule, "Rule cannot be null");
+            boolean wildcard = rule.startsWith(WILDCARD_PREFIX);
+            String domain = checkDomain(rule, wildcard ? WILDCARD_PREFIX.length() : 0);
+            reversed.merge(domain, wildcard ? WILDCARD : EXACT, (a, b) -> a | b);
+        }
+        String[] keys = reversed.keySet().toArray(new String[0]);
+        Arrays.sort(keys);
+        int[] keyFlags = new int[keys.length];
+        int size = 0;
+        for (int i = 0; i < keys.length; i++) {
+            keyFlags[i] = reversed.get(keys[i]);
+            size += Integer.bitCount(keyFlags[i]);
+        }
+        Node root = new Node(keys.length == 0 ? "" : keys[0], 0, 0);
+        build(root, keys, keyFlags, 0, keys.length, 0);
+        return layOut(root, size);
+    }
+
+    /**
+     * @return the rule's domain, lower-cased and reversed
+     */
+    private static String checkDomain(String rule, int from) {
+        StringBuilder reversed = new StringBuilder(rule.length() - from);
+        boolean labelStart = true;
+        for (int i = rule.length() - 1; i >= from; i--) {
+            char c = rule.charAt(i);
+            if (code(c) < 0 || c == '.' && labelStart) {
+                throw new IllegalArgumentException("Invalid domain rule: " + rule);
+            }
+            labelStart = c == '.';
+            reversed.append(CaseFolding.toLowerCase(c));
+        }
+        if (labelStart) {
+            throw new IllegalArgumentException("Invalid domain rule: " + rule);
+        }
+        return reversed.toString();
+    }
+
+    /**
+     * Adds the children of a node for the sorted keys {@code [lo, hi)}, which share their first {@code depth}
+     * chars; a key of exactly that length sorts first and ends at the node.
+     */
+    private static void build(Node node, String[] keys, int[] keyFlags, int lo, int hi, int depth) {
+        int i = lo;
+        if (i < hi && keys[i].length() == depth) {
+            node.flags = keyFlags[i++];
+        }
+        while (i < hi) {
+            char c = keys[i].charAt(depth);
+            int j = i + 1;
+            while (j < hi && keys[j].charAt(depth) == c) {
+                j++;
+            }
+            String first = keys[i];
+            String last = keys[j - 1];
+            int end = depth + 1;
+            while (end < first.length() && end < last.length() && first.charAt(end) == last.charAt(end)) {
+                end++;
+            }
+            Node child = new Node(first, depth, end);
+            node.children.add(child);
+            build(child, keys, keyFlags, i, j, end);
+            i = j;
+        }
+    }
+
+    private static DomainTrie layOut(Node root, int size) {
+        List<Node> order = new ArrayList<>();
+        order.add(root);
+        int labelLength = 0;
+        for (int k = 0; k < order.size(); k++) {
+            Node node = order.get(k);
+            order.addAll(node.children);
+            labelLength += node.to - node.from;
+        }
+        byte[] labels = new byte[labelLength];
+        // one more record, after the last node, holds the end of the last label
+        long[] nodes = new long[2 * order.size() + 2];
+        int position = 0;
+        int child = 1;
+        for (int k = 0; k < order.size(); k++) {
+            Node node = order.get(k);
+            long bits = (long) node.flags << FLAGS_SHIFT;
+            for (Node next : node.children) {
+                bits |= 1L << CODES[next.source.charAt(next.from)];
+            }
+            nodes[2 * k] = bits;
+            nodes[2 * k + 1] = (long) position << 32 | child;
+            for (int i = node.from; i < node.to; i++) {
+                labels[position++] = CODES[node.source.charAt(i)];
+            }
+            child += node.children.size();
+        }
+        nodes[2 * order.size() + 1] = (long) position << 32;
+        return new DomainTrie(labels, nodes, size);
+    }
+
+    /**
+     * Checks if a domain matches a rule. A text that is not a domain, with a char other than a letter, digit, hyphen
+     * or dot, or with an empty label as in {@code ".io"} or {@code "a..io"}, matches no rule, wildcards included.
+     *
+     * @param domain the domain to look up
+     * @return {@code true} if the domain is listed or is a subdomain of a listed wildcard
+     * @throws NullPointerException if the domain is null
+     * @example blocked.matches("Spam.Example.COM"); // true when "*.example.com" is a rule
+     */
+    public boolean matches(CharSequence domain) {
+        Objects.requireNonNull(domain, "Domain cannot be null");
+        return matches(domain, 0, domain.length());
+    }
+
+    /**
+     * Checks if the region {@code [from, to)} of a character sequence is a domain that matches a rule, without
+     * slicing it.
+     *
+     * @param domain the character sequence to read
+     * @param from   the start index, inclusive
+     * @param to     the end index, exclusive
+     * @return {@code true} if the domain is listed or is a subdomain of a listed wildcard
+     * @throws NullPointerException      if the sequence is null
+     * @throws IndexOutOfBoundsException if the region is out of bounds
+     */
+    public boolean matches(CharSequence domain, int from, int to) {
+        Objects.requireNonNull(domain, "Domain cannot be null");
+        Objects.checkFromToIndex(from, to, domain.length());
+        long state = ROOT;
+        boolean listed = false;
+        // a dot read first, last or after another dot leaves an empty label, as checkDomain rejects in a rule
+        boolean labelStart = true;
+        for (int i = to - 1; i >= from; i--) {
+            int code = code(domain.charAt(i));
+            if (code < 0 || code == DOT && labelStart) {
+                return false;
+            }
+            labelStart = code == DOT;
+            if (listed) {
+                // the subdomain under a wildcard is not looked up, only checked
+                continue;
+            }
+            if (code == DOT && (flagsAt(state) & WILDCARD) != 0) {
+                listed = true;
+                continue;
+            }
+            state = step(state, code);
+            if (state == DEAD) {
+                return false;
+            }
+        }
+        return !labelStart && (listed || (flagsAt(state) & EXACT) != 0);
+    }
+
+    /**
+     * Validates an email address and looks up its domain in one pass.
+     *
+     * @param email the address to check
+     * @return {@link #LISTED}, {@link #NOT_LISTED} or {@link #INVALID}
+     * @throws NullPointerException if the address is null
+     * @example allowed.checkEmail("jane@Example.com") == DomainTrie.LISTED; // true when "example.com" is a rule
+     */
+    public int checkEmail(CharSequence email) {
+        Objects.requireNonNull(email, "String cannot be null");
+        return checkEmail(email, 0, email.length());
+    }
+
+    /**
+     * Validates the region {@code [from, to)} of a character sequence as an email address and looks up its domain
+     * in one pass, without slicing it.
+     *
+     * @param email the character sequence to read
+     * @param from  the start index, inclusive
+     * @param to    the end index, exclusive
+     * @return {@link #LISTED}, {@link #NOT_LISTED} or {@link #INVALID}
+     * @throws NullPointerException      if the sequence is null
+     * @throws IndexOutOfBoundsException if the region is out of bounds
+     */
+    public int checkEmail(CharSequence email, int from, int to) {
+        Objects.requireNonNull(email, "String cannot be null");
+        Objects.checkFromToIndex(from, to, email.length());
+        return checkAddress(email, from, to);
+    }
+
+    /**
+     * Validates a range of UTF-8 bytes as an email address and looks up its domain in one pass, without decoding
+     * it. Any non-ASCII byte makes the address invalid, as in {@link EmailValidator#isValid(byte[], int, int)}.
+     *
+     * @param utf8   the bytes to read
+     * @param offset the index of the first byte
+     * @param length the number of bytes
+     * @return {@link #LISTED}, {@link #NOT_LISTED} or {@link #INVALID}
+     * @throws NullPointerException      if the array is null
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    public int checkEmail(byte[] utf8, int offset, int length) {
+        Objects.requireNonNull(utf8, "Bytes cannot be null");
+        Objects.checkFromIndexSize(offset, length, utf8.length);
+        return checkAddress(utf8, offset, offset + length);
+    }
+
+    /**
+     * The single pass behind both {@code checkEmail} overloads, reading the address through
+     * {@link #charAt(Object, int)} so that the grammar is written once.
+     *
+     * @param email a {@code CharSequence} or a {@code byte[]} of UTF-8
+     */
+    private int checkAddress(Object email, int from, int to) {
+        long state = ROOT;
+        boolean listed = false;
+        int completedLabels = 0;
+        int labelLength = 0;
+        boolean lettersOnly = true;
+        int at = to - 1;
+        for (; at >= from; at--) {
+            int c = charAt(email, at);
+            int code = code(c);
+            if (code == DOT) {
+                // the first label read is the last one, which must be two or more letters
+                if (labelLength == 0 || completedLabels == 0 && (labelLength < 2 || !lettersOnly)) {
+                    return INVALID;
+                }
+                completedLabels++;
+                labelLength = 0;
+                if ((flagsAt(state) & WILDCARD) != 0) {
+                    listed = true;
+                    state = DEAD;
+                }
+            } else if (code >= 0) {
+                labelLength++;
+                lettersOnly &= code >= LETTER_A;
+            } else if (c == '@') {
+                break;
+            } else {
+                return INVALID;
+            }
+            if (state != DEAD) {
+                state = step(state, code);
+            }
+        }
+        if (at < from || labelLength == 0 || completedLabels == 0 || charAt(email, at + 1) == '-') {
+            return INVALID;
+        }
+        for (int i = at - 1; i >= from; i--) {
+            if (!EmailValidator.isLocalPartChar(charAt(email, i))) {
+                return INVALID;
+            }
+        }
+        if (at == from || charAt(email, from) == '-') {
+            return INVALID;
+        }
+        return listed || (flagsAt(state) & EXACT) != 0 ? LISTED : NOT_LISTED;
+    }
+
+    /**
+     * @return the char at the index of a {@code CharSequence}, or of a {@code byte[]} read one char per byte, so
+     * that a non-ASCII byte is a char no rule of the grammar accepts
+     */
+    private static int charAt(Object email, int index) {
+        return email instanceof byte[] ? ((byte[]) email)[index] & 0xFF : ((CharSequence) email).charAt(index);
+    }
+
+    /**
+     * @return the number of rules, counting a domain listed both exactly and as a wildcard twice
+     */
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public String toString() {
+        return "DomainTrie{rules=" + size + ", nodes=" + (nodes.length / 2 - 1) + ", labelBytes=" + labels.length
+                + "}";
+    }
+
+    /**
+     * The position in the trie is packed into a long: the node in the high half and, in the low half, the index in
+     * {@link #labels} of the next char of the node's label, which is the end of the label once it is read.
+     *
+     * @return the position after reading the {@link #code(int)} of one more char of the reversed domain, or
+     * {@link #DEAD} if no rule goes on with it
+     */
+    private long step(long state, int code) {
+        int node = (int) (state >>> 32);
+        int position = (int) state;
+        if (position < labelEnd(node)) {
+            return labels[position] == code ? state + 1 : DEAD;
+        }
+        long bits = nodes[2 * node];
+        long bit = 1L << code;
+        if ((bits & bit) == 0) {
+            return DEAD;
+        }
+        int child = (int) nodes[2 * node + 1] + Long.bitCount(bits & bit - 1);
+        return (long) child << 32 | (int) (nodes[2 * child + 1] >>> 32) + 1;
+    }
+
+    /**
+     * @return the number of a domain char in sort order, the same for both cases of a letter, or -1 for any other
+     * char
+     */
+    private static int code(int c) {
+        return c < 128 ? CODES[c] : -1;
+    }
+
+    /**
+     * @return the rules ending at the position, or 0 when it is inside a label
+     */
+    private int flagsAt(long state) {
+        if (state == DEAD) {
+            return 0;
+        }
+        int node = (int) (state >>> 32);
+        return (int) state == labelEnd(node) ? (int) (nodes[2 * node] >>> FLAGS_SHIFT) : 0;
+    }
+
+    /**
+     * @return the end of the node's label, which is the start of the next node's
+     */
+    private int labelEnd(int node) {
+        return (int) (nodes[2 * node + 3] >>> 32);
+    }
+
+    /**
+     * A node of the trie while it is built, labelled with the chars {@code [from, to)} of a reversed domain.
+     */
+    private static final class Node {
+        final String source;
+        final int from;
+        final int to;
+        final List<Node> children = new ArrayList<>();
+        int flags;
+
+        Node(String source, int from, int to) {
+            this.source = source;
+            this.from = from;
+            this.to = to;
+        }
+    }
+}
@@ -0,0 +1,265 @@
+package com.linbrox.common;
+
+import java.nio.ByteBuffer;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Linear-time email validator accepting exactly the inputs matched by {@link StringUtils#EMAIL_FORMAT_PATTERN}.
+ * <p>
+ * The address is read once, left to right, without backtracking and without allocating: a local part of
+ * {@code [\w.!#$%&'*+/=?^_`{|}~-]} characters that does not start with {@code -}, a single {@code @}, then a
+ * domain of at least two dot-separated {@code [A-Za-z0-9-]} labels that does not start with {@code -} and whose
+ * last label is two or more letters.
+ * <p>
+ * The byte overloads validate UTF-8 input in place. The accepted language is pure ASCII, so any byte with the
+ * high bit set (that is, any part of a multi-byte sequence) rejects the address.
+ */
+public final class EmailValidator {
+
+    private static final String LOCAL_PART_SYMBOLS = ".!#$%&'*+/=?^_`{|}~-";
+    private static final long LOCAL_PART_LOW;
+    private static final long LOCAL_PART_HIGH;
+
+    static {
+        long low = 0L;
+        long high = 0L;
+        for (int c = 0; c < 128; c++) {
+            if (AsciiScanner.isLetterOrDigit(c) || LOCAL_PART_SYMBOLS.indexOf(c) >= 0) {
+                if (c < 64) {
+                    low |= 1L << c;
+                } else {
+                    high |= 1L << (c - 64);
+                }
+            }
+        }
+        LOCAL_PART_LOW = low;
+        LOCAL_PART_HIGH = high;
+    }
+
+    private EmailValidator() {
+    }
+
+    /**
+     * Checks if a character sequence is a valid email address.
+     *
+     * @param str the character sequence to check
+     * @return {@code true} if the sequence is a valid email, {@code false} otherwise
+     * @throws NullPointerException if the sequence is null
+     * @example EmailValidator.isValid("example@example.com"); // returns true
+     * EmailValidator.isValid("example@-example.com"); // returns false
+     */
+    public static boolean isValid(CharSequence str) {
+        Objects.requireNonNull(str, "String cannot be null");
+        return isValid(str, 0, str.length());
+    }
+
+    /**
+     * Checks if the region {@code [from, to)} of a character sequence is a valid email address.
+     *
+     * @param str  the character sequence to check
+     * @param from the start index, inclusive
+     * @param to   the end index, exclusive
+     * @return {@code true} if the region is a valid email, {@code false} otherwise
+     * @throws NullPointerException      if the sequence is null
+     * @throws IndexOutOfBoundsException if the region is out of bounds
+     * @example EmailValidator.isValid("to:x@example.com", 3, 16); // returns true
+     */
+    public static boolean isValid(CharSequence str, int from, int to) {
+        Objects.requireNonNull(str, "String cannot be null");
+        Objects.checkFromToIndex(from, to, str.length());
+        if (from == to || str.charAt(from) == '-') {
+            return false;
+        }
+        int i = from;
+        while (i < to && isLocalPartChar(str.charAt(i))) {
+            i++;
+        }
+        if (i == from || i == to || str.charAt(i) != '@') {
+            return false;
+        }
+        i++;
+        if (i == to || str.charAt(i) == '-') {
+            return false;
+        }
+        int completedLabels = 0;
+        int labelLength = 0;
+        boolean lettersOnly = true;
+        for (; i < to; i++) {
+            char c = str.charAt(i);
+            if (c == '.') {
+                if (labelLength == 0) {
+                    return false;
+                }
+                completedLabels++;
+                labelLength = 0;
+                lettersOnly = true;
+            } else if (AsciiScanner.isLetter(c)) {
+                labelLength++;
+            } else if (AsciiScanner.isDigit(c) || c == '-') {
+                labelLength++;
+                lettersOnly = false;
+            } else {
+                return false;
+            }
+        }
+        return completedLabels > 0 && labelLength >= 2 && lettersOnly;
+    }
+
+    /**
+     * Checks if a range of UTF-8 bytes is a valid email address, without decoding it.
+     *
+     * @param utf8   the bytes to check
+     * @param offset the index of the first byte
+     * @param length the number of bytes
+     * @return {@code true} if the bytes are a valid email, {@code false} otherwise
+     * @throws NullPointerException      if the array is null
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     * @example EmailValidator.isValid("a@b.co".getBytes(UTF_8), 0, 6); // returns true
+     */
+    public static boolean isValid(byte[] utf8, int offset, int length) {
+        Objects.requireNonNull(utf8, "Bytes cannot be null");
+        Objects.checkFromIndexSize(offset, length, utf8.length);
+        int to = offset + length;
+        if (length == 0 || utf8[offset] == '-') {
+            return false;
+        }
+        int i = offset;
+        while (i < to && isLocalPartChar(utf8[i] & 0xFF)) {
+            i++;
+        }
+        if (i == offset || i == to || utf8[i] != '@') {
+            return false;
+        }
+        i++;
+        if (i == to || utf8[i] == '-') {
+            return false;
+        }
+        int completedLabels = 0;
+        int labelLength = 0;
+        boolean lettersOnly = true;
+        for (; i < to; i++) {
+            byte b = utf8[i];
+            if (b == '.') {
+                if (labelLength == 0) {
+                    return false;
+                }
+                completedLabels++;
+                labelLength = 0;
+                lettersOnly = true;
+            } else if (AsciiScanner.isLetter(b)) {
+                labelLength++;
+            } else if (AsciiScanner.isDigit(b) || b == '-') {
+                labelLength++;
+                lettersOnly = false;
+            } else {
+                return false;
+            }
+        }
+        return completedLabels > 0 && labelLength >= 2 && lettersOnly;
+    }
+
+    /**
+     * Checks if the remaining UTF-8 bytes of a buffer are a valid email address, without decoding them.
+     * The buffer's position and limit are left untouched.
+     *
+     * @param utf8 the heap or direct buffer to check between its position and limit
+     * @return {@code true} if the bytes are a valid email, {@code false} otherwise
+     * @throws NullPointerException if the buffer is null
+     * @example EmailValidator.isValid(ByteBuffer.wrap("a@b.co".getBytes(UTF_8))); // returns true
+     */
+    public static boolean isValid(ByteBuffer utf8) {
+        Objects.requireNonNull(utf8, "Buffer cannot be null");
+        return isValid(utf8, utf8.position(), utf8.limit());
+    }
+
+    static boolean isValid(ByteBuffer utf8, int from, int to) {
+        if (utf8.hasArray()) {
+            return isValid(utf8.array(), utf8.arrayOffset() + from, to - from);
+        }
+        if (from == to || utf8.get(from) == '-') {
+            return false;
+        }
+        int i = from;
+        while (i < to && isLocalPartChar(utf8.get(i) & 0xFF)) {
+            i++;
+        }
+        if (i == from || i == to || utf8.get(i) != '@') {
+            return false;
+        }
+        i++;
+        if (i == to || utf8.get(i) == '-') {
+            return false;
+        }
+        int completedLabels = 0;
+        int labelLength = 0;
+        boolean lettersOnly = true;
+        for (; i < to; i++) {
+            byte b = utf8.get(i);
+            if (b == '.') {
+                if (labelLength == 0) {
+                    return false;
+                }
+                completedLabels++;
+                labelLength = 0;
+                lettersOnly = true;
+            } else if (AsciiScanner.isLetter(b)) {
+                labelLength++;
+            } else if (AsciiScanner.isDigit(b) || b == '-') {
+                labelLength++;
+                lettersOnly = false;
+            } else {
+                return false;
+            }
+        }
+        return completedLabels > 0 && labelLength >= 2 && lettersOnly;
+    }
+
+    /**
+     * Validates every address of a list.
+     *
+     * @param values the addresses to check
+     * @return a {@link BitSet} in which bit {@code i} is set when {@code values.get(i)} is a valid email
+     * @throws NullPointerException if the list or any of its elements is null
+     * @example EmailValidator.validateAll(List.of("a@b.com", "nope")); // returns {0}
+     */
+    public static BitSet validateAll(List<? extends CharSequence> values) {
+        Objects.requireNonNull(values, "List cannot be null");
+        BitSet result = new BitSet(values.size());
+        int index = 0;
+        for (CharSequence value : values) {
+            if (isValid(Objects.requireNonNull(value, "String cannot be null"))) {
+                result.set(index);
+            }
+            index++;
+        }
+        return result;
+    }
+
+    /**
+     * Validates every address of an array.
+     *
+     * @param values the addresses to check
+     * @return a {@link BitSet} in which bit {@code i} is set when {@code values[i]} is a valid email
+     * @throws NullPointerException if the array or any of its elements is null
+     * @example EmailValidator.validateAll(new String[]{"nope", "a@b.com"}); // returns {1}
+     */
+    public static BitSet validateAll(CharSequence[] values) {
+        Objects.requireNonNull(values, "Array cannot be null");
+        BitSet result = new BitSet(values.length);
+        for (int i = 0; i < values.length; i++) {
+            if (isValid(Objects.requireNonNull(values[i], "String cannot be null"))) {
+                result.set(i);
+            }
+        }
+        return result;
+    }
+
+    static boolean isLocalPartChar(int c) {
+        if (c < 64) {
+            return (LOCAL_PART_LOW & (1L << c)) != 0;
+        }
+        return c < 128 && (LOCAL_PART_HIGH & (1L << (c - 64))) != 0;
+    }
+}
@@ -0,0 +1,30 @@
+package com.linbrox.common;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A utility call that rejected its input or threw. Failures can be as frequent as calls, so no stack trace is taken.
+ */
+@Name("com.linbrox.common.FailedCall")
+@Label("Failed Utility Call")
+@Category({"Linbrox", "Common"})
+@Description("A call to an instrumented utility that rejected its input or threw")
+@StackTrace(false)
+final class FailedCallEvent extends Event {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Input Length")
+    @Description("The length of the input, or -1 if it is not a character sequence")
+    int inputLength;
+
+    @Label("Error")
+    @Description("The class of the exception thrown, or \"rejected\" if the input was rejected")
+    String error;
+}
@@ -0,0 +1,254 @@
+package com.linbrox.common;
+
+import java.math.BigInteger;
+
+/**
+ * Decimal to {@code double} conversion that produces the same bits as {@link Double#parseDouble(String)} without
+ * creating a String.
+ * <p>
+ * Up to 19 significant digits are accumulated into a {@code long}. Values that are exactly representable take
+ * Clinger's fast path (one multiplication or division by an exact power of ten); the others go through the
+ * Eisel-Lemire algorithm, which multiplies by a 128-bit truncated power of five and proves from the discarded
+ * bits that the rounding is correct. Longer inputs are converted twice, with the truncated mantissa and with it
+ * plus one, and accepted when both agree. Whatever cannot be decided this way, as well as the rarely used
+ * {@code NaN}, {@code Infinity}, hexadecimal and {@code f}/{@code d} suffixed forms, is handed to the JDK.
+ */
+final class FastDoubleParser {
+
+    /**
+     * Returned by {@link #parseBits} when {@link Double#parseDouble(String)} would reject the text.
+     */
+    static final long INVALID = 0x7FF8_0000_0000_0001L;
+    /**
+     * Returned by {@link #parseBits} when the text must be converted by {@link Double#parseDouble(String)}.
+     */
+    static final long DEFER = 0x7FF8_0000_0000_0002L;
+
+    private static final int SMALLEST_POWER_OF_FIVE = -342;
+    private static final int LARGEST_POWER_OF_FIVE = 308;
+    private static final long INFINITY_BITS = 0x7FF0_0000_0000_0000L;
+    private static final long SIGN_BIT = 0x8000_0000_0000_0000L;
+    private static final int EXPONENT_CAP = 100_000;
+    private static final double[] EXACT_POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private FastDoubleParser() {
+    }
+
+    static double parseDouble(CharSequence str, int from, int to) {
+        long bits = parseBits(str, from, to);
+        if (bits == INVALID || bits == DEFER) {
+            return Double.parseDouble(str.subSequence(from, to).toString());
+        }
+        return Double.longBitsToDouble(bits);
+    }
+
+    /**
+     * Parses {@code [from, to)} and returns the raw bits of the {@code double}, {@link #INVALID} or {@link #DEFER}.
+     * Both markers are NaN payloads that the conversion itself never produces.
+     */
+    static long parseBits(CharSequence str, int from, int to) {
+        int i = AsciiScanner.trimStart(str, from, to);
+        int end = AsciiScanner.trimEnd(str, i, to);
+        if (i == end) {
+            return INVALID;
+        }
+        boolean negative = false;
+        char c = str.charAt(i);
+        if (c == '-' || c == '+') {
+            negative = c == '-';
+            if (++i == end) {
+                return INVALID;
+            }
+            c = str.charAt(i);
+        }
+        if (c == 'N' || c == 'I' || (c == '0' && i + 1 < end && (str.charAt(i + 1) | 0x20) == 'x')) {
+            return DEFER;
+        }
+        long mantissa = 0;
+        int digits = 0;
+        long exponent = 0;
+        boolean sawDigit = false;
+        boolean truncated = false;
+        for (; i < end && AsciiScanner.isDigit(c = str.charAt(i)); i++) {
+            sawDigit = true;
+            int digit = c - '0';
+            if (digits < 19) {
+                mantissa = mantissa * 10 + digit;
+                if (mantissa != 0) {
+                    digits++;
+                }
+            } else {
+                exponent++;
+                truncated |= digit != 0;
+            }
+        }
+        if (i < end && str.charAt(i) == '.') {
+            for (i++; i < end && AsciiScanner.isDigit(c = str.charAt(i)); i++) {
+                sawDigit = true;
+                int digit = c - '0';
+                if (digits < 19) {
+                    mantissa = mantissa * 10 + digit;
+                    if (mantissa != 0) {
+                        digits++;
+                    }
+                    exponent--;
+                } else {
+                    truncated |= digit != 0;
+                }
+            }
+        }
+        if (!sawDigit) {
+            return INVALID;
+        }
+        if (i < end && ((c = str.charAt(i)) == 'e' || c == 'E')) {
+            boolean negativeExponent = false;
+            if (++i < end && ((c = str.charAt(i)) == '-' || c == '+')) {
+                negativeExponent = c == '-';
+                i++;
+            }
+            int start = i;
+            int value = 0;
+            for (; i < end && AsciiScanner.isDigit(c = str.charAt(i)); i++) {
+                if (value < EXPONENT_CAP) {
+                    value = value * 10 + (c - '0');
+                }
+            }
+            if (i == start) {
+                return INVALID;
+            }
+            if (value >= EXPONENT_CAP) {
+                return DEFER;
+            }
+            exponent += negativeExponent ? -value : value;
+        }
+        if (i < end) {
+            c = str.charAt(i);
+            return i + 1 == end && (c == 'f' || c == 'F' || c == 'd' || c == 'D') ? DEFER : INVALID;
+        }
+        long bits = toBits(mantissa, exponent, truncated);
+        return negative && bits != DEFER ? bits | SIGN_BIT : bits;
+    }
+
+    private static long toBits(long mantissa, long exponent, boolean truncated) {
+        if (mantissa == 0) {
+            return 0L;
+        }
+        if (truncated) {
+            long lower = eiselLemire(mantissa, exponent);
+            return lower != DEFER && lower == eiselLemire(mantissa + 1, exponent) ? lower : DEFER;
+        }
+        if (exponent >= -22 && exponent <= 22 && mantissa >= 0 && mantissa <= 1L << 53) {
+            double value = mantissa;
+            value = exponent < 0
+                    ? value / EXACT_POWERS_OF_TEN[(int) -exponent]
+                    : value * EXACT_POWERS_OF_TEN[(int) exponent];
+            return Double.doubleToRawLongBits(value);
+        }
+        return eiselLemire(mantissa, exponent);
+    }
+
+    /**
+     * Converts {@code w * 10^q}, with {@code w} an unsigned non-zero 64-bit value, to the bits of the nearest
+     * {@code double}, or returns {@link #DEFER} when the truncated product cannot prove the rounding.
+     */
+    private static long eiselLemire(long w, long q) {
+        if (q < SMALLEST_POWER_OF_FIVE) {
+            return 0L;
+        }
+        if (q > LARGEST_POWER_OF_FIVE) {
+            return INFINITY_BITS;
+        }
+        int power = (int) q;
+        int leadingZeros = Long.numberOfLeadingZeros(w);
+        w <<= leadingZeros;
+        int index = 2 * (power - SMALLEST_POWER_OF_FIVE);
+        long[] table = PowersOfFive.TABLE;
+        long high = unsignedMultiplyHigh(w, table[index]);
+        long low = w * table[index];
+        if ((high & 0x1FF) == 0x1FF) {
+            long secondHigh = unsignedMultiplyHigh(w, table[index + 1]);
+            low += secondHigh;
+            if (Long.compareUnsigned(secondHigh, low) > 0) {
+                high++;
+            }
+        }
+        if (low == -1L && (power < -27 || power > 55)) {
+            return DEFER;
+        }
+        int upperBit = (int) (high >>> 63);
+        long significand = high >>> (upperBit + 9);
+        int binaryExponent = (((152170 + 65536) * power) >> 16) + 63 + upperBit - leadingZeros + 1023;
+        if (binaryExponent <= 0) {
+            if (-binaryExponent + 1 >= 64) {
+                return 0L;
+            }
+            significand >>>= -binaryExponent + 1;
+            significand += significand & 1;
+            significand >>>= 1;
+            binaryExponent = significand < 1L << 52 ? 0 : 1;
+            return significand | ((long) binaryExponent << 52);
+        }
+        if ((low == 0 || low == 1) && power >= -4 && power <= 23 && (significand & 3) == 1
+                && (significand << (upperBit + 9)) == high) {
+            significand &= ~1L;
+        }
+        significand += significand & 1;
+        significand >>>= 1;
+        if (significand >= 2L << 52) {
+            significand = 1L << 52;
+            binaryExponent++;
+        }
+        significand &= ~(1L << 52);
+        if (binaryExponent >= 0x7FF) {
+            return INFINITY_BITS;
+        }
+        return significand | ((long) binaryExponent << 52);
+    }
+
+    private static long unsignedMultiplyHigh(long x, long y) {
+        return Math.multiplyHigh(x, y) + ((x >> 63) & y) + ((y >> 63) & x);
+    }
+
+    /**
+     * 128-bit approximations of {@code 5^q} for {@code q} in [-342, 308], normalised so the top bit is set: two
+     * longs per power, high word first. Built on first use so that callers staying on the exact fast path never
+     * pay for it.
+     */
+    private static final class PowersOfFive {
+
+        static final long[] TABLE = build();
+
+        private static long[] build() {
+            long[] table = new long[2 * (LARGEST_POWER_OF_FIVE - SMALLEST_POWER_OF_FIVE + 1)];
+            BigInteger five = BigInteger.valueOf(5);
+            BigInteger limit = BigInteger.ONE.shiftLeft(128);
+            int index = 0;
+            for (int q = SMALLEST_POWER_OF_FIVE; q < 0; q++) {
+                BigInteger power = five.pow(-q);
+                int z = power.bitLength();
+                int b = q >= -27 ? z + 127 : 2 * z + 128;
+                BigInteger c = BigInteger.ONE.shiftLeft(b).divide(power).add(BigInteger.ONE);
+                while (c.compareTo(limit) >= 0) {
+                    c = c.shiftRight(1);
+                }
+                index = store(table, index, c);
+            }
+            for (int q = 0; q <= LARGEST_POWER_OF_FIVE; q++) {
+                BigInteger power = five.pow(q);
+                int bits = power.bitLength();
+                power = bits < 128 ? power.shiftLeft(128 - bits) : power.shiftRight(bits - 128);
+                index = store(table, index, power);
+            }
+            return table;
+        }
+
+        private static int store(long[] table, int index, BigInteger value) {
+            table[index] = value.shiftRight(64).longValue();
+            table[index + 1] = value.longValue();
+            return index + 2;
+        }
+    }
+}
@@ -0,0 +1,413 @@
+package com.linbrox.common;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+/**
+ * Immutable fixed-point decimal stored as an unscaled {@code long} and a scale between 0 and {@link #MAX_SCALE},
+ * worth {@code unscaledValue / 10^scale}.
+ * <p>
+ * It is a compact alternative to {@link BigDecimal} for prices and amounts: parsing reads the digits straight into
+ * the {@code long} and arithmetic stays on primitives. Nothing is ever rounded; an operation whose exact result
+ * does not fit throws {@link ArithmeticException}, which is the signal to redo that computation with
+ * {@link #toBigDecimal()}. Like {@link BigDecimal}, {@link #equals(Object)} takes the scale into account while
+ * {@link #compareTo(FixedDecimal)} compares numeric values only.
+ */
+public final class FixedDecimal implements Comparable<FixedDecimal> {
+
+    /**
+     * The largest supported scale: 18 fractional digits.
+     */
+    public static final int MAX_SCALE = 18;
+
+    public static final FixedDecimal ZERO = new FixedDecimal(0, 0);
+
+    private static final long[] POWERS_OF_TEN = {
+            1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L, 1_000_000_000L,
+            10_000_000_000L, 100_000_000_000L, 1_000_000_000_000L, 10_000_000_000_000L, 100_000_000_000_000L,
+            1_000_000_000_000_000L, 10_000_000_000_000_000L, 100_000_000_000_000_000L, 1_000_000_000_000_000_000L
+    };
+
+    private final long unscaled;
+    private final int scale;
+
+    private FixedDecimal(long unscaled, int scale) {
+        this.unscaled = unscaled;
+        this.scale = scale;
+    }
+
+    /**
+     * Creates a decimal worth {@code unscaled / 10^scale}.
+     *
+     * @param unscaled the unscaled value
+     * @param scale    the number of fractional digits, between 0 and {@link #MAX_SCALE}
+     * @return the decimal
+     * @throws IllegalArgumentException if the scale is out of range
+     * @example FixedDecimal.of(1999, 2); // 19.99
+     */
+    public static FixedDecimal of(long unscaled, int scale) {
+        if (scale < 0 || scale > MAX_SCALE) {
+            throw new IllegalArgumentException("Scale must be between 0 and " + MAX_SCALE);
+        }
+        return new FixedDecimal(unscaled, scale);
+    }
+
+    /**
+     * Converts a {@link BigDecimal} without losing precision.
+     *
+     * @param value the value to convert
+     * @return the equal decimal, with the same scale clamped to between 0 and {@link #MAX_SCALE}, less any trailing
+     * zeros that do not fit, as in {@link #parse(CharSequence)}
+     * @throws NullPointerException if the value is null
+     * @throws ArithmeticException  if the value cannot be represented exactly
+     * @example FixedDecimal.valueOf(new BigDecimal("19.99")); // 19.99
+     */
+    public static FixedDecimal valueOf(BigDecimal value) {
+        Objects.requireNonNull(value, "BigDecimal cannot be null");
+        if (value.signum() == 0) {
+            return new FixedDecimal(0, Math.max(0, Math.min(value.scale(), MAX_SCALE)));
+        }
+        // checked first so that huge exponents never reach setScale
+        if ((long) value.precision() - value.scale() > 19) {
+            throw new ArithmeticException("Does not fit in a FixedDecimal: " + value);
+        }
+        if (value.scale() > MAX_SCALE) {
+            value = value.stripTrailingZeros();
+            if (value.scale() > MAX_SCALE) {
+                throw new ArithmeticException("Scale of " + value + " exceeds " + MAX_SCALE);
+            }
+            if (value.scale() < 0) {
+                value = value.setScale(0);
+            }
+            // as in parse, the trailing zeros are given back only as far as the unscaled value stays a long
+            return widen(value.unscaledValue().longValueExact(), value.scale(), MAX_SCALE);
+        } else if (value.scale() < 0) {
+            value = value.setScale(0);
+        }
+        return new FixedDecimal(value.unscaledValue().longValueExact(), value.scale());
+    }
+
+    /**
+     * Parses the same syntax as {@link BigDecimal#BigDecimal(String)}, with ASCII digits only, without creating any
+     * intermediate object. The scale is the number of fractional digits of the text, except that trailing zeros
+     * that do not fit are dropped, so the value is always exact.
+     *
+     * @param value the text to parse
+     * @return the decimal, with as many fractional digits as the text
+     * @throws NullPointerException  if the text is null
+     * @throws NumberFormatException if the text is not a decimal number
+     * @throws ArithmeticException   if the value cannot be represented exactly
+     * @example FixedDecimal.parse("-12.50"); // unscaled -1250, scale 2
+     */
+    public static FixedDecimal parse(CharSequence value) {
+        Objects.requireNonNull(value, "String cannot be null");
+        return parse(value, 0, value.length());
+    }
+
+    /**
+     * Parses the region {@code [from, to)} of a character sequence, see {@link #parse(CharSequence)}.
+     *
+     * @param value the text to parse
+     * @param from  the start index, inclusive
+     * @param to    the end index, exclusive
+     * @return the decimal
+     * @throws NullPointerException      if the text is null
+     * @throws IndexOutOfBoundsException if the region is out of bounds
+     * @throws NumberFormatException     if the region is not a decimal number
+     * @throws ArithmeticException       if the value cannot be represented exactly
+     * @example FixedDecimal.parse("price=12.50", 6, 11); // 12.50
+     */
+    public static FixedDecimal parse(CharSequence value, int from, int to) {
+        Objects.requireNonNull(value, "String cannot be null");
+        Objects.checkFromToIndex(from, to, value.length());
+        int i = from;
+        boolean negative = false;
+        if (i < to && (value.charAt(i) == '-' || value.charAt(i) == '+')) {
+            negative = value.charAt(i) == '-';
+            i++;
+        }
+        // accumulated negatively so that Long.MIN_VALUE is reachable
+        long accumulator = 0;
+        int digits = 0;
+        int fractionDigits = 0;
+        // fractional zeros are held back until a non-zero digit follows, so that trailing ones can be dropped
+        int pendingZeros = 0;
+        boolean fraction = false;
+        // reported only once the whole text is known to be well formed
+        boolean overflow = false;
+        for (; i < to; i++) {
+            char c = value.charAt(i);
+            if (AsciiScanner.isDigit(c)) {
+                digits++;
+                if (fraction) {
+                    fractionDigits++;
+                    if (c == '0') {
+                        pendingZeros++;
+                        continue;
+                    }
+                }
+                for (; pendingZeros > 0; pendingZeros--) {
+                    overflow |= !canAppend(accumulator, 0);
+                    accumulator *= 10;
+                }
+                overflow |= !canAppend(accumulator, c - '0');
+                accumulator = accumulator * 10 - (c - '0');
+            } else if (c == '.' && !fraction) {
+                fraction = true;
+            } else {
+                break;
+            }
+        }
+        if (digits == 0) {
+            throw invalid(value, from, to);
+        }
+        long exponent = 0;
+        if (i < to) {
+            char c = value.charAt(i);
+            if (c != 'e' && c != 'E') {
+                throw invalid(value, from, to);
+            }
+            exponent = parseExponent(value, i + 1, to, from);
+        }
+        if (overflow || (!negative && accumulator == Long.MIN_VALUE)) {
+            throw overflow(value, from, to);
+        }
+        if (!negative) {
+            accumulator = -accumulator;
+        }
+        long scale = fractionDigits - exponent;
+        return normalise(accumulator, scale - pendingZeros, scale, value, from, to);
+    }
+
+    /**
+     * @return the unscaled value
+     */
+    public long unscaledValue() {
+        return unscaled;
+    }
+
+    /**
+     * @return the number of fractional digits
+     */
+    public int scale() {
+        return scale;
+    }
+
+    /**
+     * @return -1, 0 or 1 as this value is negative, zero or positive
+     */
+    public int signum() {
+        return Long.signum(unscaled);
+    }
+
+    /**
+     * Adds two decimals; the result has the larger of the two scales.
+     *
+     * @param other the value to add
+     * @return the exact sum
+     * @throws ArithmeticException if the sum does not fit
+     */
+    public FixedDecimal add(FixedDecimal other) {
+        int resultScale = Math.max(scale, other.scale);
+        return new FixedDecimal(Math.addExact(rescale(resultScale), other.rescale(resultScale)), resultScale);
+    }
+
+    /**
+     * Subtracts a decimal from this one; the result has the larger of the two scales.
+     *
+     * @param other the value to subtract
+     * @return the exact difference
+     * @throws ArithmeticException if the difference does not fit
+     */
+    public FixedDecimal subtract(FixedDecimal other) {
+        int resultScale = Math.max(scale, other.scale);
+        return new FixedDecimal(Math.subtractExact(rescale(resultScale), other.rescale(resultScale)), resultScale);
+    }
+
+    /**
+     * Multiplies two decimals; the result has the sum of the two scales, less any trailing zeros needed to keep it
+     * within {@link #MAX_SCALE}.
+     *
+     * @param other the value to multiply by
+     * @return the exact product
+     * @throws ArithmeticException if the product does not fit
+     */
+    public FixedDecimal multiply(FixedDecimal other) {
+        long product = Math.multiplyExact(unscaled, other.unscaled);
+        int resultScale = scale + other.scale;
+        while (resultScale > MAX_SCALE && product % 10 == 0) {
+            product /= 10;
+            resultScale--;
+        }
+        if (resultScale > MAX_SCALE) {
+            throw new ArithmeticException("Scale of product exceeds " + MAX_SCALE);
+        }
+        return new FixedDecimal(product, resultScale);
+    }
+
+    /**
+     * @return the negated value
+     * @throws ArithmeticException if the value is {@code Long.MIN_VALUE} unscaled
+     */
+    public FixedDecimal negate() {
+        return new FixedDecimal(Math.negateExact(unscaled), scale);
+    }
+
+    /**
+     * Compares numeric values, ignoring the scale: {@code 1.5} and {@code 1.50} compare as equal.
+     *
+     * @param other the value to compare to
+     * @return a negative number, zero or a positive number as this value is less than, equal to or greater than
+     * the other
+     */
+    @Override
+    public int compareTo(FixedDecimal other) {
+        if (scale == other.scale) {
+            return Long.compare(unscaled, other.unscaled);
+        }
+        if (scale < other.scale) {
+            return compareRescaled(unscaled, other.scale - scale, other.unscaled);
+        }
+        return -compareRescaled(other.unscaled, scale - other.scale, unscaled);
+    }
+
+    /**
+     * @return the equal {@link BigDecimal}, with the same unscaled value and scale
+     */
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(unscaled, scale);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof FixedDecimal)) {
+            return false;
+        }
+        FixedDecimal that = (FixedDecimal) o;
+        return unscaled == that.unscaled && scale == that.scale;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(unscaled) + scale;
+    }
+
+    /**
+     * @return the value in plain notation, as {@link BigDecimal#toPlainString()} would print it
+     */
+    @Override
+    public String toString() {
+        if (scale == 0) {
+            return Long.toString(unscaled);
+        }
+        StringBuilder text = new StringBuilder(22);
+        if (unscaled < 0) {
+            text.append('-');
+        }
+        long integral = Math.abs(unscaled / POWERS_OF_TEN[scale]);
+        long fractional = Math.abs(unscaled % POWERS_OF_TEN[scale]);
+        text.append(integral).append('.');
+        for (int i = scale - 1; i > 0 && fractional < POWERS_OF_TEN[i]; i--) {
+            text.append('0');
+        }
+        return text.append(fractional).toString();
+    }
+
+    private long rescale(int targetScale) {
+        return targetScale == scale ? unscaled : Math.multiplyExact(unscaled, POWERS_OF_TEN[targetScale - scale]);
+    }
+
+    /**
+     * Compares {@code value * 10^shift} with {@code other}; an overflowing product is larger in magnitude than any
+     * long, so its sign alone decides.
+     */
+    private static int compareRescaled(long value, int shift, long other) {
+        long high = Math.multiplyHigh(value, POWERS_OF_TEN[shift]);
+        long low = value * POWERS_OF_TEN[shift];
+        if (high != (low >> 63)) {
+            return value < 0 ? -1 : 1;
+        }
+        return Long.compare(low, other);
+    }
+
+    private static boolean canAppend(long accumulator, int digit) {
+        return accumulator > Long.MIN_VALUE / 10 || (accumulator == Long.MIN_VALUE / 10 && digit <= 8);
+    }
+
+    private static long parseExponent(CharSequence value, int i, int to, int from) {
+        boolean negative = false;
+        if (i < to && (value.charAt(i) == '-' || value.charAt(i) == '+')) {
+            negative = value.charAt(i) == '-';
+            i++;
+        }
+        if (i == to) {
+            throw invalid(value, from, to);
+        }
+        long exponent = 0;
+        for (; i < to; i++) {
+            char c = value.charAt(i);
+            if (!AsciiScanner.isDigit(c)) {
+                throw invalid(value, from, to);
+            }
+            exponent = exponent * 10 + (c - '0');
+            if (exponent > Integer.MAX_VALUE) {
+                throw invalid(value, from, to);
+            }
+        }
+        return negative ? -exponent : exponent;
+    }
+
+    /**
+     * Builds {@code unscaled / 10^scale} as close as possible to {@code preferredScale}: trailing zeros are
+     * removed when the scale is too large and added back, while they fit, up to the preferred scale.
+     */
+    private static FixedDecimal normalise(long unscaled, long scale, long preferredScale, CharSequence value,
+                                          int from, int to) {
+        long targetScale = Math.max(0, Math.min(preferredScale, MAX_SCALE));
+        if (unscaled == 0) {
+            return new FixedDecimal(0, (int) targetScale);
+        }
+        while (scale > MAX_SCALE && unscaled % 10 == 0) {
+            unscaled /= 10;
+            scale--;
+        }
+        if (scale > MAX_SCALE) {
+            throw overflow(value, from, to);
+        }
+        if (scale < 0) {
+            if (scale < -MAX_SCALE) {
+                throw overflow(value, from, to);
+            }
+            long high = Math.multiplyHigh(unscaled, POWERS_OF_TEN[(int) -scale]);
+            long low = unscaled * POWERS_OF_TEN[(int) -scale];
+            if (high != (low >> 63)) {
+                throw overflow(value, from, to);
+            }
+            unscaled = low;
+            scale = 0;
+        }
+        return widen(unscaled, (int) scale, targetScale);
+    }
+
+    /**
+     * @return the decimal worth {@code unscaled / 10^scale}, with trailing zeros appended up to the target scale or
+     * for as long as the unscaled value fits
+     */
+    private static FixedDecimal widen(long unscaled, int scale, long targetScale) {
+        for (; scale < targetScale && unscaled >= Long.MIN_VALUE / 10 && unscaled <= Long.MAX_VALUE / 10; scale++) {
+            unscaled *= 10;
+        }
+        return new FixedDecimal(unscaled, scale);
+    }
+
+    private static NumberFormatException invalid(CharSequence value, int from, int to) {
+        return new NumberFormatException("Not a decimal number: \"" + value.subSequence(from, to) + "\"");
+    }
+
+    private static ArithmeticException overflow(CharSequence value, int from, int to) {
+        return new ArithmeticException("Does not fit in a FixedDecimal: \"" + value.subSequence(from, to) + "\"");
+    }
+}
@@ -0,0 +1,414 @@
+package com.linbrox.common;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+
+/**
+ * A hash map whose keys are compared ignoring case, with the semantics of
+ * {@link StringUtils#areStringsEqualIgnoreCase(String, String)}: two keys match when their chars are equal after
+ * {@link Character#toLowerCase(char)}. It serves lookups such as HTTP header names, enum constants or column names
+ * that would otherwise go through {@code map.get(key.toLowerCase())}.
+ * <p>
+ * A lookup takes any {@link CharSequence}, a region of one or a range of UTF-8 bytes, and hashes and compares it in
+ * place with {@link StringUtils#hashCodeIgnoreCase(String)}, so it creates no object; only byte ranges holding
+ * non-ASCII bytes are decoded first. Entries live in parallel arrays of keys, lower-cased keys, hashes and values,
+ * probed linearly from a slot chosen by Fibonacci hashing; a probe ends on the first empty slot, and chars are only
+ * compared where the stored hash and length match.
+ * <p>
+ * A map made by {@link #create()} is mutable and, like {@link java.util.HashMap}, not thread-safe. {@link #freeze()}
+ * copies it into an immutable map sized for reading, at most half full, which can be shared between threads with
+ * no locking: its table is reached through a final field, so any thread that sees the map sees all its entries.
+ *
+ * @param <V> the type of the values
+ */
+public final class IgnoreCaseMap<V> {
+
+    private static final int MAX_CAPACITY = 1 << 30;
+    private static final int FIBONACCI = 0x9E3779B9;
+
+    private final Table table;
+    private final boolean frozen;
+
+    private IgnoreCaseMap(Table table, boolean frozen) {
+        this.table = table;
+        this.frozen = frozen;
+    }
+
+    /**
+     * Creates an empty mutable map.
+     *
+     * @param <V> the type of the values
+     * @return the map
+     * @example IgnoreCaseMap<Integer> columns = IgnoreCaseMap.create();
+     */
+    public static <V> IgnoreCaseMap<V> create() {
+        return create(8);
+    }
+
+    /**
+     * Creates an empty mutable map that holds the given number of entries before it grows.
+     *
+     * @param expectedSize the number of entries expected
+     * @param <V>          the type of the values
+     * @return the map
+     * @throws IllegalArgumentException if the expected size is negative or above {@code 1 << 29}
+     */
+    public static <V> IgnoreCaseMap<V> create(int expectedSize) {
+        if (expectedSize < 0 || expectedSize > MAX_CAPACITY / 2) {
+            throw new IllegalArgumentException("Expected size must be between 0 and 2^29");
+        }
+        return new IgnoreCaseMap<>(new Table(capacityFor(expectedSize, 3)), false);
+    }
+
+    /**
+     * The smallest power of two that holds {@code size} entries without being more than two thirds full, or half
+     * full for a frozen map.
+     */
+    private static int capacityFor(int size, int slotsPerTwoEntries) {
+        long slots = Math.max(8, ((long) size * slotsPerTwoEntries + 1) / 2 + 1);
+        return (int) Math.min(MAX_CAPACITY, Long.highestOneBit(slots - 1) << 1);
+    }
+
+    /**
+     * Associates a value with a key, replacing the value of any key equal to it ignoring case. The key spelling
+     * stored first is kept.
+     *
+     * @param key   the key
+     * @param value the value
+     * @return the value replaced, or {@code null} if there was none
+     * @throws NullPointerException          if the key or the value is null
+     * @throws UnsupportedOperationException if the map is frozen
+     * @throws IllegalStateException         if the map is already at its maximum capacity
+     * @example headers.put("Content-Type", CONTENT_TYPE);
+     */
+    public V put(CharSequence key, V value) {
+        Objects.requireNonNull(key, "Key cannot be null");
+        Objects.requireNonNull(value, "Value cannot be null");
+        checkMutable();
+        String name = key.toString();
+        int hash = CaseFolding.hashCodeIgnoreCase(name);
+        int slot = table.find(name, 0, name.length(), hash);
+        if (slot >= 0) {
+            return table.replace(slot, value);
+        }
+        if (table.size + 1 > table.keys.length / 3 * 2) {
+            if (table.keys.length == MAX_CAPACITY) {
+                throw new IllegalStateException("Map cannot hold more entries");
+            }
+            table.resize(table.keys.length * 2);
+        }
+        table.insert(name, CaseFolding.toLowerCase(name), hash, value);
+        return null;
+    }
+
+    /**
+     * Removes the entry whose key is equal to a key ignoring case.
+     *
+     * @param key the key
+     * @return the value removed, or {@code null} if there was none
+     * @throws NullPointerException          if the key is null
+     * @throws UnsupportedOperationException if the map is frozen
+     */
+    public V remove(CharSequence key) {
+        Objects.requireNonNull(key, "Key cannot be null");
+        checkMutable();
+        int slot = table.find(key, 0, key.length(), CaseFolding.hashCodeIgnoreCase(key, 0, key.length()));
+        return slot < 0 ? null : table.delete(slot);
+    }
+
+    /**
+     * Returns the value of the key equal to a character sequence ignoring case.
+     *
+     * @param key the key to look up
+     * @return the value, or {@code null} if there is none
+     * @throws NullPointerException if the key is null
+     * @example headers.get("content-type"); // the value put under "Content-Type"
+     */
+    public V get(CharSequence key) {
+        Objects.requireNonNull(key, "Key cannot be null");
+        return get(key, 0, key.length());
+    }
+
+    /**
+     * Returns the value of the key equal to the region {@code [from, to)} of a character sequence ignoring case,
+     * without slicing it.
+     *
+     * @param key  the character sequence to read
+     * @param from the start index, inclusive
+     * @param to   the end index, exclusive
+     * @return the value, or {@code null} if there is none
+     * @throws NullPointerException      if the sequence is null
+     * @throws IndexOutOfBoundsException if the region is out of bounds
+     * @example headers.get(line, 0, line.indexOf(':')); // the header of a raw line
+     */
+    public V get(CharSequence key, int from, int to) {
+        Objects.requireNonNull(key, "Key cannot be null");
+        Objects.checkFromToIndex(from, to, key.length());
+        return table.valueAt(table.find(key, from, to, CaseFolding.hashCodeIgnoreCase(key, from, to)));
+    }
+
+    /**
+     * Returns the value of the key equal to a range of UTF-8 bytes ignoring case. ASCII ranges are looked up
+     * without decoding; other ranges are decoded first.
+     *
+     * @param utf8   the bytes to read
+     * @param offset the index of the first byte
+     * @param length the number of bytes
+     * @return the value, or {@code null} if there is none
+     * @throws NullPointerException      if the array is null
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    public V get(byte[] utf8, int offset, int length) {
+        Objects.requireNonNull(utf8, "Bytes cannot be null");
+        Objects.checkFromIndexSize(offset, length, utf8.length);
+        int hash = 0;
+        int negative = 0;
+        for (int i = offset; i < offset + length; i++) {
+            hash = 31 * hash + CaseFolding.toLowerCase((char) (utf8[i] & 0x7F));
+            negative |= utf8[i];
+        }
+        if (negative < 0) {
+            return get(new String(utf8, offset, length, StandardCharsets.UTF_8));
+        }
+        return table.valueAt(table.find(utf8, offset, length, hash));
+    }
+
+    /**
+     * Returns the value of the key equal to a character sequence ignoring case, or a default.
+     *
+     * @param key          the key to look up
+     * @param defaultValue the value returned when the key is absent
+     * @return the value, or the default if there is none
+     * @throws NullPointerException if the key is null
+     */
+    public V getOrDefault(CharSequence key, V defaultValue) {
+        V value = get(key);
+        return value != null ? value : defaultValue;
+    }
+
+    /**
+     * @param key the key to look up
+     * @return {@code true} if a key equal to it ignoring case is present
+     * @throws NullPointerException if the key is null
+     */
+    public boolean containsKey(CharSequence key) {
+        return get(key) != null;
+    }
+
+    /**
+     * @return the number of entries
+     */
+    public int size() {
+        return table.size;
+    }
+
+    /**
+     * @return {@code true} if the map has no entries
+     */
+    public boolean isEmpty() {
+        return table.size == 0;
+    }
+
+    /**
+     * @return {@code true} if the map is immutable
+     */
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    /**
+     * Copies the map into an immutable one that can be shared between threads, at most half full so that probes
+     * stay short. The copy is independent of this map, which stays mutable.
+     *
+     * @return the immutable map, or this map if it is already frozen
+     * @example static final IgnoreCaseMap<Header> HEADERS = builder.freeze();
+     */
+    public IgnoreCaseMap<V> freeze() {
+        if (frozen) {
+            return this;
+        }
+        Table copy = new Table(capacityFor(table.size, 4));
+        table.forEach(copy::insert);
+        return new IgnoreCaseMap<>(copy, true);
+    }
+
+    /**
+     * Calls an action for every entry, in no particular order, with the key as it was first put.
+     *
+     * @param action the action to call
+     * @throws NullPointerException if the action is null
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(BiConsumer<String, ? super V> action) {
+        Objects.requireNonNull(action, "Action cannot be null");
+        table.forEach((key, folded, hash, value) -> action.accept(key, (V) value));
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder out = new StringBuilder("{");
+        forEach((key, value) -> out.append(out.length() > 1 ? ", " : "").append(key).append('=').append(value));
+        return out.append('}').toString();
+    }
+
+    private void checkMutable() {
+        if (frozen) {
+            throw new UnsupportedOperationException("Map is frozen");
+        }
+    }
+
+    /**
+     * The open-addressing table. Next to each key it keeps the key's chars after
+     * {@link Character#toLowerCase(char)}, so a comparison folds only the chars of the probe. A frozen map never
+     * changes its table after construction.
+     */
+    private static final class Table {
+
+        String[] keys;
+        char[][] folded;
+        int[] hashes;
+        Object[] values;
+        int shift;
+        int size;
+
+        Table(int capacity) {
+            allocate(capacity);
+        }
+
+        private void allocate(int capacity) {
+            keys = new String[capacity];
+            folded = new char[capacity][];
+            hashes = new int[capacity];
+            values = new Object[capacity];
+            shift = Integer.numberOfLeadingZeros(capacity) + 1;
+        }
+
+        int home(int hash) {
+            return (hash * FIBONACCI) >>> shift;
+        }
+
+        int find(CharSequence key, int from, int to, int hash) {
+            int mask = keys.length - 1;
+            int length = to - from;
+            for (int slot = home(hash); ; slot = slot + 1 & mask) {
+                char[] stored = folded[slot];
+                if (stored == null) {
+                    return -1;
+                }
+                if (hashes[slot] == hash && stored.length == length && equalsFolded(stored, key, from)) {
+                    return slot;
+                }
+            }
+        }
+
+        int find(byte[] key, int offset, int length, int hash) {
+            int mask = keys.length - 1;
+            for (int slot = home(hash); ; slot = slot + 1 & mask) {
+                char[] stored = folded[slot];
+                if (stored == null) {
+                    return -1;
+                }
+                if (hashes[slot] == hash && stored.length == length && equalsFolded(stored, key, offset)) {
+                    return slot;
+                }
+            }
+        }
+
+        private static boolean equalsFolded(char[] folded, CharSequence key, int from) {
+            for (int i = 0; i < folded.length; i++) {
+                if (CaseFolding.toLowerCase(key.charAt(from + i)) != folded[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static boolean equalsFolded(char[] folded, byte[] key, int offset) {
+            for (int i = 0; i < folded.length; i++) {
+                if (CaseFolding.toLowerCase((char) key[offset + i]) != folded[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @SuppressWarnings("unchecked")
+        <V> V valueAt(int slot) {
+            return slot < 0 ? null : (V) values[slot];
+        }
+
+        @SuppressWarnings("unchecked")
+        <V> V replace(int slot, V value) {
+            V previous = (V) values[slot];
+            values[slot] = value;
+            return previous;
+        }
+
+        void insert(String key, char[] lowerCase, int hash, Object value) {
+            int mask = keys.length - 1;
+            int slot = home(hash);
+            while (keys[slot] != null) {
+                slot = slot + 1 & mask;
+            }
+            keys[slot] = key;
+            folded[slot] = lowerCase;
+            hashes[slot] = hash;
+            values[slot] = value;
+            size++;
+        }
+
+        /**
+         * Empties a slot and shifts back the entries after it that can move closer to their home slot, so that no
+         * probe sequence is broken and no tombstone is needed.
+         */
+        @SuppressWarnings("unchecked")
+        <V> V delete(int slot) {
+            V previous = (V) values[slot];
+            int mask = keys.length - 1;
+            int hole = slot;
+            for (int next = slot + 1 & mask; keys[next] != null; next = next + 1 & mask) {
+                // the entry may fill the hole unless its home slot lies after the hole, up to the entry itself
+                if ((next - home(hashes[next]) & mask) >= (next - hole & mask)) {
+                    keys[hole] = keys[next];
+                    folded[hole] = folded[next];
+                    hashes[hole] = hashes[next];
+                    values[hole] = values[next];
+                    hole = next;
+                }
+            }
+            keys[hole] = null;
+            folded[hole] = null;
+            values[hole] = null;
+            size--;
+            return previous;
+        }
+
+        void resize(int capacity) {
+            String[] oldKeys = keys;
+            char[][] oldFolded = folded;
+            int[] oldHashes = hashes;
+            Object[] oldValues = values;
+            allocate(capacity);
+            size = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != null) {
+                    insert(oldKeys[i], oldFolded[i], oldHashes[i], oldValues[i]);
+                }
+            }
+        }
+
+        void forEach(EntryAction action) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] != null) {
+                    action.accept(keys[i], folded[i], hashes[i], values[i]);
+                }
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface EntryAction {
+        void accept(String key, char[] folded, int hash, Object value);
+    }
+}
@@ -0,0 +1,64 @@
+package com.linbrox.common;
+
+/**
+ * Single-pass validation and conversion behind {@link NumericUtils#parseInt} and {@link NumericUtils#parseLong}.
+ * <p>
+ * The syntax is that of {@link StringUtils#isNumeric(String)}: surrounding whitespace, an optional sign and at
+ * least one ASCII digit. The digits are accumulated negatively, as {@link Long#parseLong(String)} does, so that the
+ * most negative value needs no special case, and a value past the limit keeps being scanned so that a malformed
+ * text is reported as {@link ParseResult#INVALID} rather than {@link ParseResult#OVERFLOW}.
+ */
+final class IntegerParser {
+
+    private IntegerParser() {
+    }
+
+    /**
+     * Parses {@code [from, to)} into the result, accepting values in {@code [min, max]}, and returns its status.
+     */
+    static int parse(CharSequence str, int from, int to, long min, long max, ParseResult result) {
+        int i = AsciiScanner.trimStart(str, from, to);
+        int end = AsciiScanner.trimEnd(str, i, to);
+        long limit = -max;
+        boolean negative = false;
+        if (i < end) {
+            char sign = str.charAt(i);
+            if (sign == '-') {
+                negative = true;
+                limit = min;
+                i++;
+            } else if (sign == '+') {
+                i++;
+            }
+        }
+        if (i == end) {
+            return fail(result, ParseResult.INVALID);
+        }
+        long multiplyLimit = limit / 10;
+        long value = 0;
+        boolean overflow = false;
+        for (; i < end; i++) {
+            int digit = str.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return fail(result, ParseResult.INVALID);
+            }
+            if (value < multiplyLimit || (value *= 10) < limit + digit) {
+                // the value stays below the multiply limit from here on, so the remaining digits are only
+                // validated
+                overflow = true;
+            } else {
+                value -= digit;
+            }
+        }
+        if (overflow) {
+            return fail(result, ParseResult.OVERFLOW);
+        }
+        result.set(negative ? value : -value, ParseResult.VALID);
+        return ParseResult.VALID;
+    }
+
+    private static int fail(ParseResult result, int status) {
+        result.set(0, status);
+        return status;
+    }
+}
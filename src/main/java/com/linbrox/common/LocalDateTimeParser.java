@@ -0,0 +1,224 @@
+package com.linbrox.common;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Objects;
+
+/**
+ * Allocation-free parser for the {@code yyyy-MM-ddTHH:mm[:ss[.fffffffff]]} text accepted by
+ * {@link DateTimeFormatter#ISO_LOCAL_DATE_TIME}.
+ * <p>
+ * It accepts and rejects exactly the same inputs as {@code LocalDateTime.parse(text, ISO_LOCAL_DATE_TIME)}: a
+ * four-digit year, or five to ten digits after a mandatory sign, a {@code T} in either case, optional seconds with
+ * an optional fraction of up to nine digits, and strict field and calendar checks. Instead of building a
+ * {@link LocalDateTime} it reads the digits straight into the local epoch second and nanosecond, which stay
+ * available until the next call. Failures are reported by a result code rather than an exception.
+ * <p>
+ * An instance is reusable but not thread-safe; keep one per thread.
+ */
+public final class LocalDateTimeParser {
+
+    /**
+     * The text was parsed.
+     */
+    public static final int OK = 0;
+    /**
+     * The text does not have the {@code yyyy-MM-ddTHH:mm[:ss[.fffffffff]]} shape.
+     */
+    public static final int MALFORMED = 1;
+    /**
+     * The text has the right shape but a field is out of range or the date does not exist, as in
+     * {@code 2023-02-29T00:00}.
+     */
+    public static final int INVALID_VALUE = 2;
+
+    private static final long MAX_YEAR = 999_999_999L;
+    private static final long DAYS_0000_TO_1970 = 719_528L;
+    private static final int SECONDS_PER_DAY = 86_400;
+
+    private long epochSecond;
+    private int nano;
+
+    /**
+     * Parses a whole character sequence.
+     *
+     * @param text the text to parse
+     * @return {@link #OK}, {@link #MALFORMED} or {@link #INVALID_VALUE}
+     * @throws NullPointerException if the text is null
+     * @example new LocalDateTimeParser().parse("2023-10-12T07:20:50"); // returns OK
+     */
+    public int parse(CharSequence text) {
+        Objects.requireNonNull(text, "String cannot be null");
+        return parse(text, 0, text.length());
+    }
+
+    /**
+     * Parses the region {@code [from, to)} of a character sequence.
+     *
+     * @param text the text to parse
+     * @param from the start index, inclusive
+     * @param to   the end index, exclusive
+     * @return {@link #OK}, {@link #MALFORMED} or {@link #INVALID_VALUE}
+     * @throws NullPointerException      if the text is null
+     * @throws IndexOutOfBoundsException if the region is out of bounds
+     * @example new LocalDateTimeParser().parse("at=2023-10-12T07:20;", 3, 19); // returns OK
+     */
+    public int parse(CharSequence text, int from, int to) {
+        Objects.requireNonNull(text, "String cannot be null");
+        Objects.checkFromToIndex(from, to, text.length());
+        int i = from;
+        if (i == to) {
+            return MALFORMED;
+        }
+        char c = text.charAt(i);
+        boolean negative = c == '-';
+        boolean positive = c == '+';
+        if (negative || positive) {
+            i++;
+        }
+        int yearStart = i;
+        int yearEnd = Math.min(to, yearStart + 10);
+        long year = 0;
+        for (; i < yearEnd && AsciiScanner.isDigit(c = text.charAt(i)); i++) {
+            year = year * 10 + (c - '0');
+        }
+        int yearDigits = i - yearStart;
+        // the sign is mandatory beyond four digits, forbidden up to four, and -0000 is rejected
+        if (yearDigits < 4 || (negative ? year == 0 : positive == yearDigits <= 4)) {
+            return MALFORMED;
+        }
+        if (negative) {
+            year = -year;
+        }
+        if (!isChar(text, i, to, '-')) {
+            return MALFORMED;
+        }
+        int month = twoDigits(text, i + 1, to);
+        if (month < 0 || !isChar(text, i + 3, to, '-')) {
+            return MALFORMED;
+        }
+        int day = twoDigits(text, i + 4, to);
+        if (day < 0 || i + 6 >= to || (text.charAt(i + 6) | 0x20) != 't') {
+            return MALFORMED;
+        }
+        int hour = twoDigits(text, i + 7, to);
+        if (hour < 0 || !isChar(text, i + 9, to, ':')) {
+            return MALFORMED;
+        }
+        int minute = twoDigits(text, i + 10, to);
+        if (minute < 0) {
+            return MALFORMED;
+        }
+        i += 12;
+        int second = 0;
+        int fraction = 0;
+        if (i < to) {
+            if (text.charAt(i) != ':' || (second = twoDigits(text, i + 1, to)) < 0) {
+                return MALFORMED;
+            }
+            i += 3;
+            if (i < to) {
+                if (text.charAt(i) != '.') {
+                    return MALFORMED;
+                }
+                int fractionEnd = Math.min(to, ++i + 9);
+                int scale = 1_000_000_000;
+                for (; i < fractionEnd && AsciiScanner.isDigit(c = text.charAt(i)); i++) {
+                    scale /= 10;
+                    fraction += (c - '0') * scale;
+                }
+                if (i < to) {
+                    return MALFORMED;
+                }
+            }
+        }
+        if (year < -MAX_YEAR || year > MAX_YEAR || month < 1 || month > 12 || day < 1
+                || day > lengthOfMonth(year, month) || hour > 23 || minute > 59 || second > 59) {
+            return INVALID_VALUE;
+        }
+        epochSecond = epochDay(year, month, day) * SECONDS_PER_DAY + hour * 3600 + minute * 60 + second;
+        nano = fraction;
+        return OK;
+    }
+
+    /**
+     * @return the local date-time of the last successful parse as seconds since {@code 1970-01-01T00:00}, the
+     * value of {@code LocalDateTime.toEpochSecond(ZoneOffset.UTC)}
+     */
+    public long epochSecond() {
+        return epochSecond;
+    }
+
+    /**
+     * @return the nanosecond of second of the last successful parse
+     */
+    public int nano() {
+        return nano;
+    }
+
+    /**
+     * @return the date of the last successful parse as days since {@code 1970-01-01}
+     */
+    public long epochDay() {
+        return Math.floorDiv(epochSecond, SECONDS_PER_DAY);
+    }
+
+    /**
+     * @return the last successful parse as a {@link LocalDateTime}
+     */
+    public LocalDateTime toLocalDateTime() {
+        return LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC);
+    }
+
+    private static boolean isChar(CharSequence text, int i, int to, char expected) {
+        return i < to && text.charAt(i) == expected;
+    }
+
+    private static int twoDigits(CharSequence text, int i, int to) {
+        if (i + 2 > to) {
+            return -1;
+        }
+        char tens = text.charAt(i);
+        char units = text.charAt(i + 1);
+        if (!AsciiScanner.isDigit(tens) || !AsciiScanner.isDigit(units)) {
+            return -1;
+        }
+        return (tens - '0') * 10 + (units - '0');
+    }
+
+    private static int lengthOfMonth(long year, int month) {
+        switch (month) {
+            case 2:
+                return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    /**
+     * The proleptic Gregorian day count of {@link java.time.LocalDate#toEpochDay()}.
+     */
+    private static long epochDay(long year, int month, int day) {
+        long total = 365 * year;
+        if (year >= 0) {
+            total += (year + 3) / 4 - (year + 99) / 100 + (year + 399) / 400;
+        } else {
+            total -= year / -4 - year / -100 + year / -400;
+        }
+        total += (367 * month - 362) / 12;
+        total += day - 1;
+        if (month > 2) {
+            total--;
+            if (lengthOfMonth(year, 2) == 28) {
+                total--;
+            }
+        }
+        return total - DAYS_0000_TO_1970;
+    }
+}
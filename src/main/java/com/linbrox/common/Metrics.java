@@ -0,0 +1,102 @@
+package com.linbrox.common;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Opt-in call and failure counters for the string, number, date and boolean conversions.
+ * <p>
+ * Instrumentation is switched on for the whole JVM with {@code -Dcom.linbrox.common.metrics=true}. The switch is
+ * read once into a {@code static final} field, so when it is off the JIT removes the instrumented branch and the
+ * utilities cost exactly what they cost without it. When it is on, every instrumented call is counted on a
+ * {@link java.util.concurrent.atomic.LongAdder}, along with the calls that rejected their input or threw, and one
+ * call in {@code -Dcom.linbrox.common.metrics.sampleRate} is timed into a histogram. The rate is 1024 by default,
+ * rounded up to a power of two; a rate of 1 times every call. Failing calls and slow timed calls are also reported to
+ * JDK Flight Recorder as {@code com.linbrox.common.FailedCall} and {@code com.linbrox.common.SlowCall} events while a
+ * recording is on.
+ * <p>
+ * The instrumented operations are the {@code String} validators of {@link StringUtils}, the conversions of
+ * {@link NumericUtils}, the {@code String} checks of {@link DateUtils} and {@link BooleanUtils#toBoolean(String)}
+ * and {@link BooleanUtils#parseBoolean(CharSequence)}. Read them with {@link #snapshot()}, or log them through
+ * SLF4J with {@link MetricsReporter}.
+ */
+public final class Metrics {
+
+    static final boolean ENABLED = Boolean.getBoolean("com.linbrox.common.metrics");
+    static final int SAMPLE_MASK = sampleMask(Integer.getInteger("com.linbrox.common.metrics.sampleRate", 1024));
+
+    private static final List<Probe> PROBES = new CopyOnWriteArrayList<>();
+
+    private Metrics() {}
+
+    /**
+     * @return {@code true} if the JVM was started with {@code -Dcom.linbrox.common.metrics=true}
+     */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Reads the counters of every instrumented operation that has been called at least once since the start or the
+     * last {@link #reset()}. Calls made while the snapshot is taken may or may not be included.
+     *
+     * @return the metrics of each operation, in the order the operations were first loaded; empty when metrics are
+     * disabled
+     * @example Metrics.snapshot().forEach(m -> System.out.println(m.operation() + " " + m.failureRate()));
+     */
+    public static List<OperationMetrics> snapshot() {
+        List<OperationMetrics> snapshot = new ArrayList<>(PROBES.size());
+        for (Probe probe : PROBES) {
+            OperationMetrics metrics = probe.snapshot();
+            if (metrics.calls() > 0) {
+                snapshot.add(metrics);
+            }
+        }
+        return List.copyOf(snapshot);
+    }
+
+    /**
+     * Reads the counters of one operation.
+     *
+     * @param operation the name of the operation, such as {@code "StringUtils.isNumeric"}
+     * @return the metrics of the operation, all zero if it has not been called or is not instrumented
+     * @throws NullPointerException if the name is null
+     */
+    public static OperationMetrics snapshot(String operation) {
+        Objects.requireNonNull(operation, "Operation cannot be null");
+        for (Probe probe : PROBES) {
+            if (probe.name().equals(operation)) {
+                return probe.snapshot();
+            }
+        }
+        return new OperationMetrics(operation, 0, 0, new long[Probe.BUCKETS]);
+    }
+
+    /**
+     * Sets every counter and histogram back to zero. Calls made during the reset may or may not be counted.
+     */
+    public static void reset() {
+        for (Probe probe : PROBES) {
+            probe.reset();
+        }
+    }
+
+    /**
+     * Returns the probe of an operation, registered for {@link #snapshot()}. The utilities keep their probes in
+     * holder classes that are only initialised behind {@link #ENABLED}, so this is not called when metrics are
+     * disabled.
+     */
+    static Probe probe(String operation) {
+        Probe probe = new Probe(operation);
+        PROBES.add(probe);
+        return probe;
+    }
+
+    private static int sampleMask(int sampleRate) {
+        // a bad rate must not fail the initialisation of every utility class, so it is clamped instead
+        int rate = Math.min(Math.max(sampleRate, 1), 1 << 30);
+        return rate == 1 ? 0 : Integer.highestOneBit(rate - 1) * 2 - 1;
+    }
+}
@@ -0,0 +1,44 @@
+package com.linbrox.common;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Objects;
+
+/**
+ * Logs the {@link Metrics} of every called operation through SLF4J, one line per operation at INFO level.
+ * <p>
+ * SLF4J is a compile-only dependency of this library: this class, and only this class, needs {@code slf4j-api} on
+ * the runtime class path. Call it from a scheduler to export the counters periodically.
+ */
+public final class MetricsReporter {
+
+    private MetricsReporter() {}
+
+    /**
+     * Logs the metrics to the {@code com.linbrox.common.Metrics} logger.
+     *
+     * @example scheduler.scheduleAtFixedRate(MetricsReporter::log, 1, 1, TimeUnit.MINUTES);
+     */
+    public static void log() {
+        log(LoggerFactory.getLogger(Metrics.class));
+    }
+
+    /**
+     * Logs the metrics to the given logger, if INFO is enabled on it.
+     *
+     * @param logger the logger to write to
+     * @throws NullPointerException if the logger is null
+     */
+    public static void log(Logger logger) {
+        Objects.requireNonNull(logger, "Logger cannot be null");
+        if (!logger.isInfoEnabled()) {
+            return;
+        }
+        for (OperationMetrics metrics : Metrics.snapshot()) {
+            logger.info("{} calls={} failures={} sampled={} p50<={}ns p99<={}ns", metrics.operation(),
+                    metrics.calls(), metrics.failures(), metrics.sampledCalls(), metrics.percentileNanos(50),
+                    metrics.percentileNanos(99));
+        }
+    }
+}
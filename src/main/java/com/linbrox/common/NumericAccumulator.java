@@ -0,0 +1,116 @@
+package com.linbrox.common;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The mutable container of the {@link NumericCollectors} collectors. Each thread of a parallel stream fills its
+ * own with primitive fields only; a text becomes a String only when it is kept as an invalid sample or has to be
+ * handed to {@link Double#parseDouble(String)}, for {@code NaN}, {@code Infinity} and the hexadecimal forms.
+ * <p>
+ * The sum follows {@link java.util.DoubleSummaryStatistics}: a Kahan sum with its compensation, plus a plain sum
+ * that gives the right infinity when the compensated one turns into NaN.
+ */
+final class NumericAccumulator {
+
+    private final int sampleSize;
+    private long count;
+    private long invalid;
+    private long blank;
+    private double sum;
+    private double compensation;
+    private double simpleSum;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+    private List<String> samples;
+
+    NumericAccumulator(int sampleSize) {
+        this.sampleSize = sampleSize;
+    }
+
+    void accept(CharSequence value) {
+        int length = value == null ? 0 : value.length();
+        if (value == null || AsciiScanner.trimStart(value, 0, length) == length) {
+            invalid++;
+            blank++;
+            return;
+        }
+        long bits = FastDoubleParser.parseBits(value, 0, length);
+        if (bits == FastDoubleParser.DEFER) {
+            try {
+                add(Double.parseDouble(value.toString()));
+            } catch (NumberFormatException e) {
+                reject(value);
+            }
+        } else if (bits == FastDoubleParser.INVALID) {
+            reject(value);
+        } else {
+            add(Double.longBitsToDouble(bits));
+        }
+    }
+
+    NumericAccumulator combine(NumericAccumulator other) {
+        count += other.count;
+        invalid += other.invalid;
+        blank += other.blank;
+        simpleSum += other.simpleSum;
+        addCompensated(other.sum);
+        addCompensated(-other.compensation);
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+        // this container holds the earlier elements, so its samples come first
+        if (other.samples != null) {
+            for (String sample : other.samples) {
+                if (!keepSample(sample)) {
+                    break;
+                }
+            }
+        }
+        return this;
+    }
+
+    NumericSummary finish() {
+        double total = sum - compensation;
+        if (Double.isNaN(total) && Double.isInfinite(simpleSum)) {
+            total = simpleSum;
+        }
+        return new NumericSummary(count, invalid, blank, total, min, max,
+                samples == null ? List.of() : List.copyOf(samples));
+    }
+
+    private void add(double value) {
+        count++;
+        simpleSum += value;
+        addCompensated(value);
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    private void addCompensated(double value) {
+        double corrected = value - compensation;
+        double next = sum + corrected;
+        compensation = (next - sum) - corrected;
+        sum = next;
+    }
+
+    private void reject(CharSequence value) {
+        invalid++;
+        if ((samples == null ? 0 : samples.size()) < sampleSize) {
+            keepSample(value.toString());
+        }
+    }
+
+    private boolean keepSample(String sample) {
+        if (samples == null) {
+            if (sampleSize == 0) {
+                return false;
+            }
+            samples = new ArrayList<>(Math.min(sampleSize, 16));
+        }
+        if (samples.size() == sampleSize) {
+            return false;
+        }
+        samples.add(sample);
+        return true;
+    }
+}
@@ -0,0 +1,87 @@
+package com.linbrox.common;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
+
+/**
+ * {@link Collector}s that parse decimal texts with the rules of {@link NumericUtils#parseDouble(CharSequence)} and
+ * aggregate them in the same step, into a {@link NumericSummary}.
+ * <p>
+ * Unlike {@code map(NumericUtils::toDouble)} followed by a summarizing collector, no value is boxed and a malformed
+ * text is counted instead of failing the stream. Each thread of a parallel stream accumulates into its own
+ * primitive fields, which are merged pairwise, so the summary is the same whether the stream is sequential or
+ * parallel, apart from the last bits of the sum.
+ */
+public final class NumericCollectors {
+
+    /**
+     * The number of invalid texts kept by {@link #summarizingDoubles()}.
+     */
+    public static final int DEFAULT_SAMPLE_SIZE = 10;
+
+    private static final int PARALLEL_THRESHOLD = 1 << 14;
+
+    private NumericCollectors() {
+    }
+
+    /**
+     * Returns a collector that parses each text as a {@code double} and summarizes the values, keeping the first
+     * {@value #DEFAULT_SAMPLE_SIZE} texts that do not parse.
+     *
+     * @return the collector
+     * @example NumericSummary prices = lines.parallelStream().collect(NumericCollectors.summarizingDoubles());
+     */
+    public static Collector<CharSequence, ?, NumericSummary> summarizingDoubles() {
+        return summarizingDoubles(DEFAULT_SAMPLE_SIZE);
+    }
+
+    /**
+     * Returns a collector that parses each text as a {@code double} and summarizes the values. Null and blank
+     * texts are counted as invalid, but not sampled.
+     *
+     * @param sampleSize the number of invalid texts to keep, in encounter order
+     * @return the collector
+     * @throws IllegalArgumentException if the sample size is negative
+     * @example NumericSummary prices = lines.stream().collect(NumericCollectors.summarizingDoubles(0));
+     */
+    public static Collector<CharSequence, ?, NumericSummary> summarizingDoubles(int sampleSize) {
+        if (sampleSize < 0) {
+            throw new IllegalArgumentException("Sample size cannot be negative");
+        }
+        return Collector.of(() -> new NumericAccumulator(sampleSize), NumericAccumulator::accept,
+                NumericAccumulator::combine, NumericAccumulator::finish);
+    }
+
+    /**
+     * Summarizes a column of decimal texts, in parallel on the common pool when it holds more than
+     * {@code 16384} values.
+     *
+     * @param column the texts to parse, which may contain nulls
+     * @return the summary of the column
+     * @throws NullPointerException if the column is null
+     * @example NumericSummary amounts = NumericCollectors.summarize(csvColumn);
+     */
+    public static NumericSummary summarize(CharSequence[] column) {
+        Objects.requireNonNull(column, "Column cannot be null");
+        Stream<CharSequence> values = Arrays.stream(column);
+        return (column.length > PARALLEL_THRESHOLD ? values.parallel() : values).collect(summarizingDoubles());
+    }
+
+    /**
+     * Summarizes a collection of decimal texts, in parallel on the common pool when it holds more than
+     * {@code 16384} values and its spliterator can split.
+     *
+     * @param column the texts to parse, which may contain nulls
+     * @return the summary of the column
+     * @throws NullPointerException if the collection is null
+     */
+    public static NumericSummary summarize(Collection<? extends CharSequence> column) {
+        Objects.requireNonNull(column, "Column cannot be null");
+        Stream<? extends CharSequence> values = column.size() > PARALLEL_THRESHOLD
+                ? column.parallelStream() : column.stream();
+        return values.collect(summarizingDoubles());
+    }
+}
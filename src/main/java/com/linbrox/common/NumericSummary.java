@@ -0,0 +1,99 @@
+package com.linbrox.common;
+
+import java.util.List;
+
+/**
+ * Statistics of a column of decimal texts, parsed and aggregated in one pass by {@link NumericCollectors}: the
+ * count, sum, minimum, maximum and mean of the values that parsed, the number of texts that did not and the first
+ * few of them, to show what the bad data looks like.
+ * <p>
+ * The sum is compensated (Kahan summation), so it stays accurate over millions of values of mixed magnitude. As
+ * with {@link java.util.DoubleSummaryStatistics}, an empty summary has a sum and mean of zero, a minimum of
+ * positive infinity and a maximum of negative infinity.
+ */
+public final class NumericSummary {
+
+    private final long count;
+    private final long invalidCount;
+    private final long blankCount;
+    private final double sum;
+    private final double min;
+    private final double max;
+    private final List<String> invalidSamples;
+
+    NumericSummary(long count, long invalidCount, long blankCount, double sum, double min, double max,
+                   List<String> invalidSamples) {
+        this.count = count;
+        this.invalidCount = invalidCount;
+        this.blankCount = blankCount;
+        this.sum = sum;
+        this.min = min;
+        this.max = max;
+        this.invalidSamples = invalidSamples;
+    }
+
+    /**
+     * @return the number of values that parsed
+     */
+    public long count() {
+        return count;
+    }
+
+    /**
+     * @return the number of texts that did not parse, blank ones included
+     */
+    public long invalidCount() {
+        return invalidCount;
+    }
+
+    /**
+     * @return the number of null or blank texts
+     */
+    public long blankCount() {
+        return blankCount;
+    }
+
+    /**
+     * @return the compensated sum of the values
+     */
+    public double sum() {
+        return sum;
+    }
+
+    /**
+     * @return the smallest value, or positive infinity if there is none
+     */
+    public double min() {
+        return min;
+    }
+
+    /**
+     * @return the largest value, or negative infinity if there is none
+     */
+    public double max() {
+        return max;
+    }
+
+    /**
+     * @return the arithmetic mean of the values, or zero if there is none
+     */
+    public double mean() {
+        return count == 0 ? 0 : sum / count;
+    }
+
+    /**
+     * Returns the first texts that did not parse, blank ones excluded, in encounter order even when the stream was
+     * parallel.
+     *
+     * @return an unmodifiable list of at most the sample size the collector was created with
+     */
+    public List<String> invalidSamples() {
+        return invalidSamples;
+    }
+
+    @Override
+    public String toString() {
+        return "NumericSummary{count=" + count + ", invalid=" + invalidCount + ", blank=" + blankCount
+                + ", sum=" + sum + ", min=" + min + ", max=" + max + ", mean=" + mean() + "}";
+    }
+}
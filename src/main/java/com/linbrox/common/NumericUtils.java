@@ -1,6 +1,7 @@
 package com.linbrox.common;
 
 import java.math.BigDecimal;
+import java.util.Objects;
 
 public final class NumericUtils {
 
@@ -9,16 +10,157 @@ public final class NumericUtils {
     }
 
     public static Integer toInteger(String value) {
+        if (Metrics.ENABLED) {
+            return Probes.TO_INTEGER.call(value, v -> Integer.valueOf(v), null);
+        }
         return Integer.valueOf(value);
     }
 
+    /**
+     * Validates and converts an integer in one pass, without throwing on bad input. The text is what
+     * {@link StringUtils#isNumeric(String)} accepts: an optional sign and ASCII digits, with surrounding whitespace.
+     *
+     * @param value  the text to parse
+     * @param result the holder that receives the value and the status
+     * @return {@code true} if the text is an {@code int}; otherwise the status of the result says whether it was
+     * malformed or out of range
+     * @throws NullPointerException if the text or the result is null
+     * @example NumericUtils.parseInt(" -42 ", result); // returns true, result.intValue() returns -42
+     */
+    public static boolean parseInt(CharSequence value, ParseResult result) {
+        Objects.requireNonNull(value, "String cannot be null");
+        return parseInt(value, 0, value.length(), result);
+    }
+
+    /**
+     * Validates and converts the integer in the region {@code [from, to)} of a character sequence, with the rules of
+     * {@link #parseInt(CharSequence, ParseResult)}.
+     *
+     * @param value  the character sequence to parse
+     * @param from   the start index, inclusive
+     * @param to     the end index, exclusive
+     * @param result the holder that receives the value and the status
+     * @return {@code true} if the region is an {@code int}
+     * @throws NullPointerException      if the sequence or the result is null
+     * @throws IndexOutOfBoundsException if the region is out of bounds
+     * @example NumericUtils.parseInt("qty=12;", 4, 6, result); // returns true, result.intValue() returns 12
+     */
+    public static boolean parseInt(CharSequence value, int from, int to, ParseResult result) {
+        Objects.requireNonNull(value, "String cannot be null");
+        Objects.requireNonNull(result, "Result cannot be null");
+        Objects.checkFromToIndex(from, to, value.length());
+        return IntegerParser.parse(value, from, to, Integer.MIN_VALUE, Integer.MAX_VALUE, result)
+                == ParseResult.VALID;
+    }
+
+    /**
+     * Validates and converts a {@code long} in one pass, without throwing on bad input, with the syntax of
+     * {@link #parseInt(CharSequence, ParseResult)}.
+     *
+     * @param value  the text to parse
+     * @param result the holder that receives the value and the status
+     * @return {@code true} if the text is a {@code long}; otherwise the status of the result says whether it was
+     * malformed or out of range
+     * @throws NullPointerException if the text or the result is null
+     * @example NumericUtils.parseLong("9223372036854775808", result); // returns false, status OVERFLOW
+     */
+    public static boolean parseLong(CharSequence value, ParseResult result) {
+        Objects.requireNonNull(value, "String cannot be null");
+        return parseLong(value, 0, value.length(), result);
+    }
+
+    /**
+     * Validates and converts the {@code long} in the region {@code [from, to)} of a character sequence.
+     *
+     * @param value  the character sequence to parse
+     * @param from   the start index, inclusive
+     * @param to     the end index, exclusive
+     * @param result the holder that receives the value and the status
+     * @return {@code true} if the region is a {@code long}
+     * @throws NullPointerException      if the sequence or the result is null
+     * @throws IndexOutOfBoundsException if the region is out of bounds
+     */
+    public static boolean parseLong(CharSequence value, int from, int to, ParseResult result) {
+        Objects.requireNonNull(value, "String cannot be null");
+        Objects.requireNonNull(result, "Result cannot be null");
+        Objects.checkFromToIndex(from, to, value.length());
+        return IntegerParser.parse(value, from, to, Long.MIN_VALUE, Long.MAX_VALUE, result) == ParseResult.VALID;
+    }
+
     public static Double toDouble(String value){
-        return Double.valueOf(value);
+        return parseDouble(value);
+    }
+
+    /**
+     * Parses a decimal number to a primitive {@code double}, accepting exactly what {@link Double#parseDouble(String)}
+     * accepts and returning the same bits, without creating an intermediate String.
+     *
+     * @param value the text to parse
+     * @return the nearest {@code double} to the decimal value
+     * @throws NullPointerException  if the text is null
+     * @throws NumberFormatException if the text is not a valid number
+     * @example NumericUtils.parseDouble(" -1.5e3 "); // returns -1500.0
+     */
+    public static double parseDouble(CharSequence value) {
+        Objects.requireNonNull(value, "String cannot be null");
+        if (Metrics.ENABLED) {
+            return Probes.PARSE_DOUBLE.call(value, v -> FastDoubleParser.parseDouble(v, 0, v.length()), null);
+        }
+        return FastDoubleParser.parseDouble(value, 0, value.length());
+    }
+
+    /**
+     * Parses the region {@code [from, to)} of a character sequence to a primitive {@code double}, with the same
+     * rules and result as {@link Double#parseDouble(String)} applied to that region.
+     *
+     * @param value the character sequence to parse
+     * @param from  the start index, inclusive
+     * @param to    the end index, exclusive
+     * @return the nearest {@code double} to the decimal value
+     * @throws NullPointerException      if the sequence is null
+     * @throws IndexOutOfBoundsException if the region is out of bounds
+     * @throws NumberFormatException     if the region is not a valid number
+     * @example NumericUtils.parseDouble("px=101.25;", 3, 9); // returns 101.25
+     */
+    public static double parseDouble(CharSequence value, int from, int to) {
+        Objects.requireNonNull(value, "String cannot be null");
+        Objects.checkFromToIndex(from, to, value.length());
+        return FastDoubleParser.parseDouble(value, from, to);
     }
 
     
     public static BigDecimal toBigDecimal(String value){
+        if (Metrics.ENABLED) {
+            return Probes.TO_BIG_DECIMAL.call(value, v -> new BigDecimal(v), null);
+        }
         return new BigDecimal(value);
     }
 
+    /**
+     * Parses a decimal number to a {@link FixedDecimal}, a long-backed alternative to {@link #toBigDecimal(String)}
+     * that reads the digits without creating any intermediate object.
+     *
+     * @param value the text to parse
+     * @return the decimal, with as many fractional digits as the text
+     * @throws NullPointerException  if the text is null
+     * @throws NumberFormatException if the text is not a decimal number
+     * @throws ArithmeticException   if the value does not fit, in which case {@link #toBigDecimal(String)} applies
+     * @example NumericUtils.toFixedDecimal("19.99").unscaledValue(); // returns 1999
+     */
+    public static FixedDecimal toFixedDecimal(CharSequence value) {
+        if (Metrics.ENABLED) {
+            return Probes.TO_FIXED_DECIMAL.call(value, FixedDecimal::parse, null);
+        }
+        return FixedDecimal.parse(value);
+    }
+
+    /**
+     * The metrics probes, in a holder so that none of the instrumentation is loaded unless metrics are enabled.
+     */
+    private static final class Probes {
+        static final Probe TO_INTEGER = Metrics.probe("NumericUtils.toInteger");
+        static final Probe PARSE_DOUBLE = Metrics.probe("NumericUtils.parseDouble");
+        static final Probe TO_BIG_DECIMAL = Metrics.probe("NumericUtils.toBigDecimal");
+        static final Probe TO_FIXED_DECIMAL = Metrics.probe("NumericUtils.toFixedDecimal");
+    }
 }
@@ -0,0 +1,103 @@
+package com.linbrox.common;
+
+import java.util.Objects;
+
+/**
+ * The counters of one instrumented operation at the time of a {@link Metrics#snapshot()}.
+ * <p>
+ * Durations are only known for the sampled calls and only to a power of two: {@link #histogram()} bucket {@code i}
+ * counts the sampled calls that took {@code [2^i, 2^(i+1))} nanoseconds.
+ */
+public final class OperationMetrics {
+
+    private final String operation;
+    private final long calls;
+    private final long failures;
+    private final long[] histogram;
+    private final long sampledCalls;
+
+    OperationMetrics(String operation, long calls, long failures, long[] histogram) {
+        this.operation = Objects.requireNonNull(operation, "Operation cannot be null");
+        this.calls = calls;
+        this.failures = failures;
+        this.histogram = histogram;
+        long sampled = 0;
+        for (long count : histogram) {
+            sampled += count;
+        }
+        this.sampledCalls = sampled;
+    }
+
+    /**
+     * @return the name of the operation, such as {@code "StringUtils.isNumeric"}
+     */
+    public String operation() {
+        return operation;
+    }
+
+    /**
+     * @return the number of calls
+     */
+    public long calls() {
+        return calls;
+    }
+
+    /**
+     * @return the number of calls that rejected their input or threw
+     */
+    public long failures() {
+        return failures;
+    }
+
+    /**
+     * @return the share of calls that failed, from 0 to 1, or 0 if there were no calls
+     */
+    public double failureRate() {
+        return calls == 0 ? 0 : (double) failures / calls;
+    }
+
+    /**
+     * @return the number of calls that were timed
+     */
+    public long sampledCalls() {
+        return sampledCalls;
+    }
+
+    /**
+     * @return a copy of the duration histogram, one count per power-of-two bucket of nanoseconds
+     */
+    public long[] histogram() {
+        return histogram.clone();
+    }
+
+    /**
+     * Estimates a percentile of the duration from the sampled calls.
+     *
+     * @param percentile the percentile, from 0 to 100
+     * @return the upper bound in nanoseconds of the bucket that holds the percentile, or 0 if no call was timed
+     * @throws IllegalArgumentException if the percentile is not between 0 and 100
+     * @example Metrics.snapshot("StringUtils.isEmail").percentileNanos(99); // returns 128 if p99 is in [64, 128) ns
+     */
+    public long percentileNanos(double percentile) {
+        if (!(percentile >= 0 && percentile <= 100)) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100");
+        }
+        if (sampledCalls == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(sampledCalls * percentile / 100));
+        long seen = 0;
+        int bucket = 0;
+        while ((seen += histogram[bucket]) < rank) {
+            bucket++;
+        }
+        return bucket == Probe.BUCKETS - 1 ? Long.MAX_VALUE : 1L << (bucket + 1);
+    }
+
+    @Override
+    public String toString() {
+        return "OperationMetrics{operation=" + operation + ", calls=" + calls + ", failures=" + failures
+                + ", sampled=" + sampledCalls + ", p50<=" + percentileNanos(50) + "ns, p99<="
+                + percentileNanos(99) + "ns}";
+    }
+}
@@ -0,0 +1,194 @@
+package com.linbrox.common;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writers behind the padding and repetition overloads of {@link StringUtils}.
+ * <p>
+ * Every output is made of plain copies of the input and of a pad written cyclically, so each sink only needs to
+ * copy a region and to write {@code count} chars of a repeated pad. Single-char pads of the usual fill characters
+ * are written from precomputed runs of {@value #RUN_LENGTH} chars (and their ASCII bytes), a block at a time.
+ */
+final class Padding {
+
+    static final int RUN_LENGTH = 64;
+
+    private static final String COMMON_PADS = " 0-_.*#=+~";
+    private static final String[] RUNS = new String[COMMON_PADS.length()];
+    private static final byte[][] BYTE_RUNS = new byte[COMMON_PADS.length()][];
+
+    static {
+        for (int i = 0; i < COMMON_PADS.length(); i++) {
+            RUNS[i] = String.valueOf(COMMON_PADS.charAt(i)).repeat(RUN_LENGTH);
+            BYTE_RUNS[i] = RUNS[i].getBytes(StandardCharsets.US_ASCII);
+        }
+    }
+
+    private Padding() {
+    }
+
+    /**
+     * @return how many pad chars a left pad of {@code length} chars to {@code size} writes: the whole repeated
+     * pad, cut to {@code size}, so that a pad longer than one char can leave no room for the text
+     */
+    static int leftPadLength(int length, int size, int padLength) {
+        return (int) Math.min((long) (size - length) * padLength, size);
+    }
+
+    /**
+     * @return the pad as the String methods read it, {@code "null"} for a null pad
+     * @throws IllegalArgumentException if the pad is empty
+     */
+    static String padding(String pad) {
+        String padding = String.valueOf(pad);
+        if (padding.isEmpty()) {
+            throw new IllegalArgumentException("Pad cannot be empty");
+        }
+        return padding;
+    }
+
+    private static int runIndex(CharSequence pad) {
+        return pad.length() == 1 ? COMMON_PADS.indexOf(pad.charAt(0)) : -1;
+    }
+
+    static void appendCyclic(StringBuilder out, CharSequence pad, long count) {
+        int run = runIndex(pad);
+        if (run >= 0) {
+            for (; count >= RUN_LENGTH; count -= RUN_LENGTH) {
+                out.append(RUNS[run]);
+            }
+            out.append(RUNS[run], 0, (int) count);
+            return;
+        }
+        for (; count >= pad.length(); count -= pad.length()) {
+            out.append(pad);
+        }
+        out.append(pad, 0, (int) count);
+    }
+
+    static void appendCyclic(Appendable out, CharSequence pad, long count) throws IOException {
+        int run = runIndex(pad);
+        CharSequence block = run >= 0 ? RUNS[run] : pad;
+        for (; count >= block.length(); count -= block.length()) {
+            out.append(block);
+        }
+        // char by char, since append(CharSequence, int, int) makes a substring on most Appendables
+        for (int i = 0; i < count; i++) {
+            out.append(block.charAt(i));
+        }
+    }
+
+    static void append(Appendable out, CharSequence str, int length) throws IOException {
+        if (length == str.length()) {
+            out.append(str);
+            return;
+        }
+        for (int i = 0; i < length; i++) {
+            out.append(str.charAt(i));
+        }
+    }
+
+    static int putCyclic(char[] out, int offset, CharSequence pad, int count) {
+        int run = runIndex(pad);
+        CharSequence block = run >= 0 ? RUNS[run] : pad;
+        for (; count >= block.length(); count -= block.length()) {
+            offset = put(out, offset, block, block.length());
+        }
+        return put(out, offset, block, count);
+    }
+
+    static int put(char[] out, int offset, CharSequence str, int length) {
+        if (str instanceof String) {
+            ((String) str).getChars(0, length, out, offset);
+        } else if (str instanceof StringBuilder) {
+            ((StringBuilder) str).getChars(0, length, out, offset);
+        } else {
+            for (int i = 0; i < length; i++) {
+                out[offset + i] = str.charAt(i);
+            }
+        }
+        return offset + length;
+    }
+
+    /**
+     * Writes {@code count} chars of the repeated pad as UTF-8, carrying a high surrogate left pending by an earlier
+     * write.
+     *
+     * @return the high surrogate the write ends with, or {@code -1}
+     */
+    static int encodeCyclic(ByteBuffer out, CharSequence pad, long count, int pendingHigh) {
+        int run = runIndex(pad);
+        if (run >= 0) {
+            pendingHigh = finish(out, pendingHigh);
+            for (; count >= RUN_LENGTH; count -= RUN_LENGTH) {
+                out.put(BYTE_RUNS[run]);
+            }
+            out.put(BYTE_RUNS[run], 0, (int) count);
+            return pendingHigh;
+        }
+        for (; count >= pad.length(); count -= pad.length()) {
+            pendingHigh = encode(out, pad, pad.length(), pendingHigh);
+        }
+        return encode(out, pad, (int) count, pendingHigh);
+    }
+
+    /**
+     * Writes the first {@code length} chars of {@code str} as UTF-8 the way {@link String#getBytes} does, with
+     * {@code ?} for unpaired surrogates, carrying a high surrogate across writes so that pairs split between the
+     * text and the pad are still joined.
+     *
+     * @return the high surrogate the write ends with, or {@code -1}
+     */
+    static int encode(ByteBuffer out, CharSequence str, int length, int pendingHigh) {
+        for (int i = 0; i < length; i++) {
+            char c = str.charAt(i);
+            if (pendingHigh >= 0) {
+                if (Character.isLowSurrogate(c)) {
+                    int codePoint = Character.toCodePoint((char) pendingHigh, c);
+                    out.put((byte) (0xF0 | codePoint >> 18))
+                            .put((byte) (0x80 | (codePoint >> 12 & 0x3F)))
+                            .put((byte) (0x80 | (codePoint >> 6 & 0x3F)))
+                            .put((byte) (0x80 | (codePoint & 0x3F)));
+                    pendingHigh = -1;
+                    continue;
+                }
+                pendingHigh = finish(out, pendingHigh);
+            }
+            if (c < 0x80) {
+                out.put((byte) c);
+            } else if (c < 0x800) {
+                out.put((byte) (0xC0 | c >> 6)).put((byte) (0x80 | (c & 0x3F)));
+            } else if (Character.isHighSurrogate(c)) {
+                pendingHigh = c;
+            } else if (Character.isLowSurrogate(c)) {
+                out.put((byte) '?');
+            } else {
+                out.put((byte) (0xE0 | c >> 12)).put((byte) (0x80 | (c >> 6 & 0x3F))).put((byte) (0x80 | (c & 0x3F)));
+            }
+        }
+        return pendingHigh;
+    }
+
+    /**
+     * Writes an unpaired high surrogate left pending, if any.
+     *
+     * @return {@code -1}
+     */
+    static int finish(ByteBuffer out, int pendingHigh) {
+        if (pendingHigh >= 0) {
+            out.put((byte) '?');
+        }
+        return -1;
+    }
+
+    /**
+     * Rewinds a buffer that overflowed halfway through a write, so that a failed write leaves it untouched.
+     */
+    static BufferOverflowException rewind(ByteBuffer out, int position, BufferOverflowException e) {
+        out.position(position);
+        return e;
+    }
+}
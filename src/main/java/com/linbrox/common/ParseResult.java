@@ -0,0 +1,113 @@
+package com.linbrox.common;
+
+/**
+ * A reusable holder for the outcome of {@link NumericUtils#parseInt(CharSequence, ParseResult)} and
+ * {@link NumericUtils#parseLong(CharSequence, ParseResult)}: the parsed value and a status saying whether there is
+ * one. Parsing into the same holder again overwrites both, so a loop over a column needs a single instance and
+ * rejects bad values without an exception or an allocation.
+ * <p>
+ * Instances are not thread-safe; give each thread its own.
+ */
+public final class ParseResult {
+
+    /**
+     * The text was a number in range and {@link #longValue()} holds it.
+     */
+    public static final int VALID = 0;
+
+    /**
+     * The text was not an optionally signed run of ASCII digits, or nothing has been parsed yet.
+     */
+    public static final int INVALID = 1;
+
+    /**
+     * The text was a well-formed number outside the range of the requested type.
+     */
+    public static final int OVERFLOW = 2;
+
+    private long value;
+    private int status = INVALID;
+
+    /**
+     * Creates a holder with no value, in the {@link #INVALID} status.
+     */
+    public ParseResult() {
+    }
+
+    void set(long value, int status) {
+        this.value = value;
+        this.status = status;
+    }
+
+    /**
+     * @return {@link #VALID}, {@link #INVALID} or {@link #OVERFLOW}
+     */
+    public int status() {
+        return status;
+    }
+
+    /**
+     * @return {@code true} if the last parse produced a value
+     */
+    public boolean isValid() {
+        return status == VALID;
+    }
+
+    /**
+     * Returns the value of the last parse.
+     *
+     * @return the parsed value
+     * @throws IllegalStateException if the last parse failed
+     */
+    public long longValue() {
+        if (status != VALID) {
+            throw new IllegalStateException(status == OVERFLOW ? "The number is out of range" : "No number was parsed");
+        }
+        return value;
+    }
+
+    /**
+     * Returns the value of the last parse as an {@code int}.
+     *
+     * @return the parsed value
+     * @throws IllegalStateException if the last parse failed
+     * @throws ArithmeticException   if the value was parsed as a {@code long} and does not fit in an {@code int}
+     */
+    public int intValue() {
+        return Math.toIntExact(longValue());
+    }
+
+    /**
+     * Returns the value of the last parse, or a fallback if it failed.
+     *
+     * @param fallback the value to return for an invalid or out-of-range text
+     * @return the parsed value or the fallback
+     * @example long quantity = NumericUtils.parseLong(field, result) ? result.longValue() : 0L;
+     */
+    public long longValueOr(long fallback) {
+        return status == VALID ? value : fallback;
+    }
+
+    /**
+     * Returns the value of the last parse as an {@code int}, or a fallback if it failed.
+     *
+     * @param fallback the value to return for an invalid or out-of-range text
+     * @return the parsed value or the fallback
+     * @throws ArithmeticException if the value was parsed as a {@code long} and does not fit in an {@code int}
+     */
+    public int intValueOr(int fallback) {
+        return status == VALID ? Math.toIntExact(value) : fallback;
+    }
+
+    @Override
+    public String toString() {
+        switch (status) {
+            case VALID:
+                return "ParseResult{value=" + value + "}";
+            case OVERFLOW:
+                return "ParseResult{overflow}";
+            default:
+                return "ParseResult{invalid}";
+        }
+    }
+}
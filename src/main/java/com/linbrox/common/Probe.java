@@ -0,0 +1,123 @@
+package com.linbrox.common;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * The counters of one instrumented operation. Utilities only reach it behind {@code if (Metrics.ENABLED)}, so none of
+ * this runs unless metrics were switched on.
+ * <p>
+ * Calls and failures are counted on every call. Only sampled calls are timed, which keeps the two
+ * {@link System#nanoTime()} reads off most calls; their durations go into power-of-two buckets, bucket {@code i}
+ * holding the durations in {@code [2^i, 2^(i+1))} nanoseconds and bucket 0 also holding zero.
+ */
+final class Probe {
+
+    static final int BUCKETS = 64;
+
+    private final String name;
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final AtomicLongArray histogram = new AtomicLongArray(BUCKETS);
+
+    Probe(String name) {
+        this.name = name;
+    }
+
+    String name() {
+        return name;
+    }
+
+    /**
+     * Runs an operation on an input, counting it as failed if it throws or returns the rejected value.
+     *
+     * @param input     the input of the operation
+     * @param operation the uninstrumented operation, which should not capture anything so it is not allocated
+     * @param rejected  the result that means the input was rejected, or {@code null} if only exceptions are failures
+     * @return the result of the operation
+     */
+    <T, R> R call(T input, Function<? super T, ? extends R> operation, R rejected) {
+        calls.increment();
+        if ((ThreadLocalRandom.current().nextInt() & Metrics.SAMPLE_MASK) != 0) {
+            R result;
+            try {
+                result = operation.apply(input);
+            } catch (RuntimeException e) {
+                fail(input, e);
+                throw e;
+            }
+            if (rejected != null && rejected.equals(result)) {
+                fail(input, null);
+            }
+            return result;
+        }
+        return timedCall(input, operation, rejected);
+    }
+
+    private <T, R> R timedCall(T input, Function<? super T, ? extends R> operation, R rejected) {
+        SlowCallEvent event = new SlowCallEvent();
+        event.begin();
+        long start = System.nanoTime();
+        R result;
+        try {
+            result = operation.apply(input);
+        } catch (RuntimeException e) {
+            record(System.nanoTime() - start, input, event);
+            fail(input, e);
+            throw e;
+        }
+        record(System.nanoTime() - start, input, event);
+        if (rejected != null && rejected.equals(result)) {
+            fail(input, null);
+        }
+        return result;
+    }
+
+    private void record(long nanos, Object input, SlowCallEvent event) {
+        histogram.incrementAndGet(bucket(nanos));
+        event.end();
+        if (event.shouldCommit()) {
+            event.operation = name;
+            event.inputLength = inputLength(input);
+            event.commit();
+        }
+    }
+
+    private void fail(Object input, RuntimeException error) {
+        failures.increment();
+        FailedCallEvent event = new FailedCallEvent();
+        if (event.isEnabled()) {
+            event.operation = name;
+            event.inputLength = inputLength(input);
+            event.error = error == null ? "rejected" : error.getClass().getName();
+            event.commit();
+        }
+    }
+
+    OperationMetrics snapshot() {
+        long[] buckets = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] = histogram.get(i);
+        }
+        return new OperationMetrics(name, calls.sum(), failures.sum(), buckets);
+    }
+
+    void reset() {
+        calls.reset();
+        failures.reset();
+        for (int i = 0; i < BUCKETS; i++) {
+            histogram.set(i, 0);
+        }
+    }
+
+    static int bucket(long nanos) {
+        return nanos <= 0 ? 0 : 63 - Long.numberOfLeadingZeros(nanos);
+    }
+
+    private static int inputLength(Object input) {
+        // the input itself is never recorded, it may hold personal data
+        return input instanceof CharSequence ? ((CharSequence) input).length() : -1;
+    }
+}
@@ -0,0 +1,27 @@
+package com.linbrox.common;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * A sampled utility call that took longer than the event threshold, 1 ms unless the recording sets another with
+ * {@code com.linbrox.common.SlowCall#threshold}.
+ */
+@Name("com.linbrox.common.SlowCall")
+@Label("Slow Utility Call")
+@Category({"Linbrox", "Common"})
+@Description("A sampled call to an instrumented utility that took longer than the threshold")
+@Threshold("1 ms")
+final class SlowCallEvent extends Event {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Input Length")
+    @Description("The length of the input, or -1 if it is not a character sequence")
+    int inputLength;
+}
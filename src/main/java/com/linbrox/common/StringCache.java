@@ -0,0 +1,313 @@
+package com.linbrox.common;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded, thread-safe cache that hands out one shared {@link String} per distinct value, for values such as
+ * country codes, currencies, statuses or email domains that repeat millions of times in a data set. Unlike
+ * {@link String#intern()} it has a fixed size and forgets values that stop being used.
+ * <p>
+ * Values are looked up by their {@link String#hashCode()}, computed over the given chars or ASCII bytes, and
+ * compared in place, so a hit creates no object at all. The table is split into sets of eight entries and each
+ * set is evicted with the CLOCK policy: a hit marks an entry as referenced, and a miss replaces the first
+ * unreferenced entry under the set's hand, clearing the marks it passes. New entries start unreferenced, so a
+ * stream of values seen once cannot push out the ones in use.
+ * <p>
+ * Lookups take no lock. Two threads missing on the same value at the same moment may each get their own instance,
+ * and one of them is cached; the cache never returns a String with different content.
+ */
+public final class StringCache {
+
+    /**
+     * Values longer than this are returned as new Strings and not cached.
+     */
+    public static final int MAX_CACHED_LENGTH = 128;
+
+    private static final int WAYS = 8;
+
+    private final Entry[] entries;
+    private final byte[] referenced;
+    private final int[] hands;
+    private final int setMask;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    private StringCache(int sets) {
+        this.entries = new Entry[sets * WAYS];
+        this.referenced = new byte[sets * WAYS];
+        this.hands = new int[sets];
+        this.setMask = sets - 1;
+    }
+
+    /**
+     * Creates a cache that holds at most about the given number of values, rounded up to a power of two and to at
+     * least eight.
+     *
+     * @param capacity the number of values to hold
+     * @return the cache
+     * @throws IllegalArgumentException if the capacity is not positive or above {@code 1 << 30}
+     * @example StringCache currencies = StringCache.of(1024);
+     */
+    public static StringCache of(int capacity) {
+        if (capacity <= 0 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Capacity must be between 1 and 2^30");
+        }
+        int entries = Math.max(WAYS, Integer.highestOneBit(capacity - 1) << 1);
+        return new StringCache(entries / WAYS);
+    }
+
+    /**
+     * @return the maximum number of values held
+     */
+    public int capacity() {
+        return entries.length;
+    }
+
+    /**
+     * Returns the shared instance equal to a string, caching the string itself if there is none yet.
+     *
+     * @param value the string to canonicalise
+     * @return a string equal to the value, the same instance for every equal value while it stays cached
+     * @throws NullPointerException if the value is null
+     * @example String code = cache.canonical(record.get("currency"));
+     */
+    public String canonical(String value) {
+        Objects.requireNonNull(value, "String cannot be null");
+        int length = value.length();
+        if (length > MAX_CACHED_LENGTH) {
+            misses.increment();
+            return value;
+        }
+        int hash = value.hashCode();
+        int base = setOf(hash);
+        for (int i = base; i < base + WAYS; i++) {
+            Entry entry = entries[i];
+            if (entry != null && entry.hash == hash && entry.value.length() == length
+                    && (entry.value == value || entry.value.equals(value))) {
+                return hit(i, entry);
+            }
+        }
+        return insert(base, hash, value);
+    }
+
+    /**
+     * Returns the shared instance equal to a character sequence, creating it only if it is not cached.
+     *
+     * @param value the characters to canonicalise
+     * @return a string with the same chars
+     * @throws NullPointerException if the value is null
+     */
+    public String canonical(CharSequence value) {
+        Objects.requireNonNull(value, "String cannot be null");
+        return value instanceof String ? canonical((String) value) : canonical(value, 0, value.length());
+    }
+
+    /**
+     * Returns the shared instance equal to the region {@code [from, to)} of a character sequence, without slicing
+     * it unless it is not cached.
+     *
+     * @param value the character sequence to read
+     * @param from  the start index, inclusive
+     * @param to    the end index, exclusive
+     * @return a string with the chars of the region
+     * @throws NullPointerException      if the value is null
+     * @throws IndexOutOfBoundsException if the region is out of bounds
+     * @example cache.canonical(line, start, comma); // the country code field, shared across lines
+     */
+    public String canonical(CharSequence value, int from, int to) {
+        Objects.requireNonNull(value, "String cannot be null");
+        Objects.checkFromToIndex(from, to, value.length());
+        int length = to - from;
+        if (length > MAX_CACHED_LENGTH) {
+            misses.increment();
+            return value.subSequence(from, to).toString();
+        }
+        int hash = 0;
+        for (int i = from; i < to; i++) {
+            hash = 31 * hash + value.charAt(i);
+        }
+        int base = setOf(hash);
+        for (int i = base; i < base + WAYS; i++) {
+            Entry entry = entries[i];
+            if (entry != null && entry.hash == hash && entry.value.length() == length
+                    && regionEquals(entry.value, value, from, length)) {
+                return hit(i, entry);
+            }
+        }
+        return insert(base, hash, value.subSequence(from, to).toString());
+    }
+
+    /**
+     * Returns the shared instance equal to a range of UTF-8 bytes. ASCII ranges are looked up without decoding;
+     * other ranges are decoded first.
+     *
+     * @param utf8   the bytes to read
+     * @param offset the index of the first byte
+     * @param length the number of bytes
+     * @return the decoded string
+     * @throws NullPointerException      if the array is null
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    public String canonical(byte[] utf8, int offset, int length) {
+        Objects.requireNonNull(utf8, "Bytes cannot be null");
+        Objects.checkFromIndexSize(offset, length, utf8.length);
+        if (length > MAX_CACHED_LENGTH) {
+            misses.increment();
+            return new String(utf8, offset, length, StandardCharsets.UTF_8);
+        }
+        int hash = 0;
+        int negative = 0;
+        for (int i = offset; i < offset + length; i++) {
+            hash = 31 * hash + utf8[i];
+            negative |= utf8[i];
+        }
+        if (negative < 0) {
+            return canonical(new String(utf8, offset, length, StandardCharsets.UTF_8));
+        }
+        int base = setOf(hash);
+        for (int i = base; i < base + WAYS; i++) {
+            Entry entry = entries[i];
+            if (entry != null && entry.hash == hash && entry.value.length() == length
+                    && asciiEquals(entry.value, utf8, offset, length)) {
+                return hit(i, entry);
+            }
+        }
+        return insert(base, hash, new String(utf8, offset, length, StandardCharsets.ISO_8859_1));
+    }
+
+    /**
+     * @return the number of lookups that found their value cached
+     */
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of lookups that had to create or cache a String, including values too long to cache
+     */
+    public long missCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the number of values pushed out to make room for others
+     */
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * @return the share of lookups that were hits, from 0 to 1, or 0 before the first lookup
+     */
+    public double hitRate() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    /**
+     * Counts the cached values. The count is exact only while no other thread uses the cache.
+     *
+     * @return the number of cached values
+     */
+    public int size() {
+        int size = 0;
+        for (Entry entry : entries) {
+            if (entry != null) {
+                size++;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Empties the cache and resets its statistics.
+     */
+    public void clear() {
+        for (int i = 0; i < entries.length; i++) {
+            entries[i] = null;
+            referenced[i] = 0;
+        }
+        hits.reset();
+        misses.reset();
+        evictions.reset();
+    }
+
+    @Override
+    public String toString() {
+        return "StringCache{capacity=" + entries.length + ", hits=" + hitCount() + ", misses=" + missCount()
+                + ", evictions=" + evictionCount() + "}";
+    }
+
+    private int setOf(int hash) {
+        int mixed = hash * 0x9E37_79B9;
+        return ((mixed ^ (mixed >>> 16)) & setMask) * WAYS;
+    }
+
+    private String hit(int slot, Entry entry) {
+        if (referenced[slot] == 0) {
+            // racy on purpose: the mark is a hint and a lost update only costs a little precision
+            referenced[slot] = 1;
+        }
+        hits.increment();
+        return entry.value;
+    }
+
+    private String insert(int base, int hash, String value) {
+        misses.increment();
+        int set = base / WAYS;
+        int hand = hands[set];
+        // two turns at most: the first clears every mark, the second finds a cleared entry
+        for (int step = 0; step < 2 * WAYS; step++) {
+            int slot = base + ((hand + step) & (WAYS - 1));
+            if (entries[slot] == null || referenced[slot] == 0) {
+                if (entries[slot] != null) {
+                    evictions.increment();
+                }
+                referenced[slot] = 0;
+                entries[slot] = new Entry(hash, value);
+                hands[set] = (hand + step + 1) & (WAYS - 1);
+                break;
+            }
+            referenced[slot] = 0;
+        }
+        return value;
+    }
+
+    private static boolean regionEquals(String cached, CharSequence value, int from, int length) {
+        if (value instanceof String) {
+            return cached.regionMatches(0, (String) value, from, length);
+        }
+        for (int i = 0; i < length; i++) {
+            if (cached.charAt(i) != value.charAt(from + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean asciiEquals(String cached, byte[] bytes, int offset, int length) {
+        for (int i = 0; i < length; i++) {
+            if (cached.charAt(i) != bytes[offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * An immutable cached value; the final fields make it safe to publish through the plain table.
+     */
+    private static final class Entry {
+        final int hash;
+        final String value;
+
+        Entry(int hash, String value) {
+            this.hash = hash;
+            this.value = value;
+        }
+    }
+}
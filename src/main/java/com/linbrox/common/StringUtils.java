@@ -1,16 +1,18 @@
 package com.linbrox.common;
 
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
 import java.util.Objects;
-import java.util.regex.Pattern;
+import java.util.concurrent.ForkJoinPool;
 
 public final class StringUtils {
 
     public static final String EMAIL_FORMAT_PATTERN = "^(?!-)[\\w.!#$%&'*+/=?^_`{|}~-]+@(?!-)[A-Za-z0-9-]+(?:\\.[A-Za-z0-9-]+)*(?:\\.[A-Za-z]{2,})$";
-    private static final Pattern ALPHA_PATTERN = Pattern.compile("^[a-zA-Z]+$");
-    private static final Pattern ALPHA_NUMERIC_PATTERN = Pattern.compile("^[a-zA-Z0-9]+$");
-    private static final Pattern NUMERIC_PATTERN = Pattern.compile("^[+-]?\\d+$");
-    private static final Pattern NUMERIC_WITH_DECIMAL_PATTERN = Pattern.compile("^[+-]?\\d+\\.\\d+$");
     private static final String STRING_CANNOT_BE_NULL = "String cannot be null";
+    private static final String BYTES_CANNOT_BE_NULL = "Bytes cannot be null";
+    private static final String BUFFER_CANNOT_BE_NULL = "Buffer cannot be null";
+    private static final String OUTPUT_CANNOT_BE_NULL = "Output cannot be null";
 
     private StringUtils() {
     }
@@ -57,7 +59,10 @@ public final class StringUtils {
      */
     public static boolean isBlank(String str) {
         Objects.requireNonNull(str, STRING_CANNOT_BE_NULL);
-        return str.trim().isEmpty();
+        if (Metrics.ENABLED) {
+            return Probes.IS_BLANK.call(str, s -> AsciiScanner.isBlank(s, 0, s.length()), null);
+        }
+        return AsciiScanner.isBlank(str, 0, str.length());
     }
 
     /**
@@ -72,7 +77,7 @@ public final class StringUtils {
      */
     public static boolean isNotBlank(String str) {
         Objects.requireNonNull(str, STRING_CANNOT_BE_NULL);
-        return !str.trim().isEmpty();
+        return !AsciiScanner.isBlank(str, 0, str.length());
     }
 
     /**
@@ -88,7 +93,40 @@ public final class StringUtils {
      */
     public static boolean isNumeric(String str) {
         Objects.requireNonNull(str, STRING_CANNOT_BE_NULL);
-        return NUMERIC_PATTERN.matcher(str.trim()).matches();
+        if (Metrics.ENABLED) {
+            return Probes.IS_NUMERIC.call(str, s -> AsciiScanner.isNumeric(s, 0, s.length()), Boolean.FALSE);
+        }
+        return AsciiScanner.isNumeric(str, 0, str.length());
+    }
+
+    /**
+     * Checks if a character sequence is numeric.
+     *
+     * @param str the character sequence to check
+     * @return {@code true} if the sequence is numeric, {@code false} otherwise
+     * @throws NullPointerException if the sequence is null
+     * @example StringUtils.isNumeric(new StringBuilder(" -42 ")); // returns true
+     */
+    public static boolean isNumeric(CharSequence str) {
+        Objects.requireNonNull(str, STRING_CANNOT_BE_NULL);
+        return AsciiScanner.isNumeric(str, 0, str.length());
+    }
+
+    /**
+     * Checks if the region {@code [from, to)} of a character sequence is numeric, without slicing it.
+     *
+     * @param str  the character sequence to check
+     * @param from the start index, inclusive
+     * @param to   the end index, exclusive
+     * @return {@code true} if the region is numeric, {@code false} otherwise
+     * @throws NullPointerException      if the sequence is null
+     * @throws IndexOutOfBoundsException if the region is out of bounds
+     * @example StringUtils.isNumeric("id=123;", 3, 6); // returns true
+     */
+    public static boolean isNumeric(CharSequence str, int from, int to) {
+        Objects.requireNonNull(str, STRING_CANNOT_BE_NULL);
+        Objects.checkFromToIndex(from, to, str.length());
+        return AsciiScanner.isNumeric(str, from, to);
     }
 
     /**
@@ -103,7 +141,42 @@ public final class StringUtils {
      */
     public static boolean isNumericWithDecimal(String str) {
         Objects.requireNonNull(str, STRING_CANNOT_BE_NULL);
-        return NUMERIC_WITH_DECIMAL_PATTERN.matcher(str.trim()).matches();
+        if (Metrics.ENABLED) {
+            return Probes.IS_NUMERIC_WITH_DECIMAL.call(str, s -> AsciiScanner.isNumericWithDecimal(s, 0, s.length()),
+                    Boolean.FALSE);
+        }
+        return AsciiScanner.isNumericWithDecimal(str, 0, str.length());
+    }
+
+    /**
+     * Checks if a character sequence is numeric with a decimal point.
+     *
+     * @param str the character sequence to check
+     * @return {@code true} if the sequence is numeric with a decimal, {@code false} otherwise
+     * @throws NullPointerException if the sequence is null
+     * @example StringUtils.isNumericWithDecimal(new StringBuilder("12.5")); // returns true
+     */
+    public static boolean isNumericWithDecimal(CharSequence str) {
+        Objects.requireNonNull(str, STRING_CANNOT_BE_NULL);
+        return AsciiScanner.isNumericWithDecimal(str, 0, str.length());
+    }
+
+    /**
+     * Checks if the region {@code [from, to)} of a character sequence is numeric with a decimal point,
+     * without slicing it.
+     *
+     * @param str  the character sequence to check
+     * @param from the start index, inclusive
+     * @param to   the end index, exclusive
+     * @return {@code true} if the region is numeric with a decimal, {@code false} otherwise
+     * @throws NullPointerException      if the sequence is null
+     * @throws IndexOutOfBoundsException if the region is out of bounds
+     * @example StringUtils.isNumericWithDecimal("price=12.50", 6, 11); // returns true
+     */
+    public static boolean isNumericWithDecimal(CharSequence str, int from, int to) {
+        Objects.requireNonNull(str, STRING_CANNOT_BE_NULL);
+        Objects.checkFromToIndex(from, to, str.length());
+        return AsciiScanner.isNumericWithDecimal(str, from, to);
     }
 
     /**
@@ -118,7 +191,28 @@ public final class StringUtils {
      */
     public static boolean isEmail(String str) {
         Objects.requireNonNull(str, STRING_CANNOT_BE_NULL);
-        return str.matches(EMAIL_FORMAT_PATTERN);
+        if (Metrics.ENABLED) {
+            return Probes.IS_EMAIL.call(str, s -> EmailValidator.isValid(s, 0, s.length()), Boolean.FALSE);
+        }
+        return EmailValidator.isValid(str, 0, str.length());
+    }
+
+    /**
+     * Checks if a string is a valid email address whose domain is on an allow list, validating the address and
+     * looking up its domain in one pass. For a block list, compare {@link DomainTrie#checkEmail(CharSequence)}
+     * with {@link DomainTrie#NOT_LISTED}.
+     *
+     * @param str     the string to check
+     * @param allowed the allowed domains
+     * @return {@code true} if the string is a valid email address with an allowed domain, {@code false} otherwise
+     * @throws NullPointerException if the string or the domains are null
+     * @example StringUtils.isEmail("jane@mail.example.com", DomainTrie.of(List.of("*.example.com"))); // returns true
+     * StringUtils.isEmail("jane@example.org", DomainTrie.of(List.of("*.example.com"))); // returns false
+     */
+    public static boolean isEmail(String str, DomainTrie allowed) {
+        Objects.requireNonNull(str, STRING_CANNOT_BE_NULL);
+        Objects.requireNonNull(allowed, "Domains cannot be null");
+        return allowed.checkEmail(str, 0, str.length()) == DomainTrie.LISTED;
     }
 
     /**
@@ -133,7 +227,41 @@ public final class StringUtils {
      */
     public static boolean isAlphaNumeric(String str) {
         Objects.requireNonNull(str, STRING_CANNOT_BE_NULL);
-        return ALPHA_NUMERIC_PATTERN.matcher(str.trim()).matches();
+        if (Metrics.ENABLED) {
+            return Probes.IS_ALPHA_NUMERIC.call(str, s -> AsciiScanner.isAlphaNumeric(s, 0, s.length()),
+                    Boolean.FALSE);
+        }
+        return AsciiScanner.isAlphaNumeric(str, 0, str.length());
+    }
+
+    /**
+     * Checks if a character sequence is alphanumeric.
+     *
+     * @param str the character sequence to check
+     * @return {@code true} if the sequence is alphanumeric, {@code false} otherwise
+     * @throws NullPointerException if the sequence is null
+     * @example StringUtils.isAlphaNumeric(new StringBuilder("abc123")); // returns true
+     */
+    public static boolean isAlphaNumeric(CharSequence str) {
+        Objects.requireNonNull(str, STRING_CANNOT_BE_NULL);
+        return AsciiScanner.isAlphaNumeric(str, 0, str.length());
+    }
+
+    /**
+     * Checks if the region {@code [from, to)} of a character sequence is alphanumeric, without slicing it.
+     *
+     * @param str  the character sequence to check
+     * @param from the start index, inclusive
+     * @param to   the end index, exclusive
+     * @return {@code true} if the region is alphanumeric, {@code false} otherwise
+     * @throws NullPointerException      if the sequence is null
+     * @throws IndexOutOfBoundsException if the region is out of bounds
+     * @example StringUtils.isAlphaNumeric("key:abc123", 4, 10); // returns true
+     */
+    public static boolean isAlphaNumeric(CharSequence str, int from, int to) {
+        Objects.requireNonNull(str, STRING_CANNOT_BE_NULL);
+        Objects.checkFromToIndex(from, to, str.length());
+        return AsciiScanner.isAlphaNumeric(str, from, to);
     }
 
     /**
@@ -148,17 +276,297 @@ public final class StringUtils {
      */
     public static boolean isAlpha(String str) {
         Objects.requireNonNull(str, STRING_CANNOT_BE_NULL);
-        return ALPHA_PATTERN.matcher(str.trim()).matches();
+        if (Metrics.ENABLED) {
+            return Probes.IS_ALPHA.call(str, s -> AsciiScanner.isAlpha(s, 0, s.length()), Boolean.FALSE);
+        }
+        return AsciiScanner.isAlpha(str, 0, str.length());
+    }
+
+    /**
+     * Checks if a character sequence contains only letters.
+     *
+     * @param str the character sequence to check
+     * @return {@code true} if the sequence contains only letters, {@code false} otherwise
+     * @throws NullPointerException if the sequence is null
+     * @example StringUtils.isAlpha(new StringBuilder("abc")); // returns true
+     */
+    public static boolean isAlpha(CharSequence str) {
+        Objects.requireNonNull(str, STRING_CANNOT_BE_NULL);
+        return AsciiScanner.isAlpha(str, 0, str.length());
     }
 
+    /**
+     * Checks if the region {@code [from, to)} of a character sequence contains only letters, without slicing it.
+     *
+     * @param str  the character sequence to check
+     * @param from the start index, inclusive
+     * @param to   the end index, exclusive
+     * @return {@code true} if the region contains only letters, {@code false} otherwise
+     * @throws NullPointerException      if the sequence is null
+     * @throws IndexOutOfBoundsException if the region is out of bounds
+     * @example StringUtils.isAlpha("code=ABC;", 5, 8); // returns true
+     */
+    public static boolean isAlpha(CharSequence str, int from, int to) {
+        Objects.requireNonNull(str, STRING_CANNOT_BE_NULL);
+        Objects.checkFromToIndex(from, to, str.length());
+        return AsciiScanner.isAlpha(str, from, to);
+    }
+
+    /**
+     * Checks if a range of UTF-8 bytes are blank, without decoding it.
+     * Any non-ASCII byte counts as a non-whitespace, non-alphanumeric character, as its decoded form would.
+     *
+     * @param utf8   the bytes to check
+     * @param offset the index of the first byte
+     * @param length the number of bytes
+     * @return {@code true} if the bytes are blank, {@code false} otherwise
+     * @throws NullPointerException      if the array is null
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     * @example StringUtils.isBlank("  \t".getBytes(UTF_8), 0, 3); // returns true
+     */
+    public static boolean isBlank(byte[] utf8, int offset, int length) {
+        Objects.requireNonNull(utf8, BYTES_CANNOT_BE_NULL);
+        Objects.checkFromIndexSize(offset, length, utf8.length);
+        return AsciiScanner.isBlank(utf8, offset, offset + length);
+    }
+
+    /**
+     * Checks if the UTF-8 bytes between the position and the limit of a heap or direct buffer are blank,
+     * without decoding them. The buffer's position and limit are left untouched.
+     *
+     * @param utf8 the buffer to check
+     * @return {@code true} if the bytes are blank, {@code false} otherwise
+     * @throws NullPointerException if the buffer is null
+     * @example StringUtils.isBlank(ByteBuffer.wrap("  \t".getBytes(UTF_8))); // returns true
+     */
+    public static boolean isBlank(ByteBuffer utf8) {
+        Objects.requireNonNull(utf8, BUFFER_CANNOT_BE_NULL);
+        return AsciiScanner.isBlank(utf8, utf8.position(), utf8.limit());
+    }
+
+    /**
+     * Checks if a range of UTF-8 bytes are numeric, without decoding it.
+     * Any non-ASCII byte counts as a non-whitespace, non-alphanumeric character, as its decoded form would.
+     *
+     * @param utf8   the bytes to check
+     * @param offset the index of the first byte
+     * @param length the number of bytes
+     * @return {@code true} if the bytes are numeric, {@code false} otherwise
+     * @throws NullPointerException      if the array is null
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     * @example StringUtils.isNumeric(" -42 ".getBytes(UTF_8), 0, 5); // returns true
+     */
+    public static boolean isNumeric(byte[] utf8, int offset, int length) {
+        Objects.requireNonNull(utf8, BYTES_CANNOT_BE_NULL);
+        Objects.checkFromIndexSize(offset, length, utf8.length);
+        return AsciiScanner.isNumeric(utf8, offset, offset + length);
+    }
+
+    /**
+     * Checks if the UTF-8 bytes between the position and the limit of a heap or direct buffer are numeric,
+     * without decoding them. The buffer's position and limit are left untouched.
+     *
+     * @param utf8 the buffer to check
+     * @return {@code true} if the bytes are numeric, {@code false} otherwise
+     * @throws NullPointerException if the buffer is null
+     * @example StringUtils.isNumeric(ByteBuffer.wrap(" -42 ".getBytes(UTF_8))); // returns true
+     */
+    public static boolean isNumeric(ByteBuffer utf8) {
+        Objects.requireNonNull(utf8, BUFFER_CANNOT_BE_NULL);
+        return AsciiScanner.isNumeric(utf8, utf8.position(), utf8.limit());
+    }
+
+    /**
+     * Checks if a range of UTF-8 bytes are numeric with a decimal point, without decoding it.
+     * Any non-ASCII byte counts as a non-whitespace, non-alphanumeric character, as its decoded form would.
+     *
+     * @param utf8   the bytes to check
+     * @param offset the index of the first byte
+     * @param length the number of bytes
+     * @return {@code true} if the bytes are numeric with a decimal point, {@code false} otherwise
+     * @throws NullPointerException      if the array is null
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     * @example StringUtils.isNumericWithDecimal("12.50".getBytes(UTF_8), 0, 5); // returns true
+     */
+    public static boolean isNumericWithDecimal(byte[] utf8, int offset, int length) {
+        Objects.requireNonNull(utf8, BYTES_CANNOT_BE_NULL);
+        Objects.checkFromIndexSize(offset, length, utf8.length);
+        return AsciiScanner.isNumericWithDecimal(utf8, offset, offset + length);
+    }
+
+    /**
+     * Checks if the UTF-8 bytes between the position and the limit of a heap or direct buffer are numeric with a decimal point,
+     * without decoding them. The buffer's position and limit are left untouched.
+     *
+     * @param utf8 the buffer to check
+     * @return {@code true} if the bytes are numeric with a decimal point, {@code false} otherwise
+     * @throws NullPointerException if the buffer is null
+     * @example StringUtils.isNumericWithDecimal(ByteBuffer.wrap("12.50".getBytes(UTF_8))); // returns true
+     */
+    public static boolean isNumericWithDecimal(ByteBuffer utf8) {
+        Objects.requireNonNull(utf8, BUFFER_CANNOT_BE_NULL);
+        return AsciiScanner.isNumericWithDecimal(utf8, utf8.position(), utf8.limit());
+    }
+
+    /**
+     * Checks if a range of UTF-8 bytes are a valid email address, without decoding it.
+     * Any non-ASCII byte counts as a non-whitespace, non-alphanumeric character, as its decoded form would.
+     *
+     * @param utf8   the bytes to check
+     * @param offset the index of the first byte
+     * @param length the number of bytes
+     * @return {@code true} if the bytes are a valid email address, {@code false} otherwise
+     * @throws NullPointerException      if the array is null
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     * @example StringUtils.isEmail("a@b.co".getBytes(UTF_8), 0, 6); // returns true
+     */
+    public static boolean isEmail(byte[] utf8, int offset, int length) {
+        Objects.requireNonNull(utf8, BYTES_CANNOT_BE_NULL);
+        Objects.checkFromIndexSize(offset, length, utf8.length);
+        return EmailValidator.isValid(utf8, offset, length);
+    }
+
+    /**
+     * Checks if the UTF-8 bytes between the position and the limit of a heap or direct buffer are a valid email address,
+     * without decoding them. The buffer's position and limit are left untouched.
+     *
+     * @param utf8 the buffer to check
+     * @return {@code true} if the bytes are a valid email address, {@code false} otherwise
+     * @throws NullPointerException if the buffer is null
+     * @example StringUtils.isEmail(ByteBuffer.wrap("a@b.co".getBytes(UTF_8))); // returns true
+     */
+    public static boolean isEmail(ByteBuffer utf8) {
+        Objects.requireNonNull(utf8, BUFFER_CANNOT_BE_NULL);
+        return EmailValidator.isValid(utf8, utf8.position(), utf8.limit());
+    }
+
+    /**
+     * Checks if a range of UTF-8 bytes are alphanumeric, without decoding it.
+     * Any non-ASCII byte counts as a non-whitespace, non-alphanumeric character, as its decoded form would.
+     *
+     * @param utf8   the bytes to check
+     * @param offset the index of the first byte
+     * @param length the number of bytes
+     * @return {@code true} if the bytes are alphanumeric, {@code false} otherwise
+     * @throws NullPointerException      if the array is null
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     * @example StringUtils.isAlphaNumeric("abc123".getBytes(UTF_8), 0, 6); // returns true
+     */
+    public static boolean isAlphaNumeric(byte[] utf8, int offset, int length) {
+        Objects.requireNonNull(utf8, BYTES_CANNOT_BE_NULL);
+        Objects.checkFromIndexSize(offset, length, utf8.length);
+        return AsciiScanner.isAlphaNumeric(utf8, offset, offset + length);
+    }
+
+    /**
+     * Checks if the UTF-8 bytes between the position and the limit of a heap or direct buffer are alphanumeric,
+     * without decoding them. The buffer's position and limit are left untouched.
+     *
+     * @param utf8 the buffer to check
+     * @return {@code true} if the bytes are alphanumeric, {@code false} otherwise
+     * @throws NullPointerException if the buffer is null
+     * @example StringUtils.isAlphaNumeric(ByteBuffer.wrap("abc123".getBytes(UTF_8))); // returns true
+     */
+    public static boolean isAlphaNumeric(ByteBuffer utf8) {
+        Objects.requireNonNull(utf8, BUFFER_CANNOT_BE_NULL);
+        return AsciiScanner.isAlphaNumeric(utf8, utf8.position(), utf8.limit());
+    }
+
+    /**
+     * Checks if a range of UTF-8 bytes contain only letters, without decoding it.
+     * Any non-ASCII byte counts as a non-whitespace, non-alphanumeric character, as its decoded form would.
+     *
+     * @param utf8   the bytes to check
+     * @param offset the index of the first byte
+     * @param length the number of bytes
+     * @return {@code true} if the bytes contain only letters, {@code false} otherwise
+     * @throws NullPointerException      if the array is null
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     * @example StringUtils.isAlpha("abc".getBytes(UTF_8), 0, 3); // returns true
+     */
+    public static boolean isAlpha(byte[] utf8, int offset, int length) {
+        Objects.requireNonNull(utf8, BYTES_CANNOT_BE_NULL);
+        Objects.checkFromIndexSize(offset, length, utf8.length);
+        return AsciiScanner.isAlpha(utf8, offset, offset + length);
+    }
+
+    /**
+     * Checks if the UTF-8 bytes between the position and the limit of a heap or direct buffer contain only letters,
+     * without decoding them. The buffer's position and limit are left untouched.
+     *
+     * @param utf8 the buffer to check
+     * @return {@code true} if the bytes contain only letters, {@code false} otherwise
+     * @throws NullPointerException if the buffer is null
+     * @example StringUtils.isAlpha(ByteBuffer.wrap("abc".getBytes(UTF_8))); // returns true
+     */
+    public static boolean isAlpha(ByteBuffer utf8) {
+        Objects.requireNonNull(utf8, BUFFER_CANNOT_BE_NULL);
+        return AsciiScanner.isAlpha(utf8, utf8.position(), utf8.limit());
+    }
+
+    /**
+     * Runs a check over every value of a column. Columns larger than 16,384 values are split across the common
+     * {@link ForkJoinPool}; smaller ones are validated on the calling thread.
+     * Null and blank values are counted as blank and never pass the check.
+     *
+     * @param column the values to check
+     * @param kind   the check to run
+     * @return the packed per-value results with the valid, invalid and blank counts
+     * @throws NullPointerException if the column or the check is null
+     * @example StringUtils.validateAll(new String[]{"42", "x", " "}, Validation.NUMERIC).validCount(); // returns 1
+     */
+    public static ValidationResult validateAll(CharSequence[] column, Validation kind) {
+        return validateAll(column, kind, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Runs a check over every value of a column, splitting columns larger than
+     * 16,384 values across the given pool.
+     *
+     * @param column the values to check
+     * @param kind   the check to run
+     * @param pool   the pool that validates large columns
+     * @return the packed per-value results with the valid, invalid and blank counts
+     * @throws NullPointerException if the column, the check or the pool is null
+     * @example StringUtils.validateAll(column, Validation.EMAIL, new ForkJoinPool(4)).toBitSet();
+     */
+    public static ValidationResult validateAll(CharSequence[] column, Validation kind, ForkJoinPool pool) {
+        Objects.requireNonNull(column, "Column cannot be null");
+        Objects.requireNonNull(kind, "Validation cannot be null");
+        Objects.requireNonNull(pool, "Pool cannot be null");
+        return BulkValidator.validate(column, kind, pool);
+    }
+
+    /**
+     * Upper-cases the first char of a string as {@link String#toUpperCase()} would. An ASCII first char is
+     * converted through a table and the result built with a single copy of the string; the string itself is
+     * returned when nothing changes.
+     *
+     * @param str the string to capitalize
+     * @return the string with its first char upper-cased; the string itself if it is empty or starts with an ASCII
+     * char that upper-casing leaves as it is
+     * @throws NullPointerException if the string is null
+     * @example StringUtils.capitalize("hello"); // returns "Hello"
+     * StringUtils.capitalize(""); // returns ""
+     */
     public static String capitalize(String str) {
         Objects.requireNonNull(str, STRING_CANNOT_BE_NULL);
-        return str.substring(0, 1).toUpperCase() + str.substring(1);
+        return CaseFolding.capitalize(str);
     }
 
+    /**
+     * Lower-cases the first char of a string as {@link String#toLowerCase()} would, with the same fast path as
+     * {@link #capitalize(String)}.
+     *
+     * @param str the string to uncapitalize
+     * @return the string with its first char lower-cased; the string itself if it is empty or starts with an ASCII
+     * char that lower-casing leaves as it is
+     * @throws NullPointerException if the string is null
+     * @example StringUtils.uncapitalize("Hello"); // returns "hello"
+     */
     public static String uncapitalize(String str) {
         Objects.requireNonNull(str, STRING_CANNOT_BE_NULL);
-        return str.substring(0, 1).toLowerCase() + str.substring(1);
+        return CaseFolding.uncapitalize(str);
     }
 
     public static String reverse(String str) {
@@ -171,10 +579,11 @@ public final class StringUtils {
         if (str.length() >= size) {
             return str;
         }
-        StringBuilder padded = new StringBuilder(size);
-        padded.append(String.valueOf(pad).repeat(size - str.length()));
-        padded.append(str);
-        return padded.substring(0, size);
+        if (String.valueOf(pad).isEmpty()) {
+            // nothing to pad with: fail exactly as cutting the unpadded string to size always has
+            return str.substring(0, size);
+        }
+        return leftPad(new StringBuilder(size), str, size, pad).toString();
     }
 
     public static String leftPad(String str, int size) {
@@ -186,10 +595,11 @@ public final class StringUtils {
         if (str.length() >= size) {
             return str;
         }
-        StringBuilder padded = new StringBuilder(size);
-        padded.append(str);
-        padded.append(String.valueOf(pad).repeat(size - str.length()));
-        return padded.substring(0, size);
+        if (String.valueOf(pad).isEmpty()) {
+            // nothing to pad with: fail exactly as cutting the unpadded string to size always has
+            return str.substring(0, size);
+        }
+        return rightPad(new StringBuilder(size), str, size, pad).toString();
     }
 
     public static String rightPad(String str, int size) {
@@ -203,35 +613,388 @@ public final class StringUtils {
         }
         return str.repeat(count);
     }
-    
-    public static boolean areStringsEqual(String str1, String str2) {
-        Objects.requireNonNull(str1, "String 1 cannot be null");
-        Objects.requireNonNull(str2, "String 2 cannot be null");
-        if (str1.length() != str2.length()) {
-            return false;
+
+    /**
+     * Appends what {@link #leftPad(String, int, String)} returns for a character sequence to a builder, without
+     * building the padded String. As there, the pad is repeated {@code size - str.length()} times and the result is
+     * cut to {@code size} chars, so a pad longer than one char may leave out part of the text, and a null pad pads
+     * with {@code "null"}.
+     *
+     * @param out  the builder to append to
+     * @param str  the text to pad
+     * @param size the width to pad to
+     * @param pad  the pad
+     * @return the builder
+     * @throws NullPointerException     if the builder or the text is null
+     * @throws IllegalArgumentException if the text needs padding and the pad is empty
+     * @example StringUtils.leftPad(new StringBuilder("id="), "42", 5, "0"); // appends "00042"
+     */
+    public static StringBuilder leftPad(StringBuilder out, CharSequence str, int size, String pad) {
+        Objects.requireNonNull(out, OUTPUT_CANNOT_BE_NULL);
+        Objects.requireNonNull(str, STRING_CANNOT_BE_NULL);
+        int length = str.length();
+        if (length >= size) {
+            return out.append(str);
         }
-        for (int i = 0; i < str1.length(); i++) {
-            if (str1.charAt(i) != str2.charAt(i)) {
-                return false;
+        String padding = Padding.padding(pad);
+        int padLength = Padding.leftPadLength(length, size, padding.length());
+        Padding.appendCyclic(out, padding, padLength);
+        return out.append(str, 0, size - padLength);
+    }
+
+    /**
+     * Appends what {@link #leftPad(String, int, String)} returns for a character sequence to an
+     * {@link Appendable}, such as a {@link java.io.Writer}, without building the padded String.
+     *
+     * @param out  the appendable to write to
+     * @param str  the text to pad
+     * @param size the width to pad to
+     * @param pad  the pad, read as {@link #leftPad(StringBuilder, CharSequence, int, String)} does
+     * @param <A>  the type of the appendable
+     * @return the appendable
+     * @throws IOException              if the appendable fails
+     * @throws NullPointerException     if the appendable or the text is null
+     * @throws IllegalArgumentException if the text needs padding and the pad is empty
+     * @example StringUtils.leftPad(writer, "42", 5, " "); // writes "   42"
+     */
+    public static <A extends Appendable> A leftPad(A out, CharSequence str, int size, String pad) throws IOException {
+        Objects.requireNonNull(out, OUTPUT_CANNOT_BE_NULL);
+        Objects.requireNonNull(str, STRING_CANNOT_BE_NULL);
+        if (out instanceof StringBuilder) {
+            leftPad((StringBuilder) out, str, size, pad);
+            return out;
+        }
+        int length = str.length();
+        if (length >= size) {
+            out.append(str);
+            return out;
+        }
+        String padding = Padding.padding(pad);
+        int padLength = Padding.leftPadLength(length, size, padding.length());
+        Padding.appendCyclic(out, padding, padLength);
+        Padding.append(out, str, size - padLength);
+        return out;
+    }
+
+    /**
+     * Writes what {@link #leftPad(String, int, String)} returns for a character sequence into a char array.
+     * Nothing is written unless all of it fits.
+     *
+     * @param out    the array to write to
+     * @param offset the index of the first char to write
+     * @param str    the text to pad
+     * @param size   the width to pad to
+     * @param pad    the pad, read as {@link #leftPad(StringBuilder, CharSequence, int, String)} does
+     * @return the index after the last char written
+     * @throws NullPointerException      if the array or the text is null
+     * @throws IndexOutOfBoundsException if the output does not fit from the offset
+     * @throws IllegalArgumentException  if the text needs padding and the pad is empty
+     * @example StringUtils.leftPad(line, 0, "42", 5, " "); // writes "   42" and returns 5
+     */
+    public static int leftPad(char[] out, int offset, CharSequence str, int size, String pad) {
+        Objects.requireNonNull(out, OUTPUT_CANNOT_BE_NULL);
+        Objects.requireNonNull(str, STRING_CANNOT_BE_NULL);
+        int length = str.length();
+        if (length >= size) {
+            Objects.checkFromIndexSize(offset, length, out.length);
+            return Padding.put(out, offset, str, length);
+        }
+        String padding = Padding.padding(pad);
+        Objects.checkFromIndexSize(offset, size, out.length);
+        int padLength = Padding.leftPadLength(length, size, padding.length());
+        return Padding.put(out, Padding.putCyclic(out, offset, padding, padLength), str, size - padLength);
+    }
+
+    /**
+     * Writes the UTF-8 encoding of what {@link #leftPad(String, int, String)} returns for a character sequence into
+     * a buffer, from its position, with the same bytes as {@code getBytes(UTF_8)} on the padded String. If the
+     * buffer overflows, its position is left where it was.
+     *
+     * @param out  the buffer to write to
+     * @param str  the text to pad
+     * @param size the width to pad to, in chars
+     * @param pad  the pad, read as {@link #leftPad(StringBuilder, CharSequence, int, String)} does
+     * @return the buffer
+     * @throws NullPointerException     if the buffer or the text is null
+     * @throws BufferOverflowException  if the bytes do not fit in the buffer
+     * @throws IllegalArgumentException if the text needs padding and the pad is empty
+     * @example StringUtils.leftPad(row, "42", 5, "0"); // puts the bytes of "00042"
+     */
+    public static ByteBuffer leftPad(ByteBuffer out, CharSequence str, int size, String pad) {
+        Objects.requireNonNull(out, OUTPUT_CANNOT_BE_NULL);
+        Objects.requireNonNull(str, STRING_CANNOT_BE_NULL);
+        int length = str.length();
+        String padding = length >= size ? null : Padding.padding(pad);
+        int position = out.position();
+        try {
+            if (padding == null) {
+                Padding.finish(out, Padding.encode(out, str, length, -1));
+            } else {
+                int padLength = Padding.leftPadLength(length, size, padding.length());
+                int pendingHigh = Padding.encodeCyclic(out, padding, padLength, -1);
+                Padding.finish(out, Padding.encode(out, str, size - padLength, pendingHigh));
             }
+        } catch (BufferOverflowException e) {
+            throw Padding.rewind(out, position, e);
         }
-        return true;
+        return out;
     }
 
-    public static boolean areStringsEqualIgnoreCase(String str1, String str2) {
-        Objects.requireNonNull(str1, "String 1 cannot be null");
-        Objects.requireNonNull(str2, "String 2 cannot be null");
-        if (str1.length() != str2.length()) {
-            return false;
+    /**
+     * Appends what {@link #rightPad(String, int, String)} returns for a character sequence to a builder, without
+     * building the padded String: the text followed by the first {@code size - str.length()} chars of the
+     * repeated pad. A null pad pads with {@code "null"}, as the String method does.
+     *
+     * @param out  the builder to append to
+     * @param str  the text to pad
+     * @param size the width to pad to
+     * @param pad  the pad
+     * @return the builder
+     * @throws NullPointerException     if the builder or the text is null
+     * @throws IllegalArgumentException if the text needs padding and the pad is empty
+     * @example StringUtils.rightPad(new StringBuilder(), "name", 8, "."); // appends "name...."
+     */
+    public static StringBuilder rightPad(StringBuilder out, CharSequence str, int size, String pad) {
+        Objects.requireNonNull(out, OUTPUT_CANNOT_BE_NULL);
+        Objects.requireNonNull(str, STRING_CANNOT_BE_NULL);
+        int length = str.length();
+        if (length >= size) {
+            return out.append(str);
+        }
+        String padding = Padding.padding(pad);
+        out.append(str);
+        Padding.appendCyclic(out, padding, size - length);
+        return out;
+    }
+
+    /**
+     * Appends what {@link #rightPad(String, int, String)} returns for a character sequence to an
+     * {@link Appendable}, such as a {@link java.io.Writer}, without building the padded String.
+     *
+     * @param out  the appendable to write to
+     * @param str  the text to pad
+     * @param size the width to pad to
+     * @param pad  the pad, read as {@link #rightPad(StringBuilder, CharSequence, int, String)} does
+     * @param <A>  the type of the appendable
+     * @return the appendable
+     * @throws IOException              if the appendable fails
+     * @throws NullPointerException     if the appendable or the text is null
+     * @throws IllegalArgumentException if the text needs padding and the pad is empty
+     * @example StringUtils.rightPad(writer, "name", 8, " "); // writes "name    "
+     */
+    public static <A extends Appendable> A rightPad(A out, CharSequence str, int size, String pad)
+            throws IOException {
+        Objects.requireNonNull(out, OUTPUT_CANNOT_BE_NULL);
+        Objects.requireNonNull(str, STRING_CANNOT_BE_NULL);
+        if (out instanceof StringBuilder) {
+            rightPad((StringBuilder) out, str, size, pad);
+            return out;
         }
-        for (int i = 0; i < str1.length(); i++) {
-            if (Character.toLowerCase(str1.charAt(i)) != Character.toLowerCase(str2.charAt(i))) {
-                return false;
+        int length = str.length();
+        if (length >= size) {
+            out.append(str);
+            return out;
+        }
+        String padding = Padding.padding(pad);
+        out.append(str);
+        Padding.appendCyclic(out, padding, size - length);
+        return out;
+    }
+
+    /**
+     * Writes what {@link #rightPad(String, int, String)} returns for a character sequence into a char array.
+     * Nothing is written unless all of it fits.
+     *
+     * @param out    the array to write to
+     * @param offset the index of the first char to write
+     * @param str    the text to pad
+     * @param size   the width to pad to
+     * @param pad    the pad, read as {@link #rightPad(StringBuilder, CharSequence, int, String)} does
+     * @return the index after the last char written
+     * @throws NullPointerException      if the array or the text is null
+     * @throws IndexOutOfBoundsException if the output does not fit from the offset
+     * @throws IllegalArgumentException  if the text needs padding and the pad is empty
+     * @example StringUtils.rightPad(line, 5, "name", 8, " "); // writes "name    " at 5 and returns 13
+     */
+    public static int rightPad(char[] out, int offset, CharSequence str, int size, String pad) {
+        Objects.requireNonNull(out, OUTPUT_CANNOT_BE_NULL);
+        Objects.requireNonNull(str, STRING_CANNOT_BE_NULL);
+        int length = str.length();
+        if (length >= size) {
+            Objects.checkFromIndexSize(offset, length, out.length);
+            return Padding.put(out, offset, str, length);
+        }
+        String padding = Padding.padding(pad);
+        Objects.checkFromIndexSize(offset, size, out.length);
+        return Padding.putCyclic(out, Padding.put(out, offset, str, length), padding, size - length);
+    }
+
+    /**
+     * Writes the UTF-8 encoding of what {@link #rightPad(String, int, String)} returns for a character sequence
+     * into a buffer, from its position, with the same bytes as {@code getBytes(UTF_8)} on the padded String. If
+     * the buffer overflows, its position is left where it was.
+     *
+     * @param out  the buffer to write to
+     * @param str  the text to pad
+     * @param size the width to pad to, in chars
+     * @param pad  the pad, read as {@link #rightPad(StringBuilder, CharSequence, int, String)} does
+     * @return the buffer
+     * @throws NullPointerException     if the buffer or the text is null
+     * @throws BufferOverflowException  if the bytes do not fit in the buffer
+     * @throws IllegalArgumentException if the text needs padding and the pad is empty
+     * @example StringUtils.rightPad(row, "name", 8, " "); // puts the bytes of "name    "
+     */
+    public static ByteBuffer rightPad(ByteBuffer out, CharSequence str, int size, String pad) {
+        Objects.requireNonNull(out, OUTPUT_CANNOT_BE_NULL);
+        Objects.requireNonNull(str, STRING_CANNOT_BE_NULL);
+        int length = str.length();
+        String padding = length >= size ? null : Padding.padding(pad);
+        int position = out.position();
+        try {
+            int pendingHigh = Padding.encode(out, str, length, -1);
+            if (padding != null) {
+                pendingHigh = Padding.encodeCyclic(out, padding, size - length, pendingHigh);
             }
+            Padding.finish(out, pendingHigh);
+        } catch (BufferOverflowException e) {
+            throw Padding.rewind(out, position, e);
         }
-        return true;
+        return out;
     }
 
+    /**
+     * Appends what {@link #repeat(String, int)} returns for a character sequence to a builder, without building
+     * the repeated String.
+     *
+     * @param out   the builder to append to
+     * @param str   the text to repeat
+     * @param count how many times to repeat it; nothing is appended when zero or negative
+     * @return the builder
+     * @throws NullPointerException if the builder or the text is null
+     * @example StringUtils.repeat(new StringBuilder(), "-", 10); // appends "----------"
+     */
+    public static StringBuilder repeat(StringBuilder out, CharSequence str, int count) {
+        Objects.requireNonNull(out, OUTPUT_CANNOT_BE_NULL);
+        Objects.requireNonNull(str, STRING_CANNOT_BE_NULL);
+        if (count > 0 && str.length() > 0) {
+            // a builder repeating itself would see its own appends
+            Padding.appendCyclic(out, str == out ? str.toString() : str, (long) str.length() * count);
+        }
+        return out;
+    }
 
+    /**
+     * Appends what {@link #repeat(String, int)} returns for a character sequence to an {@link Appendable}, such as
+     * a {@link java.io.Writer}, without building the repeated String.
+     *
+     * @param out   the appendable to write to
+     * @param str   the text to repeat
+     * @param count how many times to repeat it; nothing is appended when zero or negative
+     * @param <A>   the type of the appendable
+     * @return the appendable
+     * @throws IOException          if the appendable fails
+     * @throws NullPointerException if the appendable or the text is null
+     * @example StringUtils.repeat(writer, "=", 80); // writes a rule of 80 chars
+     */
+    public static <A extends Appendable> A repeat(A out, CharSequence str, int count) throws IOException {
+        Objects.requireNonNull(out, OUTPUT_CANNOT_BE_NULL);
+        Objects.requireNonNull(str, STRING_CANNOT_BE_NULL);
+        if (count > 0 && str.length() > 0) {
+            if (out instanceof StringBuilder) {
+                repeat((StringBuilder) out, str, count);
+            } else {
+                Padding.appendCyclic(out, str, (long) str.length() * count);
+            }
+        }
+        return out;
+    }
 
+    /**
+     * Writes what {@link #repeat(String, int)} returns for a character sequence into a char array. Nothing is
+     * written unless all of it fits.
+     *
+     * @param out    the array to write to
+     * @param offset the index of the first char to write
+     * @param str    the text to repeat
+     * @param count  how many times to repeat it; nothing is written when zero or negative
+     * @return the index after the last char written
+     * @throws NullPointerException      if the array or the text is null
+     * @throws IndexOutOfBoundsException if the output does not fit from the offset
+     * @example StringUtils.repeat(line, 0, "ab", 3); // writes "ababab" and returns 6
+     */
+    public static int repeat(char[] out, int offset, CharSequence str, int count) {
+        Objects.requireNonNull(out, OUTPUT_CANNOT_BE_NULL);
+        Objects.requireNonNull(str, STRING_CANNOT_BE_NULL);
+        long total = count > 0 ? (long) str.length() * count : 0;
+        Objects.checkFromIndexSize(offset, (int) Math.min(total, Integer.MAX_VALUE), out.length);
+        return total == 0 ? offset : Padding.putCyclic(out, offset, str, (int) total);
+    }
+
+    /**
+     * Writes the UTF-8 encoding of what {@link #repeat(String, int)} returns for a character sequence into a
+     * buffer, from its position. If the buffer overflows, its position is left where it was.
+     *
+     * @param out   the buffer to write to
+     * @param str   the text to repeat
+     * @param count how many times to repeat it; nothing is written when zero or negative
+     * @return the buffer
+     * @throws NullPointerException    if the buffer or the text is null
+     * @throws BufferOverflowException if the bytes do not fit in the buffer
+     * @example StringUtils.repeat(row, " ", 4); // puts four spaces
+     */
+    public static ByteBuffer repeat(ByteBuffer out, CharSequence str, int count) {
+        Objects.requireNonNull(out, OUTPUT_CANNOT_BE_NULL);
+        Objects.requireNonNull(str, STRING_CANNOT_BE_NULL);
+        if (count <= 0 || str.length() == 0) {
+            return out;
+        }
+        int position = out.position();
+        try {
+            Padding.finish(out, Padding.encodeCyclic(out, str, (long) str.length() * count, -1));
+        } catch (BufferOverflowException e) {
+            throw Padding.rewind(out, position, e);
+        }
+        return out;
+    }
+    
+    public static boolean areStringsEqual(String str1, String str2) {
+        Objects.requireNonNull(str1, "String 1 cannot be null");
+        Objects.requireNonNull(str2, "String 2 cannot be null");
+        // String.equals is a JIT intrinsic that already compares many chars per instruction
+        return str1.equals(str2);
+    }
+
+    public static boolean areStringsEqualIgnoreCase(String str1, String str2) {
+        Objects.requireNonNull(str1, "String 1 cannot be null");
+        Objects.requireNonNull(str2, "String 2 cannot be null");
+        return AsciiScanner.equalsIgnoreCase(str1, str2);
+    }
+
+    /**
+     * Computes a hash code that ignores case, consistent with {@link #areStringsEqualIgnoreCase(String, String)}:
+     * strings equal under it have the same hash code. It is the {@link String#hashCode()} of the string with every
+     * char passed through {@link Character#toLowerCase(char)}, computed without creating that string.
+     *
+     * @param str the string to hash
+     * @return the case-insensitive hash code
+     * @throws NullPointerException if the string is null
+     * @example StringUtils.hashCodeIgnoreCase("Content-Type") == StringUtils.hashCodeIgnoreCase("content-type");
+     * // true
+     */
+    public static int hashCodeIgnoreCase(String str) {
+        Objects.requireNonNull(str, STRING_CANNOT_BE_NULL);
+        return CaseFolding.hashCodeIgnoreCase(str);
+    }
+
+    /**
+     * The metrics probes, in a holder so that none of the instrumentation is loaded unless metrics are enabled.
+     */
+    private static final class Probes {
+        static final Probe IS_BLANK = Metrics.probe("StringUtils.isBlank");
+        static final Probe IS_NUMERIC = Metrics.probe("StringUtils.isNumeric");
+        static final Probe IS_NUMERIC_WITH_DECIMAL = Metrics.probe("StringUtils.isNumericWithDecimal");
+        static final Probe IS_EMAIL = Metrics.probe("StringUtils.isEmail");
+        static final Probe IS_ALPHA_NUMERIC = Metrics.probe("StringUtils.isAlphaNumeric");
+        static final Probe IS_ALPHA = Metrics.probe("StringUtils.isAlpha");
+    }
 }
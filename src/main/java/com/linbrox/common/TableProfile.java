@@ -0,0 +1,55 @@
+package com.linbrox.common;
+
+import java.util.List;
+
+/**
+ * What {@link ColumnProfiler} found in a delimited file: the number of records and one {@link ColumnProfile} per
+ * column, as many as the widest record has.
+ */
+public final class TableProfile {
+
+    private final long recordCount;
+    private final List<ColumnProfile> columns;
+
+    TableProfile(long recordCount, List<ColumnProfile> columns) {
+        this.recordCount = recordCount;
+        this.columns = List.copyOf(columns);
+    }
+
+    /**
+     * @return the number of records profiled, not counting the header or empty lines
+     */
+    public long recordCount() {
+        return recordCount;
+    }
+
+    /**
+     * @return the number of columns
+     */
+    public int columnCount() {
+        return columns.size();
+    }
+
+    /**
+     * Returns the profile of a column.
+     *
+     * @param index the zero-based position of the column
+     * @return the profile of the column
+     * @throws IndexOutOfBoundsException if there is no such column
+     */
+    public ColumnProfile column(int index) {
+        return columns.get(index);
+    }
+
+    /**
+     * @return the profiles of every column, in order; the list is immutable
+     */
+    public List<ColumnProfile> columns() {
+        return columns;
+    }
+
+    @Override
+    public String toString() {
+        return "TableProfile{records=" + recordCount + ", columns=" + columns + '}';
+    }
+}
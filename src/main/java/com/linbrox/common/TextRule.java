@@ -0,0 +1,379 @@
+package com.linbrox.common;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A validation rule declared once and compiled into a table-driven automaton, so that a chain such as
+ * {@code isNotBlank(s) && isAlphaNumeric(s) && s.length() <= 32} or {@code isNumeric(s)} followed by a range check
+ * reads the text once instead of once per condition.
+ * <p>
+ * A rule checks, in this order: the optional trim, which skips surrounding chars up to {@code U+0020} like the
+ * {@link StringUtils} validators; the length bounds of what is left, without reading it; and then every char in a
+ * single pass, either against a set of allowed ASCII chars or against a number shape, accumulating the value for a
+ * range check on the way. A rule is immutable and allocates nothing when testing, so one instance can be shared by
+ * every thread.
+ *
+ * @example TextRule username = TextRule.builder().trim().letters().digits().chars("_-").length(3, 32).build();
+ * username.test(" jane_doe "); // returns true
+ * TextRule percent = TextRule.builder().trim().range(0, 100).build();
+ * percent.test("101"); // returns false
+ */
+public final class TextRule {
+
+    // char classes: the columns of the transition table
+    private static final int OTHER = 0;
+    private static final int DIGIT = 1;
+    private static final int SIGN = 2;
+    private static final int DOT = 3;
+    private static final int ALLOWED = 4;
+    private static final int CLASSES = 5;
+
+    // states: the rows of the transition table
+    private static final int START = 0;
+    private static final int SIGNED = 1;
+    private static final int INTEGER_DIGITS = 2;
+    private static final int POINT = 3;
+    private static final int FRACTION_DIGITS = 4;
+    private static final int TOKEN = 5;
+    private static final int REJECT = 6;
+    private static final int STATES = 7;
+
+    private final boolean trim;
+    private final int minLength;
+    private final int maxLength;
+    private final boolean anyChar;
+    private final byte[] classes;
+    private final byte[] transitions;
+    private final boolean[] accepting;
+    private final boolean ranged;
+    private final long min;
+    private final long max;
+
+    private TextRule(Builder builder) {
+        this.trim = builder.trim;
+        this.minLength = builder.minLength;
+        this.maxLength = builder.maxLength;
+        this.anyChar = builder.shape == Shape.ANY && builder.allowed == null;
+        this.ranged = builder.ranged;
+        this.min = builder.min;
+        this.max = builder.max;
+        this.classes = new byte[128];
+        this.transitions = new byte[STATES * CLASSES];
+        this.accepting = new boolean[STATES];
+        Arrays.fill(transitions, (byte) REJECT);
+        if (builder.shape == Shape.ANY) {
+            compileToken(builder.allowed);
+        } else {
+            compileNumber(builder.shape);
+        }
+    }
+
+    private void compileToken(boolean[] allowed) {
+        for (int c = 0; c < 128; c++) {
+            classes[c] = (byte) (allowed != null && allowed[c] ? ALLOWED : OTHER);
+        }
+        transitions[START * CLASSES + ALLOWED] = TOKEN;
+        transitions[TOKEN * CLASSES + ALLOWED] = TOKEN;
+        accepting[START] = true;
+        accepting[TOKEN] = true;
+    }
+
+    private void compileNumber(Shape shape) {
+        for (int c = '0'; c <= '9'; c++) {
+            classes[c] = DIGIT;
+        }
+        classes['+'] = SIGN;
+        classes['-'] = SIGN;
+        classes['.'] = DOT;
+        transitions[START * CLASSES + SIGN] = SIGNED;
+        transitions[START * CLASSES + DIGIT] = INTEGER_DIGITS;
+        transitions[SIGNED * CLASSES + DIGIT] = INTEGER_DIGITS;
+        transitions[INTEGER_DIGITS * CLASSES + DIGIT] = INTEGER_DIGITS;
+        if (shape != Shape.INTEGER) {
+            transitions[INTEGER_DIGITS * CLASSES + DOT] = POINT;
+            transitions[POINT * CLASSES + DIGIT] = FRACTION_DIGITS;
+            transitions[FRACTION_DIGITS * CLASSES + DIGIT] = FRACTION_DIGITS;
+        }
+        accepting[INTEGER_DIGITS] = shape != Shape.DECIMAL;
+        accepting[FRACTION_DIGITS] = shape != Shape.INTEGER;
+    }
+
+    /**
+     * @return a builder for a rule that accepts any text of at least one char until restricted
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Checks a text against this rule.
+     *
+     * @param value the text to check
+     * @return {@code true} if the text satisfies every condition of the rule, {@code false} otherwise
+     * @throws NullPointerException if the text is null
+     */
+    public boolean test(CharSequence value) {
+        Objects.requireNonNull(value, "String cannot be null");
+        return matches(value, 0, value.length());
+    }
+
+    /**
+     * Checks the region {@code [from, to)} of a character sequence against this rule, without slicing it.
+     *
+     * @param value the character sequence to check
+     * @param from  the start index, inclusive
+     * @param to    the end index, exclusive
+     * @return {@code true} if the region satisfies every condition of the rule, {@code false} otherwise
+     * @throws NullPointerException      if the sequence is null
+     * @throws IndexOutOfBoundsException if the region is out of bounds
+     * @example rule.test("user=jane_doe;", 5, 13);
+     */
+    public boolean test(CharSequence value, int from, int to) {
+        Objects.requireNonNull(value, "String cannot be null");
+        Objects.checkFromToIndex(from, to, value.length());
+        return matches(value, from, to);
+    }
+
+    private boolean matches(CharSequence value, int from, int to) {
+        if (trim) {
+            from = AsciiScanner.trimStart(value, from, to);
+            to = AsciiScanner.trimEnd(value, from, to);
+        }
+        int length = to - from;
+        if (length < minLength || length > maxLength) {
+            return false;
+        }
+        if (anyChar) {
+            return true;
+        }
+        return ranged ? matchesRange(value, from, to) : matchesShape(value, from, to);
+    }
+
+    private boolean matchesShape(CharSequence value, int from, int to) {
+        byte[] classes = this.classes;
+        byte[] transitions = this.transitions;
+        int state = START;
+        for (int i = from; i < to; i++) {
+            char c = value.charAt(i);
+            state = transitions[state * CLASSES + (c < 128 ? classes[c] : OTHER)];
+            if (state == REJECT) {
+                return false;
+            }
+        }
+        return accepting[state];
+    }
+
+    /**
+     * The integer shape, accumulating the value negatively like {@link Long#parseLong(String)} so that
+     * {@link Long#MIN_VALUE} is reachable; a value that overflows a long is outside any range.
+     */
+    private boolean matchesRange(CharSequence value, int from, int to) {
+        byte[] classes = this.classes;
+        byte[] transitions = this.transitions;
+        int state = START;
+        boolean negative = false;
+        long accumulated = 0;
+        for (int i = from; i < to; i++) {
+            char c = value.charAt(i);
+            state = transitions[state * CLASSES + (c < 128 ? classes[c] : OTHER)];
+            if (state == REJECT) {
+                return false;
+            }
+            if (state == SIGNED) {
+                negative = c == '-';
+            } else {
+                int digit = c - '0';
+                if (accumulated < Long.MIN_VALUE / 10 || accumulated * 10 < Long.MIN_VALUE + digit) {
+                    return false;
+                }
+                accumulated = accumulated * 10 - digit;
+            }
+        }
+        if (!accepting[state] || (!negative && accumulated == Long.MIN_VALUE)) {
+            return false;
+        }
+        long number = negative ? accumulated : -accumulated;
+        return number >= min && number <= max;
+    }
+
+    private enum Shape {
+        ANY, INTEGER, DECIMAL, NUMBER
+    }
+
+    /**
+     * Declares the conditions of a {@link TextRule}. The char conditions are exclusive: a rule either allows a set
+     * of chars ({@link #letters()}, {@link #digits()}, {@link #chars(String)}) or a number shape
+     * ({@link #integer()}, {@link #decimal()}, {@link #number()}, {@link #range(long, long)}). Without either, any
+     * char is allowed. A builder is not thread-safe; the rules it builds are.
+     */
+    public static final class Builder {
+
+        private boolean trim;
+        private int minLength = 1;
+        private int maxLength = Integer.MAX_VALUE;
+        private boolean[] allowed;
+        private Shape shape = Shape.ANY;
+        private boolean ranged;
+        private long min;
+        private long max;
+
+        private Builder() {
+        }
+
+        /**
+         * Ignores the chars up to {@code U+0020} at both ends, as the {@link StringUtils} validators do; the length
+         * bounds then apply to what is left.
+         *
+         * @return this builder
+         */
+        public Builder trim() {
+            this.trim = true;
+            return this;
+        }
+
+        /**
+         * Bounds the length of the text, after trimming if {@link #trim()} is set. The default is at least one char,
+         * which makes a trimmed rule reject blank text.
+         *
+         * @param min the minimum length, inclusive
+         * @param max the maximum length, inclusive
+         * @return this builder
+         * @throws IllegalArgumentException if {@code min} is negative or greater than {@code max}
+         */
+        public Builder length(int min, int max) {
+            if (min < 0 || min > max) {
+                throw new IllegalArgumentException("Length bounds must satisfy 0 <= min <= max");
+            }
+            this.minLength = min;
+            this.maxLength = max;
+            return this;
+        }
+
+        /**
+         * Allows the ASCII letters {@code a-z} and {@code A-Z}.
+         *
+         * @return this builder
+         */
+        public Builder letters() {
+            for (char c = 'a'; c <= 'z'; c++) {
+                allow(c);
+                allow(Character.toUpperCase(c));
+            }
+            return this;
+        }
+
+        /**
+         * Allows the ASCII digits {@code 0-9}.
+         *
+         * @return this builder
+         */
+        public Builder digits() {
+            for (char c = '0'; c <= '9'; c++) {
+                allow(c);
+            }
+            return this;
+        }
+
+        /**
+         * Allows each of the given ASCII chars.
+         *
+         * @param chars the chars to allow
+         * @return this builder
+         * @throws NullPointerException     if the chars are null
+         * @throws IllegalArgumentException if a char is not ASCII
+         */
+        public Builder chars(String chars) {
+            Objects.requireNonNull(chars, "String cannot be null");
+            for (int i = 0; i < chars.length(); i++) {
+                if (chars.charAt(i) >= 128) {
+                    throw new IllegalArgumentException("Allowed chars must be ASCII");
+                }
+            }
+            // created even for no chars, so that an empty set allows none rather than leaving any char allowed
+            boolean[] table = allowed();
+            for (int i = 0; i < chars.length(); i++) {
+                table[chars.charAt(i)] = true;
+            }
+            return this;
+        }
+
+        /**
+         * Requires an optionally signed integer, {@code [+-]?[0-9]+}, as {@link StringUtils#isNumeric(String)} does.
+         *
+         * @return this builder
+         */
+        public Builder integer() {
+            this.shape = Shape.INTEGER;
+            return this;
+        }
+
+        /**
+         * Requires an optionally signed number with a fraction, {@code [+-]?[0-9]+\.[0-9]+}, as
+         * {@link StringUtils#isNumericWithDecimal(String)} does.
+         *
+         * @return this builder
+         */
+        public Builder decimal() {
+            this.shape = Shape.DECIMAL;
+            return this;
+        }
+
+        /**
+         * Requires an integer or a number with a fraction.
+         *
+         * @return this builder
+         */
+        public Builder number() {
+            this.shape = Shape.NUMBER;
+            return this;
+        }
+
+        /**
+         * Requires an integer between two bounds; leading zeros and a {@code +} sign are accepted.
+         *
+         * @param min the smallest value, inclusive
+         * @param max the largest value, inclusive
+         * @return this builder
+         * @throws IllegalArgumentException if {@code min} is greater than {@code max}
+         */
+        public Builder range(long min, long max) {
+            if (min > max) {
+                throw new IllegalArgumentException("Range bounds must satisfy min <= max");
+            }
+            this.shape = Shape.INTEGER;
+            this.ranged = true;
+            this.min = min;
+            this.max = max;
+            return this;
+        }
+
+        /**
+         * Compiles the rule. The builder can be changed and built again afterwards without affecting it.
+         *
+         * @return the rule
+         * @throws IllegalStateException if the rule both allows chars and requires a number shape, or has a range
+         *                               on a shape other than an integer
+         */
+        public TextRule build() {
+            if (allowed != null && shape != Shape.ANY) {
+                throw new IllegalStateException("A rule allows either a set of chars or a number shape");
+            }
+            if (ranged && shape != Shape.INTEGER) {
+                throw new IllegalStateException("A range applies to integers only");
+            }
+            return new TextRule(this);
+        }
+
+        private void allow(char c) {
+            allowed()[c] = true;
+        }
+
+        private boolean[] allowed() {
+            if (allowed == null) {
+                allowed = new boolean[128];
+            }
+            return allowed;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.linbrox.common;
+
+import java.util.Objects;
+
+/**
+ * The checks that {@link StringUtils#validateAll(CharSequence[], Validation)} can run over a column of values.
+ * Each constant applies the same rule as the {@link StringUtils} method of the same name.
+ */
+public enum Validation {
+
+    NOT_BLANK {
+        @Override
+        boolean test(CharSequence value, int from, int to) {
+            return AsciiScanner.trimStart(value, from, to) < to;
+        }
+    },
+    NUMERIC {
+        @Override
+        boolean test(CharSequence value, int from, int to) {
+            return AsciiScanner.isNumeric(value, from, to);
+        }
+    },
+    NUMERIC_WITH_DECIMAL {
+        @Override
+        boolean test(CharSequence value, int from, int to) {
+            return AsciiScanner.isNumericWithDecimal(value, from, to);
+        }
+    },
+    ALPHA {
+        @Override
+        boolean test(CharSequence value, int from, int to) {
+            return AsciiScanner.isAlpha(value, from, to);
+        }
+    },
+    ALPHA_NUMERIC {
+        @Override
+        boolean test(CharSequence value, int from, int to) {
+            return AsciiScanner.isAlphaNumeric(value, from, to);
+        }
+    },
+    EMAIL {
+        @Override
+        boolean test(CharSequence value, int from, int to) {
+            return EmailValidator.isValid(value, from, to);
+        }
+    };
+
+    /**
+     * Applies this check to a value.
+     *
+     * @param value the value to check
+     * @return {@code true} if the value passes the check, {@code false} otherwise
+     * @throws NullPointerException if the value is null
+     * @example Validation.NUMERIC.test(" -42 "); // returns true
+     */
+    public boolean test(CharSequence value) {
+        Objects.requireNonNull(value, "String cannot be null");
+        return test(value, 0, value.length());
+    }
+
+    abstract boolean test(CharSequence value, int from, int to);
+}
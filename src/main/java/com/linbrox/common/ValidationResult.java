@@ -0,0 +1,84 @@
+package com.linbrox.common;
+
+import java.util.BitSet;
+import java.util.Objects;
+
+/**
+ * Outcome of validating a whole column: one bit per value, packed little-endian into {@code long} words
+ * (bit {@code i} lives in word {@code i >>> 6}, the same layout as {@link BitSet#valueOf(long[])}), plus the
+ * valid, invalid and blank counts.
+ */
+public final class ValidationResult {
+
+    private final long[] words;
+    private final int size;
+    private final long validCount;
+    private final long blankCount;
+
+    ValidationResult(long[] words, int size, long validCount, long blankCount) {
+        this.words = words;
+        this.size = size;
+        this.validCount = validCount;
+        this.blankCount = blankCount;
+    }
+
+    /**
+     * @return the number of values that were validated
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return the number of values that passed the check
+     */
+    public long validCount() {
+        return validCount;
+    }
+
+    /**
+     * @return the number of values that failed the check, blank ones included
+     */
+    public long invalidCount() {
+        return size - validCount;
+    }
+
+    /**
+     * @return the number of null or blank values
+     */
+    public long blankCount() {
+        return blankCount;
+    }
+
+    /**
+     * Returns whether the value at an index passed the check.
+     *
+     * @param index the index of the value in the column
+     * @return {@code true} if the value is valid, {@code false} otherwise
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+    public boolean isValid(int index) {
+        Objects.checkIndex(index, size);
+        return (words[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * @return a copy of the packed result words
+     */
+    public long[] toLongArray() {
+        return words.clone();
+    }
+
+    /**
+     * @return the results as a {@link BitSet}, bit {@code i} being set when value {@code i} is valid
+     */
+    public BitSet toBitSet() {
+        return BitSet.valueOf(words);
+    }
+
+    @Override
+    public String toString() {
+        return "ValidationResult{size=" + size + ", valid=" + validCount + ", invalid=" + invalidCount()
+                + ", blank=" + blankCount + "}";
+    }
+}
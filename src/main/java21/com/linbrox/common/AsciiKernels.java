@@ -0,0 +1,117 @@
+package com.linbrox.common;
+
+/**
+ * Bulk scans over arrays of Latin-1/ASCII content behind {@link AsciiScanner}.
+ * <p>
+ * This is the JDK 21 version from the multi-release part of the jar. When {@code jdk.incubator.vector} is resolved
+ * ({@code --add-modules jdk.incubator.vector}) and the platform has vectors of at least 128 bits, every range
+ * longer than one vector is scanned by {@link VectorAsciiKernels} and only the tail is left to the scalar loops.
+ * Otherwise it behaves exactly like the portable version. Both paths return exactly the same indexes.
+ */
+final class AsciiKernels {
+
+    /**
+     * Chars up to {@code U+0020}, the whitespace of {@link String#trim()}.
+     */
+    static final int WHITESPACE = 0;
+    /**
+     * {@code [0-9]}.
+     */
+    static final int DIGITS = 1;
+    /**
+     * {@code [a-zA-Z]}.
+     */
+    static final int LETTERS = 2;
+    /**
+     * {@code [a-zA-Z0-9]}.
+     */
+    static final int LETTERS_OR_DIGITS = 3;
+
+    private static final boolean VECTORIZED = vectorApiAvailable();
+
+    private AsciiKernels() {
+    }
+
+    private static boolean vectorApiAvailable() {
+        // VectorAsciiKernels must not be touched unless the module is there, or linking it would fail
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return false;
+        }
+        try {
+            return VectorAsciiKernels.isSupported();
+        } catch (LinkageError e) {
+            return false;
+        }
+    }
+
+    /**
+     * @return {@code true} if the scans run on the Vector API
+     */
+    static boolean isVectorized() {
+        return VECTORIZED;
+    }
+
+    /**
+     * @return the index of the first byte of {@code [from, to)} outside the class, or {@code to}
+     */
+    static int span(byte[] bytes, int from, int to, int charClass) {
+        if (VECTORIZED && to - from >= VectorAsciiKernels.BYTE_LANES) {
+            from = VectorAsciiKernels.span(bytes, from, to, charClass);
+        }
+        while (from < to && inClass(bytes[from] & 0xFF, charClass)) {
+            from++;
+        }
+        return from;
+    }
+
+    /**
+     * @return the index of the first char of {@code [from, to)} outside the class, or {@code to}
+     */
+    static int span(char[] chars, int from, int to, int charClass) {
+        if (VECTORIZED && to - from >= VectorAsciiKernels.CHAR_LANES) {
+            from = VectorAsciiKernels.span(chars, from, to, charClass);
+        }
+        while (from < to && inClass(chars[from], charClass)) {
+            from++;
+        }
+        return from;
+    }
+
+    /**
+     * @return the first index of {@code [from, to)} where the chars differ after {@link Character#toLowerCase(char)},
+     * or {@code to}
+     */
+    static int mismatchIgnoreCase(char[] first, char[] second, int from, int to) {
+        while (from < to) {
+            if (VECTORIZED && to - from >= VectorAsciiKernels.CHAR_LANES) {
+                from = VectorAsciiKernels.mismatchIgnoreCase(first, second, from, to);
+                if (from == to) {
+                    return to;
+                }
+            }
+            // the vectors only settle ASCII case, so the char they stop at gets the full Unicode check
+            if (!equalsIgnoreCase(first[from], second[from])) {
+                return from;
+            }
+            from++;
+        }
+        return to;
+    }
+
+    static boolean inClass(int c, int charClass) {
+        switch (charClass) {
+            case WHITESPACE:
+                return c <= ' ';
+            case DIGITS:
+                return AsciiScanner.isDigit(c);
+            case LETTERS:
+                return AsciiScanner.isLetter(c);
+            default:
+                return AsciiScanner.isLetterOrDigit(c);
+        }
+    }
+
+    static boolean equalsIgnoreCase(char first, char second) {
+        return CaseFolding.equalsIgnoreCase(first, second);
+    }
+}
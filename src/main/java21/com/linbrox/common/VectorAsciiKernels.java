@@ -0,0 +1,183 @@
+package com.linbrox.common;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * The {@link AsciiKernels} scans on {@code jdk.incubator.vector}, one preferred-size vector (16 to 64 bytes) at a
+ * time. Every method stops at the first vector holding a lane outside the class and returns that lane, or returns
+ * where the last whole vector ends, leaving the tail to the caller.
+ * <p>
+ * Chars are read as unsigned shorts. The classes are range checks done with one unsigned compare each: a char
+ * {@code c} is a digit when {@code c - '0'} is below 10 and a letter when {@code (c | 0x20) - 'a'} is below 26.
+ * The checks are written out in each loop rather than in helpers: a vector or mask passed to a method that C2 does
+ * not inline is boxed on every call, and a small helper that gets compiled on its own, without the intrinsics,
+ * is then too big to be inlined again.
+ * Only link this class once {@code jdk.incubator.vector} is known to be resolved.
+ */
+final class VectorAsciiKernels {
+
+    private static final VectorSpecies<Byte> BYTES = ByteVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Short> CHARS = ShortVector.SPECIES_PREFERRED;
+
+    static final int BYTE_LANES = BYTES.length();
+    static final int CHAR_LANES = CHARS.length();
+
+    private VectorAsciiKernels() {
+    }
+
+    /**
+     * @return {@code true} if the platform has vectors of at least 128 bits, below which the scalar loops win
+     */
+    static boolean isSupported() {
+        return BYTES.vectorBitSize() >= 128;
+    }
+
+    static int span(byte[] bytes, int from, int to, int charClass) {
+        switch (charClass) {
+            case AsciiKernels.WHITESPACE:
+                return spanWhitespace(bytes, from, to);
+            case AsciiKernels.DIGITS:
+                return spanDigits(bytes, from, to);
+            case AsciiKernels.LETTERS:
+                return spanLetters(bytes, from, to);
+            default:
+                return spanLettersOrDigits(bytes, from, to);
+        }
+    }
+
+    static int span(char[] chars, int from, int to, int charClass) {
+        switch (charClass) {
+            case AsciiKernels.WHITESPACE:
+                return spanWhitespace(chars, from, to);
+            case AsciiKernels.DIGITS:
+                return spanDigits(chars, from, to);
+            case AsciiKernels.LETTERS:
+                return spanLetters(chars, from, to);
+            default:
+                return spanLettersOrDigits(chars, from, to);
+        }
+    }
+
+    /**
+     * Skips the lanes that are equal, or that are both ASCII letters of different case. Any other pair, including
+     * non-ASCII chars that may still fold to the same lower case, stops the scan.
+     */
+    static int mismatchIgnoreCase(char[] first, char[] second, int from, int to) {
+        int bound = from + CHARS.loopBound(to - from);
+        for (int i = from; i < bound; i += CHAR_LANES) {
+            ShortVector a = ShortVector.fromCharArray(CHARS, first, i);
+            ShortVector b = ShortVector.fromCharArray(CHARS, second, i);
+            ShortVector lowerA = a.or((short) 0x20);
+            VectorMask<Short> unsettled = a.compare(VectorOperators.NE, b)
+                    .and(lowerA.compare(VectorOperators.NE, b.or((short) 0x20))
+                            .or(lowerA.sub((short) 'a').compare(VectorOperators.UNSIGNED_GE, (short) 26)));
+            if (unsettled.anyTrue()) {
+                return i + unsettled.firstTrue();
+            }
+        }
+        return bound;
+    }
+
+    private static int spanWhitespace(byte[] bytes, int from, int to) {
+        int bound = from + BYTES.loopBound(to - from);
+        for (int i = from; i < bound; i += BYTE_LANES) {
+            VectorMask<Byte> outside = ByteVector.fromArray(BYTES, bytes, i)
+                    .compare(VectorOperators.UNSIGNED_GT, (byte) ' ');
+            if (outside.anyTrue()) {
+                return i + outside.firstTrue();
+            }
+        }
+        return bound;
+    }
+
+    private static int spanDigits(byte[] bytes, int from, int to) {
+        int bound = from + BYTES.loopBound(to - from);
+        for (int i = from; i < bound; i += BYTE_LANES) {
+            VectorMask<Byte> outside = ByteVector.fromArray(BYTES, bytes, i).sub((byte) '0')
+                    .compare(VectorOperators.UNSIGNED_GE, (byte) 10);
+            if (outside.anyTrue()) {
+                return i + outside.firstTrue();
+            }
+        }
+        return bound;
+    }
+
+    private static int spanLetters(byte[] bytes, int from, int to) {
+        int bound = from + BYTES.loopBound(to - from);
+        for (int i = from; i < bound; i += BYTE_LANES) {
+            VectorMask<Byte> outside = ByteVector.fromArray(BYTES, bytes, i).or((byte) 0x20).sub((byte) 'a')
+                    .compare(VectorOperators.UNSIGNED_GE, (byte) 26);
+            if (outside.anyTrue()) {
+                return i + outside.firstTrue();
+            }
+        }
+        return bound;
+    }
+
+    private static int spanLettersOrDigits(byte[] bytes, int from, int to) {
+        int bound = from + BYTES.loopBound(to - from);
+        for (int i = from; i < bound; i += BYTE_LANES) {
+            ByteVector v = ByteVector.fromArray(BYTES, bytes, i);
+            VectorMask<Byte> outside = v.or((byte) 0x20).sub((byte) 'a').compare(VectorOperators.UNSIGNED_GE, (byte) 26)
+                    .and(v.sub((byte) '0').compare(VectorOperators.UNSIGNED_GE, (byte) 10));
+            if (outside.anyTrue()) {
+                return i + outside.firstTrue();
+            }
+        }
+        return bound;
+    }
+
+    private static int spanWhitespace(char[] chars, int from, int to) {
+        int bound = from + CHARS.loopBound(to - from);
+        for (int i = from; i < bound; i += CHAR_LANES) {
+            VectorMask<Short> outside = ShortVector.fromCharArray(CHARS, chars, i)
+                    .compare(VectorOperators.UNSIGNED_GT, (short) ' ');
+            if (outside.anyTrue()) {
+                return i + outside.firstTrue();
+            }
+        }
+        return bound;
+    }
+
+    private static int spanDigits(char[] chars, int from, int to) {
+        int bound = from + CHARS.loopBound(to - from);
+        for (int i = from; i < bound; i += CHAR_LANES) {
+            VectorMask<Short> outside = ShortVector.fromCharArray(CHARS, chars, i).sub((short) '0')
+                    .compare(VectorOperators.UNSIGNED_GE, (short) 10);
+            if (outside.anyTrue()) {
+                return i + outside.firstTrue();
+            }
+        }
+        return bound;
+    }
+
+    private static int spanLetters(char[] chars, int from, int to) {
+        int bound = from + CHARS.loopBound(to - from);
+        for (int i = from; i < bound; i += CHAR_LANES) {
+            VectorMask<Short> outside = ShortVector.fromCharArray(CHARS, chars, i).or((short) 0x20)
+                    .sub((short) 'a').compare(VectorOperators.UNSIGNED_GE, (short) 26);
+            if (outside.anyTrue()) {
+                return i + outside.firstTrue();
+            }
+        }
+        return bound;
+    }
+
+    private static int spanLettersOrDigits(char[] chars, int from, int to) {
+        int bound = from + CHARS.loopBound(to - from);
+        for (int i = from; i < bound; i += CHAR_LANES) {
+            ShortVector v = ShortVector.fromCharArray(CHARS, chars, i);
+            VectorMask<Short> outside = v.or((short) 0x20).sub((short) 'a')
+                    .compare(VectorOperators.UNSIGNED_GE, (short) 26)
+                    .and(v.sub((short) '0').compare(VectorOperators.UNSIGNED_GE, (short) 10));
+            if (outside.anyTrue()) {
+                return i + outside.firstTrue();
+            }
+        }
+        return bound;
+    }
+}
@@ -0,0 +1,78 @@
+package com.linbrox.common;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Asserts how many bytes a call allocates, read from {@link com.sun.management.ThreadMXBean#getThreadAllocatedBytes}
+ * for the current thread.
+ * <p>
+ * A call is measured in rounds of {@value #CALLS_PER_ROUND} invocations over a fixed set of inputs, and the best
+ * round is compared with the budget: the first rounds run in the interpreter and C1, which allocate where C2's
+ * escape analysis does not, so the budget holds once the call is compiled as it would be in a long-running job.
+ * Rounds go on for up to ten seconds, since after a long suite on few cores C2 may take a while to reach the call;
+ * a call that really allocates per invocation never has a round under budget. The check is skipped where the JVM
+ * cannot count allocations, and when metrics are enabled, since timed calls then create Flight Recorder events.
+ */
+final class AllocationBudget {
+
+    static final int CALLS_PER_ROUND = 10_000;
+    private static final long MAX_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    /**
+     * The results of the measured calls are folded into this field so that the JIT cannot drop them.
+     */
+    static volatile long sink;
+
+    private AllocationBudget() {
+    }
+
+    /**
+     * A call under measurement, made with the index of one of the prepared inputs.
+     */
+    @FunctionalInterface
+    interface Call {
+        long run(int input);
+    }
+
+    /**
+     * Asserts that a call allocates at most {@code bytesPerCall} bytes per invocation on average.
+     *
+     * @param name         the name of the call, for the failure message
+     * @param bytesPerCall the budget, usually 0
+     * @param inputs       the number of prepared inputs, cycled through
+     * @param call         the call to measure
+     */
+    static void assertAtMost(String name, long bytesPerCall, int inputs, Call call) {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        assumeTrue(threads instanceof com.sun.management.ThreadMXBean, "Allocation counting is not available");
+        com.sun.management.ThreadMXBean allocations = (com.sun.management.ThreadMXBean) threads;
+        assumeTrue(allocations.isThreadAllocatedMemorySupported() && allocations.isThreadAllocatedMemoryEnabled(),
+                "Allocation counting is disabled");
+        assumeTrue(!Metrics.isEnabled(), "Metrics allocate Flight Recorder events");
+        long threadId = Thread.currentThread().getId();
+        long budget = bytesPerCall * CALLS_PER_ROUND;
+        long best = Long.MAX_VALUE;
+        long folded = 0;
+        long deadline = System.nanoTime() + MAX_NANOS;
+        while (best > budget && System.nanoTime() - deadline < 0) {
+            long before = allocations.getThreadAllocatedBytes(threadId);
+            int input = 0;
+            for (int i = 0; i < CALLS_PER_ROUND; i++) {
+                folded += call.run(input);
+                if (++input == inputs) {
+                    input = 0;
+                }
+            }
+            best = Math.min(best, allocations.getThreadAllocatedBytes(threadId) - before);
+        }
+        sink = folded;
+        long bestRound = best;
+        assertTrue(bestRound <= budget, () -> name + " allocated " + (double) bestRound / CALLS_PER_ROUND
+                + " bytes per call, budget " + bytesPerCall);
+    }
+}
@@ -0,0 +1,120 @@
+package com.linbrox.common;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsciiKernelsTest {
+
+    private static final int[] CHAR_CLASSES = {
+            AsciiKernels.WHITESPACE, AsciiKernels.DIGITS, AsciiKernels.LETTERS, AsciiKernels.LETTERS_OR_DIGITS
+    };
+
+    /**
+     * The lanes around every class boundary, and chars whose low byte is in a class.
+     */
+    private static final char[] EDGES = {
+            0, '\t', ' ', '!', '/', '0', '9', ':', '@', 'A', 'Z', '[', '`', 'a', 'z', '{', 0x7F, 0x80, 0xA0, 0xC1,
+            0xDF, 0xE1, 0xFF, 0x100, 0x130, 0x131, 0x141, 0x161, 0x212A, 0x1E9E, 0xDF, 0xFF21, 0xFF41, 0xFFFF
+    };
+
+    private static int referenceSpan(int[] values, int from, int to, int charClass) {
+        for (int i = from; i < to; i++) {
+            int c = values[i];
+            boolean inClass;
+            switch (charClass) {
+                case AsciiKernels.WHITESPACE:
+                    inClass = c <= ' ';
+                    break;
+                case AsciiKernels.DIGITS:
+                    inClass = c >= '0' && c <= '9';
+                    break;
+                case AsciiKernels.LETTERS:
+                    inClass = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+                    break;
+                default:
+                    inClass = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+            }
+            if (!inClass) {
+                return i;
+            }
+        }
+        return to;
+    }
+
+    private static char[] run(SplittableRandom random, int length, int charClass) {
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = charClass == AsciiKernels.WHITESPACE ? ' '
+                    : charClass == AsciiKernels.DIGITS ? (char) ('0' + random.nextInt(10))
+                    : (char) ((random.nextBoolean() ? 'a' : 'A') + random.nextInt(26));
+        }
+        // break the run at a random place with a random edge char, or leave it whole
+        if (length > 0 && random.nextInt(4) > 0) {
+            chars[random.nextInt(length)] = EDGES[random.nextInt(EDGES.length)];
+        }
+        return chars;
+    }
+
+    @Test
+    void shouldRunOnTheVectorApiOnlyWhenTheBuildAsksForIt() {
+        assertEquals(Boolean.getBoolean("com.linbrox.common.vectorized"), AsciiKernels.isVectorized());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 15, 16, 17, 31, 32, 33, 63, 64, 65, 127, 128, 129, 1000})
+    void shouldSpanCharsAndBytesLikeTheScalarLoop(int length) {
+        SplittableRandom random = new SplittableRandom(length);
+        for (int round = 0; round < 200; round++) {
+            for (int charClass : CHAR_CLASSES) {
+                char[] chars = run(random, length, charClass);
+                byte[] bytes = new byte[length];
+                int[] charValues = new int[length];
+                int[] byteValues = new int[length];
+                for (int i = 0; i < length; i++) {
+                    bytes[i] = (byte) chars[i];
+                    charValues[i] = chars[i];
+                    byteValues[i] = chars[i] & 0xFF;
+                }
+                int from = length == 0 ? 0 : random.nextInt(Math.min(length, 3) + 1);
+                int to = Math.max(from, length - random.nextInt(Math.min(length, 3) + 1));
+                assertEquals(referenceSpan(charValues, from, to, charClass),
+                        AsciiKernels.span(chars, from, to, charClass));
+                assertEquals(referenceSpan(byteValues, from, to, charClass),
+                        AsciiKernels.span(bytes, from, to, charClass));
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 16, 33, 64, 200})
+    void shouldFindTheSameIgnoreCaseMismatchAsTheScalarLoop(int length) {
+        SplittableRandom random = new SplittableRandom(length);
+        for (int round = 0; round < 2000; round++) {
+            char[] first = new char[length];
+            char[] second = new char[length];
+            for (int i = 0; i < length; i++) {
+                char c = random.nextInt(8) == 0
+                        ? EDGES[random.nextInt(EDGES.length)]
+                        : (char) ('a' + random.nextInt(26));
+                first[i] = c;
+                second[i] = random.nextBoolean() ? Character.toUpperCase(c) : c;
+            }
+            if (random.nextBoolean()) {
+                second[random.nextInt(length)] = EDGES[random.nextInt(EDGES.length)];
+            }
+            int expected = length;
+            for (int i = 0; i < length; i++) {
+                if (Character.toLowerCase(first[i]) != Character.toLowerCase(second[i])) {
+                    expected = i;
+                    break;
+                }
+            }
+            assertEquals(expected, AsciiKernels.mismatchIgnoreCase(first, second, 0, length));
+        }
+    }
+}
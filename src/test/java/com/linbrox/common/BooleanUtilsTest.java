@@ -0,0 +1,105 @@
+package com.linbrox.common;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BooleanUtilsTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"true", "TRUE", "t", "T", "yes", "Yes", "y", "on", "ON", "1", " true ", "\tY\n"})
+    void shouldReadTrueTokens(String value) {
+        assertEquals(BooleanLexicon.TRUE, BooleanUtils.parseBoolean(value));
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        assertEquals(BooleanLexicon.TRUE, BooleanUtils.parseBoolean(bytes, 0, bytes.length));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"false", "False", "f", "no", "NO", "n", "off", "Off", "0", "  0  "})
+    void shouldReadFalseTokens(String value) {
+        assertEquals(BooleanLexicon.FALSE, BooleanUtils.parseBoolean(value));
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        assertEquals(BooleanLexicon.FALSE, BooleanUtils.parseBoolean(bytes, 0, bytes.length));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "   ", "maybe", "tru", "truee", "yes!", "2", "o", "y e s", "yés", "ı", "true "})
+    void shouldReportUnrecognisedTokens(String value) {
+        assertEquals(BooleanLexicon.UNRECOGNISED, BooleanUtils.parseBoolean(value));
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        assertEquals(BooleanLexicon.UNRECOGNISED, BooleanUtils.parseBoolean(bytes, 0, bytes.length));
+    }
+
+    @Test
+    void shouldReadOnlyTheRequestedRegion() {
+        assertEquals(BooleanLexicon.FALSE, BooleanLexicon.DEFAULT.parse("id=7,active=off", 12, 15));
+        byte[] bytes = "[yes]".getBytes(StandardCharsets.UTF_8);
+        assertEquals(BooleanLexicon.TRUE, BooleanUtils.parseBoolean(bytes, 1, 3));
+        assertThrows(IndexOutOfBoundsException.class, () -> BooleanUtils.parseBoolean(bytes, 3, 3));
+    }
+
+    @Test
+    void shouldUseACustomLexicon() {
+        BooleanLexicon lexicon = BooleanLexicon.of(List.of("si", "verdadero"), List.of("no", "falso"));
+        assertEquals(BooleanLexicon.TRUE, BooleanUtils.parseBoolean("SI", lexicon));
+        assertEquals(BooleanLexicon.TRUE, BooleanUtils.parseBoolean("Verdadero", lexicon));
+        assertEquals(BooleanLexicon.FALSE, BooleanUtils.parseBoolean("falso", lexicon));
+        assertEquals(BooleanLexicon.UNRECOGNISED, BooleanUtils.parseBoolean("true", lexicon));
+        assertEquals(BooleanLexicon.UNRECOGNISED, BooleanUtils.parseBoolean("verdadera", lexicon));
+        byte[] bytes = "VERDADERO".getBytes(StandardCharsets.UTF_8);
+        assertEquals(BooleanLexicon.TRUE, lexicon.parse(bytes, 0, bytes.length));
+    }
+
+    @Test
+    void shouldThrownAnExceptionWhenLexiconIsInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> BooleanLexicon.of(List.of("yes"), List.of("YES")));
+        assertThrows(IllegalArgumentException.class, () -> BooleanLexicon.of(List.of(""), List.of("no")));
+        assertThrows(IllegalArgumentException.class, () -> BooleanLexicon.of(List.of(" yes"), List.of("no")));
+        assertThrows(IllegalArgumentException.class, () -> BooleanLexicon.of(List.of("sí"), List.of("no")));
+        assertThrows(NullPointerException.class, () -> BooleanLexicon.of(List.of("yes"), null));
+    }
+
+    @Test
+    void shouldPackAColumnIntoBitsets() {
+        String[] column = new String[130];
+        for (int i = 0; i < column.length; i++) {
+            column[i] = i % 3 == 0 ? "Y" : i % 3 == 1 ? "off" : "?";
+        }
+        column[129] = null;
+        BooleanColumn actual = BooleanUtils.parseAll(column);
+        assertEquals(130, actual.size());
+        for (int i = 0; i < column.length; i++) {
+            int expected = column[i] == null ? BooleanLexicon.UNRECOGNISED : BooleanUtils.parseBoolean(column[i]);
+            assertEquals(expected, actual.state(i), "row " + i);
+            assertEquals(expected == BooleanLexicon.TRUE, actual.get(i));
+            assertEquals(expected != BooleanLexicon.UNRECOGNISED, actual.isRecognised(i));
+        }
+        assertEquals(43, actual.trueCount());
+        assertEquals(43, actual.falseCount());
+        assertEquals(44, actual.unrecognisedCount());
+        assertEquals(3, actual.toValueWords().length);
+        assertThrows(IndexOutOfBoundsException.class, () -> actual.get(130));
+    }
+
+    @Test
+    void shouldConvertAPrimitiveInt() {
+        assertTrue(BooleanUtils.toBooleanExact(1));
+        assertFalse(BooleanUtils.toBooleanExact(0));
+        assertThrows(IllegalArgumentException.class, () -> BooleanUtils.toBooleanExact(2));
+        // an int argument still binds to the boxed overload, as it did before the primitive variant existed
+        assertEquals(Boolean.TRUE, BooleanUtils.toBoolean(1));
+        assertThrows(NullPointerException.class, () -> BooleanUtils.toBoolean((Integer) null));
+    }
+
+    @Test
+    void shouldKeepTheStringConversion() {
+        assertTrue(BooleanUtils.toBoolean("TRUE"));
+        assertFalse(BooleanUtils.toBoolean("yes"));
+        assertThrows(NullPointerException.class, () -> BooleanUtils.toBoolean((String) null));
+    }
+}
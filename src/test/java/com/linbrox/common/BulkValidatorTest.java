@@ -0,0 +1,85 @@
+package com.linbrox.common;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.BitSet;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BulkValidatorTest {
+
+    private static final String[] SAMPLES = {
+            "42", " -7 ", "3.14", "abc", "abc123", "a@b.co", "", "   ", null, "x y", "+0.5", "é"
+    };
+
+    private static String[] column(int size) {
+        String[] column = new String[size];
+        for (int i = 0; i < size; i++) {
+            column[i] = SAMPLES[(i * 7 + i / 13) % SAMPLES.length];
+        }
+        return column;
+    }
+
+    private static void assertMatchesOneByOne(String[] column, Validation kind, ValidationResult actual) {
+        long blank = 0;
+        long valid = 0;
+        for (int i = 0; i < column.length; i++) {
+            boolean isBlank = column[i] == null || column[i].trim().isEmpty();
+            boolean expected = !isBlank && kind.test(column[i]);
+            assertEquals(expected, actual.isValid(i), "index " + i);
+            blank += isBlank ? 1 : 0;
+            valid += expected ? 1 : 0;
+        }
+        assertEquals(column.length, actual.size());
+        assertEquals(valid, actual.validCount());
+        assertEquals(column.length - valid, actual.invalidCount());
+        assertEquals(blank, actual.blankCount());
+    }
+
+    @ParameterizedTest
+    @EnumSource(Validation.class)
+    void shouldValidateSmallColumnsOnTheCallingThread(Validation kind) {
+        String[] column = column(1000);
+        assertMatchesOneByOne(column, kind, StringUtils.validateAll(column, kind));
+    }
+
+    @ParameterizedTest
+    @EnumSource(Validation.class)
+    void shouldSplitLargeColumnsAcrossThePool(Validation kind) {
+        String[] column = column(BulkValidator.SEQUENTIAL_THRESHOLD * 5 + 37);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            assertMatchesOneByOne(column, kind, StringUtils.validateAll(column, kind, pool));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void shouldExposeTheResultsAsABitSet() {
+        ValidationResult actual = StringUtils.validateAll(new String[]{"1", "x", "2"}, Validation.NUMERIC);
+        BitSet expected = new BitSet();
+        expected.set(0);
+        expected.set(2);
+        assertEquals(expected, actual.toBitSet());
+        assertArrayEquals(new long[]{5L}, actual.toLongArray());
+    }
+
+    @Test
+    void shouldHandleAnEmptyColumn() {
+        ValidationResult actual = StringUtils.validateAll(new String[0], Validation.EMAIL);
+        assertEquals(0, actual.size());
+        assertEquals(0, actual.validCount());
+        assertThrows(IndexOutOfBoundsException.class, () -> actual.isValid(0));
+    }
+
+    @Test
+    void shouldThrownAnExceptionWhenArgumentsAreNull() {
+        assertThrows(NullPointerException.class, () -> StringUtils.validateAll(null, Validation.ALPHA));
+        assertThrows(NullPointerException.class, () -> StringUtils.validateAll(new String[0], null));
+        assertThrows(NullPointerException.class, () -> StringUtils.validateAll(new String[0], Validation.ALPHA, null));
+    }
+}
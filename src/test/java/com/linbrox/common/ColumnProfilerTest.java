@@ -0,0 +1,151 @@
+package com.linbrox.common;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ColumnProfilerTest {
+
+    private static final String[] SAMPLES = {
+            "42", " -7 ", "3.14", "+0.5", "abc", "abc123", "a@b.co", "x.y@mail.example.org", "", "   ", "true",
+            "No", "1", "0", "yes ", "été", "1e5", "99999999999999999999", "-0.000001", "a b", "@"
+    };
+
+    @TempDir
+    Path directory;
+
+    private Path write(String content) throws IOException {
+        return Files.write(directory.resolve("data.csv"), content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void shouldProfileEveryColumnOfASmallFile() throws IOException {
+        Path file = write("id,email,active,score\r\n"
+                + "1,a@b.co,yes,10\r\n"
+                + "\r\n"
+                + "2,not an email,N,-2.5\r\n"
+                + "3,, maybe ,7\r\n"
+                + "4,c@d.org,true");
+        TableProfile profile = ColumnProfiler.of(',').withHeader(true).profile(file);
+        assertEquals(4, profile.recordCount());
+        assertEquals(4, profile.columnCount());
+        ColumnProfile id = profile.column(0);
+        assertEquals("id", id.name());
+        assertEquals(4, id.valueCount());
+        assertEquals(4, id.numericCount());
+        assertEquals(4, id.alphaNumericCount());
+        assertEquals(1, id.booleanCount());
+        assertEquals(1.0, id.min());
+        assertEquals(4.0, id.max());
+        ColumnProfile email = profile.column(1);
+        assertEquals(2, email.emailCount());
+        assertEquals(1, email.blankCount());
+        assertTrue(Double.isNaN(email.min()));
+        assertEquals(3, profile.column(2).booleanCount());
+        ColumnProfile score = profile.column(3);
+        assertEquals("score", score.name());
+        assertEquals(2, score.numericCount());
+        assertEquals(1, score.decimalCount());
+        assertEquals(-2.5, score.min());
+        assertEquals(10.0, score.max());
+    }
+
+    @ParameterizedTest
+    @ValueSource(chars = {',', '\t', '|'})
+    void shouldProfileSlicesInParallelLikeOneStringAtATime(char delimiter) throws IOException {
+        SplittableRandom random = new SplittableRandom(delimiter);
+        int columns = 6;
+        long[][] expected = new long[columns][7];
+        double[] min = new double[columns];
+        double[] max = new double[columns];
+        Arrays.fill(min, Double.POSITIVE_INFINITY);
+        Arrays.fill(max, Double.NEGATIVE_INFINITY);
+        StringBuilder content = new StringBuilder();
+        int records = 20_000;
+        for (int record = 0; record < records; record++) {
+            // ragged records: the last columns are sometimes missing
+            int width = columns - random.nextInt(3);
+            for (int column = 0; column < width; column++) {
+                String value = SAMPLES[random.nextInt(SAMPLES.length)];
+                content.append(column == 0 ? "" : String.valueOf(delimiter)).append(value);
+                long[] counts = expected[column];
+                counts[ColumnProfiler.VALUES]++;
+                if (StringUtils.isBlank(value)) {
+                    counts[ColumnProfiler.BLANK]++;
+                    continue;
+                }
+                if (StringUtils.isNumeric(value) || StringUtils.isNumericWithDecimal(value)) {
+                    counts[StringUtils.isNumeric(value) ? ColumnProfiler.NUMERIC : ColumnProfiler.DECIMAL]++;
+                    min[column] = Math.min(min[column], Double.parseDouble(value));
+                    max[column] = Math.max(max[column], Double.parseDouble(value));
+                }
+                counts[ColumnProfiler.ALPHA_NUMERIC] += StringUtils.isAlphaNumeric(value) ? 1 : 0;
+                counts[ColumnProfiler.EMAIL] += StringUtils.isEmail(value) ? 1 : 0;
+                boolean recognised = BooleanLexicon.DEFAULT.parse(value) != BooleanLexicon.UNRECOGNISED;
+                counts[ColumnProfiler.BOOLEAN] += recognised ? 1 : 0;
+            }
+            content.append(random.nextBoolean() ? "\n" : "\r\n");
+        }
+        Path file = write(content.toString());
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            TableProfile parallel = ColumnProfiler.of(delimiter).withPool(pool).withMinimumSplit(4096).profile(file);
+            TableProfile sequential = ColumnProfiler.of(delimiter).profile(file);
+            for (TableProfile profile : new TableProfile[]{parallel, sequential}) {
+                assertEquals(records, profile.recordCount());
+                assertEquals(columns, profile.columnCount());
+                for (int column = 0; column < columns; column++) {
+                    ColumnProfile actual = profile.column(column);
+                    assertNull(actual.name());
+                    assertEquals(expected[column][ColumnProfiler.VALUES], actual.valueCount());
+                    assertEquals(expected[column][ColumnProfiler.BLANK], actual.blankCount());
+                    assertEquals(expected[column][ColumnProfiler.NUMERIC], actual.numericCount());
+                    assertEquals(expected[column][ColumnProfiler.DECIMAL], actual.decimalCount());
+                    assertEquals(expected[column][ColumnProfiler.ALPHA_NUMERIC], actual.alphaNumericCount());
+                    assertEquals(expected[column][ColumnProfiler.EMAIL], actual.emailCount());
+                    assertEquals(expected[column][ColumnProfiler.BOOLEAN], actual.booleanCount());
+                    assertEquals(min[column], actual.min());
+                    assertEquals(max[column], actual.max());
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void shouldProfileRecordsLongerThanABlock() throws IOException {
+        Path file = write("x".repeat(3 << 20) + ",1\n2");
+        TableProfile profile = ColumnProfiler.of(',').profile(file);
+        assertEquals(2, profile.recordCount());
+        assertEquals(2, profile.column(0).alphaNumericCount());
+        assertEquals(1, profile.column(1).valueCount());
+    }
+
+    @Test
+    void shouldProfileAnEmptyFile() throws IOException {
+        TableProfile profile = ColumnProfiler.of(',').withHeader(true).profile(write(""));
+        assertEquals(0, profile.recordCount());
+        assertEquals(0, profile.columnCount());
+    }
+
+    @Test
+    void shouldThrownAnErrorWhenTheProfilerIsMisused() {
+        assertThrows(IllegalArgumentException.class, () -> ColumnProfiler.of('\n'));
+        assertThrows(IllegalArgumentException.class, () -> ColumnProfiler.of('\u00a7'));
+        assertThrows(NullPointerException.class, () -> ColumnProfiler.of(',').withBooleanLexicon(null));
+        assertThrows(NoSuchFileException.class, () -> ColumnProfiler.of(',').profile(directory.resolve("missing")));
+    }
+}
@@ -0,0 +1,213 @@
+package com.linbrox.common;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic input corpora for {@link DifferentialTest}: random texts built from tokens that the fast paths must
+ * accept mixed with tokens they must reject, and the adversarial values at the edges of each syntax. Every corpus
+ * is derived from a seed, so a failure reproduces on every run.
+ */
+final class Corpus {
+
+    /**
+     * Whitespace and invisible characters outside the ASCII range that {@link String#trim()} keeps, and ASCII
+     * controls that it strips.
+     */
+    static final String[] UNICODE_WHITESPACE = {
+            "\u00a0", "\u1680", "\u2000", "\u2003", "\u200b", "\u2028", "\u3000", "\u0085", "\ufeff",
+            "\u001c", "\u001f", "\u007f", "\u0000"
+    };
+
+    /**
+     * A surrogate pair, lone high and low surrogates and the last code point.
+     */
+    static final String[] SURROGATES = {"\ud83d\ude00", "\ud83d", "\ude00", "\udbff\udfff"};
+
+    /**
+     * Digits and number-like characters that {@code \d} without flags does not match.
+     */
+    static final String[] NON_ASCII_DIGITS = {"\u0661", "\u0966", "\uff10", "\uff19", "\u00b2", "\u2167",
+            "\ud835\udfce"};
+
+    /**
+     * Letters that case-fold to or from ASCII letters, and one that is outside the BMP.
+     */
+    static final String[] NON_ASCII_LETTERS = {"\u00e9", "\u0130", "\u0131", "\u212a", "\u017f", "\u00df",
+            "\ud835\udc00"};
+
+    private static final String[] NUMBER_TOKENS = {
+            "0", "1", "2", "3", "4", "5", "6", "7", "8", "9", "00", "99", "123456789", "9223372036854775807",
+            "+", "-", ".", "e", "E", "e-", "x", "_", " ", "\t", "\n", "\r", "\f", "\u000b", "NaN", "Infinity",
+            "0x", "p", "d", "f"
+    };
+
+    private static final String[] TEXT_TOKENS = {
+            "a", "z", "A", "Z", "q", "0", "9", "@", ".", "-", "_", "+", "!", "~", "`", "{", "|", " ", "\t", "\n",
+            "co", "com", "ex-ample", "..", "@@", "[", "/", ":"
+    };
+
+    private Corpus() {
+    }
+
+    /**
+     * @return the bounds of {@code int} and {@code long} with their neighbours, signs, padding and whitespace
+     */
+    static List<String> integerBoundaries() {
+        List<String> values = new ArrayList<>();
+        for (long bound : new long[]{Integer.MIN_VALUE, Integer.MAX_VALUE, Long.MIN_VALUE, Long.MAX_VALUE, 0}) {
+            String text = Long.toString(bound);
+            values.add(text);
+            values.add(bound < 0 ? text.substring(1) : "+" + text);
+            values.add(" \t" + text + "\n");
+            values.add("000000000000000000000" + (bound < 0 ? text.substring(1) : text));
+            values.add(text + "0");
+            values.add(text.substring(0, text.length() - 1) + (char) (text.charAt(text.length() - 1) + 1));
+            values.add(text + "\u00a0");
+        }
+        values.add("-9223372036854775808");
+        values.add("-9223372036854775809");
+        values.add("99999999999999999999999999999999");
+        values.add("-99999999999999999999999999999999x");
+        return values;
+    }
+
+    /**
+     * @return random number-like texts, the integer boundaries and mutations of both
+     */
+    static List<String> numbers(long seed, int count) {
+        SplittableRandom random = new SplittableRandom(seed);
+        List<String> values = new ArrayList<>(integerBoundaries());
+        while (values.size() < count) {
+            values.add(mutate(random, join(random, NUMBER_TOKENS, 1 + random.nextInt(6))));
+        }
+        return values;
+    }
+
+    /**
+     * @return random texts of letters, digits, email punctuation and whitespace, and mutations of them
+     */
+    static List<String> texts(long seed, int count) {
+        SplittableRandom random = new SplittableRandom(seed);
+        List<String> values = new ArrayList<>();
+        while (values.size() < count) {
+            values.add(mutate(random, join(random, TEXT_TOKENS, 1 + random.nextInt(10))));
+        }
+        return values;
+    }
+
+    /**
+     * @return texts around the {@code ISO_LOCAL_DATE_TIME} syntax: fields at and past their bounds, leap days,
+     * signed and long years, fractions of up to ten digits, and mutations of all of them
+     */
+    static List<String> dates(long seed, int count) {
+        SplittableRandom random = new SplittableRandom(seed);
+        List<String> values = new ArrayList<>();
+        while (values.size() < count) {
+            StringBuilder date = new StringBuilder();
+            date.append(year(random)).append('-');
+            date.append(field(random, 1, 12)).append('-').append(field(random, 1, 31));
+            date.append(random.nextInt(20) == 0 ? 't' : 'T');
+            date.append(field(random, 0, 23)).append(':').append(field(random, 0, 59));
+            if (random.nextBoolean()) {
+                date.append(':').append(field(random, 0, 59));
+                if (random.nextBoolean()) {
+                    date.append('.');
+                    int digits = random.nextInt(11);
+                    for (int i = 0; i < digits; i++) {
+                        date.append((char) ('0' + random.nextInt(10)));
+                    }
+                }
+            }
+            String text = date.toString();
+            values.add(random.nextInt(3) == 0 ? mutate(random, text) : text);
+        }
+        return values;
+    }
+
+    private static String year(SplittableRandom random) {
+        switch (random.nextInt(8)) {
+            case 0:
+                return random.nextBoolean() ? "+999999999" : "-999999999";
+            case 1:
+                return random.nextBoolean() ? "+1000000000" : "10000";
+            case 2:
+                return "-" + String.format("%04d", random.nextInt(10_000));
+            case 3:
+                return "+" + (10_000 + random.nextInt(1_000_000));
+            case 4:
+                return String.format("%04d", 4 * random.nextInt(2_500));
+            default:
+                return String.format("%04d", 1900 + random.nextInt(300));
+        }
+    }
+
+    private static String field(SplittableRandom random, int min, int max) {
+        int value = random.nextInt(10) == 0 ? random.nextInt(100) : min + random.nextInt(max - min + 1);
+        return random.nextInt(30) == 0 ? Integer.toString(value) : String.format("%02d", value);
+    }
+
+    private static String join(SplittableRandom random, String[] tokens, int length) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            text.append(tokens[random.nextInt(tokens.length)]);
+        }
+        return text.toString();
+    }
+
+    /**
+     * Leaves one text in two as it is; otherwise inserts, replaces or deletes one char, or wraps the text in
+     * whitespace, taking the foreign chars from the adversarial sets.
+     */
+    private static String mutate(SplittableRandom random, String text) {
+        if (random.nextBoolean()) {
+            return text;
+        }
+        String[] pool;
+        switch (random.nextInt(4)) {
+            case 0:
+                pool = UNICODE_WHITESPACE;
+                break;
+            case 1:
+                pool = SURROGATES;
+                break;
+            case 2:
+                pool = NON_ASCII_DIGITS;
+                break;
+            default:
+                pool = NON_ASCII_LETTERS;
+                break;
+        }
+        String foreign = pool[random.nextInt(pool.length)];
+        int position = text.isEmpty() ? 0 : random.nextInt(text.length());
+        switch (random.nextInt(5)) {
+            case 0:
+                return text.substring(0, position) + foreign + text.substring(position);
+            case 1:
+                return text.isEmpty() ? foreign : text.substring(0, position) + foreign + text.substring(position + 1);
+            case 2:
+                return text.isEmpty() ? text : text.substring(0, position) + text.substring(position + 1);
+            case 3:
+                return foreign + text + foreign;
+            default:
+                return " " + text + "\t";
+        }
+    }
+
+    /**
+     * @return the text with every char outside printable ASCII escaped, for assertion messages
+     */
+    static String describe(CharSequence text) {
+        StringBuilder out = new StringBuilder("\"");
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= ' ' && c < 0x7f) {
+                out.append(c);
+            } else {
+                out.append(String.format("\\u%04x", (int) c));
+            }
+        }
+        return out.append('"').toString();
+    }
+}
@@ -4,7 +4,16 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.time.Clock;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.SplittableRandom;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -45,4 +54,181 @@ class DateUtilsTest {
         assertThrows(Exception.class, ()-> DateUtils.isPastDate(dateTimeStr));
 
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldClassifyDatesAgainstTheInstalledDayClock() {
+        DayClock previous = DateUtils.getDayClock();
+        ZoneId zone = ZoneId.of("Europe/Madrid");
+        DateUtils.setDayClock(DayClock.of(Clock.fixed(Instant.parse("2024-03-10T12:00:00Z"), zone)));
+        try {
+            Date startOfToday = Date.from(Instant.parse("2024-03-09T23:00:00Z"));
+            Date startOfTomorrow = Date.from(Instant.parse("2024-03-10T23:00:00Z"));
+            assertTrue(DateUtils.isToday(startOfToday));
+            assertFalse(DateUtils.isToday(new Date(startOfToday.getTime() - 1)));
+            assertFalse(DateUtils.isToday(startOfTomorrow));
+            assertTrue(DateUtils.isFutureDate(startOfTomorrow));
+            assertFalse(DateUtils.isFutureDate(new Date(startOfTomorrow.getTime() - 1)));
+            assertTrue(DateUtils.isPastDate(startOfToday));
+            assertTrue(DateUtils.isPastDate(LocalDateTime.of(2024, 3, 10, 12, 59, 59, 999_000_000)));
+            assertFalse(DateUtils.isPastDate(LocalDateTime.of(2024, 3, 10, 13, 0)));
+            assertFalse(DateUtils.isFutureDate(LocalDateTime.of(2024, 3, 10, 23, 59)));
+            assertTrue(DateUtils.isFutureDate("2024-03-11T00:00:00"));
+            assertFalse(DateUtils.isFutureDate("2024-03-10T23:59:59.999999999"));
+            assertTrue(DateUtils.isPastDate("2024-03-10T12:59:59.999999"));
+            assertFalse(DateUtils.isPastDate("2024-03-10T13:00:00.000000001"));
+            assertEquals(LocalDate.of(2024, 3, 11), DateUtils.tomorrow());
+            assertEquals(LocalDate.of(2024, 3, 9), DateUtils.yesterday());
+        } finally {
+            DateUtils.setDayClock(previous);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"2023-02-29T00:00", "2023-10-12 07:20", "", "2023-10-12T07:20:50Z"})
+    void shouldThrownAParseErrorWhenDateTimeStringIsInvalid(String dateTimeStr) {
+        assertThrows(DateTimeParseException.class, () -> DateUtils.isPastDate(dateTimeStr));
+        assertThrows(DateTimeParseException.class, () -> DateUtils.isFutureDate(dateTimeStr));
+    }
+
+    @Test
+    void shouldThrownAnErrorWhenDayClockIsNull() {
+        assertThrows(NullPointerException.class, () -> DateUtils.setDayClock(null));
+    }
+
+    @Test
+    void shouldGenerateRandomDatesWithinTheirRanges() {
+        LocalDateTime min = LocalDateTime.of(1900, 1, 1, 0, 0);
+        LocalDateTime max = LocalDateTime.of(2100, 12, 31, 0, 0);
+        LocalDateTime today = LocalDate.now().atStartOfDay();
+        for (int i = 0; i < 10_000; i++) {
+            LocalDateTime date = DateUtils.randomDate();
+            assertFalse(date.isBefore(min) || !date.isBefore(max), date::toString);
+            LocalDateTime past = DateUtils.randomPastDate();
+            assertFalse(past.isBefore(min) || !past.isBefore(today), past::toString);
+            LocalDateTime future = DateUtils.randomFutureDate();
+            assertFalse(future.isBefore(today) || !future.isBefore(today.plusYears(100)), future::toString);
+        }
+    }
+
+    @Test
+    void shouldGenerateReproducibleRandomDatesFromASeed() {
+        assertEquals(DateUtils.randomDate(new SplittableRandom(42)), DateUtils.randomDate(new SplittableRandom(42)));
+        long[] first = new long[1000];
+        long[] second = new long[1000];
+        DateUtils.fillRandomEpochSeconds(first, 0, 86_400, new SplittableRandom(7));
+        DateUtils.fillRandomEpochSeconds(second, 0, 86_400, new SplittableRandom(7));
+        assertArrayEquals(first, second);
+        assertTrue(Arrays.stream(first).allMatch(value -> value >= 0 && value < 86_400));
+        assertArrayEquals(DateUtils.randomEpochSeconds(100_000, 0, 1_000_000, 3).toArray(),
+                DateUtils.randomEpochSeconds(100_000, 0, 1_000_000, 3).parallel().toArray());
+    }
+
+    @Test
+    void shouldStreamRandomEpochSecondsInParallel() {
+        long from = LocalDateTime.of(2000, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC);
+        long until = LocalDateTime.of(2001, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC);
+        long[] seconds = DateUtils.randomEpochSeconds(200_000, from, until).parallel().toArray();
+        assertEquals(200_000, seconds.length);
+        assertTrue(Arrays.stream(seconds).allMatch(second -> second >= from && second < until));
+    }
+
+    @Test
+    void shouldThrownAnErrorWhenRandomRangeIsEmpty() {
+        assertThrows(IllegalArgumentException.class, () -> DateUtils.fillRandomEpochSeconds(new long[1], 5, 5));
+        assertThrows(IllegalArgumentException.class, () -> DateUtils.randomEpochSeconds(1, 5, 4));
+        assertThrows(NullPointerException.class, () -> DateUtils.randomDate(null));
+    }
+
+    private static byte expectedKind(boolean past, boolean future) {
+        return past ? DayClassification.PAST : future ? DayClassification.FUTURE : DayClassification.TODAY;
+    }
+
+    @Test
+    void shouldClassifyWholeArraysLikeTheSingleValueChecks() {
+        DayClock previous = DateUtils.getDayClock();
+        ZoneId zone = ZoneId.of("Europe/Madrid");
+        Instant now = Instant.parse("2024-03-30T22:30:00.500Z");
+        DateUtils.setDayClock(DayClock.of(Clock.fixed(now, zone)));
+        try {
+            SplittableRandom random = new SplittableRandom(17);
+            // more than one leaf task, around now and across the daylight-saving change of the next night
+            int size = 3 * DayClassifier.SEQUENTIAL_THRESHOLD + 5;
+            long[] millis = new long[size];
+            Date[] dates = new Date[size];
+            LocalDateTime[] local = new LocalDateTime[size];
+            long[] edges = {now.toEpochMilli(), now.toEpochMilli() - 1, now.toEpochMilli() + 1,
+                    Instant.parse("2024-03-30T23:00:00Z").toEpochMilli(),
+                    Instant.parse("2024-03-30T23:00:00Z").toEpochMilli() - 1};
+            for (int i = 0; i < size; i++) {
+                millis[i] = i < edges.length ? edges[i] : now.toEpochMilli() + random.nextLong(-3 * 86_400_000L,
+                        3 * 86_400_000L);
+                dates[i] = new Date(millis[i]);
+                local[i] = LocalDateTime.ofEpochSecond(Math.floorDiv(millis[i], 1000),
+                        (int) Math.floorMod(millis[i], 1000) * 1_000_000 + random.nextInt(1_000_000), ZoneOffset.UTC);
+            }
+            DayClassification byMillis = DateUtils.classifyAll(millis);
+            DayClassification byDates = DateUtils.classifyAll(dates);
+            DayClassification byLocal = DateUtils.classifyAll(local);
+            int[] counts = new int[3];
+            for (int i = 0; i < size; i++) {
+                byte expected = expectedKind(DateUtils.isPastDate(dates[i]), DateUtils.isFutureDate(dates[i]));
+                assertEquals(expected, byMillis.kind(i), "millis " + millis[i]);
+                assertEquals(expected, byDates.kind(i), "date " + millis[i]);
+                assertEquals(expectedKind(DateUtils.isPastDate(local[i]), DateUtils.isFutureDate(local[i])),
+                        byLocal.kind(i), "local " + local[i]);
+                counts[expected]++;
+            }
+            assertEquals(DayClassification.PAST, byMillis.kind(1));
+            assertEquals(DayClassification.TODAY, byMillis.kind(0));
+            assertEquals(DayClassification.TODAY, byMillis.kind(4));
+            assertEquals(DayClassification.FUTURE, byMillis.kind(3));
+            assertEquals(counts[DayClassification.PAST], byMillis.pastCount());
+            assertEquals(counts[DayClassification.TODAY], byMillis.todayCount());
+            assertEquals(counts[DayClassification.FUTURE], byMillis.futureCount());
+            assertArrayEquals(byMillis.toByteArray(), byDates.toByteArray());
+            int[] future = byMillis.indexes(DayClassification.FUTURE);
+            assertEquals(byMillis.futureCount(), future.length);
+            assertTrue(Arrays.stream(future).allMatch(i -> byMillis.kind(i) == DayClassification.FUTURE));
+            assertTrue(Arrays.stream(future).allMatch(i -> DateUtils.isFutureDate(dates[i])));
+        } finally {
+            DateUtils.setDayClock(previous);
+        }
+    }
+
+    @Test
+    void shouldClassifyWholeArraysInAnotherZone() {
+        DayClock previous = DateUtils.getDayClock();
+        Clock clock = Clock.fixed(Instant.parse("2024-03-10T12:00:00Z"), ZoneOffset.UTC);
+        ZoneId tokyo = ZoneId.of("Asia/Tokyo");
+        DateUtils.setDayClock(DayClock.of(clock));
+        try {
+            long startOfTomorrowInTokyo = Instant.parse("2024-03-10T15:00:00Z").toEpochMilli();
+            long[] millis = {startOfTomorrowInTokyo - 1, startOfTomorrowInTokyo};
+            assertArrayEquals(new byte[]{DayClassification.TODAY, DayClassification.TODAY},
+                    DateUtils.classifyAll(millis).toByteArray());
+            assertArrayEquals(new byte[]{DayClassification.TODAY, DayClassification.FUTURE},
+                    DateUtils.classifyAll(millis, tokyo).toByteArray());
+            LocalDateTime[] local = {LocalDateTime.of(2024, 3, 10, 20, 59), LocalDateTime.of(2024, 3, 10, 21, 1),
+                    LocalDateTime.of(2024, 3, 11, 0, 0)};
+            assertArrayEquals(new byte[]{DayClassification.PAST, DayClassification.TODAY, DayClassification.FUTURE},
+                    DateUtils.classifyAll(local, tokyo).toByteArray());
+            assertArrayEquals(new byte[]{DayClassification.PAST},
+                    DateUtils.classifyAll(new Date[]{new Date(0)}, tokyo).toByteArray());
+        } finally {
+            DateUtils.setDayClock(previous);
+        }
+    }
+
+    @Test
+    void shouldThrownAnErrorWhenClassifyingMissingDates() {
+        assertThrows(NullPointerException.class, () -> DateUtils.classifyAll((long[]) null));
+        assertThrows(NullPointerException.class, () -> DateUtils.classifyAll(new Date[]{new Date(), null}));
+        assertThrows(NullPointerException.class, () -> DateUtils.classifyAll(new LocalDateTime[1]));
+        assertThrows(NullPointerException.class, () -> DateUtils.classifyAll(new long[1], null));
+        DayClassification empty = DateUtils.classifyAll(new long[0]);
+        assertEquals(0, empty.size());
+        assertEquals(0, empty.indexes(DayClassification.PAST).length);
+        assertThrows(IllegalArgumentException.class, () -> empty.indexes((byte) 3));
+        assertThrows(IndexOutOfBoundsException.class, () -> empty.kind(0));
+    }
+}
@@ -0,0 +1,97 @@
+package com.linbrox.common;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DayClockTest {
+
+    /**
+     * A clock whose instant the test moves by hand.
+     */
+    private static final class SteppingClock extends Clock {
+        private final ZoneId zone;
+        private long millis;
+
+        SteppingClock(String instant, ZoneId zone) {
+            this.millis = Instant.parse(instant).toEpochMilli();
+            this.zone = zone;
+        }
+
+        void advanceMinutes(long minutes) {
+            millis += minutes * 60_000;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return zone;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            SteppingClock clock = new SteppingClock(Instant.ofEpochMilli(millis).toString(), zone);
+            clock.millis = millis;
+            return clock;
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+    }
+
+    @Test
+    void shouldComputeTheBoundsOfToday() {
+        DayClock clock = DayClock.of(Clock.fixed(Instant.parse("2024-03-10T12:00:00Z"), ZoneOffset.UTC));
+        assertEquals(LocalDate.of(2024, 3, 10), clock.today());
+        assertEquals(Instant.parse("2024-03-10T00:00:00Z").toEpochMilli(), clock.startOfToday());
+        assertEquals(Instant.parse("2024-03-11T00:00:00Z").toEpochMilli(), clock.startOfTomorrow());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"America/New_York", "Europe/Madrid", "Australia/Lord_Howe", "Asia/Kolkata", "UTC"})
+    void shouldFollowTheDayAndDaylightSavingTransitions(String zoneName) {
+        ZoneId zone = ZoneId.of(zoneName);
+        SteppingClock time = new SteppingClock("2024-01-01T00:00:00Z", zone);
+        DayClock clock = DayClock.of(time);
+        for (int step = 0; step < 366 * 24 * 4; step++) {
+            Instant now = time.instant();
+            LocalDate today = LocalDate.ofInstant(now, zone);
+            assertEquals(today, clock.today(), now::toString);
+            assertEquals(today.atStartOfDay(zone).toInstant().toEpochMilli(), clock.startOfToday(), now::toString);
+            assertEquals(today.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli(), clock.startOfTomorrow(),
+                    now::toString);
+            assertEquals(LocalDateTime.ofInstant(now, zone).toEpochSecond(ZoneOffset.UTC) * 1000, clock.localMillis(),
+                    now::toString);
+            time.advanceMinutes(15);
+        }
+    }
+
+    @Test
+    void shouldReadAnotherZone() {
+        Clock utc = Clock.fixed(Instant.parse("2024-03-10T23:30:00Z"), ZoneOffset.UTC);
+        DayClock clock = DayClock.of(utc, ZoneId.of("Europe/Madrid"));
+        assertEquals(ZoneId.of("Europe/Madrid"), clock.getZone());
+        assertEquals(LocalDate.of(2024, 3, 11), clock.today());
+    }
+
+    @Test
+    void shouldThrownAnExceptionWhenClockIsNull() {
+        assertThrows(NullPointerException.class, () -> DayClock.of(null));
+        assertThrows(NullPointerException.class, () -> DayClock.of(Clock.systemUTC(), null));
+    }
+}
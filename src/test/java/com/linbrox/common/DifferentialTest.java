@@ -0,0 +1,257 @@
+package com.linbrox.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the fast paths of {@link StringUtils}, {@link NumericUtils} and {@link DateUtils} against the regular
+ * expressions and JDK parsers they replaced, and {@link DomainTrie} against the validator and a plain lookup, on the
+ * corpora of {@link Corpus}. Every text is also checked through the {@link CharSequence}, region and UTF-8
+ * overloads, against the same reference.
+ */
+class DifferentialTest {
+
+    private static final int CORPUS_SIZE = 20_000;
+
+    private static final Pattern NUMERIC = Pattern.compile("^[+-]?\\d+$");
+    private static final Pattern NUMERIC_WITH_DECIMAL = Pattern.compile("^[+-]?\\d+\\.\\d+$");
+    private static final Pattern ALPHA = Pattern.compile("^[a-zA-Z]+$");
+    private static final Pattern ALPHA_NUMERIC = Pattern.compile("^[a-zA-Z0-9]+$");
+    private static final Pattern EMAIL = Pattern.compile(StringUtils.EMAIL_FORMAT_PATTERN);
+
+    private static List<String> textsAndNumbers() {
+        List<String> values = new ArrayList<>(Corpus.texts(1, CORPUS_SIZE));
+        values.addAll(Corpus.numbers(2, CORPUS_SIZE));
+        return values;
+    }
+
+    @Test
+    void shouldValidateLikeTheRegularExpressions() {
+        for (String value : textsAndNumbers()) {
+            assertValidators(value);
+            byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+            // the UTF-8 overloads see the decoded text, in which a lone surrogate has become '?'
+            String decoded = new String(utf8, StandardCharsets.UTF_8);
+            assertEquals(decoded.trim().isEmpty(), StringUtils.isBlank(utf8, 0, utf8.length), Corpus.describe(value));
+            assertEquals(matches(NUMERIC, decoded.trim()), StringUtils.isNumeric(utf8, 0, utf8.length),
+                    Corpus.describe(value));
+            assertEquals(matches(NUMERIC_WITH_DECIMAL, decoded.trim()),
+                    StringUtils.isNumericWithDecimal(utf8, 0, utf8.length), Corpus.describe(value));
+            assertEquals(matches(ALPHA, decoded.trim()), StringUtils.isAlpha(utf8, 0, utf8.length),
+                    Corpus.describe(value));
+            assertEquals(matches(ALPHA_NUMERIC, decoded.trim()), StringUtils.isAlphaNumeric(utf8, 0, utf8.length),
+                    Corpus.describe(value));
+            assertEquals(matches(EMAIL, decoded), StringUtils.isEmail(utf8, 0, utf8.length), Corpus.describe(value));
+        }
+    }
+
+    private static void assertValidators(String value) {
+        String trimmed = value.trim();
+        String description = Corpus.describe(value);
+        StringBuilder buffer = new StringBuilder(value);
+        String line = "x=" + value + ";";
+        assertEquals(trimmed.isEmpty(), StringUtils.isBlank(value), description);
+        boolean numeric = matches(NUMERIC, trimmed);
+        assertEquals(numeric, StringUtils.isNumeric(value), description);
+        assertEquals(numeric, StringUtils.isNumeric(buffer), description);
+        assertEquals(numeric, StringUtils.isNumeric(line, 2, line.length() - 1), description);
+        boolean decimal = matches(NUMERIC_WITH_DECIMAL, trimmed);
+        assertEquals(decimal, StringUtils.isNumericWithDecimal(value), description);
+        assertEquals(decimal, StringUtils.isNumericWithDecimal(line, 2, line.length() - 1), description);
+        boolean alpha = matches(ALPHA, trimmed);
+        assertEquals(alpha, StringUtils.isAlpha(value), description);
+        assertEquals(alpha, StringUtils.isAlpha(buffer), description);
+        boolean alphaNumeric = matches(ALPHA_NUMERIC, trimmed);
+        assertEquals(alphaNumeric, StringUtils.isAlphaNumeric(value), description);
+        assertEquals(alphaNumeric, StringUtils.isAlphaNumeric(line, 2, line.length() - 1), description);
+        assertEquals(matches(EMAIL, value), StringUtils.isEmail(value), description);
+        assertEquals(matches(EMAIL, value), EmailValidator.isValid(line, 2, line.length() - 1), description);
+    }
+
+    @Test
+    void shouldCheckEmailsLikeTheValidatorAndTheTrie() {
+        DomainTrie trie = DomainTrie.of(List.of("z.co", "*.com", "ex-ample.com", "a.q.co"));
+        int valid = 0;
+        for (String value : Corpus.texts(7, CORPUS_SIZE)) {
+            String description = Corpus.describe(value);
+            byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+            String decoded = new String(utf8, StandardCharsets.UTF_8);
+            int expected = expectedCheck(trie, value);
+            assertEquals(expected, trie.checkEmail(value), description);
+            assertEquals(expected, trie.checkEmail(new StringBuilder(value)), description);
+            String line = "x=" + value + ";";
+            assertEquals(expected, trie.checkEmail(line, 2, line.length() - 1), description);
+            byte[] framed = ("<" + decoded + ">").getBytes(StandardCharsets.UTF_8);
+            assertEquals(expectedCheck(trie, decoded), trie.checkEmail(framed, 1, utf8.length), description);
+            if (expected != DomainTrie.INVALID) {
+                valid++;
+            }
+        }
+        assertTrue(valid > 0, "valid " + valid);
+    }
+
+    /**
+     * @return {@link DomainTrie#INVALID} unless {@link StringUtils#isEmail(String)} accepts the value, otherwise
+     * whether {@link DomainTrie#matches(CharSequence)} matches the domain after the last {@code @}
+     */
+    private static int expectedCheck(DomainTrie trie, String value) {
+        if (!StringUtils.isEmail(value)) {
+            return DomainTrie.INVALID;
+        }
+        return trie.matches(value.substring(value.lastIndexOf('@') + 1)) ? DomainTrie.LISTED : DomainTrie.NOT_LISTED;
+    }
+
+    private static boolean matches(Pattern pattern, String value) {
+        return pattern.matcher(value).matches();
+    }
+
+    @Test
+    void shouldParseIntegersLikeTheJdk() {
+        ParseResult result = new ParseResult();
+        for (String value : Corpus.numbers(3, CORPUS_SIZE)) {
+            String description = Corpus.describe(value);
+            BigInteger expected = matches(NUMERIC, value.trim()) ? new BigInteger(value.trim()) : null;
+            assertEquals(fits(expected, Integer.MIN_VALUE, Integer.MAX_VALUE), NumericUtils.parseInt(value, result),
+                    description);
+            assertEquals(status(expected, Integer.MIN_VALUE, Integer.MAX_VALUE), result.status(), description);
+            if (result.isValid()) {
+                assertEquals(Integer.parseInt(value.trim()), result.intValue(), description);
+            }
+            assertEquals(fits(expected, Long.MIN_VALUE, Long.MAX_VALUE), NumericUtils.parseLong(value, result),
+                    description);
+            assertEquals(status(expected, Long.MIN_VALUE, Long.MAX_VALUE), result.status(), description);
+            if (result.isValid()) {
+                assertEquals(Long.parseLong(value.trim()), result.longValue(), description);
+            }
+        }
+    }
+
+    private static boolean fits(BigInteger value, long min, long max) {
+        return value != null && value.compareTo(BigInteger.valueOf(min)) >= 0
+                && value.compareTo(BigInteger.valueOf(max)) <= 0;
+    }
+
+    private static int status(BigInteger value, long min, long max) {
+        if (value == null) {
+            return ParseResult.INVALID;
+        }
+        return fits(value, min, max) ? ParseResult.VALID : ParseResult.OVERFLOW;
+    }
+
+    @Test
+    void shouldParseDecimalsLikeTheJdk() {
+        for (String value : Corpus.numbers(4, CORPUS_SIZE)) {
+            String description = Corpus.describe(value);
+            Double expected;
+            try {
+                expected = Double.parseDouble(value);
+            } catch (NumberFormatException e) {
+                expected = null;
+            }
+            if (expected == null) {
+                assertThrows(NumberFormatException.class, () -> NumericUtils.parseDouble(value), description);
+            } else {
+                assertEquals(Double.doubleToRawLongBits(expected),
+                        Double.doubleToRawLongBits(NumericUtils.parseDouble(new StringBuilder(value))), description);
+            }
+            assertFixedDecimal(value, description);
+        }
+    }
+
+    /**
+     * {@link FixedDecimal} takes the syntax of {@link BigDecimal} with ASCII digits only, and refuses values it
+     * cannot hold exactly.
+     */
+    private static void assertFixedDecimal(String value, String description) {
+        BigDecimal expected;
+        try {
+            expected = value.chars().allMatch(c -> c < 0x80) ? new BigDecimal(value) : null;
+        } catch (NumberFormatException e) {
+            expected = null;
+        }
+        if (expected == null) {
+            assertThrows(NumberFormatException.class, () -> FixedDecimal.parse(value), description);
+            return;
+        }
+        FixedDecimal actual;
+        BigDecimal decimal = expected;
+        try {
+            actual = FixedDecimal.parse(value);
+        } catch (ArithmeticException e) {
+            assertThrows(ArithmeticException.class, () -> FixedDecimal.valueOf(decimal), description);
+            return;
+        }
+        assertEquals(0, expected.compareTo(actual.toBigDecimal()), description);
+        assertEquals(actual, FixedDecimal.valueOf(expected), description);
+    }
+
+    @Test
+    void shouldParseDatesLikeTheIsoFormatter() {
+        LocalDateTimeParser parser = new LocalDateTimeParser();
+        int parsed = 0;
+        for (String value : Corpus.dates(5, CORPUS_SIZE)) {
+            String description = Corpus.describe(value);
+            LocalDateTime expected = parseIso(value);
+            int status = parser.parse(value);
+            assertEquals(expected != null, status == LocalDateTimeParser.OK, description);
+            if (expected != null) {
+                parsed++;
+                assertEquals(expected.toEpochSecond(ZoneOffset.UTC), parser.epochSecond(), description);
+                assertEquals(expected.getNano(), parser.nano(), description);
+                assertEquals(expected.toLocalDate().toEpochDay(), parser.epochDay(), description);
+            }
+        }
+        assertTrue(parsed > CORPUS_SIZE / 4 && parsed < CORPUS_SIZE * 3 / 4, "parsed " + parsed);
+    }
+
+    @Test
+    void shouldCheckDatesLikeJavaTime() {
+        Clock clock = Clock.fixed(Instant.parse("2024-03-10T12:00:00Z"), ZoneId.of("Europe/Madrid"));
+        DayClock previous = DateUtils.getDayClock();
+        DateUtils.setDayClock(DayClock.of(clock));
+        try {
+            LocalDateTime now = LocalDateTime.now(clock);
+            LocalDate today = LocalDate.now(clock);
+            List<String> values = Corpus.dates(6, CORPUS_SIZE / 4);
+            values.addAll(List.of("2024-03-10T13:00", "2024-03-10T12:59:59.999999999", "2024-03-10T23:59:59.999",
+                    "2024-03-11T00:00"));
+            for (String value : values) {
+                String description = Corpus.describe(value);
+                LocalDateTime expected = parseIso(value);
+                if (expected == null) {
+                    assertThrows(DateTimeParseException.class, () -> DateUtils.isPastDate(value), description);
+                    assertThrows(DateTimeParseException.class, () -> DateUtils.isFutureDate(value), description);
+                } else {
+                    assertEquals(expected.isBefore(now), DateUtils.isPastDate(value), description);
+                    assertEquals(today.isBefore(expected.toLocalDate()), DateUtils.isFutureDate(value), description);
+                }
+            }
+        } finally {
+            DateUtils.setDayClock(previous);
+        }
+    }
+
+    private static LocalDateTime parseIso(String value) {
+        try {
+            return LocalDateTime.parse(value, DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
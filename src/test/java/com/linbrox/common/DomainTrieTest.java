@@ -0,0 +1,169 @@
+package com.linbrox.common;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DomainTrieTest {
+
+    private static final List<String> RULES = List.of("example.com", "*.example.co.uk", "mail.example.org",
+            "*.example.org", "Ex-Ample.NET", "*.io", "a.b.c.de");
+    private static final DomainTrie TRIE = DomainTrie.of(RULES);
+
+    @Test
+    void shouldMatchDomainsAndSubdomainsOfWildcards() {
+        assertTrue(TRIE.matches("example.com"));
+        assertTrue(TRIE.matches("EXAMPLE.Com"));
+        assertFalse(TRIE.matches("mail.example.com"));
+        assertFalse(TRIE.matches("xexample.com"));
+        assertFalse(TRIE.matches("example.co"));
+        assertTrue(TRIE.matches("mail.example.co.uk"));
+        assertTrue(TRIE.matches("a.b.example.co.uk"));
+        assertFalse(TRIE.matches("example.co.uk"));
+        assertFalse(TRIE.matches("notexample.co.uk"));
+        assertTrue(TRIE.matches("mail.example.org"));
+        assertTrue(TRIE.matches("x.example.org"));
+        assertFalse(TRIE.matches("example.org"));
+        assertTrue(TRIE.matches("ex-ample.net"));
+        assertTrue(TRIE.matches("anything.io"));
+        assertFalse(TRIE.matches("io"));
+        assertTrue(TRIE.matches("a.b.c.de"));
+        assertFalse(TRIE.matches("b.c.de"));
+        assertFalse(TRIE.matches(""));
+        assertFalse(TRIE.matches(".io"));
+        assertFalse(TRIE.matches("a..io"));
+        assertFalse(TRIE.matches("anything.io."));
+        assertFalse(TRIE.matches("any thing.io"));
+        assertFalse(TRIE.matches(".example.com"));
+        assertFalse(TRIE.matches("example.com."));
+        assertFalse(TRIE.matches("<www.example.com>", 4, 16));
+        assertFalse(TRIE.matches("mail.example.co.u\u212a"));
+        assertTrue(TRIE.matches("<www.example.com>", 5, 16));
+        assertEquals(7, TRIE.size());
+    }
+
+    @Test
+    void shouldCheckEmailsInOnePass() {
+        assertEquals(DomainTrie.LISTED, TRIE.checkEmail("jane.doe@Example.COM"));
+        assertEquals(DomainTrie.LISTED, TRIE.checkEmail("jane@mail.example.co.uk"));
+        assertEquals(DomainTrie.NOT_LISTED, TRIE.checkEmail("jane@example.co.uk"));
+        assertEquals(DomainTrie.NOT_LISTED, TRIE.checkEmail("jane@gmail.com"));
+        assertEquals(DomainTrie.INVALID, TRIE.checkEmail("jane@example"));
+        assertEquals(DomainTrie.INVALID, TRIE.checkEmail("jane@@example.com"));
+        assertEquals(DomainTrie.INVALID, TRIE.checkEmail("-jane@example.com"));
+        assertEquals(DomainTrie.INVALID, TRIE.checkEmail("jane@-example.com"));
+        assertEquals(DomainTrie.INVALID, TRIE.checkEmail("jane@example.c0m"));
+        assertEquals(DomainTrie.INVALID, TRIE.checkEmail("@example.com"));
+        assertEquals(DomainTrie.LISTED, TRIE.checkEmail("to: jane@x.io;", 4, 13));
+        byte[] utf8 = "jane@x.example.org".getBytes(StandardCharsets.UTF_8);
+        assertEquals(DomainTrie.LISTED, TRIE.checkEmail(utf8, 0, utf8.length));
+        assertEquals(DomainTrie.NOT_LISTED, TRIE.checkEmail(utf8, 0, utf8.length - 4));
+        byte[] accented = "j\u00e9@example.com".getBytes(StandardCharsets.UTF_8);
+        assertEquals(DomainTrie.INVALID, TRIE.checkEmail(accented, 0, accented.length));
+        assertTrue(StringUtils.isEmail("jane@a.b.c.de", TRIE));
+        assertFalse(StringUtils.isEmail("jane@b.c.de", TRIE));
+    }
+
+    @Test
+    void shouldValidateLikeEmailValidatorAndMatchLikeSubstrings() {
+        List<String> values = new ArrayList<>(Corpus.texts(41, 20_000));
+        SplittableRandom random = new SplittableRandom(41);
+        String[] labels = {"example", "EXAMPLE", "co", "uk", "org", "mail", "io", "de", "c", "b", "a", "ex-ample",
+                "net", "com", "-x", "1"};
+        for (int i = 0; i < 20_000; i++) {
+            StringBuilder email = new StringBuilder(random.nextBoolean() ? "jane@" : "j.d+x@");
+            int count = 1 + random.nextInt(4);
+            for (int j = 0; j < count; j++) {
+                email.append(j == 0 ? "" : ".").append(labels[random.nextInt(labels.length)]);
+            }
+            values.add(email.toString());
+        }
+        int listed = 0;
+        for (String value : values) {
+            byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+            int expected = reference(value);
+            assertEquals(expected, TRIE.checkEmail(value), Corpus.describe(value));
+            assertEquals(expected, TRIE.checkEmail(utf8, 0, utf8.length), Corpus.describe(value));
+            if (expected == DomainTrie.LISTED) {
+                listed++;
+            }
+        }
+        assertTrue(listed > 1000, "too few listed addresses: " + listed);
+    }
+
+    /**
+     * Validates with {@link EmailValidator} and matches the lower-cased domain and each of its suffixes against
+     * hash sets.
+     */
+    private static int reference(String email) {
+        if (!EmailValidator.isValid(email, 0, email.length())) {
+            return DomainTrie.INVALID;
+        }
+        Set<String> exact = new HashSet<>();
+        Set<String> wildcards = new HashSet<>();
+        for (String rule : RULES) {
+            String lower = rule.toLowerCase(Locale.ROOT);
+            if (lower.startsWith("*.")) {
+                wildcards.add(lower.substring(2));
+            } else {
+                exact.add(lower);
+            }
+        }
+        String domain = email.substring(email.indexOf('@') + 1).toLowerCase(Locale.ROOT);
+        if (exact.contains(domain)) {
+            return DomainTrie.LISTED;
+        }
+        for (int dot = domain.indexOf('.'); dot >= 0; dot = domain.indexOf('.', dot + 1)) {
+            if (wildcards.contains(domain.substring(dot + 1))) {
+                return DomainTrie.LISTED;
+            }
+        }
+        return DomainTrie.NOT_LISTED;
+    }
+
+    @Test
+    void shouldShareSuffixesAndMergeDuplicates() {
+        DomainTrie trie = DomainTrie.of(Arrays.asList("a.example.com", "B.EXAMPLE.COM", "b.example.com",
+                "*.b.example.com"));
+        assertEquals(3, trie.size());
+        assertTrue(trie.toString().contains("rules=3"));
+        assertTrue(trie.matches("b.example.com"));
+        assertTrue(trie.matches("c.b.example.com"));
+        assertFalse(trie.matches("c.example.com"));
+        DomainTrie empty = DomainTrie.of(List.of());
+        assertFalse(empty.matches("example.com"));
+        assertEquals(DomainTrie.NOT_LISTED, empty.checkEmail("jane@example.com"));
+        assertEquals(0, empty.size());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "*.", "*", "example..com", ".example.com", "example.com.", "exa mple.com",
+            "*.*.example.com", "ex_ample.com", "\u00e9t\u00e9.fr", "example.*"})
+    void shouldRejectInvalidRules(String rule) {
+        assertThrows(IllegalArgumentException.class, () -> DomainTrie.of(List.of(rule)));
+    }
+
+    @Test
+    void shouldThrownAnErrorWhenTheArgumentsAreInvalid() {
+        assertThrows(NullPointerException.class, () -> DomainTrie.of(null));
+        assertThrows(NullPointerException.class, () -> DomainTrie.of(Arrays.asList("a.com", null)));
+        assertThrows(NullPointerException.class, () -> TRIE.matches(null));
+        assertThrows(NullPointerException.class, () -> TRIE.checkEmail((CharSequence) null));
+        assertThrows(NullPointerException.class, () -> TRIE.checkEmail((CharSequence) null, 0, 0));
+        assertThrows(NullPointerException.class, () -> StringUtils.isEmail("a@b.co", null));
+        assertThrows(IndexOutOfBoundsException.class, () -> TRIE.matches("abc", 2, 4));
+        assertThrows(IndexOutOfBoundsException.class, () -> TRIE.checkEmail("abc", -1, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> TRIE.checkEmail(new byte[2], 1, 2));
+    }
+}
@@ -0,0 +1,70 @@
+package com.linbrox.common;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmailValidatorTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "a@b.co",                   // Shortest valid shape
+            "x.y@ex-am.ple.com",        // Hyphen and several labels
+            "a..b@example.com",         // Consecutive dots are allowed in the local part
+            "~{|}@example.museum",      // Symbols in the local part
+            "a@123.example.com",        // Digits in a non-final label
+            "-a@b.co",                  // Leading hyphen
+            "a@-b.co",                  // Domain starts with hyphen
+            "a@b.c1",                   // Digit in top-level domain
+            "a@b.c",                    // One-letter top-level domain
+            "a@b..co",                  // Empty label
+            "a@b.co\n",                 // Trailing newline
+            "a@@b.co",                  // Double at sign
+            "a b@c.co",                 // Space in local part
+            "é@b.co",                   // Non-ASCII local part
+            "",                         // Empty string
+            "aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa@aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa.a" // Long malformed
+    })
+    void shouldAgreeWithTheEmailPattern(String value) {
+        assertEquals(value.matches(StringUtils.EMAIL_FORMAT_PATTERN), EmailValidator.isValid(value));
+    }
+
+    @Test
+    void shouldValidateOnlyTheRequestedRegion() {
+        String line = "to:x@example.com;";
+        assertTrue(EmailValidator.isValid(line, 3, 16));
+        assertFalse(EmailValidator.isValid(line, 3, 17));
+        assertThrows(IndexOutOfBoundsException.class, () -> EmailValidator.isValid(line, 3, 18));
+    }
+
+    @Test
+    void shouldValidateAllValuesOfAList() {
+        BitSet actual = EmailValidator.validateAll(List.of("a@b.com", "nope", "c@d.org"));
+        BitSet expected = new BitSet();
+        expected.set(0);
+        expected.set(2);
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void shouldValidateAllValuesOfAnArray() {
+        String[] values = new String[130];
+        Arrays.fill(values, "invalid");
+        values[129] = "user@example.com";
+        BitSet actual = EmailValidator.validateAll(values);
+        assertEquals(1, actual.cardinality());
+        assertTrue(actual.get(129));
+    }
+
+    @Test
+    void shouldThrownAnExceptionWhenAnElementIsNull() {
+        String[] values = {"a@b.com", null};
+        assertThrows(NullPointerException.class, () -> EmailValidator.validateAll(values));
+    }
+}
@@ -0,0 +1,121 @@
+package com.linbrox.common;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FixedDecimalTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "10.0",                     // Simple decimal
+            "0.0",                      // Zero with a scale
+            "-42.42",                   // Negative number
+            "+123.45",                  // Leading plus sign
+            ".5",                       // Missing leading zero
+            "100.",                     // Trailing dot
+            "1E5",                      // Positive exponent
+            "-1.5e-3",                  // Negative exponent
+            "9223372036854775807",      // Long.MAX_VALUE
+            "-9223372036854775808",     // Long.MIN_VALUE
+            "-9.223372036854775808",    // Long.MIN_VALUE with a scale
+            "0.000000000000000001",     // Smallest positive value at the largest scale
+            "1.50"                      // Trailing zero keeps its scale
+    })
+    void shouldParseLikeBigDecimal(String value) {
+        FixedDecimal actual = FixedDecimal.parse(value);
+        BigDecimal expected = new BigDecimal(value);
+        assertEquals(0, expected.compareTo(actual.toBigDecimal()));
+        assertEquals(Math.max(0, expected.scale()), actual.scale());
+        assertEquals(actual, FixedDecimal.valueOf(expected));
+        assertEquals(actual.toBigDecimal().toPlainString(), actual.toString());
+    }
+
+    @Test
+    void shouldDropTrailingZerosThatDoNotFit() {
+        FixedDecimal actual = FixedDecimal.parse("1.0000000000000000000000");
+        assertEquals(FixedDecimal.of(1_000_000_000_000_000_000L, 18), actual);
+        assertEquals(FixedDecimal.of(1_200_000_000_000_000_000L, 0), FixedDecimal.parse("1200000000000000000.000"));
+        for (String value : new String[]{"1.0000000000000000000000", "10.50000000000000000000",
+                "-10.50000000000000000000", "1200000000000000000.0000000000000000000", "1000.0000000000000000000"}) {
+            assertEquals(FixedDecimal.parse(value), FixedDecimal.valueOf(new BigDecimal(value)), value);
+        }
+        assertEquals(FixedDecimal.of(1_050_000_000_000_000_000L, 17),
+                FixedDecimal.valueOf(new BigDecimal("10.50000000000000000000")));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "-", ".", "e5", "1e", "1e+", "1.1.1", "abc", " 1", "1 ", "1_000", "1e5.5"})
+    void shouldThrownAnExceptionWhenInputStringIsInvalid(String value) {
+        assertThrows(NumberFormatException.class, () -> FixedDecimal.parse(value));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "9223372036854775808",      // Long.MAX_VALUE + 1
+            "1e19",                     // Too large once rescaled
+            "0.0000000000000000001",    // Scale 19
+            "1.5e-18"                   // Scale 19 through the exponent
+    })
+    void shouldThrownAnExceptionWhenValueDoesNotFit(String value) {
+        assertThrows(ArithmeticException.class, () -> FixedDecimal.parse(value));
+        assertThrows(ArithmeticException.class, () -> FixedDecimal.valueOf(new BigDecimal(value)));
+    }
+
+    @Test
+    void shouldRejectHugeExponentsWithoutExpandingThem() {
+        assertThrows(ArithmeticException.class, () -> FixedDecimal.valueOf(new BigDecimal("1e999999999")));
+        assertThrows(ArithmeticException.class, () -> FixedDecimal.valueOf(new BigDecimal("1e-999999999")));
+        assertEquals(FixedDecimal.ZERO, FixedDecimal.valueOf(new BigDecimal("0e999999999")));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "1.25,   2.5,    3.75,    -1.25,   3.125",
+            "-0.1,   0.1,    0.0,     -0.2,    -0.01",
+            "100,    0.001,  100.001, 99.999,  0.100"
+    })
+    void shouldComputeExactResults(String left, String right, String sum, String difference, String product) {
+        FixedDecimal x = FixedDecimal.parse(left);
+        FixedDecimal y = FixedDecimal.parse(right);
+        assertEquals(FixedDecimal.parse(sum), x.add(y));
+        assertEquals(FixedDecimal.parse(difference), x.subtract(y));
+        assertEquals(FixedDecimal.parse(product), x.multiply(y));
+        assertEquals(Integer.signum(new BigDecimal(left).compareTo(new BigDecimal(right))), Integer.signum(x.compareTo(y)));
+    }
+
+    @Test
+    void shouldThrownAnExceptionWhenArithmeticOverflows() {
+        FixedDecimal max = FixedDecimal.of(Long.MAX_VALUE, 0);
+        assertThrows(ArithmeticException.class, () -> max.add(FixedDecimal.of(1, 0)));
+        assertThrows(ArithmeticException.class, () -> FixedDecimal.of(Long.MIN_VALUE, 0).subtract(FixedDecimal.of(1, 0)));
+        assertThrows(ArithmeticException.class, () -> max.multiply(FixedDecimal.of(2, 0)));
+        assertThrows(ArithmeticException.class, () -> FixedDecimal.of(Long.MIN_VALUE, 3).negate());
+        assertThrows(ArithmeticException.class, () -> FixedDecimal.of(3, 10).multiply(FixedDecimal.of(7, 10)));
+    }
+
+    @Test
+    void shouldCompareValuesAcrossScales() {
+        assertEquals(0, FixedDecimal.parse("1.5").compareTo(FixedDecimal.parse("1.50")));
+        assertNotEquals(FixedDecimal.parse("1.5"), FixedDecimal.parse("1.50"));
+        assertTrue(FixedDecimal.of(Long.MAX_VALUE, 0).compareTo(FixedDecimal.of(Long.MAX_VALUE, 18)) > 0);
+        assertTrue(FixedDecimal.of(Long.MIN_VALUE, 0).compareTo(FixedDecimal.of(Long.MIN_VALUE, 18)) < 0);
+    }
+
+    @Test
+    void shouldThrownAnExceptionWhenScaleIsOutOfRange() {
+        assertThrows(IllegalArgumentException.class, () -> FixedDecimal.of(1, -1));
+        assertThrows(IllegalArgumentException.class, () -> FixedDecimal.of(1, FixedDecimal.MAX_SCALE + 1));
+    }
+
+    @Test
+    void shouldThrownAnExceptionWhenInputIsNull() {
+        assertThrows(NullPointerException.class, () -> FixedDecimal.parse(null));
+        assertThrows(NullPointerException.class, () -> FixedDecimal.valueOf(null));
+    }
+}
@@ -0,0 +1,132 @@
+package com.linbrox.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IgnoreCaseMapTest {
+
+    @Test
+    void shouldFindKeysIgnoringCase() {
+        IgnoreCaseMap<Integer> headers = IgnoreCaseMap.create();
+        assertNull(headers.put("Content-Type", 1));
+        assertNull(headers.put("Accept", 2));
+        assertEquals(1, headers.put("CONTENT-TYPE", 3));
+        assertEquals(2, headers.size());
+        assertEquals(3, headers.get("content-type"));
+        assertEquals(3, headers.get(new StringBuilder("Content-type")));
+        assertEquals(2, headers.get("x accept;", 2, 8));
+        byte[] line = "ACCEPT: */*".getBytes(StandardCharsets.US_ASCII);
+        assertEquals(2, headers.get(line, 0, 6));
+        assertNull(headers.get(line, 0, 5));
+        assertNull(headers.get("Content-Length"));
+        assertEquals(0, headers.getOrDefault("Host", 0));
+        assertTrue(headers.containsKey("aCCEPT"));
+        assertTrue(headers.toString().contains("Accept=2"));
+        List<String> keys = new ArrayList<>();
+        headers.forEach((key, value) -> keys.add(key));
+        assertTrue(keys.containsAll(List.of("Content-Type", "Accept")));
+    }
+
+    @Test
+    void shouldMatchNonAsciiKeysLikeAreStringsEqualIgnoreCase() {
+        IgnoreCaseMap<String> map = IgnoreCaseMap.create();
+        map.put("\u00e9t\u00e9", "summer");
+        map.put("\u212a", "kelvin");
+        assertEquals("summer", map.get("\u00c9T\u00c9"));
+        byte[] utf8 = "\u00c9t\u00e9".getBytes(StandardCharsets.UTF_8);
+        assertEquals("summer", map.get(utf8, 0, utf8.length));
+        // U+212A lower-cases to k, as in areStringsEqualIgnoreCase
+        assertEquals("kelvin", map.get("k"));
+        assertEquals("kelvin", map.get("K"));
+        assertNull(map.get("\u00e9t"));
+    }
+
+    @Test
+    void shouldBehaveLikeAHashMapOfLowerCasedKeys() {
+        SplittableRandom random = new SplittableRandom(7);
+        IgnoreCaseMap<Integer> map = IgnoreCaseMap.create(0);
+        Map<String, Integer> reference = new HashMap<>();
+        String[] letters = {"a", "B", "c", "D", "\u00e9", "\u00c9", "_"};
+        for (int i = 0; i < 50_000; i++) {
+            StringBuilder key = new StringBuilder();
+            int length = random.nextInt(4);
+            for (int j = 0; j < length; j++) {
+                key.append(letters[random.nextInt(letters.length)]);
+            }
+            String folded = fold(key);
+            if (random.nextInt(3) == 0) {
+                assertEquals(reference.remove(folded), map.remove(key), folded);
+            } else {
+                assertEquals(reference.put(folded, i), map.put(key, i), folded);
+            }
+            assertEquals(reference.size(), map.size());
+        }
+        for (String key : reference.keySet()) {
+            assertEquals(reference.get(key), map.get(key.toUpperCase()), key);
+        }
+        IgnoreCaseMap<Integer> frozen = map.freeze();
+        assertEquals(reference.size(), frozen.size());
+        reference.forEach((key, value) -> assertEquals(value, frozen.get(key)));
+        assertNull(frozen.get("zz"));
+    }
+
+    private static String fold(CharSequence key) {
+        StringBuilder folded = new StringBuilder();
+        for (int i = 0; i < key.length(); i++) {
+            folded.append(Character.toLowerCase(key.charAt(i)));
+        }
+        return folded.toString();
+    }
+
+    @Test
+    void shouldFreezeIntoAnIndependentImmutableMap() throws Exception {
+        IgnoreCaseMap<Integer> map = IgnoreCaseMap.create(2);
+        for (int i = 0; i < 1000; i++) {
+            map.put("Key" + i, i);
+        }
+        IgnoreCaseMap<Integer> frozen = map.freeze();
+        assertTrue(frozen.isFrozen());
+        assertFalse(map.isFrozen());
+        assertSame(frozen, frozen.freeze());
+        assertThrows(UnsupportedOperationException.class, () -> frozen.put("key1", 1));
+        assertThrows(UnsupportedOperationException.class, () -> frozen.remove("key1"));
+        map.remove("KEY1");
+        assertEquals(1, frozen.get("key1"));
+        assertNull(map.get("key1"));
+        AtomicReference<IgnoreCaseMap<Integer>> shared = new AtomicReference<>(frozen);
+        List<CompletableFuture<Void>> readers = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            readers.add(CompletableFuture.runAsync(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    assertEquals(i, shared.get().get("KEY" + i));
+                }
+            }));
+        }
+        for (CompletableFuture<Void> reader : readers) {
+            reader.get();
+        }
+        assertEquals(0, IgnoreCaseMap.create().freeze().size());
+    }
+
+    @Test
+    void shouldThrownAnErrorWhenTheArgumentsAreInvalid() {
+        IgnoreCaseMap<Integer> map = IgnoreCaseMap.create();
+        assertThrows(NullPointerException.class, () -> map.put(null, 1));
+        assertThrows(NullPointerException.class, () -> map.put("a", null));
+        assertThrows(NullPointerException.class, () -> map.get((CharSequence) null));
+        assertThrows(NullPointerException.class, () -> map.get((CharSequence) null, 0, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> map.get("abc", 2, 4));
+        assertThrows(IndexOutOfBoundsException.class, () -> map.get(new byte[2], 1, 2));
+        assertThrows(IllegalArgumentException.class, () -> IgnoreCaseMap.create(-1));
+    }
+}
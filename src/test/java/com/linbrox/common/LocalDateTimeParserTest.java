@@ -0,0 +1,96 @@
+package com.linbrox.common;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LocalDateTimeParserTest {
+
+    private final LocalDateTimeParser parser = new LocalDateTimeParser();
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "2023-10-12T07:20:50",              // Documented shape
+            "2023-10-12T07:20",                 // Without seconds
+            "2023-10-12t07:20",                 // Lower-case separator
+            "2023-10-12T07:20:50.1",            // One fractional digit
+            "2023-10-12T07:20:50.123456789",    // Nine fractional digits
+            "2023-10-12T07:20:50.",             // Empty fraction
+            "2024-02-29T23:59:59",              // Leap day
+            "2000-02-29T00:00",                 // Leap century
+            "0000-01-01T00:00",                 // Year zero
+            "-0001-12-31T23:59",                // Negative year
+            "+10000-01-01T00:00",               // Five-digit year needs a sign
+            "+999999999-12-31T23:59:59.999999999", // Largest value
+            "-999999999-01-01T00:00"            // Smallest value
+    })
+    void shouldParseLikeTheIsoFormatter(String value) {
+        LocalDateTime expected = LocalDateTime.parse(value, DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+        assertEquals(LocalDateTimeParser.OK, parser.parse(value));
+        assertEquals(expected.toEpochSecond(ZoneOffset.UTC), parser.epochSecond());
+        assertEquals(expected.getNano(), parser.nano());
+        assertEquals(expected.toLocalDate().toEpochDay(), parser.epochDay());
+        assertEquals(expected, parser.toLocalDateTime());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "",                                 // Empty string
+            "2023-10-12",                       // Date only
+            "2023-10-12 07:20",                 // Space separator
+            "2023-10-12T07",                    // Hour only
+            "2023-10-12T07:20:5",               // One-digit seconds
+            "2023-10-12T07:20.5",               // Fraction without seconds
+            "2023-10-12T07:20:50.1234567890",   // Ten fractional digits
+            "2023-10-12T07:20:50Z",             // Offset
+            "2023-1-12T07:20",                  // One-digit month
+            "+2023-10-12T07:20",                // Sign on a four-digit year
+            "10000-01-01T00:00",                // Five-digit year without a sign
+            "-0000-01-01T00:00",                // Negative zero year
+            "12345678901-01-01T00:00",          // Eleven-digit year
+            " 2023-10-12T07:20"                 // Leading whitespace
+    })
+    void shouldReportMalformedText(String value) {
+        assertThrows(DateTimeParseException.class, () -> LocalDateTime.parse(value, DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+        assertEquals(LocalDateTimeParser.MALFORMED, parser.parse(value));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "2023-02-29T00:00",                 // Not a leap year
+            "1900-02-29T00:00",                 // Not a leap century
+            "2023-04-31T00:00",                 // Thirty-day month
+            "2023-13-01T00:00",                 // Month out of range
+            "2023-00-01T00:00",                 // Month zero
+            "2023-01-00T00:00",                 // Day zero
+            "2023-01-01T24:00",                 // Hour out of range
+            "2023-01-01T23:60",                 // Minute out of range
+            "2023-12-31T23:59:60",              // Leap second
+            "+1000000000-01-01T00:00"           // Year out of range
+    })
+    void shouldReportInvalidValues(String value) {
+        assertThrows(DateTimeParseException.class, () -> LocalDateTime.parse(value, DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+        assertEquals(LocalDateTimeParser.INVALID_VALUE, parser.parse(value));
+    }
+
+    @Test
+    void shouldParseOnlyTheRequestedRegion() {
+        String line = "at=2023-10-12T07:20;";
+        assertEquals(LocalDateTimeParser.OK, parser.parse(line, 3, 19));
+        assertEquals(LocalDateTime.of(2023, 10, 12, 7, 20), parser.toLocalDateTime());
+        assertEquals(LocalDateTimeParser.MALFORMED, parser.parse(line, 3, 20));
+        assertThrows(IndexOutOfBoundsException.class, () -> parser.parse(line, 3, 21));
+    }
+
+    @Test
+    void shouldThrownAnExceptionWhenTextIsNull() {
+        assertThrows(NullPointerException.class, () -> parser.parse(null));
+    }
+}
@@ -0,0 +1,221 @@
+package com.linbrox.common;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.Marker;
+import org.slf4j.event.Level;
+import org.slf4j.helpers.LegacyAbstractLogger;
+import org.slf4j.helpers.MessageFormatter;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class MetricsTest {
+
+    @TempDir
+    Path directory;
+
+    @BeforeEach
+    void resetMetrics() {
+        Metrics.reset();
+    }
+
+    @Test
+    void shouldBeEnabledOnlyBySystemProperty() {
+        assertEquals(Boolean.getBoolean("com.linbrox.common.metrics"), Metrics.isEnabled());
+    }
+
+    @Test
+    void shouldRecordNothingWhenDisabled() {
+        assumeFalse(Metrics.isEnabled());
+        assertFalse(StringUtils.isNumeric("x"));
+        assertThrows(NumberFormatException.class, () -> NumericUtils.toInteger("x"));
+        assertTrue(Metrics.snapshot().isEmpty());
+        assertEquals(0, Metrics.snapshot("StringUtils.isNumeric").calls());
+    }
+
+    @Test
+    void shouldCountCallsAndFailures() {
+        assumeTrue(Metrics.isEnabled());
+        assertTrue(StringUtils.isNumeric("12"));
+        assertFalse(StringUtils.isNumeric("1x"));
+        assertFalse(StringUtils.isNumeric(""));
+        assertEquals(7, NumericUtils.toInteger("7"));
+        assertThrows(NumberFormatException.class, () -> NumericUtils.toInteger("seven"));
+        assertEquals(BooleanLexicon.UNRECOGNISED, BooleanUtils.parseBoolean("maybe"));
+        assertFalse(StringUtils.isBlank("text"));
+
+        OperationMetrics numeric = Metrics.snapshot("StringUtils.isNumeric");
+        assertEquals(3, numeric.calls());
+        assertEquals(2, numeric.failures());
+        assertEquals(2.0 / 3, numeric.failureRate());
+        OperationMetrics integer = Metrics.snapshot("NumericUtils.toInteger");
+        assertEquals(2, integer.calls());
+        assertEquals(1, integer.failures());
+        assertEquals(1, Metrics.snapshot("BooleanUtils.parseBoolean").failures());
+        // a predicate that answers false has not failed
+        assertEquals(0, Metrics.snapshot("StringUtils.isBlank").failures());
+        if (Integer.getInteger("com.linbrox.common.metrics.sampleRate", 1024) == 1) {
+            assertEquals(3, numeric.sampledCalls());
+            assertTrue(numeric.percentileNanos(100) > 0);
+        }
+
+        List<String> operations = Metrics.snapshot().stream()
+                .map(OperationMetrics::operation)
+                .collect(Collectors.toList());
+        assertTrue(operations.containsAll(List.of("StringUtils.isNumeric", "NumericUtils.toInteger",
+                "BooleanUtils.parseBoolean", "StringUtils.isBlank")));
+        assertFalse(operations.contains("StringUtils.isEmail"));
+
+        Metrics.reset();
+        assertEquals(0, Metrics.snapshot("StringUtils.isNumeric").calls());
+        assertEquals(0, Metrics.snapshot("StringUtils.isNumeric").sampledCalls());
+    }
+
+    @Test
+    void shouldRecordFailedCallsToFlightRecorder() throws IOException {
+        assumeTrue(Metrics.isEnabled());
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable("com.linbrox.common.FailedCall");
+            recording.disable("com.linbrox.common.SlowCall");
+            recording.start();
+            StringUtils.isEmail("nope");
+            StringUtils.isEmail("a@b.co");
+            assertThrows(NumberFormatException.class, () -> NumericUtils.toBigDecimal("1..2"));
+            recording.stop();
+            events = read(recording);
+        }
+        assertEquals(2, events.size());
+        RecordedEvent rejected = events.stream()
+                .filter(e -> e.getString("operation").equals("StringUtils.isEmail"))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(4, rejected.getInt("inputLength"));
+        assertEquals("rejected", rejected.getString("error"));
+        RecordedEvent thrown = events.stream()
+                .filter(e -> e.getString("operation").equals("NumericUtils.toBigDecimal"))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(NumberFormatException.class.getName(), thrown.getString("error"));
+    }
+
+    @Test
+    void shouldRecordSlowCallsToFlightRecorder() throws IOException {
+        assumeTrue(Metrics.isEnabled() && Metrics.SAMPLE_MASK == 0);
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable("com.linbrox.common.SlowCall").withThreshold(Duration.ZERO);
+            recording.start();
+            DateUtils.isPastDate("2001-02-03T04:05:06");
+            recording.stop();
+            events = read(recording);
+        }
+        assertEquals(1, events.size());
+        assertEquals("DateUtils.isPastDate", events.get(0).getString("operation"));
+        assertEquals(19, events.get(0).getInt("inputLength"));
+    }
+
+    @Test
+    void shouldLogEveryCalledOperation() {
+        CapturingLogger logger = new CapturingLogger();
+        StringUtils.isAlpha("abc");
+        MetricsReporter.log(logger);
+        if (Metrics.isEnabled()) {
+            assertTrue(logger.lines.stream().anyMatch(l -> l.startsWith("StringUtils.isAlpha calls=1 failures=0")),
+                    logger.lines::toString);
+        } else {
+            assertTrue(logger.lines.isEmpty());
+        }
+        assertThrows(NullPointerException.class, () -> MetricsReporter.log(null));
+    }
+
+    @Test
+    void shouldEstimatePercentilesFromPowerOfTwoBuckets() {
+        long[] histogram = new long[Probe.BUCKETS];
+        histogram[Probe.bucket(100)] = 90;
+        histogram[Probe.bucket(5_000)] = 10;
+        OperationMetrics metrics = new OperationMetrics("op", 1_000, 10, histogram);
+        assertEquals(100, metrics.sampledCalls());
+        assertEquals(0.01, metrics.failureRate());
+        assertEquals(128, metrics.percentileNanos(0));
+        assertEquals(128, metrics.percentileNanos(90));
+        assertEquals(8_192, metrics.percentileNanos(91));
+        assertEquals(8_192, metrics.percentileNanos(100));
+        assertEquals(0, new OperationMetrics("op", 0, 0, new long[Probe.BUCKETS]).percentileNanos(50));
+        assertThrows(IllegalArgumentException.class, () -> metrics.percentileNanos(101));
+        assertThrows(IllegalArgumentException.class, () -> metrics.percentileNanos(Double.NaN));
+        metrics.histogram()[6] = 0;
+        assertEquals(90, metrics.histogram()[6]);
+    }
+
+    @Test
+    void shouldBucketDurationsByPowerOfTwo() {
+        assertEquals(0, Probe.bucket(-5));
+        assertEquals(0, Probe.bucket(0));
+        assertEquals(0, Probe.bucket(1));
+        assertEquals(1, Probe.bucket(2));
+        assertEquals(1, Probe.bucket(3));
+        assertEquals(10, Probe.bucket(1024));
+        assertEquals(62, Probe.bucket(Long.MAX_VALUE));
+    }
+
+    private List<RecordedEvent> read(Recording recording) throws IOException {
+        Path file = directory.resolve("metrics.jfr");
+        recording.dump(file);
+        return RecordingFile.readAllEvents(file);
+    }
+
+    private static final class CapturingLogger extends LegacyAbstractLogger {
+
+        private final List<String> lines = new ArrayList<>();
+
+        @Override
+        protected String getFullyQualifiedCallerName() {
+            return null;
+        }
+
+        @Override
+        protected void handleNormalizedLoggingCall(Level level, Marker marker, String messagePattern,
+                                                   Object[] arguments, Throwable throwable) {
+            lines.add(MessageFormatter.basicArrayFormat(messagePattern, arguments));
+        }
+
+        @Override
+        public boolean isTraceEnabled() {
+            return false;
+        }
+
+        @Override
+        public boolean isDebugEnabled() {
+            return false;
+        }
+
+        @Override
+        public boolean isInfoEnabled() {
+            return true;
+        }
+
+        @Override
+        public boolean isWarnEnabled() {
+            return true;
+        }
+
+        @Override
+        public boolean isErrorEnabled() {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.linbrox.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NumericCollectorsTest {
+
+    @Test
+    void shouldSummarizeValidValuesAndCountTheRest() {
+        NumericSummary summary = Stream.of("1.5", " -2 ", "abc", "", null, "1e2", "1.2.3", "NaN?", "0x1p3")
+                .collect(NumericCollectors.summarizingDoubles());
+        assertEquals(4, summary.count());
+        assertEquals(5, summary.invalidCount());
+        assertEquals(2, summary.blankCount());
+        assertEquals(107.5, summary.sum());
+        assertEquals(-2.0, summary.min());
+        assertEquals(100.0, summary.max());
+        assertEquals(107.5 / 4, summary.mean());
+        assertEquals(List.of("abc", "1.2.3", "NaN?"), summary.invalidSamples());
+    }
+
+    @Test
+    void shouldGiveTheSameSummaryForSequentialAndParallelStreams() {
+        List<String> column = new ArrayList<>();
+        for (int i = 0; i < 200_000; i++) {
+            column.add(i % 20 == 7 ? "bad-" + i : (i % 3 == 0 ? "-" : "") + i % 1000 + "." + i % 100);
+        }
+        NumericSummary sequential = column.stream().collect(NumericCollectors.summarizingDoubles(5));
+        NumericSummary parallel = column.parallelStream().collect(NumericCollectors.summarizingDoubles(5));
+        NumericSummary helper = NumericCollectors.summarize(column.toArray(new CharSequence[0]));
+        for (NumericSummary summary : List.of(parallel, helper)) {
+            assertEquals(sequential.count(), summary.count());
+            assertEquals(sequential.invalidCount(), summary.invalidCount());
+            assertEquals(sequential.min(), summary.min());
+            assertEquals(sequential.max(), summary.max());
+            assertEquals(sequential.sum(), summary.sum(), Math.ulp(sequential.sum()) * 2);
+        }
+        assertEquals(10_000, sequential.invalidCount());
+        assertEquals(List.of("bad-7", "bad-27", "bad-47", "bad-67", "bad-87"), parallel.invalidSamples());
+        assertEquals(List.of("bad-7", "bad-27", "bad-47", "bad-67", "bad-87"), helper.invalidSamples().subList(0, 5));
+        BigDecimal exact = column.stream().filter(value -> !value.startsWith("bad"))
+                .map(BigDecimal::new).reduce(BigDecimal.ZERO, BigDecimal::add);
+        assertEquals(exact.doubleValue(), sequential.sum(), Math.ulp(exact.doubleValue()));
+        assertEquals(exact.doubleValue(), parallel.sum(), Math.ulp(exact.doubleValue()));
+    }
+
+    @Test
+    void shouldCompensateTheSum() {
+        String[] tenths = new String[1_000_000];
+        Arrays.fill(tenths, "0.1");
+        double naive = 0;
+        for (int i = 0; i < tenths.length; i++) {
+            naive += 0.1;
+        }
+        NumericSummary summary = NumericCollectors.summarize(Arrays.asList(tenths));
+        assertNotEquals(100_000.0, naive);
+        assertEquals(100_000.0, summary.sum());
+        assertEquals(0.1, summary.mean(), 1e-15);
+        NumericSummary infinite = Stream.of("1e308", "1e308", "-1").collect(NumericCollectors.summarizingDoubles());
+        assertEquals(Double.POSITIVE_INFINITY, infinite.sum());
+    }
+
+    @Test
+    void shouldSummarizeAnEmptyColumn() {
+        NumericSummary summary = NumericCollectors.summarize(new CharSequence[0]);
+        assertEquals(0, summary.count());
+        assertEquals(0.0, summary.sum());
+        assertEquals(0.0, summary.mean());
+        assertEquals(Double.POSITIVE_INFINITY, summary.min());
+        assertEquals(Double.NEGATIVE_INFINITY, summary.max());
+        assertEquals(List.of(), summary.invalidSamples());
+    }
+
+    @Test
+    void shouldThrownAnErrorWhenTheArgumentsAreInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> NumericCollectors.summarizingDoubles(-1));
+        assertThrows(NullPointerException.class, () -> NumericCollectors.summarize((CharSequence[]) null));
+        assertThrows(NullPointerException.class, () -> NumericCollectors.summarize((List<String>) null));
+        NumericSummary summary = Stream.of("x", "y").collect(NumericCollectors.summarizingDoubles(0));
+        assertEquals(2, summary.invalidCount());
+        assertEquals(List.of(), summary.invalidSamples());
+    }
+}
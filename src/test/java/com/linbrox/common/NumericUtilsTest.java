@@ -5,6 +5,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -58,4 +59,107 @@ class NumericUtilsTest {
         assertThrows(Exception.class, () -> NumericUtils.toBigDecimal(value));
     }
 
-}
\ No newline at end of file
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "10.0",                     // Simple decimal
+            "-0",                       // Negative zero
+            "  42  ",                   // Surrounding whitespace
+            ".5",                       // Missing leading zero
+            "100.",                     // Trailing dot
+            "1E5",                      // Exponential notation
+            "-1e-5",                    // Negative exponent
+            "0.1",                      // Not exactly representable
+            "9007199254740993",         // Above 2^53, rounds to even
+            "2.2250738585072011e-308",  // Largest subnormal boundary
+            "4.9e-324",                 // Smallest subnormal
+            "2.4703282292062328e-324",  // Just above half the smallest subnormal
+            "1.7976931348623157e308",   // Largest finite value
+            "1.7976931348623159e308",   // Rounds to infinity
+            "1e-400",                   // Underflows to zero
+            "123456789012345678901234567890", // More than 19 significant digits
+            "0.30000000000000004441",   // Truncated digits
+            "NaN",                      // Handed to the JDK
+            "-Infinity",                // Handed to the JDK
+            "0x1.8p1",                  // Hexadecimal
+            "1.5f"                      // Type suffix
+    })
+    void shouldParseDoubleExactlyLikeTheJdk(String value) {
+        long expected = Double.doubleToRawLongBits(Double.parseDouble(value));
+        assertEquals(expected, Double.doubleToRawLongBits(NumericUtils.parseDouble(value)));
+        assertEquals(expected, Double.doubleToRawLongBits(NumericUtils.parseDouble(new StringBuilder(value))));
+        assertEquals(Double.valueOf(value), NumericUtils.toDouble(value));
+    }
+
+    @Test
+    void shouldParseDoubleWithinTheRequestedRegion() {
+        String line = "px=101.25;";
+        assertEquals(101.25, NumericUtils.parseDouble(line, 3, 9));
+        assertThrows(NumberFormatException.class, () -> NumericUtils.parseDouble(line, 3, 10));
+        assertThrows(IndexOutOfBoundsException.class, () -> NumericUtils.parseDouble(line, 3, 11));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", " ", ".", "-", "1e", "1e+", "1.1.1", "abc", "- 10", "1E10.5", "1_000"})
+    void shouldThrownAnExceptionWhenDoubleIsInvalid(String value) {
+        assertThrows(NumberFormatException.class, () -> NumericUtils.parseDouble(value));
+    }
+
+    @Test
+    void shouldThrownAnExceptionWhenDoubleIsNull() {
+        assertThrows(NullPointerException.class, () -> NumericUtils.parseDouble(null));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "0", "-0", "+0", "42", " -42 ", "\t+7\n", "007",
+            "2147483647", "-2147483648", "2147483648", "-2147483649",
+            "9223372036854775807", "-9223372036854775808", "9223372036854775808", "-9223372036854775809",
+            "99999999999999999999999", "", " ", "-", "+", "--1", "+-1", "1-", "12a", "1 2", "1.0", "1e3",
+            "0x1F", "\u0661", "99999999999999999999x"
+    })
+    void shouldParseIntegersLikeIsNumericFollowedByTheJdk(String value) {
+        ParseResult result = new ParseResult();
+        assertIntegerParse(value, Integer.MIN_VALUE, Integer.MAX_VALUE, NumericUtils.parseInt(value, result), result);
+        assertIntegerParse(value, Long.MIN_VALUE, Long.MAX_VALUE, NumericUtils.parseLong(value, result), result);
+        assertEquals(result.isValid(), NumericUtils.parseLong(new StringBuilder(value), result));
+    }
+
+    private static void assertIntegerParse(String value, long min, long max, boolean valid, ParseResult result) {
+        if (!StringUtils.isNumeric(value)) {
+            assertFalse(valid, value);
+            assertEquals(ParseResult.INVALID, result.status(), value);
+            return;
+        }
+        BigInteger expected = new BigInteger(value.trim());
+        boolean inRange = expected.compareTo(BigInteger.valueOf(min)) >= 0
+                && expected.compareTo(BigInteger.valueOf(max)) <= 0;
+        assertEquals(inRange, valid, value);
+        assertEquals(inRange ? ParseResult.VALID : ParseResult.OVERFLOW, result.status(), value);
+        if (inRange) {
+            assertEquals(expected.longValueExact(), result.longValue());
+        } else {
+            assertThrows(IllegalStateException.class, result::longValue);
+        }
+    }
+
+    @Test
+    void shouldParseIntegersWithinTheRequestedRegionIntoOneHolder() {
+        ParseResult result = new ParseResult();
+        assertEquals(ParseResult.INVALID, result.status());
+        assertEquals(-1, result.intValueOr(-1));
+        String line = "qty=12;id=-3000000000;";
+        assertTrue(NumericUtils.parseInt(line, 4, 6, result));
+        assertEquals(12, result.intValue());
+        assertFalse(NumericUtils.parseInt(line, 10, 21, result));
+        assertEquals(ParseResult.OVERFLOW, result.status());
+        assertEquals(0, result.intValueOr(0));
+        assertTrue(NumericUtils.parseLong(line, 10, 21, result));
+        assertEquals(-3_000_000_000L, result.longValueOr(0));
+        assertThrows(ArithmeticException.class, result::intValue);
+        assertFalse(NumericUtils.parseLong(line, 0, 6, result));
+        assertEquals("ParseResult{invalid}", result.toString());
+        assertThrows(IndexOutOfBoundsException.class, () -> NumericUtils.parseInt(line, 4, 30, result));
+        assertThrows(NullPointerException.class, () -> NumericUtils.parseInt(null, result));
+        assertThrows(NullPointerException.class, () -> NumericUtils.parseLong("1", null));
+    }
+}
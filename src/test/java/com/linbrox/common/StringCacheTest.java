@@ -0,0 +1,122 @@
+package com.linbrox.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StringCacheTest {
+
+    @Test
+    void shouldReturnOneInstanceForEqualValuesFromEverySource() {
+        StringCache cache = StringCache.of(64);
+        String first = cache.canonical(new String("EUR"));
+        assertSame(first, cache.canonical(new String("EUR")));
+        assertSame(first, cache.canonical(new StringBuilder("EUR")));
+        assertSame(first, cache.canonical("price=EUR;", 6, 9));
+        assertSame(first, cache.canonical(new StringBuilder("price=EUR;"), 6, 9));
+        assertSame(first, cache.canonical("xEURx".getBytes(StandardCharsets.US_ASCII), 1, 3));
+        assertEquals(1, cache.missCount());
+        assertEquals(5, cache.hitCount());
+        assertEquals(5.0 / 6, cache.hitRate());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void shouldDecodeNonAsciiBytesBeforeTheLookup() {
+        StringCache cache = StringCache.of(16);
+        String city = cache.canonical("M\u00e1laga");
+        byte[] utf8 = "M\u00e1laga".getBytes(StandardCharsets.UTF_8);
+        assertSame(city, cache.canonical(utf8, 0, utf8.length));
+        byte[] latin1 = "M\u00e1laga".getBytes(StandardCharsets.ISO_8859_1);
+        assertNotEquals(city, cache.canonical(latin1, 0, latin1.length), "the bytes are read as UTF-8");
+        assertEquals("", cache.canonical(new byte[0], 0, 0));
+    }
+
+    @Test
+    void shouldNotCacheLongValues() {
+        StringCache cache = StringCache.of(16);
+        String longValue = "x".repeat(StringCache.MAX_CACHED_LENGTH + 1);
+        assertSame(longValue, cache.canonical(longValue));
+        String region = cache.canonical("[" + longValue + "]", 1, longValue.length() + 1);
+        assertEquals(longValue, region);
+        assertNotSame(region, cache.canonical("[" + longValue + "]", 1, longValue.length() + 1));
+        byte[] utf8 = longValue.getBytes(StandardCharsets.UTF_8);
+        assertEquals(longValue, cache.canonical(utf8, 0, utf8.length));
+        assertEquals(0, cache.size());
+        assertEquals(4, cache.missCount(), "a value too long to cache is a miss");
+        assertEquals(0, cache.hitCount());
+        String longest = "x".repeat(StringCache.MAX_CACHED_LENGTH);
+        assertSame(longest, cache.canonical(longest));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void shouldStayBoundedAndKeepTheValuesInUse() {
+        StringCache cache = StringCache.of(64);
+        assertEquals(64, cache.capacity());
+        String hot = cache.canonical(new String("ACTIVE"));
+        for (int i = 0; i < 10_000; i++) {
+            cache.canonical("cold-" + i);
+            assertSame(hot, cache.canonical(new String("ACTIVE")), "evicted after " + i);
+        }
+        assertTrue(cache.size() <= cache.capacity());
+        assertTrue(cache.evictionCount() >= 10_000 - cache.capacity());
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.hitCount());
+        assertNotSame(hot, cache.canonical(new String("ACTIVE")));
+    }
+
+    @Test
+    void shouldShareValuesBetweenThreads() throws Exception {
+        StringCache cache = StringCache.of(256);
+        String[] codes = {"ES", "FR", "DE", "IT", "PT", "NL", "BE", "AT", "PL", "SE"};
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 4; thread++) {
+                futures.add(executor.submit(() -> {
+                    StringBuilder builder = new StringBuilder();
+                    for (int i = 0; i < 50_000; i++) {
+                        String code = codes[i % codes.length];
+                        builder.setLength(0);
+                        builder.append(code);
+                        assertEquals(code, cache.canonical(builder));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(200_000, cache.hitCount() + cache.missCount());
+        assertTrue(cache.missCount() < 100, "misses: " + cache.missCount());
+        for (String code : codes) {
+            assertSame(cache.canonical(new String(code)), cache.canonical(new StringBuilder(code)));
+        }
+    }
+
+    @Test
+    void shouldThrownAnErrorWhenTheCacheIsMisused() {
+        assertThrows(IllegalArgumentException.class, () -> StringCache.of(0));
+        assertThrows(IllegalArgumentException.class, () -> StringCache.of((1 << 30) + 1));
+        assertEquals(8, StringCache.of(1).capacity());
+        assertEquals(1024, StringCache.of(1000).capacity());
+        StringCache cache = StringCache.of(8);
+        assertThrows(NullPointerException.class, () -> cache.canonical((String) null));
+        assertThrows(NullPointerException.class, () -> cache.canonical((CharSequence) null));
+        assertThrows(NullPointerException.class, () -> cache.canonical((CharSequence) null, 0, 0));
+        assertThrows(NullPointerException.class, () -> cache.canonical((byte[]) null, 0, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> cache.canonical("abc", 2, 4));
+        assertThrows(IndexOutOfBoundsException.class, () -> cache.canonical(new byte[2], 1, 2));
+    }
+}
@@ -5,6 +5,16 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class StringUtilsTest {
@@ -191,4 +201,264 @@ class StringUtilsTest {
         assertFalse(actual, "This should be false");
     }
 
-}
\ No newline at end of file
+    @Test
+    void shouldValidateCharSequenceWithoutConvertingIt() {
+        assertTrue(StringUtils.isNumeric(new StringBuilder(" -42 ")));
+        assertTrue(StringUtils.isNumericWithDecimal(new StringBuilder("+0.5")));
+        assertTrue(StringUtils.isAlpha(new StringBuilder("abc")));
+        assertTrue(StringUtils.isAlphaNumeric(new StringBuilder("abc123")));
+        assertFalse(StringUtils.isAlpha(new StringBuilder("abc1")));
+    }
+
+    @Test
+    void shouldValidateOnlyTheRequestedRegion() {
+        String buffer = "id=123;price= 12.50 ;code=ABC;key=a1b2";
+        assertTrue(StringUtils.isNumeric(buffer, 3, 6));
+        assertTrue(StringUtils.isNumericWithDecimal(buffer, 13, 20));
+        assertTrue(StringUtils.isAlpha(buffer, 26, 29));
+        assertTrue(StringUtils.isAlphaNumeric(buffer, 34, 38));
+        assertFalse(StringUtils.isNumeric(buffer, 2, 6));
+        assertFalse(StringUtils.isAlpha(buffer, 3, 3));
+    }
+
+    @Test
+    void shouldThrownAnExceptionWhenRegionIsOutOfBounds() {
+        assertThrows(IndexOutOfBoundsException.class, () -> StringUtils.isNumeric("123", 1, 4));
+        assertThrows(IndexOutOfBoundsException.class, () -> StringUtils.isAlpha("abc", 2, 1));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"\u2028123", "123\u00a0", "\u0661", "1 2", "+", "-"})
+    void shouldReturnFalseWhenNumericHasNonTrimmableCharacters(String value) {
+        assertFalse(StringUtils.isNumeric(value));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            " 123 ", "-42", "12.50", "abc", "abc123", "a@b.co", "   ", "",
+            "\u00e9t\u00e9", "12\u00a0", "\u0661\u0662", "caf\u00e9@b.co", "\u3000", "\uD83D\uDE0A"
+    })
+    void shouldValidateUtf8BytesLikeTheDecodedString(String value) {
+        byte[] utf8 = ("<" + value + ">").getBytes(StandardCharsets.UTF_8);
+        int length = utf8.length - 2;
+        assertEquals(StringUtils.isBlank(value), StringUtils.isBlank(utf8, 1, length));
+        assertEquals(StringUtils.isNumeric(value), StringUtils.isNumeric(utf8, 1, length));
+        assertEquals(StringUtils.isNumericWithDecimal(value), StringUtils.isNumericWithDecimal(utf8, 1, length));
+        assertEquals(StringUtils.isAlpha(value), StringUtils.isAlpha(utf8, 1, length));
+        assertEquals(StringUtils.isAlphaNumeric(value), StringUtils.isAlphaNumeric(utf8, 1, length));
+        assertEquals(StringUtils.isEmail(value), StringUtils.isEmail(utf8, 1, length));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {" 123 ", "12.50", "abc", "abc123", "a@b.co", "   ", "\u00e9t\u00e9"})
+    void shouldValidateHeapAndDirectBuffersLikeTheDecodedString(String value) {
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer direct = ByteBuffer.allocateDirect(utf8.length + 2);
+        direct.put((byte) 'x').put(utf8).put((byte) 'x').position(1).limit(utf8.length + 1);
+        ByteBuffer heap = ByteBuffer.wrap(("x" + value).getBytes(StandardCharsets.UTF_8), 1, utf8.length).slice();
+        for (ByteBuffer buffer : new ByteBuffer[]{direct, heap, heap.asReadOnlyBuffer()}) {
+            assertEquals(StringUtils.isBlank(value), StringUtils.isBlank(buffer));
+            assertEquals(StringUtils.isNumeric(value), StringUtils.isNumeric(buffer));
+            assertEquals(StringUtils.isNumericWithDecimal(value), StringUtils.isNumericWithDecimal(buffer));
+            assertEquals(StringUtils.isAlpha(value), StringUtils.isAlpha(buffer));
+            assertEquals(StringUtils.isAlphaNumeric(value), StringUtils.isAlphaNumeric(buffer));
+            assertEquals(StringUtils.isEmail(value), StringUtils.isEmail(buffer));
+        }
+        assertEquals(1, direct.position());
+        assertEquals(utf8.length + 1, direct.limit());
+    }
+
+    @Test
+    void shouldThrownAnExceptionWhenByteRangeIsOutOfBounds() {
+        byte[] utf8 = "123".getBytes(StandardCharsets.UTF_8);
+        assertThrows(IndexOutOfBoundsException.class, () -> StringUtils.isNumeric(utf8, 1, 3));
+        assertThrows(IndexOutOfBoundsException.class, () -> StringUtils.isEmail(utf8, -1, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> StringUtils.isEmail(utf8, 2, 2));
+        NullPointerException error = assertThrows(NullPointerException.class,
+                () -> StringUtils.isEmail((byte[]) null, 0, 0));
+        assertEquals("Bytes cannot be null", error.getMessage());
+        assertThrows(NullPointerException.class, () -> StringUtils.isAlpha((ByteBuffer) null));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {63, 64, 65, 200, 1000, 3000})
+    void shouldValidateLongStringsLikeTheirPatterns(int length) {
+        String[] units = {" ", "7", "x", "Q7"};
+        char[] breakers = {'\u00e9', '.', '\u0130', '\uff10', ' ', '\t', 'k', '5'};
+        for (String unit : units) {
+            String run = unit.repeat(length / unit.length());
+            for (int position : new int[]{-1, 0, run.length() / 2, run.length() - 1}) {
+                for (char breaker : breakers) {
+                    String value = position < 0 ? run
+                            : run.substring(0, position) + breaker + run.substring(position + 1);
+                    String trimmed = value.trim();
+                    assertEquals(trimmed.isEmpty(), StringUtils.isBlank(value));
+                    assertEquals(trimmed.matches("^[+-]?\\d+$"), StringUtils.isNumeric(value), value);
+                    assertEquals(trimmed.matches("^[a-zA-Z]+$"), StringUtils.isAlpha(value), value);
+                    assertEquals(trimmed.matches("^[a-zA-Z0-9]+$"), StringUtils.isAlphaNumeric(value), value);
+                    assertEquals(StringUtils.isNumeric(value), StringUtils.isNumeric(new StringBuilder(value)));
+                    byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+                    assertEquals(StringUtils.isAlpha(value), StringUtils.isAlpha(utf8, 0, utf8.length));
+                }
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 63, 64, 65, 1000, 3000})
+    void shouldCompareLongStringsIgnoringCaseLikeCharacterToLowerCase(int length) {
+        String lower = "abcdefghij\u00e9\u0131k".repeat(length / 13 + 1).substring(0, length);
+        String upper = lower.toUpperCase(Locale.ROOT);
+        assertTrue(StringUtils.areStringsEqual(lower, new String(lower.toCharArray())));
+        assertFalse(StringUtils.areStringsEqual(lower, upper));
+        // U+0131 upper-cases to I, which lower-cases to i, so only compare chars that fold back
+        assertEquals(referenceEqualsIgnoreCase(lower, upper), StringUtils.areStringsEqualIgnoreCase(lower, upper));
+        for (int position : new int[]{0, length / 2, length - 1}) {
+            for (char replacement : new char[]{'[', '{', '@', '`', 'Z', '\u212a', '\u00c9'}) {
+                char[] chars = upper.toCharArray();
+                chars[position] = replacement;
+                String other = new String(chars);
+                assertEquals(referenceEqualsIgnoreCase(lower, other),
+                        StringUtils.areStringsEqualIgnoreCase(lower, other), () -> position + " " + replacement);
+            }
+        }
+        assertFalse(StringUtils.areStringsEqualIgnoreCase(lower, lower + "a"));
+    }
+
+    private static boolean referenceEqualsIgnoreCase(String first, String second) {
+        if (first.length() != second.length()) {
+            return false;
+        }
+        for (int i = 0; i < first.length(); i++) {
+            if (Character.toLowerCase(first.charAt(i)) != Character.toLowerCase(second.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"a", "hello", "Hello", "hello, hello", "HELLO", "1st", " x", "\u00e9t\u00e9", "\u00dfa",
+            "\u01c6x", "\ud801\udc28x", "i", "Istanbul", "\u0131d", "abcdefghijklmnopqrstuvwxyz"})
+    void shouldChangeTheFirstCharLikeTheStringMethods(String value) {
+        assertEquals(value.substring(0, 1).toUpperCase() + value.substring(1), StringUtils.capitalize(value));
+        assertEquals(value.substring(0, 1).toLowerCase() + value.substring(1), StringUtils.uncapitalize(value));
+    }
+
+    @Test
+    void shouldReturnTheSameStringWhenTheFirstCharDoesNotChange() {
+        for (String value : new String[]{"", "Hello", "1st", " x"}) {
+            assertSame(value, StringUtils.capitalize(value));
+        }
+        for (String value : new String[]{"", "hello", "1st", " x"}) {
+            assertSame(value, StringUtils.uncapitalize(value));
+        }
+        assertThrows(NullPointerException.class, () -> StringUtils.capitalize(null));
+        assertThrows(NullPointerException.class, () -> StringUtils.uncapitalize(null));
+    }
+
+    @Test
+    void shouldChangeTheFirstCharInTheDefaultLocale() {
+        Locale previous = Locale.getDefault();
+        Locale.setDefault(new Locale("tr"));
+        try {
+            assertEquals("\u0130stanbul", StringUtils.capitalize("istanbul"));
+            assertEquals("\u0131rmak", StringUtils.uncapitalize("Irmak"));
+            assertEquals("Ankara", StringUtils.capitalize("ankara"));
+        } finally {
+            Locale.setDefault(previous);
+        }
+        assertEquals("Istanbul", StringUtils.capitalize("istanbul"));
+    }
+
+    @Test
+    void shouldHashIgnoringCaseConsistentlyWithEquals() {
+        assertEquals("content-type".hashCode(), StringUtils.hashCodeIgnoreCase("Content-Type"));
+        assertEquals(StringUtils.hashCodeIgnoreCase("\u00c9T\u00c9"), StringUtils.hashCodeIgnoreCase("\u00e9t\u00e9"));
+        assertEquals(0, StringUtils.hashCodeIgnoreCase(""));
+        String[] values = {"k", "K", "\u212a", "\u00e9", "\u00c9", "i", "I", "\u0130", "\u0131", "\u03a3", "\u03c3",
+                "\u03c2", "\u00df", "[", "{", "@", "`"};
+        for (String first : values) {
+            for (String second : values) {
+                String a = "x" + first + "y";
+                String b = "X" + second + "Y";
+                if (StringUtils.areStringsEqualIgnoreCase(a, b)) {
+                    assertEquals(StringUtils.hashCodeIgnoreCase(a), StringUtils.hashCodeIgnoreCase(b),
+                            () -> Corpus.describe(a) + " " + Corpus.describe(b));
+                }
+            }
+        }
+        assertThrows(NullPointerException.class, () -> StringUtils.hashCodeIgnoreCase(null));
+    }
+
+    private static final String[] PAD_TEXTS = {
+            "", "42", "name", "\u00e9t\u00e9", "\ud83d\ude00x", "x\ud83d", "\ude00y", "a".repeat(70), new String()
+    };
+    private static final String[] PADS = {
+            " ", "0", "*", "x", "xy", "-=+", "\u00e9", "\ude00", "\ud83d", "\ud83d\ude00", null
+    };
+
+    @Test
+    void shouldPadIntoEverySinkLikeTheStringMethods() throws IOException {
+        for (String str : PAD_TEXTS) {
+            for (String pad : PADS) {
+                for (int size : new int[]{-1, 0, 1, 3, 5, 8, 64, 65, 200}) {
+                    assertPaddedLike(StringUtils.leftPad(str, size, pad),
+                            StringUtils.leftPad(new StringBuilder("<"), str, size, pad),
+                            StringUtils.leftPad(new StringWriter().append('<'), str, size, pad).toString(),
+                            out -> StringUtils.leftPad(out, 1, str, size, pad),
+                            out -> StringUtils.leftPad(out, str, size, pad));
+                    assertPaddedLike(StringUtils.rightPad(str, size, pad),
+                            StringUtils.rightPad(new StringBuilder("<"), str, size, pad),
+                            StringUtils.rightPad(new StringWriter().append('<'), str, size, pad).toString(),
+                            out -> StringUtils.rightPad(out, 1, str, size, pad),
+                            out -> StringUtils.rightPad(out, str, size, pad));
+                }
+            }
+            for (int count : new int[]{-1, 0, 1, 2, 7, 100}) {
+                assertPaddedLike(StringUtils.repeat(str, count),
+                        StringUtils.repeat(new StringBuilder("<"), str, count),
+                        StringUtils.repeat(new StringWriter().append('<'), str, count).toString(),
+                        out -> StringUtils.repeat(out, 1, str, count),
+                        out -> StringUtils.repeat(out, str, count));
+            }
+        }
+    }
+
+    private static void assertPaddedLike(String expected, CharSequence builder, String written,
+                                         ToIntFunction<char[]> chars, Consumer<ByteBuffer> bytes) {
+        assertEquals("<" + expected, builder.toString());
+        assertEquals("<" + expected, written);
+        char[] array = new char[expected.length() + 2];
+        assertEquals(expected.length() + 1, chars.applyAsInt(array));
+        assertEquals(expected, new String(array, 1, expected.length()));
+        byte[] utf8 = expected.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocate(utf8.length + 1).put((byte) '<');
+        bytes.accept(buffer);
+        assertArrayEquals(utf8, Arrays.copyOfRange(buffer.array(), 1, buffer.position()), expected);
+        if (utf8.length > 0) {
+            ByteBuffer tooSmall = ByteBuffer.allocate(utf8.length).put((byte) '<');
+            assertThrows(BufferOverflowException.class, () -> bytes.accept(tooSmall));
+            assertEquals(1, tooSmall.position());
+            char[] tooShort = new char[expected.length()];
+            assertThrows(IndexOutOfBoundsException.class, () -> chars.applyAsInt(tooShort));
+            assertArrayEquals(new char[expected.length()], tooShort);
+        }
+    }
+
+    @Test
+    void shouldKeepTheStringMethodsFailingOnAnEmptyPad() {
+        assertEquals("00042", StringUtils.leftPad("42", 5));
+        assertEquals("xyxya", StringUtils.leftPad("abc", 5, "xy"));
+        assertEquals("nulln", StringUtils.leftPad("42", 5, null));
+        assertEquals("42", StringUtils.leftPad("42", 2, ""));
+        assertThrows(StringIndexOutOfBoundsException.class, () -> StringUtils.leftPad("42", 5, ""));
+        assertThrows(StringIndexOutOfBoundsException.class, () -> StringUtils.rightPad("42", 5, ""));
+        assertThrows(IllegalArgumentException.class, () -> StringUtils.leftPad(new StringBuilder(), "42", 5, ""));
+        assertThrows(IllegalArgumentException.class, () -> StringUtils.rightPad(new char[5], 0, "42", 5, ""));
+        assertEquals("42", StringUtils.rightPad(new StringBuilder(), "42", 2, "").toString());
+        assertThrows(NullPointerException.class, () -> StringUtils.repeat((StringBuilder) null, "a", 2));
+        StringBuilder self = new StringBuilder("ab");
+        assertEquals("ababab", StringUtils.repeat(self, self, 2).toString());
+    }
+}
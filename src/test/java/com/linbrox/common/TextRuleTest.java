@@ -0,0 +1,107 @@
+package com.linbrox.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TextRuleTest {
+
+    private static final String[] SAMPLES = {
+            "", " ", "\t\n", "a", "Z", "0", "abc", " abc ", "abc123", "abc 123", "abc!123", "ab-c_d", "-", "+",
+            "42", " -42 ", "+7", "--1", "1-", "3.14", " -0.5 ", "1.", ".5", "1.2.3", "1e5", "\u00e9t\u00e9",
+            "\u0661\u0662", "x".repeat(32), "x".repeat(33), "007", "9223372036854775807", "-9223372036854775808",
+            "9223372036854775808", "-9223372036854775809", "99999999999999999999", "100", "101", "-1", "+0"
+    };
+
+    private static void assertSameAs(TextRule rule, Predicate<String> chain) {
+        for (String sample : SAMPLES) {
+            assertEquals(chain.test(sample), rule.test(sample), () -> "\"" + sample + "\"");
+            String framed = "[" + sample + "]";
+            assertEquals(chain.test(sample), rule.test(framed, 1, framed.length() - 1), () -> "\"" + sample + "\"");
+        }
+    }
+
+    @Test
+    void shouldMatchTheStringUtilsValidators() {
+        assertSameAs(TextRule.builder().trim().build(), StringUtils::isNotBlank);
+        assertSameAs(TextRule.builder().trim().letters().build(), StringUtils::isAlpha);
+        assertSameAs(TextRule.builder().trim().letters().digits().build(), StringUtils::isAlphaNumeric);
+        assertSameAs(TextRule.builder().trim().integer().build(), StringUtils::isNumeric);
+        assertSameAs(TextRule.builder().trim().decimal().build(), StringUtils::isNumericWithDecimal);
+        assertSameAs(TextRule.builder().trim().number().build(),
+                s -> StringUtils.isNumeric(s) || StringUtils.isNumericWithDecimal(s));
+    }
+
+    @Test
+    void shouldReplaceAChainOfChecksWithOneRule() {
+        assertSameAs(TextRule.builder().trim().letters().digits().length(1, 32).build(),
+                s -> StringUtils.isNotBlank(s) && StringUtils.isAlphaNumeric(s) && s.trim().length() <= 32);
+        assertSameAs(TextRule.builder().letters().digits().chars("-_").length(2, 5).build(),
+                s -> s.matches("[A-Za-z0-9_-]{2,5}"));
+        assertSameAs(TextRule.builder().length(0, 3).build(), s -> s.length() <= 3);
+    }
+
+    @Test
+    void shouldCheckIntegerRangesInTheSamePass() {
+        TextRule percent = TextRule.builder().trim().range(0, 100).build();
+        assertSameAs(percent, s -> StringUtils.isNumeric(s) && new BigInteger(s.trim()).signum() >= 0
+                && new BigInteger(s.trim()).compareTo(BigInteger.valueOf(100)) <= 0);
+        assertTrue(percent.test(" +0100 "));
+        assertTrue(percent.test("-0"));
+
+        TextRule anyLong = TextRule.builder().range(Long.MIN_VALUE, Long.MAX_VALUE).build();
+        assertTrue(anyLong.test("9223372036854775807"));
+        assertTrue(anyLong.test("-9223372036854775808"));
+        assertFalse(anyLong.test("9223372036854775808"));
+        assertFalse(anyLong.test("-9223372036854775809"));
+        assertFalse(anyLong.test("99999999999999999999"));
+        assertTrue(anyLong.test("-0000000000000000000000001"));
+        assertFalse(anyLong.test("-"));
+    }
+
+    @Test
+    void shouldApplyLengthBoundsToTheTrimmedText() {
+        TextRule rule = TextRule.builder().trim().letters().length(2, 3).build();
+        assertTrue(rule.test("   ab   "));
+        assertFalse(rule.test("  a  "));
+        assertFalse(rule.test(" abcd "));
+        assertFalse(TextRule.builder().letters().length(2, 3).build().test(" ab "));
+        assertTrue(TextRule.builder().letters().length(0, 3).build().test(""));
+    }
+
+    @Test
+    void shouldAllowNoCharsForAnEmptySet() {
+        TextRule none = TextRule.builder().chars("").build();
+        assertFalse(none.test("anything!"));
+        assertFalse(none.test("a"));
+        assertTrue(TextRule.builder().chars("").length(0, 3).build().test(""));
+        assertTrue(TextRule.builder().chars("").digits().build().test("42"));
+        assertThrows(IllegalStateException.class, () -> TextRule.builder().chars("").integer().build());
+    }
+
+    @Test
+    void shouldKeepBuiltRulesIndependentOfTheBuilder() {
+        TextRule.Builder builder = TextRule.builder().digits();
+        TextRule digits = builder.build();
+        TextRule digitsAndLetters = builder.letters().build();
+        assertFalse(digits.test("a1"));
+        assertTrue(digitsAndLetters.test("a1"));
+    }
+
+    @Test
+    void shouldThrownAnErrorWhenTheRuleIsMisdeclared() {
+        assertThrows(IllegalStateException.class, () -> TextRule.builder().digits().integer().build());
+        assertThrows(IllegalStateException.class, () -> TextRule.builder().range(0, 1).decimal().build());
+        assertThrows(IllegalArgumentException.class, () -> TextRule.builder().range(2, 1));
+        assertThrows(IllegalArgumentException.class, () -> TextRule.builder().length(-1, 1));
+        assertThrows(IllegalArgumentException.class, () -> TextRule.builder().length(3, 2));
+        assertThrows(IllegalArgumentException.class, () -> TextRule.builder().chars("\u00e9"));
+        assertThrows(NullPointerException.class, () -> TextRule.builder().chars(null));
+        TextRule rule = TextRule.builder().build();
+        assertThrows(NullPointerException.class, () -> rule.test(null));
+        assertThrows(IndexOutOfBoundsException.class, () -> rule.test("abc", 2, 4));
+    }
+}
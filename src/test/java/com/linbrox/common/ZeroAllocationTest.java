@@ -0,0 +1,116 @@
+package com.linbrox.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * The allocation-free guarantees of the fast paths, checked with {@link AllocationBudget} on every build. The
+ * inputs mix valid and invalid values, short ones and ones long enough for the bulk kernels.
+ */
+class ZeroAllocationTest {
+
+    private static final String[] TEXTS = {
+            "12345", "  -42 ", "3.25", "abc", "Abc123", "jane.doe@example.com", "not an email", "   ",
+            "x".repeat(100), "7".repeat(80) + "a", " ".repeat(70) + "9"
+    };
+    private static final byte[][] UTF8 = new byte[TEXTS.length][];
+    private static final String[] NUMBERS = {"42", "-2147483648", "9223372036854775807", "12a", "", "+7", " 1 "};
+    private static final String[] DECIMALS = {"19.99", "-1.5e3", "0.1", "123456789.123456789", "1.2.3", "7"};
+    private static final String[] DATES = {"2023-10-12T07:20:50", "2999-01-01T00:00", "2024-02-29T23:59:59.5"};
+    private static final String[] BOOLEANS = {"true", "N", " yes ", "maybe", "OFF"};
+
+    static {
+        for (int i = 0; i < TEXTS.length; i++) {
+            UTF8[i] = TEXTS[i].getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    private static long bit(boolean value) {
+        return value ? 1 : 0;
+    }
+
+    @Test
+    void shouldValidateStringsWithoutAllocating() {
+        AllocationBudget.assertAtMost("StringUtils.isBlank", 0, TEXTS.length, i -> bit(StringUtils.isBlank(TEXTS[i])));
+        AllocationBudget.assertAtMost("StringUtils.isNumeric", 0, TEXTS.length,
+                i -> bit(StringUtils.isNumeric(TEXTS[i])));
+        AllocationBudget.assertAtMost("StringUtils.isNumericWithDecimal", 0, TEXTS.length,
+                i -> bit(StringUtils.isNumericWithDecimal(TEXTS[i])));
+        AllocationBudget.assertAtMost("StringUtils.isAlpha", 0, TEXTS.length, i -> bit(StringUtils.isAlpha(TEXTS[i])));
+        AllocationBudget.assertAtMost("StringUtils.isAlphaNumeric", 0, TEXTS.length,
+                i -> bit(StringUtils.isAlphaNumeric(TEXTS[i])));
+        AllocationBudget.assertAtMost("StringUtils.isEmail", 0, TEXTS.length, i -> bit(StringUtils.isEmail(TEXTS[i])));
+    }
+
+    @Test
+    void shouldCompareAndHashIgnoringCaseWithoutAllocating() {
+        String[] upper = new String[TEXTS.length];
+        for (int i = 0; i < TEXTS.length; i++) {
+            upper[i] = TEXTS[i].toUpperCase(Locale.ROOT);
+        }
+        AllocationBudget.assertAtMost("StringUtils.areStringsEqualIgnoreCase", 0, TEXTS.length,
+                i -> bit(StringUtils.areStringsEqualIgnoreCase(TEXTS[i], upper[i])));
+        AllocationBudget.assertAtMost("StringUtils.hashCodeIgnoreCase", 0, TEXTS.length,
+                i -> StringUtils.hashCodeIgnoreCase(upper[i]));
+        AllocationBudget.assertAtMost("StringUtils.capitalize", 0, TEXTS.length,
+                i -> StringUtils.capitalize(upper[i]).length());
+        IgnoreCaseMap<Integer> map = IgnoreCaseMap.create();
+        for (int i = 0; i < TEXTS.length; i += 2) {
+            map.put(TEXTS[i], i);
+        }
+        IgnoreCaseMap<Integer> frozen = map.freeze();
+        AllocationBudget.assertAtMost("IgnoreCaseMap.get", 0, TEXTS.length,
+                i -> frozen.getOrDefault(upper[i], -1));
+        AllocationBudget.assertAtMost("IgnoreCaseMap.get(byte[])", 0, UTF8.length,
+                i -> map.get(UTF8[i], 0, UTF8[i].length) != null ? 1 : 0);
+    }
+
+    @Test
+    void shouldValidateUtf8WithoutAllocating() {
+        AllocationBudget.assertAtMost("StringUtils.isNumeric(byte[])", 0, UTF8.length,
+                i -> bit(StringUtils.isNumeric(UTF8[i], 0, UTF8[i].length)));
+        AllocationBudget.assertAtMost("StringUtils.isAlphaNumeric(byte[])", 0, UTF8.length,
+                i -> bit(StringUtils.isAlphaNumeric(UTF8[i], 0, UTF8[i].length)));
+        AllocationBudget.assertAtMost("StringUtils.isEmail(byte[])", 0, UTF8.length,
+                i -> bit(StringUtils.isEmail(UTF8[i], 0, UTF8[i].length)));
+        DomainTrie domains = DomainTrie.of(List.of("example.com", "*.example.org"));
+        AllocationBudget.assertAtMost("DomainTrie.checkEmail", 0, TEXTS.length, i -> domains.checkEmail(TEXTS[i]));
+        AllocationBudget.assertAtMost("DomainTrie.checkEmail(byte[])", 0, UTF8.length,
+                i -> domains.checkEmail(UTF8[i], 0, UTF8[i].length));
+    }
+
+    @Test
+    void shouldParseNumbersWithoutAllocating() {
+        ParseResult result = new ParseResult();
+        AllocationBudget.assertAtMost("NumericUtils.parseInt", 0, NUMBERS.length,
+                i -> NumericUtils.parseInt(NUMBERS[i], result) ? result.intValue() : -1);
+        AllocationBudget.assertAtMost("NumericUtils.parseLong", 0, NUMBERS.length,
+                i -> NumericUtils.parseLong(NUMBERS[i], result) ? result.longValue() : -1);
+        // only valid values: a malformed one throws, and the exception is the allocation
+        AllocationBudget.assertAtMost("NumericUtils.parseDouble", 0, DECIMALS.length - 2,
+                i -> Double.doubleToRawLongBits(NumericUtils.parseDouble(DECIMALS[i])));
+    }
+
+    @Test
+    void shouldCheckDatesAndBooleansWithoutAllocating() {
+        AllocationBudget.assertAtMost("DateUtils.isPastDate", 0, DATES.length,
+                i -> bit(DateUtils.isPastDate(DATES[i])));
+        AllocationBudget.assertAtMost("DateUtils.isFutureDate", 0, DATES.length,
+                i -> bit(DateUtils.isFutureDate(DATES[i])));
+        AllocationBudget.assertAtMost("BooleanUtils.parseBoolean", 0, BOOLEANS.length,
+                i -> BooleanUtils.parseBoolean(BOOLEANS[i]));
+    }
+
+    @Test
+    void shouldMatchRulesAndCachedStringsWithoutAllocating() {
+        TextRule quantity = TextRule.builder().trim().integer().range(0, 10_000).build();
+        AllocationBudget.assertAtMost("TextRule.test", 0, NUMBERS.length, i -> bit(quantity.test(NUMBERS[i])));
+        StringCache cache = StringCache.of(64);
+        byte[] record = "19.99;EUR;USD;GBP;".getBytes(StandardCharsets.US_ASCII);
+        AllocationBudget.assertAtMost("StringCache.canonical(byte[])", 0, 3,
+                i -> cache.canonical(record, 6 + 4 * i, 3).length());
+    }
+}